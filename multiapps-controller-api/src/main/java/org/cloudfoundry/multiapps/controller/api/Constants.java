@@ -36,6 +36,7 @@ public class Constants {
 
         public static final String LAST = "last";
         public static final String STATE = "state";
+        public static final String OFFSET = "offset";
     }
 
     public static class Resources {
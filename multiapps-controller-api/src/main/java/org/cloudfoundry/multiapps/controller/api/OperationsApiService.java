@@ -3,6 +3,7 @@ package org.cloudfoundry.multiapps.controller.api;
 import java.util.List;
 
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.cloudfoundry.multiapps.controller.api.model.Log;
 import org.cloudfoundry.multiapps.controller.api.model.Operation;
 import org.springframework.http.ResponseEntity;
@@ -19,7 +20,7 @@ public interface OperationsApiService {
 
     ResponseEntity<List<Log>> getOperationLogs(String spaceGuid, String operationId);
 
-    ResponseEntity<String> getOperationLogContent(String spaceGuid, String operationId, String logId);
+    void getOperationLogContent(String spaceGuid, String operationId, String logId, Long offset, HttpServletResponse response);
 
     ResponseEntity<Operation> startOperation(String spaceGuid, Operation operation, HttpServletRequest httpServletRequest);
 
@@ -10,6 +10,7 @@ import io.swagger.annotations.ApiResponses;
 import io.swagger.annotations.Authorization;
 import jakarta.inject.Inject;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.cloudfoundry.multiapps.controller.api.Constants.Endpoints;
 import org.cloudfoundry.multiapps.controller.api.Constants.HttpResponses;
 import org.cloudfoundry.multiapps.controller.api.Constants.PathVariables;
@@ -96,10 +97,12 @@ public class OperationsApi {
         @ApiResponse(code = 403, message = HttpResponses.FORBIDDEN),
         @ApiResponse(code = 404, message = HttpResponses.NOT_FOUND),
         @ApiResponse(code = 500, message = HttpResponses.INTERNAL_SERVER_ERROR) })
-    public ResponseEntity<String> getOperationLogContent(@ApiParam(value = "GUID of the CF space containing the operation") @PathVariable(PathVariables.SPACE_GUID) String spaceGuid,
-                                                         @ApiParam(value = "Process ID of the MTA operation") @PathVariable(PathVariables.OPERATION_ID) String operationId,
-                                                         @ApiParam(value = "ID of the log file to retrieve") @PathVariable(PathVariables.LOG_ID) String logId) {
-        return delegate.getOperationLogContent(spaceGuid, operationId, logId);
+    public void getOperationLogContent(@ApiParam(value = "GUID of the CF space containing the operation") @PathVariable(PathVariables.SPACE_GUID) String spaceGuid,
+                                       @ApiParam(value = "Process ID of the MTA operation") @PathVariable(PathVariables.OPERATION_ID) String operationId,
+                                       @ApiParam(value = "ID of the log file to retrieve") @PathVariable(PathVariables.LOG_ID) String logId,
+                                       @ApiParam(value = "Number of bytes of the log content to skip, e.g. the number of bytes already retrieved") @RequestParam(name = QueryVariables.OFFSET, required = false) Long offset,
+                                       HttpServletResponse response) {
+        delegate.getOperationLogContent(spaceGuid, operationId, logId, offset, response);
     }
 
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
@@ -0,0 +1,92 @@
+package org.cloudfoundry.multiapps.controller.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.cloudfoundry.multiapps.controller.benchmarks.SyntheticMtar.ModuleLayout;
+import org.cloudfoundry.multiapps.controller.process.util.ApplicationArchiveContext;
+import org.cloudfoundry.multiapps.controller.process.util.ApplicationArchiveIterator;
+import org.cloudfoundry.multiapps.controller.process.util.ApplicationDigestCalculator;
+import org.cloudfoundry.multiapps.controller.process.util.ApplicationZipBuilder;
+import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntryExtractor;
+import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntryStreamWithStreamPositionsDeterminer;
+import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntryWithStreamPositions;
+import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntryWithStreamPositions.CompressionMethod;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the two passes over the content of a module during an application upload - the digest calculation, and the extraction
+ * into a new archive with {@link ApplicationZipBuilder}. Directory modules are read sequentially from the whole archive and are
+ * repackaged entry by entry, while file modules are read directly from their position in the archive.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ApplicationArchiveBenchmark {
+
+    @Param({ "FILE", "DIRECTORY" })
+    private ModuleLayout layout;
+
+    @Param({ "STORED", "DEFLATED" })
+    private CompressionMethod compressionMethod;
+
+    @Param({ "16", "1024" })
+    private int entryCount;
+
+    @Param({ "4", "64" })
+    private int entrySizeInKb;
+
+    private SyntheticMtar mtar;
+    private List<ArchiveEntryWithStreamPositions> archiveEntries;
+    private ApplicationDigestCalculator applicationDigestCalculator;
+    private ApplicationZipBuilder applicationZipBuilder;
+
+    @Setup
+    public void setUp() {
+        mtar = SyntheticMtar.create(layout, compressionMethod, entryCount, entrySizeInKb * 1024);
+        InMemoryFileService fileService = InMemoryFileService.withArchive(mtar.getContent());
+        ArchiveEntryStreamWithStreamPositionsDeterminer determiner = new ArchiveEntryStreamWithStreamPositionsDeterminer(fileService);
+        archiveEntries = determiner.determineArchiveEntries(InMemoryFileService.SPACE_GUID, InMemoryFileService.APP_ARCHIVE_ID);
+        ApplicationArchiveIterator applicationArchiveIterator = new ApplicationArchiveIterator();
+        ArchiveEntryExtractor archiveEntryExtractor = new ArchiveEntryExtractor(fileService);
+        applicationDigestCalculator = new ApplicationDigestCalculator(fileService, applicationArchiveIterator, archiveEntryExtractor);
+        applicationZipBuilder = new ApplicationZipBuilder(fileService, applicationArchiveIterator, archiveEntryExtractor);
+    }
+
+    @Benchmark
+    public String calculateApplicationDigest() {
+        return applicationDigestCalculator.calculateApplicationDigest(createApplicationArchiveContext());
+    }
+
+    @Benchmark
+    public long extractApplicationInNewArchive() throws IOException {
+        Path applicationArchive = applicationZipBuilder.extractApplicationInNewArchive(createApplicationArchiveContext());
+        try {
+            return Files.size(applicationArchive);
+        } finally {
+            Files.delete(applicationArchive);
+        }
+    }
+
+    private ApplicationArchiveContext createApplicationArchiveContext() {
+        return new ApplicationArchiveContext(mtar.getModuleFileName(), Long.MAX_VALUE, archiveEntries, InMemoryFileService.SPACE_GUID,
+                                             InMemoryFileService.APP_ARCHIVE_ID);
+    }
+
+}
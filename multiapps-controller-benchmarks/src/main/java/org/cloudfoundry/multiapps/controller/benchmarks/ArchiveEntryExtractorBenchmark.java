@@ -0,0 +1,80 @@
+package org.cloudfoundry.multiapps.controller.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.cloudfoundry.multiapps.controller.benchmarks.SyntheticMtar.ModuleLayout;
+import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntryExtractor;
+import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntryExtractorUtil;
+import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntryStreamWithStreamPositionsDeterminer;
+import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntryWithStreamPositions;
+import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntryWithStreamPositions.CompressionMethod;
+import org.cloudfoundry.multiapps.controller.process.util.FileEntryProperties;
+import org.cloudfoundry.multiapps.controller.process.util.ImmutableFileEntryProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the extraction of a single file module, which is how the content of most modules is read before it is uploaded.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ArchiveEntryExtractorBenchmark {
+
+    private static final int ENTRY_SIZE_IN_BYTES = 1024;
+
+    @Param({ "STORED", "DEFLATED" })
+    private CompressionMethod compressionMethod;
+
+    @Param({ "64", "4096", "65536" })
+    private int moduleSizeInKb;
+
+    private ArchiveEntryExtractor archiveEntryExtractor;
+    private FileEntryProperties fileEntryProperties;
+    private ArchiveEntryWithStreamPositions moduleEntry;
+
+    @Setup
+    public void setUp() {
+        SyntheticMtar mtar = SyntheticMtar.create(ModuleLayout.FILE, compressionMethod, moduleSizeInKb, ENTRY_SIZE_IN_BYTES);
+        InMemoryFileService fileService = InMemoryFileService.withArchive(mtar.getContent());
+        ArchiveEntryStreamWithStreamPositionsDeterminer determiner = new ArchiveEntryStreamWithStreamPositionsDeterminer(fileService);
+        List<ArchiveEntryWithStreamPositions> archiveEntries = determiner.determineArchiveEntries(InMemoryFileService.SPACE_GUID,
+                                                                                                 InMemoryFileService.APP_ARCHIVE_ID);
+        archiveEntryExtractor = new ArchiveEntryExtractor(fileService);
+        moduleEntry = ArchiveEntryExtractorUtil.findEntry(mtar.getModuleFileName(), archiveEntries);
+        fileEntryProperties = ImmutableFileEntryProperties.builder()
+                                                          .guid(InMemoryFileService.APP_ARCHIVE_ID)
+                                                          .spaceGuid(InMemoryFileService.SPACE_GUID)
+                                                          .name(moduleEntry.getName())
+                                                          .maxFileSizeInBytes(Long.MAX_VALUE)
+                                                          .build();
+    }
+
+    @Benchmark
+    public void processFileEntryBytes(Blackhole blackhole) {
+        archiveEntryExtractor.processFileEntryBytes(fileEntryProperties, moduleEntry, (bytesBuffer, bytesRead) -> {
+            blackhole.consume(bytesBuffer);
+            blackhole.consume(bytesRead);
+        });
+    }
+
+    @Benchmark
+    public byte[] extractEntryBytes() {
+        return archiveEntryExtractor.extractEntryBytes(fileEntryProperties, moduleEntry);
+    }
+
+}
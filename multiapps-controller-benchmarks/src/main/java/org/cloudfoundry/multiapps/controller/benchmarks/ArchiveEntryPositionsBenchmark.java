@@ -0,0 +1,55 @@
+package org.cloudfoundry.multiapps.controller.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.cloudfoundry.multiapps.controller.benchmarks.SyntheticMtar.ModuleLayout;
+import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntryStreamWithStreamPositionsDeterminer;
+import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntryWithStreamPositions;
+import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntryWithStreamPositions.CompressionMethod;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how fast the positions of the entries of an archive are determined. The cost depends on the number of entries, as they
+ * are read from the central directory, and not on their size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ArchiveEntryPositionsBenchmark {
+
+    private static final int ENTRY_SIZE_IN_BYTES = 4 * 1024;
+
+    @Param({ "STORED", "DEFLATED" })
+    private CompressionMethod compressionMethod;
+
+    @Param({ "16", "1024", "16384" })
+    private int entryCount;
+
+    private ArchiveEntryStreamWithStreamPositionsDeterminer determiner;
+
+    @Setup
+    public void setUp() {
+        SyntheticMtar mtar = SyntheticMtar.create(ModuleLayout.DIRECTORY, compressionMethod, entryCount, ENTRY_SIZE_IN_BYTES);
+        determiner = new ArchiveEntryStreamWithStreamPositionsDeterminer(InMemoryFileService.withArchive(mtar.getContent()));
+    }
+
+    @Benchmark
+    public List<ArchiveEntryWithStreamPositions> determineArchiveEntries() {
+        return determiner.determineArchiveEntries(InMemoryFileService.SPACE_GUID, InMemoryFileService.APP_ARCHIVE_ID);
+    }
+
+}
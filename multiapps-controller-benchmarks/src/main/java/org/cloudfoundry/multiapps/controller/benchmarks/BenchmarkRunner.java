@@ -0,0 +1,31 @@
+package org.cloudfoundry.multiapps.controller.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmarks jar. Accepts the usual JMH command line options and always attaches the GC profiler, so that the
+ * allocation rate ({@code gc.alloc.rate.norm}) is reported next to the throughput of every benchmark. For example:
+ *
+ * <pre>
+ * java -jar multiapps-controller-benchmarks/target/benchmarks.jar ApplicationArchiveBenchmark -p layout=DIRECTORY
+ * </pre>
+ */
+public class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        Options options = new OptionsBuilder().parent(new CommandLineOptions(args))
+                                              .addProfiler(GCProfiler.class)
+                                              .build();
+        new Runner(options).run();
+    }
+
+}
@@ -0,0 +1,42 @@
+package org.cloudfoundry.multiapps.controller.benchmarks;
+
+import java.math.BigInteger;
+
+import org.cloudfoundry.multiapps.controller.persistence.DataSourceWithDialect;
+import org.cloudfoundry.multiapps.controller.persistence.model.FileEntry;
+import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableFileEntry;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileService;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileStorageException;
+
+/**
+ * {@link FileService} backed by an {@link InMemoryFileStorage}. The file metadata, which normally comes from the database, is derived
+ * from the stored content, so no data source is needed.
+ */
+public class InMemoryFileService extends FileService {
+
+    public static final String SPACE_GUID = "benchmark-space";
+    public static final String APP_ARCHIVE_ID = "benchmark-archive";
+
+    private final InMemoryFileStorage fileStorage;
+
+    private InMemoryFileService(InMemoryFileStorage fileStorage) {
+        super(new DataSourceWithDialect(null), fileStorage);
+        this.fileStorage = fileStorage;
+    }
+
+    public static InMemoryFileService withArchive(byte[] archiveContent) {
+        InMemoryFileStorage fileStorage = new InMemoryFileStorage();
+        fileStorage.putFile(SPACE_GUID, APP_ARCHIVE_ID, archiveContent);
+        return new InMemoryFileService(fileStorage);
+    }
+
+    @Override
+    public FileEntry getFile(String space, String id) throws FileStorageException {
+        return ImmutableFileEntry.builder()
+                                 .space(space)
+                                 .id(id)
+                                 .size(BigInteger.valueOf(fileStorage.getFileSize(space, id)))
+                                 .build();
+    }
+
+}
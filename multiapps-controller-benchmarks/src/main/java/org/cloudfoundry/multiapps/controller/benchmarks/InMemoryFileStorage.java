@@ -0,0 +1,159 @@
+package org.cloudfoundry.multiapps.controller.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.text.MessageFormat;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import org.cloudfoundry.multiapps.controller.persistence.model.FileEntry;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileContentProcessor;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileContentToProcess;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileStorage;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileStorageException;
+
+/**
+ * {@link FileStorage} which keeps the files in memory, so that the benchmarks measure the archive processing and not the network or
+ * the disk. Ranged reads follow the semantics of the object store implementations, i.e. the end offset is inclusive.
+ */
+public class InMemoryFileStorage implements FileStorage {
+
+    private final Map<String, StoredFile> files = new ConcurrentHashMap<>();
+
+    public void putFile(String space, String id, byte[] content) {
+        files.put(getKey(space, id), new StoredFile(space, id, null, content));
+    }
+
+    public long getFileSize(String space, String id) throws FileStorageException {
+        return getContent(space, id).length;
+    }
+
+    @Override
+    public <T> T processFileContent(String space, String id, FileContentProcessor<T> fileContentProcessor) throws FileStorageException {
+        try (InputStream inputStream = openInputStream(space, id)) {
+            return fileContentProcessor.process(inputStream);
+        } catch (IOException e) {
+            throw new FileStorageException(e);
+        }
+    }
+
+    @Override
+    public InputStream openInputStream(String space, String id) throws FileStorageException {
+        return new ByteArrayInputStream(getContent(space, id));
+    }
+
+    @Override
+    public <T> T processArchiveEntryContent(FileContentToProcess fileContentToProcess, FileContentProcessor<T> fileContentProcessor)
+        throws FileStorageException {
+        byte[] content = getContent(fileContentToProcess.getSpaceGuid(), fileContentToProcess.getGuid());
+        int startOffset = Math.toIntExact(fileContentToProcess.getStartOffset());
+        int endOffsetExclusive = (int) Math.min(content.length, fileContentToProcess.getEndOffset() + 1);
+        try (InputStream inputStream = new ByteArrayInputStream(content, startOffset, endOffsetExclusive - startOffset)) {
+            return fileContentProcessor.process(inputStream);
+        } catch (IOException e) {
+            throw new FileStorageException(e);
+        }
+    }
+
+    private byte[] getContent(String space, String id) throws FileStorageException {
+        StoredFile file = files.get(getKey(space, id));
+        if (file == null) {
+            throw new FileStorageException(MessageFormat.format("File with ID \"{0}\" does not exist in space \"{1}\"", id, space));
+        }
+        return file.content();
+    }
+
+    private static String getKey(String space, String id) {
+        return space + "/" + id;
+    }
+
+    @Override
+    public void addFile(FileEntry fileEntry, InputStream content) throws FileStorageException {
+        try {
+            files.put(getKey(fileEntry.getSpace(), fileEntry.getId()), new StoredFile(fileEntry, content.readAllBytes()));
+        } catch (IOException e) {
+            throw new FileStorageException(e);
+        }
+    }
+
+    @Override
+    public List<FileEntry> getFileEntriesWithoutContent(List<FileEntry> fileEntries) {
+        return fileEntries.stream()
+                          .filter(fileEntry -> !files.containsKey(getKey(fileEntry.getSpace(), fileEntry.getId())))
+                          .toList();
+    }
+
+    @Override
+    public List<FileEntry> getExistingFileEntries(List<FileEntry> fileEntries) {
+        return fileEntries.stream()
+                          .filter(fileEntry -> files.containsKey(getKey(fileEntry.getSpace(), fileEntry.getId())))
+                          .toList();
+    }
+
+    @Override
+    public void deleteFile(String id, String space) {
+        files.remove(getKey(space, id));
+    }
+
+    @Override
+    public void deleteFilesBySpaceIds(List<String> spaceIds) {
+        removeFiles(file -> spaceIds.contains(file.space()));
+    }
+
+    @Override
+    public void deleteFilesBySpaceAndNamespace(String space, String namespace) {
+        removeFiles(file -> space.equals(file.space()) && file.isInNamespace(namespace));
+    }
+
+    @Override
+    public int deleteFilesModifiedBefore(LocalDateTime modificationTime) {
+        return removeFiles(file -> file.isModifiedBefore(modificationTime));
+    }
+
+    @Override
+    public void testConnection() {
+        // nothing to test, the files are in memory
+    }
+
+    @Override
+    public void deleteFilesByIds(List<String> fileIds) {
+        removeFiles(file -> fileIds.contains(file.id()));
+    }
+
+    private int removeFiles(Predicate<StoredFile> filter) {
+        int removedFiles = 0;
+        for (Iterator<StoredFile> iterator = files.values()
+                                                  .iterator(); iterator.hasNext();) {
+            if (filter.test(iterator.next())) {
+                iterator.remove();
+                removedFiles++;
+            }
+        }
+        return removedFiles;
+    }
+
+    /**
+     * The entry is known only for the files, which were added through {@link #addFile(FileEntry, InputStream)}.
+     */
+    private record StoredFile(String space, String id, FileEntry entry, byte[] content) {
+
+        StoredFile(FileEntry entry, byte[] content) {
+            this(entry.getSpace(), entry.getId(), entry, content);
+        }
+
+        boolean isInNamespace(String namespace) {
+            return entry != null && namespace.equals(entry.getNamespace());
+        }
+
+        boolean isModifiedBefore(LocalDateTime modificationTime) {
+            return entry != null && entry.getModified() != null && entry.getModified()
+                                                                        .isBefore(modificationTime);
+        }
+    }
+
+}
@@ -0,0 +1,70 @@
+package org.cloudfoundry.multiapps.controller.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.cloudfoundry.multiapps.controller.benchmarks.SyntheticMtar.ModuleLayout;
+import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntryExtractorUtil;
+import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntryStreamWithStreamPositionsDeterminer;
+import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntryWithStreamPositions;
+import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntryWithStreamPositions.CompressionMethod;
+import org.cloudfoundry.multiapps.mta.util.EntryToInflate;
+import org.cloudfoundry.multiapps.mta.util.InflatorUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures {@link InflatorUtil} on its own, without the file storage in front of it, so that its share of
+ * {@link ArchiveEntryExtractorBenchmark} can be told apart.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class InflatorUtilBenchmark {
+
+    private static final int ENTRY_SIZE_IN_BYTES = 1024;
+
+    @Param({ "64", "4096", "65536" })
+    private int moduleSizeInKb;
+
+    private String entryName;
+    private byte[] deflatedContent;
+
+    @Setup
+    public void setUp() {
+        SyntheticMtar mtar = SyntheticMtar.create(ModuleLayout.FILE, CompressionMethod.DEFLATED, moduleSizeInKb, ENTRY_SIZE_IN_BYTES);
+        InMemoryFileService fileService = InMemoryFileService.withArchive(mtar.getContent());
+        ArchiveEntryStreamWithStreamPositionsDeterminer determiner = new ArchiveEntryStreamWithStreamPositionsDeterminer(fileService);
+        List<ArchiveEntryWithStreamPositions> archiveEntries = determiner.determineArchiveEntries(InMemoryFileService.SPACE_GUID,
+                                                                                                 InMemoryFileService.APP_ARCHIVE_ID);
+        ArchiveEntryWithStreamPositions moduleEntry = ArchiveEntryExtractorUtil.findEntry(mtar.getModuleFileName(), archiveEntries);
+        entryName = moduleEntry.getName();
+        deflatedContent = Arrays.copyOfRange(mtar.getContent(), Math.toIntExact(moduleEntry.getStartPosition()),
+                                             Math.toIntExact(moduleEntry.getEndPosition()));
+    }
+
+    @Benchmark
+    public void inflate(Blackhole blackhole) {
+        InflatorUtil.inflate(new EntryToInflate(entryName, Long.MAX_VALUE, new ByteArrayInputStream(deflatedContent)),
+                             (bytesBuffer, bytesRead) -> {
+                                 blackhole.consume(bytesBuffer);
+                                 blackhole.consume(bytesRead);
+                             });
+    }
+
+}
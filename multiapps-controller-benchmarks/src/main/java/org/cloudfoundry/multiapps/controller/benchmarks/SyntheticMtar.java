@@ -0,0 +1,129 @@
+package org.cloudfoundry.multiapps.controller.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntryWithStreamPositions.CompressionMethod;
+
+/**
+ * An in-memory MTA archive with a single module, generated from a fixed seed so that every fork of a benchmark works on the same bytes.
+ * The module content is either a single file entry or a directory with many file entries, and all entries are either STORED or
+ * DEFLATED.
+ */
+public class SyntheticMtar {
+
+    public static final String MODULE_NAME = "web";
+
+    private static final long SEED = 42;
+    private static final String MANIFEST_CONTENT = "Manifest-Version: 1.0\nCreated-By: multiapps-controller-benchmarks\n";
+    private static final String DESCRIPTOR_CONTENT = "_schema-version: 3\nID: benchmark-mta\nversion: 1.0.0\nmodules:\n  - name: web\n    type: application\n    path: web\n";
+
+    public enum ModuleLayout {
+        FILE, DIRECTORY
+    }
+
+    private final byte[] content;
+    private final String moduleFileName;
+    private final long moduleSizeInBytes;
+
+    private SyntheticMtar(byte[] content, String moduleFileName, long moduleSizeInBytes) {
+        this.content = content;
+        this.moduleFileName = moduleFileName;
+        this.moduleSizeInBytes = moduleSizeInBytes;
+    }
+
+    /**
+     * @param layout whether the module is a single file entry or a directory with {@code entryCount} file entries
+     * @param compressionMethod the compression method of all entries
+     * @param entryCount the number of module entries; a file module holds the content of all of them in its only entry
+     * @param entrySizeInBytes the size of the uncompressed content of a single module entry
+     */
+    public static SyntheticMtar create(ModuleLayout layout, CompressionMethod compressionMethod, int entryCount, int entrySizeInBytes) {
+        Random random = new Random(SEED);
+        ByteArrayOutputStream archive = new ByteArrayOutputStream();
+        try (ZipOutputStream zipOutputStream = new ZipOutputStream(archive)) {
+            putEntry(zipOutputStream, "META-INF/MANIFEST.MF", MANIFEST_CONTENT.getBytes(StandardCharsets.UTF_8), compressionMethod);
+            putEntry(zipOutputStream, "META-INF/mtad.yaml", DESCRIPTOR_CONTENT.getBytes(StandardCharsets.UTF_8), compressionMethod);
+            String moduleFileName;
+            if (layout == ModuleLayout.FILE) {
+                moduleFileName = putFileModule(zipOutputStream, random, compressionMethod, entryCount, entrySizeInBytes);
+            } else {
+                moduleFileName = putDirectoryModule(zipOutputStream, random, compressionMethod, entryCount, entrySizeInBytes);
+            }
+            zipOutputStream.finish();
+            return new SyntheticMtar(archive.toByteArray(), moduleFileName, (long) entryCount * entrySizeInBytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String putFileModule(ZipOutputStream zipOutputStream, Random random, CompressionMethod compressionMethod,
+                                        int entryCount, int entrySizeInBytes)
+        throws IOException {
+        String moduleFileName = MODULE_NAME + "/" + MODULE_NAME + ".zip";
+        putEntry(zipOutputStream, moduleFileName, generateContent(random, Math.multiplyExact(entryCount, entrySizeInBytes)),
+                 compressionMethod);
+        return moduleFileName;
+    }
+
+    private static String putDirectoryModule(ZipOutputStream zipOutputStream, Random random, CompressionMethod compressionMethod,
+                                             int entryCount, int entrySizeInBytes)
+        throws IOException {
+        String moduleFileName = MODULE_NAME + "/";
+        putEntry(zipOutputStream, moduleFileName, new byte[0], CompressionMethod.STORED);
+        for (int i = 0; i < entryCount; i++) {
+            putEntry(zipOutputStream, moduleFileName + "resources/file-" + i + ".txt", generateContent(random, entrySizeInBytes),
+                     compressionMethod);
+        }
+        return moduleFileName;
+    }
+
+    private static void putEntry(ZipOutputStream zipOutputStream, String name, byte[] entryContent, CompressionMethod compressionMethod)
+        throws IOException {
+        ZipEntry zipEntry = new ZipEntry(name);
+        if (compressionMethod == CompressionMethod.STORED) {
+            CRC32 crc = new CRC32();
+            crc.update(entryContent);
+            zipEntry.setMethod(ZipEntry.STORED);
+            zipEntry.setSize(entryContent.length);
+            zipEntry.setCompressedSize(entryContent.length);
+            zipEntry.setCrc(crc.getValue());
+        } else {
+            zipEntry.setMethod(ZipEntry.DEFLATED);
+        }
+        zipOutputStream.putNextEntry(zipEntry);
+        zipOutputStream.write(entryContent);
+        zipOutputStream.closeEntry();
+    }
+
+    /**
+     * Text over a 16 character alphabet, which deflates to roughly half of its size - close to the compiled applications and web
+     * resources found in real archives, unlike both random bytes and repeated patterns.
+     */
+    private static byte[] generateContent(Random random, int sizeInBytes) {
+        byte[] generatedContent = new byte[sizeInBytes];
+        for (int i = 0; i < sizeInBytes; i++) {
+            generatedContent[i] = (byte) ('a' + random.nextInt(16));
+        }
+        return generatedContent;
+    }
+
+    public byte[] getContent() {
+        return content;
+    }
+
+    public String getModuleFileName() {
+        return moduleFileName;
+    }
+
+    public long getModuleSizeInBytes() {
+        return moduleSizeInBytes;
+    }
+
+}
@@ -185,6 +185,11 @@ public class ResilientCloudControllerClient implements CloudControllerClient {
         return executeWithRetry(() -> delegate.getApplicationRoutes(applicationGuid));
     }
 
+    @Override
+    public Map<UUID, List<CloudRoute>> getApplicationRoutesInSpace() {
+        return executeWithRetry(delegate::getApplicationRoutesInSpace);
+    }
+
     @Override
     public boolean getApplicationSshEnabled(UUID applicationGuid) {
         return executeWithRetry(() -> delegate.getApplicationSshEnabled(applicationGuid));
@@ -536,6 +541,11 @@ public class ResilientCloudControllerClient implements CloudControllerClient {
         return executeWithRetry(() -> delegate.getBuildsForPackage(packageGuid));
     }
 
+    @Override
+    public List<CloudBuild> getBuildsForPackages(List<UUID> packageGuids) {
+        return executeWithRetry(() -> delegate.getBuildsForPackages(packageGuids));
+    }
+
     @Override
     public CloudBuild getBuild(UUID buildGuid) {
         return executeWithRetry(() -> delegate.getBuild(buildGuid));
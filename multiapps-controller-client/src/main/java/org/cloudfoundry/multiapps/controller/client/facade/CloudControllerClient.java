@@ -280,6 +280,14 @@ public interface CloudControllerClient {
 
     List<CloudRoute> getApplicationRoutes(UUID applicationGuid);
 
+    /**
+     * Get the routes of all applications in the currently targeted space with a single paginated request. Prefer this over calling
+     * {@link #getApplicationRoutes(UUID)} for each application when the routes of many applications are needed.
+     *
+     * @return the routes in the space, indexed by the guids of the applications they are mapped to
+     */
+    Map<UUID, List<CloudRoute>> getApplicationRoutesInSpace();
+
     boolean getApplicationSshEnabled(UUID applicationGuid);
 
     Map<String, Boolean> getApplicationFeatures(UUID applicationGuid);
@@ -702,6 +710,8 @@ public interface CloudControllerClient {
 
     List<CloudBuild> getBuildsForPackage(UUID packageGuid);
 
+    List<CloudBuild> getBuildsForPackages(List<UUID> packageGuids);
+
     List<CloudApplication> getApplicationsByMetadataLabelSelector(String labelSelector);
 
     void updateApplicationMetadata(UUID guid, Metadata metadata);
@@ -259,6 +259,11 @@ public class CloudControllerClientImpl implements CloudControllerClient {
         return handleExceptions(() -> delegate.getApplicationRoutes(applicationGuid));
     }
 
+    @Override
+    public Map<UUID, List<CloudRoute>> getApplicationRoutesInSpace() {
+        return handleExceptions(() -> delegate.getApplicationRoutesInSpace());
+    }
+
     @Override
     public boolean getApplicationSshEnabled(UUID applicationGuid) {
         return handleExceptions(() -> delegate.getApplicationSshEnabled(applicationGuid));
@@ -621,6 +626,11 @@ public class CloudControllerClientImpl implements CloudControllerClient {
         return handleExceptions(() -> delegate.getBuildsForPackage(packageGuid));
     }
 
+    @Override
+    public List<CloudBuild> getBuildsForPackages(List<UUID> packageGuids) {
+        return handleExceptions(() -> delegate.getBuildsForPackages(packageGuids));
+    }
+
     @Override
     public DropletInfo getCurrentDropletForApplication(UUID applicationGuid) {
         return handleExceptions(() -> delegate.getCurrentDropletForApplication(applicationGuid));
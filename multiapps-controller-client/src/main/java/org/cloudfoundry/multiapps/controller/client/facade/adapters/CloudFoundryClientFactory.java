@@ -41,12 +41,17 @@ public abstract class CloudFoundryClientFactory {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CloudFoundryClientFactory.class);
 
+    private static final Duration ROOT_LINKS_EXPIRATION_TIME = Duration.ofMinutes(30);
+
     static final HttpClient HTTP_CLIENT = HttpClient.newBuilder()
-                                                    .executor(Executors.newSingleThreadExecutor())
+                                                    .executor(Executors.newVirtualThreadPerTaskExecutor())
                                                     .followRedirects(HttpClient.Redirect.NORMAL)
                                                     .connectTimeout(Duration.ofMinutes(10))
                                                     .build();
 
+    // A factory is created for every client, so the root links are shared by all of them, like the HTTP client:
+    private static final RootLinksCache ROOT_LINKS_CACHE = new RootLinksCache(ROOT_LINKS_EXPIRATION_TIME);
+
     private final Map<String, ConnectionContext> connectionContextCache = new ConcurrentHashMap<>();
 
     public abstract Optional<Duration> getSslHandshakeTimeout();
@@ -99,10 +104,15 @@ public abstract class CloudFoundryClientFactory {
         return requestBuilder.build();
     }
 
+    /**
+     * Creates a client for the spaces and organizations. The links of the Cloud Controller root are cached per controller URL, so
+     * creating a client does not call the Cloud Controller, unless the cached links have expired.
+     */
     public CloudSpaceClient createSpaceClient(URL controllerUrl, OAuthClient oAuthClient, Map<String, String> requestTags) {
         String v3Api;
         try {
-            var links = CloudUtil.executeWithRetry(() -> callCfRoot(controllerUrl, requestTags));
+            var links = ROOT_LINKS_CACHE.get(controllerUrl.toString(),
+                                             () -> CloudUtil.executeWithRetry(() -> callCfRoot(controllerUrl, requestTags)));
             @SuppressWarnings("unchecked")
             var ccv3 = (Map<String, Object>) links.get("cloud_controller_v3");
             v3Api = (String) ccv3.get("href");
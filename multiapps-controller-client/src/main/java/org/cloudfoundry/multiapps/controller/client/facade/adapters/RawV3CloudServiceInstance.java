@@ -2,6 +2,7 @@ package org.cloudfoundry.multiapps.controller.client.facade.adapters;
 
 import org.cloudfoundry.multiapps.controller.client.facade.domain.CloudServiceInstance;
 import org.cloudfoundry.multiapps.controller.client.facade.domain.ImmutableCloudServiceInstance;
+import org.cloudfoundry.multiapps.controller.client.facade.domain.ServiceOperation;
 import org.cloudfoundry.client.v3.serviceinstances.ServiceInstance;
 import org.immutables.value.Value;
 
@@ -19,6 +20,7 @@ public abstract class RawV3CloudServiceInstance extends RawCloudEntity<CloudServ
                                             .v3Metadata(serviceInstance.getMetadata())
                                             .name(serviceInstance.getName())
                                             .tags(serviceInstance.getTags())
+                                            .lastOperation(ServiceOperation.fromLastOperation(serviceInstance.getLastOperation()))
                                             .build();
     }
 
@@ -0,0 +1,72 @@
+package org.cloudfoundry.multiapps.controller.client.facade.adapters;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Caches the links of the Cloud Controller root per controller URL. Only one of the threads, which need the links after they have expired,
+ * loads them, and the others wait for its result. A failed load is not cached, so the next thread loads the links again.
+ */
+class RootLinksCache {
+
+    private final Map<String, CachedRootLinks> cache = new ConcurrentHashMap<>();
+    private final long expirationTimeInMillis;
+    private final LongSupplier currentTimeSupplier;
+
+    RootLinksCache(Duration expirationTime) {
+        this(expirationTime, System::currentTimeMillis);
+    }
+
+    RootLinksCache(Duration expirationTime, LongSupplier currentTimeSupplier) {
+        this.expirationTimeInMillis = expirationTime.toMillis();
+        this.currentTimeSupplier = currentTimeSupplier;
+    }
+
+    Map<String, Object> get(String controllerUrl, Supplier<Map<String, Object>> loader) {
+        CompletableFuture<Map<String, Object>> newLinks = new CompletableFuture<>();
+        long currentTime = currentTimeSupplier.getAsLong();
+        CachedRootLinks cachedRootLinks = cache.compute(controllerUrl,
+                                                        (key, current) -> current == null || current.isExpired(currentTime)
+                                                            ? new CachedRootLinks(newLinks, currentTime + expirationTimeInMillis)
+                                                            : current);
+        if (cachedRootLinks.links() == newLinks) {
+            load(controllerUrl, cachedRootLinks, loader);
+        }
+        try {
+            return cachedRootLinks.links()
+                                  .join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void load(String controllerUrl, CachedRootLinks cachedRootLinks, Supplier<Map<String, Object>> loader) {
+        try {
+            cachedRootLinks.links()
+                           .complete(loader.get());
+        } catch (Throwable e) {
+            // The future must be completed even on errors, otherwise the threads waiting for it would block forever:
+            cache.remove(controllerUrl, cachedRootLinks);
+            cachedRootLinks.links()
+                           .completeExceptionally(e);
+        }
+    }
+
+    private record CachedRootLinks(CompletableFuture<Map<String, Object>> links, long expiresAt) {
+
+        boolean isExpired(long currentTime) {
+            return currentTime > expiresAt;
+        }
+    }
+}
@@ -107,6 +107,8 @@ public interface CloudControllerRestClient {
 
     List<CloudRoute> getApplicationRoutes(UUID applicationGuid);
 
+    Map<UUID, List<CloudRoute>> getApplicationRoutesInSpace();
+
     boolean getApplicationSshEnabled(UUID applicationGuid);
 
     Map<String, Boolean> getApplicationFeatures(UUID applicationGuid);
@@ -235,6 +237,8 @@ public interface CloudControllerRestClient {
 
     List<CloudBuild> getBuildsForPackage(UUID packageGuid);
 
+    List<CloudBuild> getBuildsForPackages(List<UUID> packageGuids);
+
     List<CloudApplication> getApplicationsByMetadataLabelSelector(String labelSelector);
 
     List<CloudServiceInstance> getServiceInstancesWithoutAuxiliaryContentByNames(List<String> names);
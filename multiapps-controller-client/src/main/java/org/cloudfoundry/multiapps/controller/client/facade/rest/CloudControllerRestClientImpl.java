@@ -7,6 +7,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -761,6 +763,34 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
                                                                                                                    .build());
     }
 
+    @Override
+    public Map<UUID, List<CloudRoute>> getApplicationRoutesInSpace() {
+        assertSpaceProvided("get application routes");
+        List<RouteResource> routeResources = getRouteResourcesBySpaceGuid(getTargetSpaceGuid()).collectList()
+                                                                                              .block();
+        Map<UUID, List<CloudRoute>> routesByApplicationGuid = new HashMap<>();
+        for (RouteResource routeResource : routeResources) {
+            for (UUID applicationGuid : getDestinationApplicationGuids(routeResource)) {
+                CloudRoute route = ImmutableRawCloudRoute.builder()
+                                                         .route(routeResource)
+                                                         .applicationGuid(applicationGuid)
+                                                         .build()
+                                                         .derive();
+                routesByApplicationGuid.computeIfAbsent(applicationGuid, guid -> new ArrayList<>())
+                                       .add(route);
+            }
+        }
+        return routesByApplicationGuid;
+    }
+
+    private Set<UUID> getDestinationApplicationGuids(RouteResource routeResource) {
+        return routeResource.getDestinations()
+                            .stream()
+                            .map(destination -> UUID.fromString(destination.getApplication()
+                                                                           .getApplicationId()))
+                            .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
     @Override
     public boolean getApplicationSshEnabled(UUID applicationGuid) {
         return delegate.applicationsV3()
@@ -1511,6 +1541,15 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
         return fetchList(() -> getBuildResourcesByPackageGuid(packageGuid), ImmutableRawCloudBuild::of);
     }
 
+    @Override
+    public List<CloudBuild> getBuildsForPackages(List<UUID> packageGuids) {
+        List<CloudBuild> allBuilds = new ArrayList<>();
+        for (List<UUID> batchOfPackageGuids : toBatches(packageGuids, MAX_CHAR_LENGTH_FOR_PARAMS_IN_REQUEST)) {
+            allBuilds.addAll(fetchList(() -> getBuildResourcesByPackageGuids(batchOfPackageGuids), ImmutableRawCloudBuild::of));
+        }
+        return allBuilds;
+    }
+
     @Override
     public CloudBuild createBuild(UUID packageGuid) {
         return fetch(() -> createBuildResource(packageGuid), ImmutableRawCloudBuild::of);
@@ -1924,6 +1963,17 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
                                                                         .list(pageRequestSupplier.apply(page)));
     }
 
+    private Flux<? extends Build> getBuildResourcesByPackageGuids(List<UUID> packageGuids) {
+        IntFunction<ListBuildsRequest> pageRequestSupplier = page -> ListBuildsRequest.builder()
+                                                                                      .packageIds(packageGuids.stream()
+                                                                                                              .map(UUID::toString)
+                                                                                                              .toList())
+                                                                                      .page(page)
+                                                                                      .build();
+        return PaginationUtils.requestClientV3Resources(page -> delegate.builds()
+                                                                        .list(pageRequestSupplier.apply(page)));
+    }
+
     private void assertSpaceProvided(String operation) {
         Assert.notNull(target, "Unable to " + operation + " without specifying organization and space to use.");
     }
@@ -2169,6 +2219,15 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
                                                                         .list(pageRequestSupplier.apply(page)));
     }
 
+    private Flux<RouteResource> getRouteResourcesBySpaceGuid(UUID spaceGuid) {
+        IntFunction<ListRoutesRequest> pageRequestSupplier = page -> ListRoutesRequest.builder()
+                                                                                      .spaceId(spaceGuid.toString())
+                                                                                      .page(page)
+                                                                                      .build();
+        return PaginationUtils.requestClientV3Resources(page -> delegate.routesV3()
+                                                                        .list(pageRequestSupplier.apply(page)));
+    }
+
     private Flux<RouteResource> getRouteResourcesByDomainGuidHostAndPath(UUID domainGuid, String host, String path) {
         ListRoutesRequest.Builder requestBuilder = ListRoutesRequest.builder();
         if (host != null) {
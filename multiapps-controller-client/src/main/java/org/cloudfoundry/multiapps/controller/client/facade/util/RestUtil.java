@@ -18,6 +18,7 @@ import org.cloudfoundry.multiapps.controller.client.facade.oauth2.OAuthClient;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 /**
  * Some helper utilities for creating classes used for the REST support.
@@ -49,18 +50,29 @@ public class RestUtil {
     }
 
     public WebClient createWebClient(boolean trustSelfSignedCerts) {
+        return createWebClient(trustSelfSignedCerts, HttpClient.create());
+    }
+
+    /**
+     * Creates a web client, whose connections are taken from the given pool, so that web clients created with the same pool reuse each
+     * other's connections.
+     */
+    public WebClient createWebClient(boolean trustSelfSignedCerts, ConnectionProvider connectionProvider) {
+        return createWebClient(trustSelfSignedCerts, HttpClient.create(connectionProvider));
+    }
+
+    private WebClient createWebClient(boolean trustSelfSignedCerts, HttpClient httpClient) {
         return WebClient.builder()
                         .exchangeStrategies(ExchangeStrategies.builder()
                                                               .codecs(configurer -> configurer.defaultCodecs()
                                                                                               .maxInMemorySize(MAX_IN_MEMORY_SIZE))
                                                               .build())
-                        .clientConnector(buildClientConnector(trustSelfSignedCerts))
+                        .clientConnector(buildClientConnector(trustSelfSignedCerts, httpClient))
                         .build();
     }
 
-    private ClientHttpConnector buildClientConnector(boolean trustSelfSignedCerts) {
-        HttpClient httpClient = HttpClient.create()
-                                          .followRedirect(true);
+    private ClientHttpConnector buildClientConnector(boolean trustSelfSignedCerts, HttpClient httpClient) {
+        httpClient = httpClient.followRedirect(true);
         if (trustSelfSignedCerts) {
             httpClient = httpClient.secure(sslContextSpec -> sslContextSpec.sslContext(buildSslContext()));
         } else {
@@ -19,6 +19,7 @@ import org.junit.jupiter.api.Test;
 import org.cloudfoundry.multiapps.controller.client.facade.domain.CloudServiceInstance;
 import org.cloudfoundry.multiapps.controller.client.facade.domain.ImmutableCloudMetadata;
 import org.cloudfoundry.multiapps.controller.client.facade.domain.ImmutableCloudServiceInstance;
+import org.cloudfoundry.multiapps.controller.client.facade.domain.ServiceOperation;
 
 class RawCloudServiceInstanceTest {
 
@@ -63,6 +64,8 @@ class RawCloudServiceInstanceTest {
                                                                 .labels(METADATA_LABELS)
                                                                 .build())
                                             .tags(TAGS)
+                                            .lastOperation(new ServiceOperation(ServiceOperation.Type.CREATE, LAST_OPERATION_DESCRIPTION,
+                                                                                ServiceOperation.State.SUCCEEDED))
                                             .build();
     }
 
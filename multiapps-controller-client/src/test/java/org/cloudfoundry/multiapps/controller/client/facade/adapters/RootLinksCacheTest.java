@@ -0,0 +1,120 @@
+package org.cloudfoundry.multiapps.controller.client.facade.adapters;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.cloudfoundry.multiapps.controller.client.facade.CloudException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class RootLinksCacheTest {
+
+    private static final String CONTROLLER_URL = "https://api.example.com";
+    private static final Duration EXPIRATION_TIME = Duration.ofMinutes(30);
+    private static final Map<String, Object> LINKS = Map.of("cloud_controller_v3", Map.of("href", "https://api.example.com/v3"));
+    private static final Map<String, Object> NEW_LINKS = Map.of("cloud_controller_v3", Map.of("href", "https://api.example.com/v3/new"));
+
+    private final AtomicLong currentTime = new AtomicLong();
+    private final RootLinksCache cache = new RootLinksCache(EXPIRATION_TIME, currentTime::get);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void testCachedLinksAreReturnedWithoutLoadingThemAgain() {
+        Assertions.assertEquals(LINKS, cache.get(CONTROLLER_URL, () -> load(LINKS)));
+        currentTime.addAndGet(EXPIRATION_TIME.toMillis());
+
+        Assertions.assertEquals(LINKS, cache.get(CONTROLLER_URL, () -> load(NEW_LINKS)));
+        Assertions.assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testLinksAreCachedPerControllerUrl() {
+        cache.get(CONTROLLER_URL, () -> load(LINKS));
+
+        Assertions.assertEquals(NEW_LINKS, cache.get("https://api.other.example.com", () -> load(NEW_LINKS)));
+        Assertions.assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testExpiredLinksAreLoadedAgain() {
+        cache.get(CONTROLLER_URL, () -> load(LINKS));
+        currentTime.addAndGet(EXPIRATION_TIME.toMillis() + 1);
+
+        Assertions.assertEquals(NEW_LINKS, cache.get(CONTROLLER_URL, () -> load(NEW_LINKS)));
+        Assertions.assertEquals(NEW_LINKS, cache.get(CONTROLLER_URL, () -> load(LINKS)));
+        Assertions.assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testConcurrentCallersShareOneLoad() throws Exception {
+        int callers = 8;
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<Map<String, Object>>> results = new ArrayList<>();
+            results.add(executor.submit(() -> cache.get(CONTROLLER_URL, () -> {
+                loadStarted.countDown();
+                awaitQuietly(releaseLoad);
+                return load(LINKS);
+            })));
+            Assertions.assertTrue(loadStarted.await(10, TimeUnit.SECONDS));
+            for (int i = 1; i < callers; i++) {
+                results.add(executor.submit(() -> cache.get(CONTROLLER_URL, () -> load(NEW_LINKS))));
+            }
+            releaseLoad.countDown();
+
+            for (Future<Map<String, Object>> result : results) {
+                Assertions.assertEquals(LINKS, result.get(10, TimeUnit.SECONDS));
+            }
+            Assertions.assertEquals(1, loads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testFailedLoadIsNotCached() {
+        CloudException exception = new CloudException("Root is not available");
+
+        CloudException thrownException = Assertions.assertThrows(CloudException.class, () -> cache.get(CONTROLLER_URL, () -> {
+            throw exception;
+        }));
+
+        Assertions.assertSame(exception, thrownException);
+        Assertions.assertEquals(LINKS, cache.get(CONTROLLER_URL, () -> load(LINKS)));
+        Assertions.assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testLoadFailedWithErrorIsNotCached() {
+        Assertions.assertThrows(StackOverflowError.class, () -> cache.get(CONTROLLER_URL, () -> {
+            throw new StackOverflowError();
+        }));
+
+        Assertions.assertEquals(LINKS, cache.get(CONTROLLER_URL, () -> load(LINKS)));
+    }
+
+    private Map<String, Object> load(Map<String, Object> links) {
+        loads.incrementAndGet();
+        return links;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+        }
+    }
+}
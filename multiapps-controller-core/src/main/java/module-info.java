@@ -81,6 +81,7 @@ open module org.cloudfoundry.multiapps.controller.core {
     requires reactor.netty.core;
     requires reactor.netty.http;
     requires io.netty.handler;
+    requires micrometer.core;
 
     requires static java.compiler;
     requires static org.immutables.value;
@@ -32,6 +32,7 @@ public final class Messages {
     public static final String MULTIPLE_CONFIGURATION_ENTRIES_WERE_FOUND = "Multiple configuration entries were found matching the filter specified in resource \"{0}\"";
     public static final String CONFLICTING_APP_COLORS = "There are both blue and green applications already deployed for MTA \"{0}\"";
     public static final String COULD_NOT_COMPUTE_SPACE_ID = "Could not compute space ID for org \"{0}\" and space \"{1}\"";
+    public static final String COULD_NOT_PARSE_RESPONSE_OF_0 = "Could not parse the response of \"{0}\"";
     public static final String THE_DEPLOYMENT_DESCRIPTOR_0_SPECIFIES_NOT_SUPPORTED_MTA_VERSION_1 = "The deployment descriptor \"{0}\" specifies a non-supported MTA version \"{1}\"";
     public static final String CANNOT_CLEAN_MULTI_TARGET_APP_ASSEMBLY_TARGET_DIR_0 = "Cannot clean multi-target app assembly target dir \"{0}\"";
     public static final String FAILED_TO_COPY_FILE_0_TO_ASSEMBLY_DIRECTORY = "Failed to copy file \"{0}\" to assembly directory";
@@ -114,6 +115,7 @@ public final class Messages {
     public static final String INCOMPATIBLE_PARAMETERS = "Module \"{0}\" has parameters {1} that will be replaced by \"{2}\" due to inconsistency";
     public static final String MODULE_0_DEPENDS_ON_MODULE_1_WHICH_CANNOT_BE_RESOLVED = "Module \"{0}\" depends on module \"{1}\", which is not an application and its state cannot be calculated. This dependency will be ignored during deployment.";
     public static final String MODULE_0_WILL_BE_SKIPPED_DURING_DEPLOYMENT = "Module \"{0}\" will be skipped during deployment";
+    public static final String DROPPED_0_AUDIT_LOG_EVENTS_BECAUSE_THE_QUEUE_IS_FULL = "Dropped {0} audit log events because the audit log queue is full";
 
     // Info messages
     public static final String PLATFORMS_NOT_SPECIFIED = "No platforms are specified in the environment.";
@@ -156,6 +158,8 @@ public final class Messages {
     public static final String AUDIT_LOG_CLIENT_MAX_THREADS = "Audit log client max threads: {0}";
     public static final String AUDIT_LOG_CLIENT_QUEUE_CAPACITY = "Audit log client queue capacity: {0}";
     public static final String AUDIT_LOG_CLIENT_KEEP_ALIVE = "Audit log client keep alive: {0}";
+    public static final String AUDIT_LOG_QUEUE_CAPACITY = "Audit log queue capacity: {0}";
+    public static final String AUDIT_LOG_FLUSH_INTERVAL_IN_MILLIS = "Audit log flush interval in milliseconds: {0}";
     public static final String FLOWABLE_JOB_EXECUTOR_CORE_THREADS = "Flowable job executor core threads: {0}";
     public static final String FLOWABLE_JOB_EXECUTOR_MAX_THREADS = "Flowable job executor max threads: {0}";
     public static final String FLOWABLE_JOB_EXECUTOR_QUEUE_CAPACITY = "Flowable job executor queue capacity: {0}";
@@ -177,7 +181,6 @@ public final class Messages {
     public static final String PURGE_DELETE_REQUEST_SPACE_FROM_CONFIGURATION_TABLES = "All delete request spaces after date: {0} will be deleted from configuration tables.";
     public static final String RECENT_DELETE_SPACE_REQUEST_EVENTS = "Recent delete space request events: {0}";
     public static final String RETRIEVED_TOKEN_FOR_USER_WITH_GUID_0_WITH_EXPIRATION_TIME_1 = "Retrieved token for user with GUID \"{0}\" with expiration time: {1} seconds";
-    public static final String FSS_CACHE_UPDATE_TIMEOUT = "Fss cache update timeout: {0} minutes";
     public static final String THREAD_MONITOR_CACHE_TIMEOUT = "Flowable thread monitor cache timeout: {0} seconds";
     public static final String SPACE_DEVELOPERS_CACHE_TIME_IN_SECONDS = "Cache for list of space developers per SpaceGUID: {0} seconds";
     public static final String CONTROLLER_CLIENT_SSL_HANDSHAKE_TIMEOUT_IN_SECONDS = "Controller client SSL handshake timeout in seconds: {0}";
@@ -189,7 +192,10 @@ public final class Messages {
     public static final String DB_TRANSACTION_TIMEOUT = "Database transaction timeout: {0} seconds";
     public static final String SNAKEYAML_MAX_ALIASES_FOR_COLLECTIONS = "SnakeYaml max aliases for collections: {0}";
     public static final String SERVICE_HANDLING_MAX_PARALLEL_THREADS = "Service handling max parallel threads: {0}";
+    public static final String SUBSCRIBERS_UPDATE_MAX_PARALLEL_THREADS = "Subscribers update max parallel threads: {0}";
+    public static final String PROCESS_VARIABLES_EXTERNALIZATION_THRESHOLD_IN_BYTES = "Process variables externalization threshold in bytes: {0}";
     public static final String ABORTED_OPERATIONS_TTL_IN_SECONDS = "Aborted operations TTL in seconds: {0}";
+    public static final String ORPHANED_FILE_CONTENT_CLEAN_UP_INTERVAL_IN_SECONDS = "Orphaned file content clean-up interval in seconds: {0}";
     public static final String SPRING_SCHEDULER_TASK_EXECUTOR_THREADS = "Spring scheduler task executor threads: {0}";
     public static final String FILES_ASYNC_UPLOAD_EXECUTOR_MAX_THREADS = "Files async executor max threads: {0}";
     public static final String DEPLOY_FROM_URL_EXECUTOR_MAX_THREADS = "Deploy from URL executor max threads: {0}";
@@ -1,9 +1,11 @@
 package org.cloudfoundry.multiapps.controller.core.auditlogging;
 
+import java.time.Duration;
 import javax.sql.DataSource;
 
 import org.cloudfoundry.multiapps.controller.core.auditlogging.impl.AuditLoggingFacadeSLImpl;
 import org.cloudfoundry.multiapps.controller.core.auditlogging.impl.DefaultCloudLoggingServiceConfigurationAuditLog;
+import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -11,8 +13,10 @@ import org.springframework.context.annotation.Configuration;
 public class AuditLogBean {
 
     @Bean
-    public AuditLoggingFacade buildAuditLoggingFacade(DataSource dataSource, UserInfoProvider userInfoProvider) {
-        return new AuditLoggingFacadeSLImpl(dataSource, userInfoProvider);
+    public AuditLoggingFacade buildAuditLoggingFacade(DataSource dataSource, UserInfoProvider userInfoProvider,
+                                                      ApplicationConfiguration configuration) {
+        return new AuditLoggingFacadeSLImpl(dataSource, userInfoProvider, configuration.getAuditLogQueueCapacity(),
+                                            Duration.ofMillis(configuration.getAuditLogFlushIntervalInMillis()));
     }
 
     @Bean
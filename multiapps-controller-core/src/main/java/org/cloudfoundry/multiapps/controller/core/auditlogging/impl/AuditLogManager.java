@@ -10,15 +10,19 @@ import org.cloudfoundry.multiapps.controller.core.auditlogging.UserInfoProvider;
 import org.cloudfoundry.multiapps.controller.core.auditlogging.impl.DBAppender.LogEventAdapter;
 
 import java.sql.Timestamp;
+import java.time.Duration;
 import javax.sql.DataSource;
 
-class AuditLogManager {
+class AuditLogManager implements AutoCloseable {
+
+    static final int DEFAULT_QUEUE_CAPACITY = 10000;
+    static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofMillis(500);
 
     private static final String AUDIT_LOG_INSERT_STATEMENT = "INSERT INTO AUDIT_LOG (USER, MODIFIED, CATEGORY, SEVERITY, MESSAGE) VALUES (?, ?, ?, ?, ?)";
 
     private static final LogEventAdapter EVENT_ADAPTER = (category, event, userInfo, stmt) -> {
         stmt.setString(1, userInfo == null ? null : userInfo.getName());
-        stmt.setTimestamp(2, new Timestamp(System.currentTimeMillis()));
+        stmt.setTimestamp(2, new Timestamp(event.getTimeMillis()));
         stmt.setString(3, category);
         stmt.setString(4, event.getLevel()
                                .toString());
@@ -26,7 +30,7 @@ class AuditLogManager {
                                .toString());
     };
 
-    private final AuditLoggingExceptionHandler exceptionHandler = new AuditLoggingExceptionHandler();
+    private final AuditLogWriter auditLogWriter;
 
     private Logger securityLogger = null;
 
@@ -46,20 +50,25 @@ class AuditLogManager {
         return actionLogger;
     }
 
-    Exception getException() {
-        return exceptionHandler.getException();
+    AuditLogManager(DataSource dataSource, UserInfoProvider userInfoProvider) {
+        this(dataSource, userInfoProvider, DEFAULT_QUEUE_CAPACITY, DEFAULT_FLUSH_INTERVAL);
     }
 
-    AuditLogManager(DataSource dataSource, UserInfoProvider userInfoProvider) {
-        securityLogger = setUpLogger(dataSource, userInfoProvider, "SECURITY");
-        configLogger = setUpLogger(dataSource, userInfoProvider, "CONFIG");
-        actionLogger = setUpLogger(dataSource, userInfoProvider, "ACTION");
+    AuditLogManager(DataSource dataSource, UserInfoProvider userInfoProvider, int queueCapacity, Duration flushInterval) {
+        auditLogWriter = new AuditLogWriter(dataSource, AUDIT_LOG_INSERT_STATEMENT, EVENT_ADAPTER, queueCapacity, flushInterval);
+        securityLogger = setUpLogger(userInfoProvider, "SECURITY");
+        configLogger = setUpLogger(userInfoProvider, "CONFIG");
+        actionLogger = setUpLogger(userInfoProvider, "ACTION");
+    }
+
+    @Override
+    public void close() {
+        auditLogWriter.close();
     }
 
-    private Logger setUpLogger(DataSource dataSource, UserInfoProvider userInfoProvider, String name) {
+    private Logger setUpLogger(UserInfoProvider userInfoProvider, String name) {
         try (LoggerContext loggerContext = new LoggerContext(name)) {
-            DBAppender auditLogAppender = initializeDBAppender(dataSource, AUDIT_LOG_INSERT_STATEMENT, EVENT_ADAPTER, exceptionHandler,
-                                                               userInfoProvider, name);
+            DBAppender auditLogAppender = initializeDBAppender(userInfoProvider, name);
             auditLogAppender.start();
             loggerContext.getConfiguration()
                          .addAppender(auditLogAppender);
@@ -69,9 +78,8 @@ class AuditLogManager {
         }
     }
 
-    private DBAppender initializeDBAppender(DataSource dataSource, String logInsertStatement, LogEventAdapter logEventAdapter,
-                                            AuditLoggingExceptionHandler exceptionHandler, UserInfoProvider userInfoProvider, String name) {
-        return new DBAppender(dataSource, logInsertStatement, logEventAdapter, exceptionHandler, userInfoProvider, name);
+    private DBAppender initializeDBAppender(UserInfoProvider userInfoProvider, String name) {
+        return new DBAppender(auditLogWriter, userInfoProvider, name);
     }
 
     private LoggerConfig initializeLoggerConfig(LoggerContext loggerContext) {
@@ -0,0 +1,181 @@
+package org.cloudfoundry.multiapps.controller.core.auditlogging.impl;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.text.MessageFormat;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.apache.logging.log4j.core.LogEvent;
+import org.cloudfoundry.multiapps.controller.core.Messages;
+import org.cloudfoundry.multiapps.controller.core.auditlogging.impl.DBAppender.LogEventAdapter;
+import org.cloudfoundry.multiapps.controller.core.util.UserInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes audit log events to the database from a dedicated thread. Events are kept in a bounded queue and are inserted with JDBC batches
+ * of up to {@link #MAX_BATCH_SIZE} rows, at most one flush interval after they were logged. Events that do not fit in the queue are
+ * dropped and counted, so that a slow database never blocks the request threads which produce them.
+ */
+class AuditLogWriter implements AutoCloseable {
+
+    private static final String METRICS_PREFIX = "multiapps.audit.log.";
+    private static final Logger LOGGER = LoggerFactory.getLogger(AuditLogWriter.class);
+    private static final int MAX_BATCH_SIZE = 500;
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+
+    private final DataSource dataSource;
+    private final String sql;
+    private final LogEventAdapter eventAdapter;
+    private final Duration flushInterval;
+    private final BlockingQueue<AuditLogRecord> queue;
+    private final AtomicLong droppedEvents = new AtomicLong();
+    private final AtomicLong unreportedDroppedEvents = new AtomicLong();
+    private final Timer delayTimer;
+    private final Thread writerThread;
+    private volatile boolean running = true;
+
+    AuditLogWriter(DataSource dataSource, String sql, LogEventAdapter eventAdapter, int capacity, Duration flushInterval) {
+        this.dataSource = Objects.requireNonNull(dataSource);
+        this.sql = Objects.requireNonNull(sql);
+        this.eventAdapter = Objects.requireNonNull(eventAdapter);
+        this.flushInterval = flushInterval;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        Gauge.builder(METRICS_PREFIX + "events.pending", queue, BlockingQueue::size)
+             .register(Metrics.globalRegistry);
+        FunctionCounter.builder(METRICS_PREFIX + "events.dropped", droppedEvents, AtomicLong::get)
+                       .register(Metrics.globalRegistry);
+        this.delayTimer = Timer.builder(METRICS_PREFIX + "events.delay")
+                               .register(Metrics.globalRegistry);
+        this.writerThread = new Thread(this::run, "audit-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    boolean offer(String category, LogEvent event, UserInfo userInfo) {
+        if (queue.offer(new AuditLogRecord(category, event.toImmutable(), userInfo))) {
+            return true;
+        }
+        droppedEvents.incrementAndGet();
+        unreportedDroppedEvents.incrementAndGet();
+        return false;
+    }
+
+    long getDroppedEvents() {
+        return droppedEvents.get();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        writerThread.interrupt();
+        try {
+            writerThread.join(SHUTDOWN_TIMEOUT.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+        }
+        flushRemaining();
+    }
+
+    private synchronized void flushRemaining() {
+        List<AuditLogRecord> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        while (queue.drainTo(batch, MAX_BATCH_SIZE) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void run() {
+        List<AuditLogRecord> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        while (running) {
+            try {
+                collectBatch(batch);
+            } catch (InterruptedException e) {
+                writeCollected(batch);
+                Thread.currentThread()
+                      .interrupt();
+                return;
+            }
+            writeCollected(batch);
+        }
+    }
+
+    private void collectBatch(List<AuditLogRecord> batch) throws InterruptedException {
+        AuditLogRecord first = queue.poll(flushInterval.toNanos(), TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + flushInterval.toNanos();
+        while (batch.size() < MAX_BATCH_SIZE) {
+            queue.drainTo(batch, MAX_BATCH_SIZE - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= MAX_BATCH_SIZE || remaining <= 0) {
+                return;
+            }
+            AuditLogRecord next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void writeCollected(List<AuditLogRecord> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        synchronized (this) {
+            write(batch);
+        }
+        batch.clear();
+    }
+
+    private void write(List<AuditLogRecord> batch) {
+        reportDroppedEvents();
+        try (Connection connection = dataSource.getConnection(); PreparedStatement stmt = connection.prepareStatement(sql)) {
+            for (AuditLogRecord auditLogRecord : batch) {
+                eventAdapter.eventToStatement(auditLogRecord.category(), auditLogRecord.event(), auditLogRecord.userInfo(), stmt);
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+            recordDelays(batch);
+        } catch (SQLException e) {
+            LOGGER.error(Messages.AUDIT_LOGGING_FAILED, e);
+        }
+    }
+
+    private void reportDroppedEvents() {
+        long dropped = unreportedDroppedEvents.getAndSet(0);
+        if (dropped > 0) {
+            LOGGER.warn(MessageFormat.format(Messages.DROPPED_0_AUDIT_LOG_EVENTS_BECAUSE_THE_QUEUE_IS_FULL, dropped));
+        }
+    }
+
+    private void recordDelays(List<AuditLogRecord> batch) {
+        long now = System.currentTimeMillis();
+        for (AuditLogRecord auditLogRecord : batch) {
+            delayTimer.record(Math.max(0, now - auditLogRecord.event()
+                                                              .getTimeMillis()),
+                              TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private record AuditLogRecord(String category, LogEvent event, UserInfo userInfo) {
+    }
+
+}
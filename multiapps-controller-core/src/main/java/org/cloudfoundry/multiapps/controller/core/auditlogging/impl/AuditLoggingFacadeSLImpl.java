@@ -1,26 +1,28 @@
 package org.cloudfoundry.multiapps.controller.core.auditlogging.impl;
 
+import java.time.Duration;
 import javax.sql.DataSource;
 
 import org.apache.logging.log4j.Level;
-import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.core.Logger;
-import org.cloudfoundry.multiapps.controller.core.Messages;
 import org.cloudfoundry.multiapps.controller.core.auditlogging.AuditLoggingFacade;
 import org.cloudfoundry.multiapps.controller.core.auditlogging.UserInfoProvider;
 import org.cloudfoundry.multiapps.controller.core.auditlogging.model.AuditLogConfiguration;
 import org.cloudfoundry.multiapps.controller.core.auditlogging.model.ConfigurationChangeActions;
 import org.cloudfoundry.multiapps.mta.model.AuditableConfiguration;
 
-public class AuditLoggingFacadeSLImpl implements AuditLoggingFacade {
+public class AuditLoggingFacadeSLImpl implements AuditLoggingFacade, AutoCloseable {
 
-    private static final Logger LOGGER = (Logger) LogManager.getLogger(AuditLoggingFacadeSLImpl.class);
     private final AuditLogManager auditLogManager;
 
     public AuditLoggingFacadeSLImpl(DataSource dataSource, UserInfoProvider userInfoProvider) {
         this.auditLogManager = new AuditLogManager(dataSource, userInfoProvider);
     }
 
+    public AuditLoggingFacadeSLImpl(DataSource dataSource, UserInfoProvider userInfoProvider, int queueCapacity, Duration flushInterval) {
+        this.auditLogManager = new AuditLogManager(dataSource, userInfoProvider, queueCapacity, flushInterval);
+    }
+
     @Override
     public void logSecurityIncident(AuditLogConfiguration configuration) {
         writeMessage(auditLogManager.getSecurityLogger(), configuration.getPerformedAction(), Level.WARN);
@@ -45,14 +47,12 @@ public class AuditLoggingFacadeSLImpl implements AuditLoggingFacade {
     }
 
     private void writeMessage(Logger logger, String message, Level level) {
-        Exception loggingException = null;
-        synchronized (auditLogManager) {
-            logger.log(level, message);
-            loggingException = auditLogManager.getException();
-        }
-        if (loggingException != null) {
-            LOGGER.error(Messages.AUDIT_LOGGING_FAILED, loggingException);
-        }
+        logger.log(level, message);
+    }
+
+    @Override
+    public void close() {
+        auditLogManager.close();
     }
 
 }
@@ -2,5 +2,5 @@ package org.cloudfoundry.multiapps.controller.core.cf;
 
 public enum DeploymentMode {
 
-    SEQUENTIAL, PARALLEL
+    SEQUENTIAL, PARALLEL, DATAFLOW
 }
@@ -42,4 +42,24 @@ public class OAuthClientExtended extends OAuthClient {
         }
         return token;
     }
+
+    /**
+     * Replaces the token, e.g. because it was rejected before it expired. A token of a user is replaced by the latest token of the user in
+     * the token store, and any other token is created anew from the credentials.
+     */
+    public void refreshToken() {
+        if (token == null) {
+            return;
+        }
+        if (credentials.getToken() == null) {
+            token = createToken();
+            return;
+        }
+        TokenProperties tokenProperties = TokenProperties.fromToken(token);
+        tokenService.removeCachedToken(tokenProperties.getUserId());
+        token = tokenService.getToken(tokenProperties.getUserId());
+        LOGGER.info(MessageFormat.format(Messages.RETRIEVED_TOKEN_FOR_USER_WITH_GUID_0_WITH_EXPIRATION_TIME_1, tokenProperties.getUserId(),
+                                         token.getOAuth2AccessToken()
+                                              .getExpiresAt()));
+    }
 }
@@ -2,7 +2,6 @@ package org.cloudfoundry.multiapps.controller.core.cf;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
-import org.cloudfoundry.multiapps.controller.client.facade.oauth2.OAuthClient;
 import org.cloudfoundry.multiapps.controller.client.facade.util.RestUtil;
 import org.cloudfoundry.multiapps.controller.client.uaa.UAAClient;
 import org.cloudfoundry.multiapps.controller.core.security.token.TokenService;
@@ -17,7 +16,7 @@ public class OAuthClientFactory {
     @Inject
     private UAAClient uaaClient;
 
-    public OAuthClient createOAuthClient() {
+    public OAuthClientExtended createOAuthClient() {
         return new OAuthClientExtended(uaaClient.getUaaUrl(), tokenService, restUtil.createWebClient(true));
     }
 
@@ -0,0 +1,86 @@
+package org.cloudfoundry.multiapps.controller.core.cf.clients;
+
+import org.cloudfoundry.multiapps.controller.client.facade.CloudCredentials;
+import org.cloudfoundry.multiapps.controller.core.cf.OAuthClientExtended;
+import org.cloudfoundry.multiapps.controller.core.cf.OAuthClientFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Adds the token of the given credentials to each request. The token is resolved when the first request is sent, and it is refreshed by
+ * the OAuth client, when it is about to expire. A request, which is rejected as unauthorized, is sent once more with a refreshed token.
+ */
+class BearerTokenExchangeFilter implements ExchangeFilterFunction {
+
+    private final OAuthClientFactory oAuthClientFactory;
+    private final CloudCredentials credentials;
+    private OAuthClientExtended oAuthClient;
+
+    BearerTokenExchangeFilter(OAuthClientFactory oAuthClientFactory, CloudCredentials credentials) {
+        this.oAuthClientFactory = oAuthClientFactory;
+        this.credentials = credentials;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return getToken().flatMap(token -> next.exchange(withBearerAuth(request, token)))
+                         .flatMap(response -> retryIfUnauthorized(request, next, response));
+    }
+
+    private Mono<ClientResponse> retryIfUnauthorized(ClientRequest request, ExchangeFunction next, ClientResponse response) {
+        if (response.statusCode()
+                    .value() != HttpStatus.UNAUTHORIZED.value()) {
+            return Mono.just(response);
+        }
+        return response.releaseBody()
+                       .then(getRefreshedToken())
+                       .flatMap(token -> next.exchange(withBearerAuth(request, token)));
+    }
+
+    // The token may be read from the token store or from the authorization server, so it is not resolved on an event loop thread:
+    private Mono<String> getToken() {
+        return Mono.fromCallable(this::computeToken)
+                   .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private Mono<String> getRefreshedToken() {
+        return Mono.fromCallable(this::computeRefreshedToken)
+                   .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private synchronized String computeToken() {
+        return getTokenValue(getOAuthClient());
+    }
+
+    private synchronized String computeRefreshedToken() {
+        OAuthClientExtended client = getOAuthClient();
+        client.refreshToken();
+        return getTokenValue(client);
+    }
+
+    private OAuthClientExtended getOAuthClient() {
+        if (oAuthClient == null) {
+            oAuthClient = oAuthClientFactory.createOAuthClient();
+            oAuthClient.init(credentials);
+        }
+        return oAuthClient;
+    }
+
+    private static String getTokenValue(OAuthClientExtended client) {
+        return client.getToken()
+                     .getOAuth2AccessToken()
+                     .getTokenValue();
+    }
+
+    private static ClientRequest withBearerAuth(ClientRequest request, String token) {
+        return ClientRequest.from(request)
+                            .headers(headers -> headers.setBearerAuth(token))
+                            .build();
+    }
+
+}
@@ -1,23 +1,35 @@
 package org.cloudfoundry.multiapps.controller.core.cf.clients;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.cloudfoundry.multiapps.common.ParsingException;
+import org.cloudfoundry.multiapps.common.util.JsonSerializationStrategy;
 import org.cloudfoundry.multiapps.common.util.JsonUtil;
 import org.cloudfoundry.multiapps.controller.client.facade.CloudCredentials;
+import org.cloudfoundry.multiapps.controller.core.Messages;
 import org.cloudfoundry.multiapps.controller.core.cf.CloudControllerHeaderConfiguration;
 import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 public abstract class CustomControllerClient {
 
     protected static final int MAX_URI_QUERY_LENGTH = 4000;
+    private static final int MAX_CONCURRENT_PAGE_REQUESTS = 4;
+    private static final int MAX_CONCURRENT_BATCH_REQUESTS = 4;
+    private static final Set<String> PAGE_FIELDS = Set.of("resources", "included", "pagination");
 
     private final WebClient webClient;
     private String correlationId = StringUtils.EMPTY;
@@ -37,23 +49,70 @@ public abstract class CustomControllerClient {
     }
 
     protected <T> List<T> getListOfResources(ResourcesResponseMapper<T> responseMapper, String uri) {
-        PaginationV3 pagination = addPageOfResources(uri, responseMapper);
-        while (!StringUtils.isEmpty(pagination.getNextUri())) {
-            pagination = addPageOfResources(pagination.getNextUri(), responseMapper);
+        return addPagesOfResources(responseMapper, getAllPages(uri));
+    }
+
+    private <T> List<T> addPagesOfResources(ResourcesResponseMapper<T> responseMapper, Flux<Map<String, Object>> pages) {
+        List<Map<String, Object>> responseMaps = pages.collectList()
+                                                      .block();
+        if (responseMaps != null) {
+            responseMaps.forEach(responseMapper::addResources);
         }
         return responseMapper.getMappedResources();
     }
 
-    private PaginationV3 addPageOfResources(String uri, ResourcesResponseMapper<?> responseMapper) {
-        String responseString = webClient.get()
-                                         .uri(uri)
-                                         .headers(httpHeaders -> httpHeaders.addAll(generateRequestHeaders()))
-                                         .retrieve()
-                                         .bodyToMono(String.class)
-                                         .block();
-        Map<String, Object> responseMap = JsonUtil.convertJsonToMap(responseString);
-        responseMapper.addResources(responseMap);
-        return PaginationV3.fromResponse(responseMap);
+    private Flux<Map<String, Object>> getAllPages(String uri) {
+        return getPage(uri).flatMapMany(firstPage -> Flux.concat(Mono.just(firstPage), getRemainingPages(firstPage)));
+    }
+
+    private Flux<Map<String, Object>> getRemainingPages(Map<String, Object> firstPage) {
+        PaginationV3 pagination = PaginationV3.fromResponse(firstPage);
+        if (StringUtils.isEmpty(pagination.getNextUri())) {
+            return Flux.empty();
+        }
+        Integer totalPages = pagination.getTotalPages();
+        if (totalPages == null) {
+            return getPage(pagination.getNextUri()).expand(this::getNextPage);
+        }
+        return Flux.range(2, totalPages - 1)
+                   .flatMapSequential(page -> getPage(pagination.getNextUriForPage(page)), MAX_CONCURRENT_PAGE_REQUESTS);
+    }
+
+    private Mono<Map<String, Object>> getNextPage(Map<String, Object> page) {
+        String nextUri = PaginationV3.fromResponse(page)
+                                     .getNextUri();
+        return StringUtils.isEmpty(nextUri) ? Mono.empty() : getPage(nextUri);
+    }
+
+    private Mono<Map<String, Object>> getPage(String uri) {
+        return webClient.get()
+                        .uri(uri)
+                        .headers(httpHeaders -> httpHeaders.addAll(generateRequestHeaders()))
+                        .retrieve()
+                        .bodyToMono(String.class)
+                        .map(responseBody -> parsePage(uri, responseBody));
+    }
+
+    private static Map<String, Object> parsePage(String uri, String responseBody) {
+        Map<String, Object> page = new HashMap<>();
+        try (JsonParser parser = JsonUtil.getObjectMapper(JsonSerializationStrategy.DEFAULT)
+                                         .createParser(responseBody)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new ParsingException(Messages.COULD_NOT_PARSE_RESPONSE_OF_0, uri);
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                parser.nextToken();
+                if (PAGE_FIELDS.contains(fieldName)) {
+                    page.put(fieldName, parser.readValueAs(Object.class));
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            throw new ParsingException(e, Messages.COULD_NOT_PARSE_RESPONSE_OF_0, uri);
+        }
+        return page;
     }
 
     private MultiValueMap<String, String> generateRequestHeaders() {
@@ -66,12 +125,10 @@ public abstract class CustomControllerClient {
     protected <T> List<T> getListOfResourcesInBatches(ResourcesResponseMapper<T> responseMapper, String uri,
                                                       List<String> batchValues) {
         List<List<String>> batches = splitIntoBatches(batchValues, uri.length());
-        return batches.stream()
-                      .map(batch ->
-                               getListOfResources(responseMapper, uri, batch)
-                      )
-                      .flatMap(List::stream)
-                      .toList();
+        Flux<Map<String, Object>> pages = Flux.fromIterable(batches)
+                                              .flatMapSequential(batch -> getAllPages(uri + String.join(",", batch)),
+                                                                 MAX_CONCURRENT_BATCH_REQUESTS);
+        return addPagesOfResources(responseMapper, pages);
     }
 
     protected List<List<String>> splitIntoBatches(List<String> values, int fixedUriLength) {
@@ -99,12 +156,6 @@ public abstract class CustomControllerClient {
         return batches;
     }
 
-    private <T> List<T> getListOfResources(ResourcesResponseMapper<T> responseMapper, String uriPrefix,
-                                           List<String> batch) {
-        String uri = uriPrefix + String.join(",", batch);
-        return getListOfResources(responseMapper, uri);
-    }
-
     public static abstract class ResourcesResponseMapper<T> {
         List<Map<String, Object>> queriedResources = new ArrayList<>();
         Map<String, List<Object>> includedResources = new HashMap<>();
@@ -2,6 +2,9 @@ package org.cloudfoundry.multiapps.controller.core.cf.clients;
 
 import java.util.Map;
 
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+
 public class PaginationV3 extends ResponseUrisV3 {
 
     private PaginationV3(Map<String, Object> includedUris) {
@@ -27,4 +30,21 @@ public class PaginationV3 extends ResponseUrisV3 {
     public String getPreviousUri() {
         return getUriString("previous");
     }
+
+    public Integer getTotalPages() {
+        Object totalPages = getIncludedUris() == null ? null : getIncludedUris().get("total_pages");
+        return totalPages instanceof Number number ? number.intValue() : null;
+    }
+
+    public String getNextUriForPage(int page) {
+        UriComponents nextUri = getUriComponents("next");
+        if (nextUri == null) {
+            return null;
+        }
+        return UriComponentsBuilder.newInstance()
+                                   .uriComponents(nextUri)
+                                   .replaceQueryParam("page", page)
+                                   .build()
+                                   .toUriString();
+    }
 }
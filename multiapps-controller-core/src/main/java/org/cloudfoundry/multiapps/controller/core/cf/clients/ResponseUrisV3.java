@@ -14,6 +14,10 @@ public class ResponseUrisV3 {
         this.includedUris = includedUris;
     }
 
+    protected Map<String, Object> getIncludedUris() {
+        return includedUris;
+    }
+
     public String getUriString(String uriKey) {
         UriComponents uriComponents = getUriComponents(uriKey);
         return uriComponents == null ? null : uriComponents.toUriString();
@@ -1,36 +1,65 @@
 package org.cloudfoundry.multiapps.controller.core.cf.clients;
 
+import java.time.Duration;
+
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import org.cloudfoundry.multiapps.controller.client.facade.CloudCredentials;
 import org.cloudfoundry.multiapps.controller.client.facade.util.RestUtil;
 import org.cloudfoundry.multiapps.controller.core.cf.OAuthClientFactory;
 import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.resources.ConnectionProvider;
 
+/**
+ * Provides web clients for the Cloud Controller. All web clients share one bounded connection pool, so that the connections and their TLS
+ * sessions are reused by the clients of different steps and users. The token of a client is added to each of its requests.
+ */
 @Named
-public class WebClientFactory {
+public class WebClientFactory implements DisposableBean {
+
+    private static final String CONNECTION_POOL_NAME = "cloud-controller";
+    private static final int MAX_CONNECTIONS = 200;
+    private static final int MAX_PENDING_ACQUIRES = 1000;
+    private static final Duration PENDING_ACQUIRE_TIMEOUT = Duration.ofSeconds(60);
+    private static final Duration MAX_IDLE_TIME = Duration.ofSeconds(30);
+    private static final Duration EVICTION_INTERVAL = Duration.ofSeconds(30);
 
     @Inject
     private ApplicationConfiguration configuration;
     @Inject
     private OAuthClientFactory oAuthClientFactory;
 
+    private final ConnectionProvider connectionProvider = ConnectionProvider.builder(CONNECTION_POOL_NAME)
+                                                                            .maxConnections(MAX_CONNECTIONS)
+                                                                            .pendingAcquireMaxCount(MAX_PENDING_ACQUIRES)
+                                                                            .pendingAcquireTimeout(PENDING_ACQUIRE_TIMEOUT)
+                                                                            .maxIdleTime(MAX_IDLE_TIME)
+                                                                            .evictInBackground(EVICTION_INTERVAL)
+                                                                            .build();
+    private WebClient sharedWebClient;
+
     public WebClient getWebClient(CloudCredentials credentials) {
-        WebClient.Builder webClientBuilder = new RestUtil().createWebClient(false)
-                                                           .mutate()
-                                                           .baseUrl(configuration.getControllerUrl()
-                                                                                 .toString());
-        webClientBuilder.defaultHeaders(httpHeaders -> httpHeaders.setBearerAuth(computeAuthorizationToken(credentials)));
-        return webClientBuilder.build();
+        return getSharedWebClient().mutate()
+                                   .filter(new BearerTokenExchangeFilter(oAuthClientFactory, credentials))
+                                   .build();
+    }
+
+    private synchronized WebClient getSharedWebClient() {
+        if (sharedWebClient == null) {
+            sharedWebClient = new RestUtil().createWebClient(false, connectionProvider)
+                                            .mutate()
+                                            .baseUrl(configuration.getControllerUrl()
+                                                                  .toString())
+                                            .build();
+        }
+        return sharedWebClient;
     }
 
-    private String computeAuthorizationToken(CloudCredentials credentials) {
-        var oAuthClient = oAuthClientFactory.createOAuthClient();
-        oAuthClient.init(credentials);
-        return oAuthClient.getToken()
-                          .getOAuth2AccessToken()
-                          .getTokenValue();
+    @Override
+    public void destroy() {
+        connectionProvider.dispose();
     }
 
 }
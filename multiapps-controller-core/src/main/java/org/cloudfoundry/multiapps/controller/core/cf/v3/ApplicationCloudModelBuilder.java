@@ -24,7 +24,13 @@ public class ApplicationCloudModelBuilder extends org.cloudfoundry.multiapps.con
         boolean parallelDeploymentsEnabled = (boolean) deploymentDescriptor.getParameters()
                                                                            .getOrDefault(SupportedParameters.ENABLE_PARALLEL_DEPLOYMENTS,
                                                                                          false);
-        return parallelDeploymentsEnabled ? DeploymentMode.PARALLEL : DeploymentMode.SEQUENTIAL;
+        if (!parallelDeploymentsEnabled) {
+            return DeploymentMode.SEQUENTIAL;
+        }
+        boolean dataflowDeploymentsEnabled = (boolean) deploymentDescriptor.getParameters()
+                                                                           .getOrDefault(SupportedParameters.ENABLE_DATAFLOW_DEPLOYMENTS,
+                                                                                         false);
+        return dataflowDeploymentsEnabled ? DeploymentMode.DATAFLOW : DeploymentMode.PARALLEL;
     }
 
     @Override
@@ -18,7 +18,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientException;
 import org.springframework.web.reactive.function.client.WebClientRequestException;
@@ -62,7 +61,6 @@ public class CloudLoggingServiceClient {
         webClientCache.remove(operationId);
     }
 
-    @Async("asyncExecutor")
     public void sendLogsToCloudLoggingService(LoggingConfiguration loggingConfiguration,
                                               List<ExternalOperationLogEntry> logEntryBatch) {
         WebClient webClient;
@@ -3,6 +3,7 @@ package org.cloudfoundry.multiapps.controller.core.cloudlogging;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.ToLongFunction;
 
 import jakarta.inject.Named;
 import org.cloudfoundry.multiapps.common.util.JsonUtil;
@@ -15,13 +16,20 @@ public class ExternalOperationLogEntryBatcher {
     private static final long MAX_LIMIT_REQUEST_SIZE_BYTES = 3 * 1024 * 1024 + 512 * 1024;
 
     public List<List<ExternalOperationLogEntry>> batch(List<ExternalOperationLogEntry> externalLogEntries) {
-        List<List<ExternalOperationLogEntry>> batches = new ArrayList<>();
-        List<ExternalOperationLogEntry> currentBatch = new ArrayList<>();
+        return batch(externalLogEntries, this::getEntrySizeInBytes);
+    }
+
+    /**
+     * Splits the given entries into batches which fit in a single request, using the already known size of each entry instead of
+     * serializing it again.
+     */
+    public <T> List<List<T>> batch(List<T> entries, ToLongFunction<T> entrySizeProvider) {
+        List<List<T>> batches = new ArrayList<>();
+        List<T> currentBatch = new ArrayList<>();
         long currentChunkSize = 0L;
 
-        for (ExternalOperationLogEntry entry : externalLogEntries) {
-            String entryJson = JsonUtil.toJson(entry);
-            int entrySize = entryJson.getBytes(StandardCharsets.UTF_8).length;
+        for (T entry : entries) {
+            long entrySize = entrySizeProvider.applyAsLong(entry);
 
             if (currentChunkSize + entrySize > MAX_LIMIT_REQUEST_SIZE_BYTES && !currentBatch.isEmpty()) {
                 batches.add(new ArrayList<>(currentBatch));
@@ -37,4 +45,13 @@ public class ExternalOperationLogEntryBatcher {
         }
         return batches;
     }
+
+    public long getEntrySizeInBytes(ExternalOperationLogEntry entry) {
+        return JsonUtil.toJson(entry)
+                       .getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    public long getMaxBatchSizeInBytes() {
+        return MAX_LIMIT_REQUEST_SIZE_BYTES;
+    }
 }
@@ -0,0 +1,227 @@
+package org.cloudfoundry.multiapps.controller.core.cloudlogging;
+
+import java.text.MessageFormat;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import org.cloudfoundry.multiapps.controller.persistence.Messages;
+import org.cloudfoundry.multiapps.controller.persistence.model.ExternalOperationLogEntry;
+import org.cloudfoundry.multiapps.controller.persistence.model.LoggingConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+
+/**
+ * Buffers the log entries of each operation and sends them to the Cloud Logging service in batches from a dedicated pool of threads.
+ * A buffer is flushed when it reaches the request size limit of {@link ExternalOperationLogEntryBatcher}, periodically and when the
+ * operation ends. When the buffer of an operation grows beyond {@link #MAX_PENDING_BATCHES_PER_OPERATION} batches, new entries are
+ * dropped for fail-safe logging configurations, otherwise the caller flushes the buffer itself. Once an operation is drained, its buffer
+ * is kept closed for {@link #DRAINED_OPERATION_RETENTION}, so that entries which arrive late are dropped instead of opening a new buffer
+ * and a new client for the operation.
+ */
+@Named("externalOperationLogEntryDispatcher")
+public class ExternalOperationLogEntryDispatcher implements DisposableBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExternalOperationLogEntryDispatcher.class);
+    private static final Duration FLUSH_INTERVAL = Duration.ofSeconds(2);
+    private static final Duration DRAINED_OPERATION_RETENTION = Duration.ofMinutes(1);
+    private static final int MAX_PENDING_BATCHES_PER_OPERATION = 4;
+    private static final int SENDER_THREADS = 4;
+
+    private final CloudLoggingServiceClient cloudLoggingServiceClient;
+    private final ExternalOperationLogEntryBatcher externalOperationLogEntryBatcher;
+    private final ExecutorService senderExecutor;
+    private final ScheduledExecutorService flushScheduler = Executors.newSingleThreadScheduledExecutor();
+    private final Map<String, PendingLogEntries> pendingLogEntriesByOperationId = new ConcurrentHashMap<>();
+
+    @Inject
+    public ExternalOperationLogEntryDispatcher(CloudLoggingServiceClient cloudLoggingServiceClient,
+                                               ExternalOperationLogEntryBatcher externalOperationLogEntryBatcher) {
+        this(cloudLoggingServiceClient, externalOperationLogEntryBatcher, Executors.newFixedThreadPool(SENDER_THREADS));
+        flushScheduler.scheduleWithFixedDelay(this::flushAll, FLUSH_INTERVAL.toMillis(), FLUSH_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    ExternalOperationLogEntryDispatcher(CloudLoggingServiceClient cloudLoggingServiceClient,
+                                        ExternalOperationLogEntryBatcher externalOperationLogEntryBatcher, ExecutorService senderExecutor) {
+        this.cloudLoggingServiceClient = cloudLoggingServiceClient;
+        this.externalOperationLogEntryBatcher = externalOperationLogEntryBatcher;
+        this.senderExecutor = senderExecutor;
+    }
+
+    public void dispatch(LoggingConfiguration loggingConfiguration, List<ExternalOperationLogEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        String operationId = loggingConfiguration.getOperationId();
+        while (true) {
+            PendingLogEntries pendingLogEntries = pendingLogEntriesByOperationId.computeIfAbsent(operationId,
+                                                                                                 id -> new PendingLogEntries());
+            AddResult result = pendingLogEntries.add(loggingConfiguration, entries);
+            if (result == AddResult.CLOSED) {
+                LOGGER.debug(MessageFormat.format(Messages.DROPPED_0_LOG_ENTRIES_OF_DRAINED_OPERATION_1, entries.size(), operationId));
+                return;
+            }
+            if (result == AddResult.FULL) {
+                flush(pendingLogEntries);
+                continue;
+            }
+            if (pendingLogEntries.getSizeInBytes() >= externalOperationLogEntryBatcher.getMaxBatchSizeInBytes()) {
+                flushAsync(pendingLogEntries);
+            }
+            return;
+        }
+    }
+
+    public void drain(String operationId) {
+        PendingLogEntries drainedLogEntries = new PendingLogEntries();
+        drainedLogEntries.close();
+        PendingLogEntries pendingLogEntries = pendingLogEntriesByOperationId.put(operationId, drainedLogEntries);
+        if (pendingLogEntries != null) {
+            pendingLogEntries.close();
+        }
+        execute(() -> {
+            try {
+                if (pendingLogEntries != null) {
+                    flushQuietly(pendingLogEntries);
+                }
+            } finally {
+                cloudLoggingServiceClient.removeClientFromCache(operationId);
+            }
+        });
+    }
+
+    void flushAll() {
+        long drainedBefore = System.currentTimeMillis() - DRAINED_OPERATION_RETENTION.toMillis();
+        for (Map.Entry<String, PendingLogEntries> entry : pendingLogEntriesByOperationId.entrySet()) {
+            PendingLogEntries pendingLogEntries = entry.getValue();
+            if (pendingLogEntries.isClosedBefore(drainedBefore)) {
+                pendingLogEntriesByOperationId.remove(entry.getKey(), pendingLogEntries);
+            } else if (pendingLogEntries.hasPendingEntries()) {
+                flushAsync(pendingLogEntries);
+            }
+        }
+    }
+
+    private void flushAsync(PendingLogEntries pendingLogEntries) {
+        execute(() -> flushQuietly(pendingLogEntries));
+    }
+
+    private void execute(Runnable task) {
+        try {
+            senderExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            task.run();
+        }
+    }
+
+    private void flushQuietly(PendingLogEntries pendingLogEntries) {
+        try {
+            flush(pendingLogEntries);
+        } catch (Exception e) {
+            LOGGER.error(Messages.FAILED_TO_SEND_LOG_MESSAGE_TO_CLS, e);
+        }
+    }
+
+    private void flush(PendingLogEntries pendingLogEntries) {
+        synchronized (pendingLogEntries.sendLock) {
+            PendingBatch pendingBatch = pendingLogEntries.takeAll();
+            if (pendingBatch.droppedEntries() > 0) {
+                LOGGER.warn(MessageFormat.format(Messages.DROPPED_0_LOG_ENTRIES_OF_OPERATION_1_BECAUSE_CLS_CANNOT_KEEP_UP,
+                                                 pendingBatch.droppedEntries(), pendingBatch.loggingConfiguration()
+                                                                                           .getOperationId()));
+            }
+            List<List<SizedLogEntry>> batches = externalOperationLogEntryBatcher.batch(pendingBatch.entries(), SizedLogEntry::sizeInBytes);
+            for (List<SizedLogEntry> batch : batches) {
+                List<ExternalOperationLogEntry> entries = batch.stream()
+                                                               .map(SizedLogEntry::entry)
+                                                               .toList();
+                cloudLoggingServiceClient.sendLogsToCloudLoggingService(pendingBatch.loggingConfiguration(), entries);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        flushScheduler.shutdownNow();
+        pendingLogEntriesByOperationId.keySet()
+                                      .forEach(this::drain);
+        senderExecutor.shutdown();
+    }
+
+    private enum AddResult {
+        ADDED, FULL, CLOSED
+    }
+
+    private record PendingBatch(LoggingConfiguration loggingConfiguration, List<SizedLogEntry> entries, long droppedEntries) {
+    }
+
+    private record SizedLogEntry(ExternalOperationLogEntry entry, long sizeInBytes) {
+    }
+
+    private class PendingLogEntries {
+
+        private final Object sendLock = new Object();
+        private LoggingConfiguration loggingConfiguration;
+        private List<SizedLogEntry> entries = new ArrayList<>();
+        private long sizeInBytes;
+        private long droppedEntries;
+        private boolean closed;
+        private long closedAt;
+
+        synchronized AddResult add(LoggingConfiguration loggingConfiguration, List<ExternalOperationLogEntry> newEntries) {
+            if (closed) {
+                return AddResult.CLOSED;
+            }
+            long maxSizeInBytes = MAX_PENDING_BATCHES_PER_OPERATION * externalOperationLogEntryBatcher.getMaxBatchSizeInBytes();
+            if (sizeInBytes >= maxSizeInBytes && !loggingConfiguration.isFailSafe()) {
+                return AddResult.FULL;
+            }
+            this.loggingConfiguration = loggingConfiguration;
+            for (ExternalOperationLogEntry entry : newEntries) {
+                if (loggingConfiguration.isFailSafe() && sizeInBytes >= maxSizeInBytes) {
+                    droppedEntries++;
+                    continue;
+                }
+                long entrySizeInBytes = externalOperationLogEntryBatcher.getEntrySizeInBytes(entry);
+                entries.add(new SizedLogEntry(entry, entrySizeInBytes));
+                sizeInBytes += entrySizeInBytes;
+            }
+            return AddResult.ADDED;
+        }
+
+        synchronized PendingBatch takeAll() {
+            PendingBatch pendingBatch = new PendingBatch(loggingConfiguration, entries, droppedEntries);
+            entries = new ArrayList<>();
+            sizeInBytes = 0;
+            droppedEntries = 0;
+            return pendingBatch;
+        }
+
+        synchronized boolean hasPendingEntries() {
+            return !entries.isEmpty() || droppedEntries > 0;
+        }
+
+        synchronized long getSizeInBytes() {
+            return sizeInBytes;
+        }
+
+        synchronized void close() {
+            closed = true;
+            closedAt = System.currentTimeMillis();
+        }
+
+        synchronized boolean isClosedBefore(long time) {
+            return closed && closedAt < time;
+        }
+    }
+}
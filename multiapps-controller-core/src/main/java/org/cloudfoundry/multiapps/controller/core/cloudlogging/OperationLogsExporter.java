@@ -12,22 +12,19 @@ import org.cloudfoundry.multiapps.controller.persistence.model.OperationLogEntry
 @Named("operationLogsExporter")
 public class OperationLogsExporter {
 
-    private final CloudLoggingServiceClient cloudLoggingServiceHttpClient;
     private final ExternalOperationLogEntryFactory externalOperationLogEntryFactory;
-    private final ExternalOperationLogEntryBatcher externalOperationLogEntryBatcher;
+    private final ExternalOperationLogEntryDispatcher externalOperationLogEntryDispatcher;
 
     @Inject
-    public OperationLogsExporter(CloudLoggingServiceClient cloudLoggingServiceHttpClient,
-                                 ExternalOperationLogEntryFactory externalOperationLogEntryFactory,
-                                 ExternalOperationLogEntryBatcher externalOperationLogEntryBatcher) {
-        this.cloudLoggingServiceHttpClient = cloudLoggingServiceHttpClient;
+    public OperationLogsExporter(ExternalOperationLogEntryFactory externalOperationLogEntryFactory,
+                                 ExternalOperationLogEntryDispatcher externalOperationLogEntryDispatcher) {
         this.externalOperationLogEntryFactory = externalOperationLogEntryFactory;
-        this.externalOperationLogEntryBatcher = externalOperationLogEntryBatcher;
+        this.externalOperationLogEntryDispatcher = externalOperationLogEntryDispatcher;
     }
 
     public void sendLogsToCloudLoggingService(LoggingConfiguration loggingConfiguration, String message) {
         List<ExternalOperationLogEntry> entries = externalOperationLogEntryFactory.fromMessage(loggingConfiguration, message);
-        sendInBatches(entries, loggingConfiguration);
+        externalOperationLogEntryDispatcher.dispatch(loggingConfiguration, entries);
     }
 
     public void info(LoggingConfiguration loggingConfiguration, String message) {
@@ -60,18 +57,16 @@ public class OperationLogsExporter {
         if (entry == null) {
             return;
         }
-        sendInBatches(List.of(entry), loggingConfiguration);
+        externalOperationLogEntryDispatcher.dispatch(loggingConfiguration, List.of(entry));
     }
 
     public void sendLogsToCloudLoggingService(LoggingConfiguration loggingConfiguration, OperationLogEntry operationLogEntry) {
         List<ExternalOperationLogEntry> entries = externalOperationLogEntryFactory.fromOperationLogEntry(loggingConfiguration,
                                                                                                          operationLogEntry);
-        sendInBatches(entries, loggingConfiguration);
+        externalOperationLogEntryDispatcher.dispatch(loggingConfiguration, entries);
     }
 
-    private void sendInBatches(List<ExternalOperationLogEntry> entries, LoggingConfiguration loggingConfiguration) {
-        for (List<ExternalOperationLogEntry> logEntryBatch : externalOperationLogEntryBatcher.batch(entries)) {
-            cloudLoggingServiceHttpClient.sendLogsToCloudLoggingService(loggingConfiguration, logEntryBatch);
-        }
+    public void drain(String operationId) {
+        externalOperationLogEntryDispatcher.drain(operationId);
     }
 }
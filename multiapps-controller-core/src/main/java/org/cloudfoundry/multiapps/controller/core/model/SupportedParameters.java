@@ -25,6 +25,7 @@ public class SupportedParameters {
     public static final String GENERATED_PASSWORD = "generated-password";
     public static final String DEFAULT_IDLE_DOMAIN = "default-idle-domain";
     public static final String ENABLE_PARALLEL_DEPLOYMENTS = "enable-parallel-deployments";
+    public static final String ENABLE_DATAFLOW_DEPLOYMENTS = "enable-dataflow-deployments";
     public static final String ORGANIZATION_NAME = "org";
     public static final String ORGANIZATION_GUID = "org-guid";
     public static final String SPACE_NAME = "space";
@@ -220,7 +221,8 @@ public class SupportedParameters {
                                                                  DESTINATION, CLS_ORG_NAME, CLS_SPACE_NAME);
     public static final Set<String> GLOBAL_PARAMETERS = Set.of(KEEP_EXISTING_ROUTES, APPS_UPLOAD_TIMEOUT, APPS_TASK_EXECUTION_TIMEOUT,
                                                                APPS_START_TIMEOUT, APPS_STAGE_TIMEOUT, APPLY_NAMESPACE,
-                                                               ENABLE_PARALLEL_DEPLOYMENTS, DEPLOY_MODE, BG_DEPENDENCY_AWARE_STOP_ORDER);
+                                                               ENABLE_PARALLEL_DEPLOYMENTS, ENABLE_DATAFLOW_DEPLOYMENTS, DEPLOY_MODE,
+                                                               BG_DEPENDENCY_AWARE_STOP_ORDER);
 
     public static final Set<String> DEPENDENCY_PARAMETERS = Set.of(BINDING_NAME, ENV_VAR_NAME, VISIBILITY, USE_LIVE_ROUTES,
                                                                    SERVICE_BINDING_CONFIG, DELETE_SERVICE_KEY_AFTER_DEPLOYMENT);
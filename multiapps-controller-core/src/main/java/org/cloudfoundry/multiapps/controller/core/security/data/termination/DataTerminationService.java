@@ -80,7 +80,10 @@ public class DataTerminationService {
         LOGGER.error(format(Messages.ERROR_DURING_DATA_TERMINATION_0, e.getMessage()), e);
     }
 
-    public void deleteOrphanUserData() {
+    /**
+     * @return the number of deleted spaces, whose data was cleaned up
+     */
+    public int deleteOrphanUserData() {
         assertGlobalAuditorCredentialsExist();
         List<String> spaceEventsToBeDeleted = getSpaceDeleteEvents();
         for (String spaceId : spaceEventsToBeDeleted) {
@@ -93,6 +96,7 @@ public class DataTerminationService {
         if (!spaceEventsToBeDeleted.isEmpty()) {
             SAFE_EXECUTOR.execute(() -> deleteSpaceIdsLeftovers(spaceEventsToBeDeleted));
         }
+        return spaceEventsToBeDeleted.size();
     }
 
     private void assertGlobalAuditorCredentialsExist() {
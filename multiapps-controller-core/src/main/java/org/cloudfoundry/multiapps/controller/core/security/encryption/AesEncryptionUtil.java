@@ -19,10 +19,15 @@ import org.cloudfoundry.multiapps.controller.core.Messages;
 
 public class AesEncryptionUtil {
 
+    // SecureRandom is thread-safe and seeding a new instance for every initialisation vector is expensive:
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+    // Cipher instances are not thread-safe, but can be reused after being initialised again, so each thread keeps its own:
+    private static final ThreadLocal<Cipher> CIPHERS = ThreadLocal.withInitial(AesEncryptionUtil::createCipher);
+
     public static byte[] encrypt(String plainText, byte[] encryptionKey) {
         try {
             byte[] gcmInitialisationVector = new byte[Constants.INITIALISATION_VECTOR_LENGTH];
-            new SecureRandom().nextBytes(gcmInitialisationVector);
+            SECURE_RANDOM.nextBytes(gcmInitialisationVector);
 
             Cipher cipherObject = setUpCipherObject(encryptionKey, gcmInitialisationVector, Cipher.ENCRYPT_MODE);
 
@@ -59,9 +64,8 @@ public class AesEncryptionUtil {
     }
 
     private static Cipher setUpCipherObject(byte[] encryptionKey, byte[] gcmInitialisationVector, int cipherMode)
-        throws InvalidAlgorithmParameterException, InvalidKeyException, NoSuchPaddingException, NoSuchAlgorithmException,
-        NoSuchProviderException {
-        Cipher cipherObject = Cipher.getInstance(Constants.CIPHER_TRANSFORMATION_NAME, BouncyCastleFipsProvider.PROVIDER_NAME);
+        throws InvalidAlgorithmParameterException, InvalidKeyException {
+        Cipher cipherObject = CIPHERS.get();
         SecretKeySpec secretKeySpec = new SecretKeySpec(encryptionKey, Constants.ENCRYPTION_DECRYPTION_ALGORITHM_NAME);
         GCMParameterSpec gcmParameterSpec = new GCMParameterSpec(Constants.GCM_AUTHENTICATION_TAG_LENGTH, gcmInitialisationVector);
 
@@ -70,4 +74,12 @@ public class AesEncryptionUtil {
         return cipherObject;
     }
 
+    private static Cipher createCipher() {
+        try {
+            return Cipher.getInstance(Constants.CIPHER_TRANSFORMATION_NAME, BouncyCastleFipsProvider.PROVIDER_NAME);
+        } catch (NoSuchPaddingException | NoSuchAlgorithmException | NoSuchProviderException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
 }
@@ -61,6 +61,15 @@ public class TokenService implements DisposableBean {
 
     }
 
+    /**
+     * Removes the cached token of the user, e.g. because it was rejected, so that the next token of the user is read from the token store.
+     *
+     * @param userGuid the userGuid
+     */
+    public void removeCachedToken(String userGuid) {
+        cachedTokens.remove(userGuid);
+    }
+
     private boolean shouldUseCachedToken(OAuth2AccessTokenWithAdditionalInfo cachedAccessToken) {
         return cachedAccessToken != null && !cachedAccessToken.getOAuth2AccessToken()
                                                               .getExpiresAt()
@@ -75,7 +75,6 @@ public class ApplicationConfiguration {
     static final String CFG_FLOWABLE_JOB_EXECUTOR_CORE_THREADS = "FLOWABLE_JOB_EXECUTOR_CORE_THREADS";
     static final String CFG_FLOWABLE_JOB_EXECUTOR_MAX_THREADS = "FLOWABLE_JOB_EXECUTOR_MAX_THREADS";
     static final String CFG_FLOWABLE_JOB_EXECUTOR_QUEUE_CAPACITY = "FLOWABLE_JOB_EXECUTOR_QUEUE_CAPACITY";
-    static final String CFG_FSS_CACHE_UPDATE_TIMEOUT_MINUTES = "FSS_CACHE_UPDATE_TIMEOUT_MINUTES";
     static final String CFG_THREAD_MONITOR_CACHE_UPDATE_IN_SECONDS = "THREAD_MONITOR_CACHE_UPDATE_IN_SECONDS";
     static final String CFG_SPACE_DEVELOPER_CACHE_TIME_IN_SECONDS = "SPACE_DEVELOPER_CACHE_TIME_IN_SECONDS";
     static final String CFG_CONTROLLER_CLIENT_SSL_HANDSHAKE_TIMEOUT_IN_SECONDS = "CONTROLLER_CLIENT_SSL_HANDSHAKE_TIMEOUT_IN_SECONDS";
@@ -92,7 +91,10 @@ public class ApplicationConfiguration {
     static final String CFG_DB_TRANSACTION_TIMEOUT_IN_SECONDS = "DB_TRANSACTION_TIMEOUT_IN_SECONDS";
     static final String CFG_SNAKEYAML_MAX_ALIASES_FOR_COLLECTIONS = "SNAKEYAML_MAX_ALIASES_FOR_COLLECTIONS";
     static final String CFG_SERVICE_HANDLING_MAX_PARALLEL_THREADS = "SERVICE_HANDLING_MAX_PARALLEL_THREADS";
+    static final String CFG_SUBSCRIBERS_UPDATE_MAX_PARALLEL_THREADS = "SUBSCRIBERS_UPDATE_MAX_PARALLEL_THREADS";
+    static final String CFG_PROCESS_VARIABLES_EXTERNALIZATION_THRESHOLD_IN_BYTES = "PROCESS_VARIABLES_EXTERNALIZATION_THRESHOLD_IN_BYTES";
     static final String CFG_ABORTED_OPERATIONS_TTL_IN_MINUTES = "ABORTED_OPERATIONS_TTL_IN_SECONDS";
+    static final String CFG_ORPHANED_FILE_CONTENT_CLEAN_UP_INTERVAL_IN_SECONDS = "ORPHANED_FILE_CONTENT_CLEAN_UP_INTERVAL_IN_SECONDS";
     static final String CFG_SPRING_SCHEDULER_TASK_EXECUTOR_THREADS = "SPRING_SCHEDULER_TASK_EXECUTOR_THREADS";
     static final String CFG_FILES_ASYNC_UPLOAD_EXECUTOR_MAX_THREADS = "FILES_ASYNC_UPLOAD_EXECUTOR_THREADS";
     static final String CFG_DEPLOY_FROM_URL_EXECUTOR_MAX_THREADS = "DEPLOY_FROM_URL_EXECUTOR_MAX_THREADS";
@@ -100,6 +102,8 @@ public class ApplicationConfiguration {
     static final String CFG_THREADS_FOR_FILE_UPLOAD_TO_CONTROLLER = "THREADS_FOR_FILE_UPLOAD_TO_CONTROLLER";
     static final String CFG_THREADS_FOR_FILE_STORAGE_UPLOAD = "THREADS_FOR_FILE_STORAGE_UPLOAD";
     static final String CFG_IS_HEALTH_CHECK_ENABLED = "IS_HEALTH_CHECK_ENABLED";
+    static final String CFG_AUDIT_LOG_QUEUE_CAPACITY = "AUDIT_LOG_QUEUE_CAPACITY";
+    static final String CFG_AUDIT_LOG_FLUSH_INTERVAL_IN_MILLIS = "AUDIT_LOG_FLUSH_INTERVAL_IN_MILLIS";
 
     private static final List<String> VCAP_APPLICATION_URIS_KEYS = List.of("full_application_uris", "application_uris", "uris");
 
@@ -130,7 +134,6 @@ public class ApplicationConfiguration {
     public static final Integer DEFAULT_FLOWABLE_JOB_EXECUTOR_CORE_THREADS = 8;
     public static final Integer DEFAULT_FLOWABLE_JOB_EXECUTOR_MAX_THREADS = 32;
     public static final Integer DEFAULT_FLOWABLE_JOB_EXECUTOR_QUEUE_CAPACITY = 16;
-    public static final Integer DEFAULT_FSS_CACHE_UPDATE_TIMEOUT_MINUTES = 30;
     public static final Integer DEFAULT_THREAD_MONITOR_CACHE_UPDATE_IN_SECONDS = 1;
     public static final Integer DEFAULT_SPACE_DEVELOPER_CACHE_TIME_IN_SECONDS = 20;
     public static final int DEFAULT_CONTROLLER_CLIENT_SSL_HANDSHAKE_TIMEOUT_IN_SECONDS = 30;
@@ -148,7 +151,10 @@ public class ApplicationConfiguration {
     public static final int DEFAULT_DB_TRANSACTION_TIMEOUT_IN_SECONDS = (int) TimeUnit.MINUTES.toSeconds(60);
     public static final int DEFAULT_SNAKEYAML_MAX_ALIASES_FOR_COLLECTIONS = 50;
     public static final int DEFAULT_SERVICE_HANDLING_MAX_PARALLEL_THREADS = 20;
+    public static final int DEFAULT_SUBSCRIBERS_UPDATE_MAX_PARALLEL_THREADS = 8;
+    public static final int DEFAULT_PROCESS_VARIABLES_EXTERNALIZATION_THRESHOLD_IN_BYTES = 256 * 1024; // 256KB
     public static final int DEFAULT_ABORTED_OPERATIONS_TTL_IN_SECONDS = (int) TimeUnit.MINUTES.toSeconds(30);
+    public static final int DEFAULT_ORPHANED_FILE_CONTENT_CLEAN_UP_INTERVAL_IN_SECONDS = (int) TimeUnit.DAYS.toSeconds(7); // 7 days
     public static final int DEFAULT_MAX_STOP_DELAY_IN_SECONDS = 300;
     public static final String DEFAULT_GLOBAL_AUDITOR_ORIGIN = "uaa";
     public static final int DEFAULT_SPRING_SCHEDULER_TASK_EXECUTOR_THREADS = 3;
@@ -158,6 +164,8 @@ public class ApplicationConfiguration {
     public static final int DEFAULT_THREADS_FOR_FILE_UPLOAD_TO_CONTROLLER = 6;
     public static final int DEFAULT_THREADS_FOR_FILE_STORAGE_UPLOAD = 7;
     public static final boolean DEFAULT_IS_HEALTH_CHECK_ENABLED = false;
+    public static final int DEFAULT_AUDIT_LOG_QUEUE_CAPACITY = 10000;
+    public static final int DEFAULT_AUDIT_LOG_FLUSH_INTERVAL_IN_MILLIS = 500;
 
     protected final Environment environment;
 
@@ -194,7 +202,6 @@ public class ApplicationConfiguration {
     private Integer flowableJobExecutorCoreThreads;
     private Integer flowableJobExecutorMaxThreads;
     private Integer flowableJobExecutorQueueCapacity;
-    private Integer fssCacheUpdateTimeoutMinutes;
     private Integer threadMonitorCacheUpdateInSeconds;
     private Integer spaceDeveloperCacheTimeInSeconds;
     private Platform platform;
@@ -208,7 +215,10 @@ public class ApplicationConfiguration {
     private Integer dbTransactionTimeoutInSeconds;
     private Integer snakeyamlMaxAliasesForCollections;
     private Integer serviceHandlingMaxParallelThreads;
+    private Integer subscribersUpdateMaxParallelThreads;
+    private Integer processVariablesExternalizationThresholdInBytes;
     private Integer abortedOperationsTtlInSeconds;
+    private Integer orphanedFileContentCleanUpIntervalInSeconds;
     private Integer springSchedulerTaskExecutorThreads;
     private Integer filesAsyncUploadExecutorThreads;
     private Integer deployFromUrlExecutorMaxThreads;
@@ -216,6 +226,8 @@ public class ApplicationConfiguration {
     private Integer threadsForFileUploadToController;
     private Integer threadsForFileStorageUpload;
     private Boolean isHealthCheckEnabled;
+    private Integer auditLogQueueCapacity;
+    private Integer auditLogFlushIntervalInMillis;
     private Set<String> objectStoreRegions;
 
     public ApplicationConfiguration() {
@@ -259,13 +271,17 @@ public class ApplicationConfiguration {
         getHealthCheckConfiguration();
         getApplicationGuid();
         getApplicationInstanceIndex();
-        getFssCacheUpdateTimeoutMinutes();
         getSnakeyamlMaxAliasesForCollections();
         getServiceHandlingMaxParallelThreads();
+        getSubscribersUpdateMaxParallelThreads();
+        getProcessVariablesExternalizationThresholdInBytes();
         getAbortedOperationsTtlInSeconds();
+        getOrphanedFileContentCleanUpIntervalInSeconds();
         getFilesAsyncUploadExecutorMaxThreads();
         getDeployFromUrlExecutorMaxThreads();
         getObjectStoreRegions();
+        getAuditLogQueueCapacity();
+        getAuditLogFlushIntervalInMillis();
     }
 
     public Map<String, String> getNotSensitiveVariables() {
@@ -286,7 +302,9 @@ public class ApplicationConfiguration {
                       CFG_FLOWABLE_JOB_EXECUTOR_QUEUE_CAPACITY,
                       CFG_CONTROLLER_CLIENT_CONNECTION_POOL_SIZE,
                       CFG_CONTROLLER_CLIENT_THREAD_POOL_SIZE, CFG_CONTROLLER_CLIENT_RESPONSE_TIMEOUT, CFG_DB_TRANSACTION_TIMEOUT_IN_SECONDS,
-                      CFG_SNAKEYAML_MAX_ALIASES_FOR_COLLECTIONS, CFG_SERVICE_HANDLING_MAX_PARALLEL_THREADS);
+                      CFG_SNAKEYAML_MAX_ALIASES_FOR_COLLECTIONS, CFG_SERVICE_HANDLING_MAX_PARALLEL_THREADS,
+                      CFG_SUBSCRIBERS_UPDATE_MAX_PARALLEL_THREADS, CFG_AUDIT_LOG_QUEUE_CAPACITY, CFG_AUDIT_LOG_FLUSH_INTERVAL_IN_MILLIS,
+                      CFG_PROCESS_VARIABLES_EXTERNALIZATION_THRESHOLD_IN_BYTES);
     }
 
     public URL getControllerUrl() {
@@ -542,13 +560,6 @@ public class ApplicationConfiguration {
         return flowableJobExecutorQueueCapacity;
     }
 
-    public Integer getFssCacheUpdateTimeoutMinutes() {
-        if (fssCacheUpdateTimeoutMinutes == null) {
-            fssCacheUpdateTimeoutMinutes = getFssCacheUpdateTimeoutMinutesFromEnvironment();
-        }
-        return fssCacheUpdateTimeoutMinutes;
-    }
-
     public Integer getThreadMonitorCacheUpdateInSeconds() {
         if (threadMonitorCacheUpdateInSeconds == null) {
             threadMonitorCacheUpdateInSeconds = getThreadMonitorCacheUpdateInSecondsFromEnvironment();
@@ -633,6 +644,20 @@ public class ApplicationConfiguration {
         return serviceHandlingMaxParallelThreads;
     }
 
+    public Integer getSubscribersUpdateMaxParallelThreads() {
+        if (subscribersUpdateMaxParallelThreads == null) {
+            subscribersUpdateMaxParallelThreads = getSubscribersUpdateMaxParallelThreadsFromEnvironment();
+        }
+        return subscribersUpdateMaxParallelThreads;
+    }
+
+    public Integer getProcessVariablesExternalizationThresholdInBytes() {
+        if (processVariablesExternalizationThresholdInBytes == null) {
+            processVariablesExternalizationThresholdInBytes = getProcessVariablesExternalizationThresholdInBytesFromEnvironment();
+        }
+        return processVariablesExternalizationThresholdInBytes;
+    }
+
     public Integer getAbortedOperationsTtlInSeconds() {
         if (abortedOperationsTtlInSeconds == null) {
             abortedOperationsTtlInSeconds = getAbortedOperationsTtlInSecondsFromEnvironment();
@@ -640,6 +665,13 @@ public class ApplicationConfiguration {
         return abortedOperationsTtlInSeconds;
     }
 
+    public Integer getOrphanedFileContentCleanUpIntervalInSeconds() {
+        if (orphanedFileContentCleanUpIntervalInSeconds == null) {
+            orphanedFileContentCleanUpIntervalInSeconds = getOrphanedFileContentCleanUpIntervalInSecondsFromEnvironment();
+        }
+        return orphanedFileContentCleanUpIntervalInSeconds;
+    }
+
     public boolean isOnStartFilesWithoutContentCleanerEnabled() {
         if (isOnStartFilesWithoutContentCleanerEnabledThroughEnvironment == null) {
             isOnStartFilesWithoutContentCleanerEnabledThroughEnvironment = isOnStartFilesWithoutContentCleanerEnabledThroughEnvironment();
@@ -668,6 +700,20 @@ public class ApplicationConfiguration {
         return isHealthCheckEnabled;
     }
 
+    public int getAuditLogQueueCapacity() {
+        if (auditLogQueueCapacity == null) {
+            auditLogQueueCapacity = getAuditLogQueueCapacityFromEnvironment();
+        }
+        return auditLogQueueCapacity;
+    }
+
+    public int getAuditLogFlushIntervalInMillis() {
+        if (auditLogFlushIntervalInMillis == null) {
+            auditLogFlushIntervalInMillis = getAuditLogFlushIntervalInMillisFromEnvironment();
+        }
+        return auditLogFlushIntervalInMillis;
+    }
+
     private URL getControllerUrlFromEnvironment() {
         String controllerUrlString = environment.getString("CF_API");
         if (StringUtils.isEmpty(controllerUrlString)) {
@@ -979,12 +1025,6 @@ public class ApplicationConfiguration {
         return defaultValue;
     }
 
-    private Integer getFssCacheUpdateTimeoutMinutesFromEnvironment() {
-        Integer value = environment.getPositiveInteger(CFG_FSS_CACHE_UPDATE_TIMEOUT_MINUTES, DEFAULT_FSS_CACHE_UPDATE_TIMEOUT_MINUTES);
-        logEnvironmentVariable(CFG_FSS_CACHE_UPDATE_TIMEOUT_MINUTES, Messages.FSS_CACHE_UPDATE_TIMEOUT, value);
-        return value;
-    }
-
     private Integer getThreadMonitorCacheUpdateInSecondsFromEnvironment() {
         Integer value = environment.getPositiveInteger(CFG_THREAD_MONITOR_CACHE_UPDATE_IN_SECONDS,
                                                        DEFAULT_THREAD_MONITOR_CACHE_UPDATE_IN_SECONDS);
@@ -1064,6 +1104,23 @@ public class ApplicationConfiguration {
         return serviceHandlingMaxParallelThreads;
     }
 
+    private Integer getSubscribersUpdateMaxParallelThreadsFromEnvironment() {
+        Integer subscribersUpdateMaxParallelThreads = environment.getPositiveInteger(CFG_SUBSCRIBERS_UPDATE_MAX_PARALLEL_THREADS,
+                                                                                     DEFAULT_SUBSCRIBERS_UPDATE_MAX_PARALLEL_THREADS);
+        logEnvironmentVariable(CFG_SUBSCRIBERS_UPDATE_MAX_PARALLEL_THREADS, Messages.SUBSCRIBERS_UPDATE_MAX_PARALLEL_THREADS,
+                               subscribersUpdateMaxParallelThreads);
+        return subscribersUpdateMaxParallelThreads;
+    }
+
+    private Integer getProcessVariablesExternalizationThresholdInBytesFromEnvironment() {
+        Integer processVariablesExternalizationThresholdInBytes = environment.getPositiveInteger(
+            CFG_PROCESS_VARIABLES_EXTERNALIZATION_THRESHOLD_IN_BYTES, DEFAULT_PROCESS_VARIABLES_EXTERNALIZATION_THRESHOLD_IN_BYTES);
+        logEnvironmentVariable(CFG_PROCESS_VARIABLES_EXTERNALIZATION_THRESHOLD_IN_BYTES,
+                               Messages.PROCESS_VARIABLES_EXTERNALIZATION_THRESHOLD_IN_BYTES,
+                               processVariablesExternalizationThresholdInBytes);
+        return processVariablesExternalizationThresholdInBytes;
+    }
+
     private Integer getAbortedOperationsTtlInSecondsFromEnvironment() {
         Integer abortedOperationsTtlInSeconds = environment.getPositiveInteger(CFG_ABORTED_OPERATIONS_TTL_IN_MINUTES,
                                                                                DEFAULT_ABORTED_OPERATIONS_TTL_IN_SECONDS);
@@ -1072,6 +1129,14 @@ public class ApplicationConfiguration {
         return abortedOperationsTtlInSeconds;
     }
 
+    private Integer getOrphanedFileContentCleanUpIntervalInSecondsFromEnvironment() {
+        Integer value = environment.getPositiveInteger(CFG_ORPHANED_FILE_CONTENT_CLEAN_UP_INTERVAL_IN_SECONDS,
+                                                       DEFAULT_ORPHANED_FILE_CONTENT_CLEAN_UP_INTERVAL_IN_SECONDS);
+        logEnvironmentVariable(CFG_ORPHANED_FILE_CONTENT_CLEAN_UP_INTERVAL_IN_SECONDS,
+                               Messages.ORPHANED_FILE_CONTENT_CLEAN_UP_INTERVAL_IN_SECONDS, value);
+        return value;
+    }
+
     private Boolean isOnStartFilesWithoutContentCleanerEnabledThroughEnvironment() {
         Boolean isOnStartFilesCleanerWithoutContentEnabled = environment.getBoolean(CFG_ENABLE_ON_START_FILES_WITHOUT_CONTENT_CLEANER,
                                                                                     DEFAULT_ENABLE_ON_START_FILES_WITHOUT_CONTENT_CLEANER);
@@ -1098,6 +1163,18 @@ public class ApplicationConfiguration {
         return value;
     }
 
+    private int getAuditLogQueueCapacityFromEnvironment() {
+        int value = environment.getPositiveInteger(CFG_AUDIT_LOG_QUEUE_CAPACITY, DEFAULT_AUDIT_LOG_QUEUE_CAPACITY);
+        logEnvironmentVariable(CFG_AUDIT_LOG_QUEUE_CAPACITY, Messages.AUDIT_LOG_QUEUE_CAPACITY, value);
+        return value;
+    }
+
+    private int getAuditLogFlushIntervalInMillisFromEnvironment() {
+        int value = environment.getPositiveInteger(CFG_AUDIT_LOG_FLUSH_INTERVAL_IN_MILLIS, DEFAULT_AUDIT_LOG_FLUSH_INTERVAL_IN_MILLIS);
+        logEnvironmentVariable(CFG_AUDIT_LOG_FLUSH_INTERVAL_IN_MILLIS, Messages.AUDIT_LOG_FLUSH_INTERVAL_IN_MILLIS, value);
+        return value;
+    }
+
     public Boolean isInternalEnvironment() {
         return environment.getBoolean(SAP_INTERNAL_DELIVERY, DEFAULT_SAP_INTERNAL_DELIVERY);
     }
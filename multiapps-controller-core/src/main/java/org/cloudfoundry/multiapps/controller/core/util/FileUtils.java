@@ -69,6 +69,8 @@ public class FileUtils {
         if (filePath == null) {
             return;
         }
+        // A file, which was already deleted by someone else, must not be accounted anymore either:
+        TempFileTracker.untrack(filePath);
         File file = filePath.toFile();
         if (!file.exists()) {
             return;
@@ -0,0 +1,70 @@
+package org.cloudfoundry.multiapps.controller.core.util;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps track of the temporary files created by the controller, such as the application archives extracted from an MTA, so that the disk
+ * space used by them is known without walking the file system. The size of a tracked file is recorded when it is tracked and when
+ * {@link #updateSize(Path)} is called after it was written, so reading the used space does not access the files. A tracked file is
+ * expected to be deleted with {@link FileUtils#cleanUp(Path, org.slf4j.Logger)}, which untracks it.
+ */
+public final class TempFileTracker {
+
+    private static final Map<Path, Long> TRACKED_FILES = new ConcurrentHashMap<>();
+    private static final AtomicLong USED_BYTES = new AtomicLong();
+
+    private TempFileTracker() {
+    }
+
+    public static Path createTempFile(String prefix, String suffix) throws IOException {
+        return track(Files.createTempFile(prefix, suffix));
+    }
+
+    public static Path track(Path file) {
+        long size = sizeOf(file);
+        if (TRACKED_FILES.putIfAbsent(file.toAbsolutePath(), size) == null) {
+            USED_BYTES.addAndGet(size);
+        }
+        return file;
+    }
+
+    /**
+     * Records the current size of a tracked file. It should be called once the file is written.
+     */
+    public static void updateSize(Path file) {
+        long size = sizeOf(file);
+        TRACKED_FILES.computeIfPresent(file.toAbsolutePath(), (trackedFile, previousSize) -> {
+            USED_BYTES.addAndGet(size - previousSize);
+            return size;
+        });
+    }
+
+    static void untrack(Path file) {
+        Long size = TRACKED_FILES.remove(file.toAbsolutePath());
+        if (size != null) {
+            USED_BYTES.addAndGet(-size);
+        }
+    }
+
+    public static int getTrackedFilesCount() {
+        return TRACKED_FILES.size();
+    }
+
+    public static long getUsedBytes() {
+        return USED_BYTES.get();
+    }
+
+    private static long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            // The file does not exist (yet or anymore):
+            return 0;
+        }
+    }
+}
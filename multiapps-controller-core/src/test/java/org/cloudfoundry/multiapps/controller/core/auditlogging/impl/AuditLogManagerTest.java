@@ -1,6 +1,6 @@
 package org.cloudfoundry.multiapps.controller.core.auditlogging.impl;
 
-import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import org.apache.logging.log4j.core.Logger;
 import org.cloudfoundry.multiapps.controller.core.auditlogging.UserInfoProvider;
@@ -9,6 +9,10 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.List;
 import javax.sql.DataSource;
 
@@ -33,12 +37,14 @@ class AuditLogManagerTest {
     }
 
     @Test
-    void testAuditLogManager() {
+    void testAuditLogManager() throws SQLException {
         List<Logger> loggers = loadAuditLoggers();
+        int existingRows = countAuditLogRows();
 
         logMessage(loggers);
+        auditLogManager.close();
 
-        assertNull(auditLogManager.getException());
+        assertEquals(existingRows + loggers.size(), countAuditLogRows());
     }
 
     private List<Logger> loadAuditLoggers() {
@@ -49,6 +55,14 @@ class AuditLogManagerTest {
         loggers.forEach(logger -> logger.info("Test Message"));
     }
 
+    private int countAuditLogRows() throws SQLException {
+        try (Connection connection = testDataSource.getConnection(); Statement statement = connection.createStatement();
+            ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM AUDIT_LOG")) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+
     private static UserInfoProvider createTestUserInfoProvider() {
         return () -> null;
     }
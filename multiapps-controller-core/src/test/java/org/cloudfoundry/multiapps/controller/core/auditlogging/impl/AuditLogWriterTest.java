@@ -0,0 +1,98 @@
+package org.cloudfoundry.multiapps.controller.core.auditlogging.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+
+class AuditLogWriterTest {
+
+    private static final String SQL = "INSERT INTO AUDIT_LOG (MESSAGE) VALUES (?)";
+    private static final Duration FLUSH_INTERVAL = Duration.ofMillis(50);
+
+    @Mock
+    private DataSource dataSource;
+    @Mock
+    private Connection connection;
+    @Mock
+    private PreparedStatement statement;
+    @Mock
+    private DBAppender.LogEventAdapter eventAdapter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this)
+                          .close();
+        Mockito.when(connection.prepareStatement(SQL))
+               .thenReturn(statement);
+    }
+
+    @Test
+    void testEventsAreWrittenInOneBatch() throws Exception {
+        Mockito.when(dataSource.getConnection())
+               .thenReturn(connection);
+        AuditLogWriter auditLogWriter = new AuditLogWriter(dataSource, SQL, eventAdapter, 10, Duration.ofMinutes(1));
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(auditLogWriter.offer("ACTION", createEvent("message " + i), null));
+        }
+        auditLogWriter.close();
+
+        Mockito.verify(dataSource)
+               .getConnection();
+        Mockito.verify(statement, Mockito.times(3))
+               .addBatch();
+        Mockito.verify(statement)
+               .executeBatch();
+        Mockito.verify(statement, Mockito.never())
+               .executeUpdate();
+    }
+
+    @Test
+    void testEventsAreDroppedWhenQueueIsFull() throws Exception {
+        CountDownLatch writeStarted = new CountDownLatch(1);
+        CountDownLatch releaseWrite = new CountDownLatch(1);
+        Mockito.when(dataSource.getConnection())
+               .thenAnswer(invocation -> {
+                   writeStarted.countDown();
+                   releaseWrite.await();
+                   return connection;
+               });
+        AuditLogWriter auditLogWriter = new AuditLogWriter(dataSource, SQL, eventAdapter, 1, FLUSH_INTERVAL);
+
+        assertTrue(auditLogWriter.offer("ACTION", createEvent("first"), null));
+        assertTrue(writeStarted.await(10, TimeUnit.SECONDS));
+        assertTrue(auditLogWriter.offer("ACTION", createEvent("second"), null));
+        assertFalse(auditLogWriter.offer("ACTION", createEvent("third"), null));
+        releaseWrite.countDown();
+        auditLogWriter.close();
+
+        assertEquals(1, auditLogWriter.getDroppedEvents());
+        Mockito.verify(statement, Mockito.times(2))
+               .addBatch();
+    }
+
+    private static LogEvent createEvent(String message) {
+        return Log4jLogEvent.newBuilder()
+                            .setLevel(Level.INFO)
+                            .setMessage(new SimpleMessage(message))
+                            .build();
+    }
+
+}
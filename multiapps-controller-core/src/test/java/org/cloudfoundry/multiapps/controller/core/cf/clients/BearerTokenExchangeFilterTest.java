@@ -0,0 +1,113 @@
+package org.cloudfoundry.multiapps.controller.core.cf.clients;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.cloudfoundry.multiapps.controller.client.facade.CloudCredentials;
+import org.cloudfoundry.multiapps.controller.client.facade.oauth2.OAuth2AccessTokenWithAdditionalInfo;
+import org.cloudfoundry.multiapps.controller.core.cf.OAuthClientExtended;
+import org.cloudfoundry.multiapps.controller.core.cf.OAuthClientFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import reactor.core.publisher.Mono;
+
+class BearerTokenExchangeFilterTest {
+
+    private static final String TOKEN = "token";
+    private static final String REFRESHED_TOKEN = "refreshed-token";
+
+    @Mock
+    private OAuthClientFactory oAuthClientFactory;
+    @Mock
+    private OAuthClientExtended oAuthClient;
+    @Mock
+    private CloudCredentials credentials;
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private OAuth2AccessTokenWithAdditionalInfo token;
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private OAuth2AccessTokenWithAdditionalInfo refreshedToken;
+
+    private final List<String> sentAuthorizationHeaders = new ArrayList<>();
+    private final ClientRequest request = ClientRequest.create(HttpMethod.GET, URI.create("https://api.example.com/v3/apps"))
+                                                       .build();
+    private BearerTokenExchangeFilter filter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this)
+                          .close();
+        Mockito.when(oAuthClientFactory.createOAuthClient())
+               .thenReturn(oAuthClient);
+        Mockito.when(token.getOAuth2AccessToken()
+                          .getTokenValue())
+               .thenReturn(TOKEN);
+        Mockito.when(refreshedToken.getOAuth2AccessToken()
+                                   .getTokenValue())
+               .thenReturn(REFRESHED_TOKEN);
+        AtomicBoolean isTokenRefreshed = new AtomicBoolean();
+        Mockito.when(oAuthClient.getToken())
+               .thenAnswer(invocation -> isTokenRefreshed.get() ? refreshedToken : token);
+        Mockito.doAnswer(invocation -> {
+                   isTokenRefreshed.set(true);
+                   return null;
+               })
+               .when(oAuthClient)
+               .refreshToken();
+        filter = new BearerTokenExchangeFilter(oAuthClientFactory, credentials);
+    }
+
+    @Test
+    void testTokenIsAddedToRequests() {
+        sendRequest(HttpStatus.OK);
+        sendRequest(HttpStatus.OK);
+
+        assertEquals(List.of("Bearer " + TOKEN, "Bearer " + TOKEN), sentAuthorizationHeaders);
+        Mockito.verify(oAuthClientFactory)
+               .createOAuthClient();
+        Mockito.verify(oAuthClient)
+               .init(credentials);
+    }
+
+    @Test
+    void testRequestIsRetriedWithRefreshedTokenWhenUnauthorized() {
+        ClientResponse response = sendRequest(HttpStatus.UNAUTHORIZED, HttpStatus.OK);
+
+        assertEquals(HttpStatus.OK, response.statusCode());
+        assertEquals(List.of("Bearer " + TOKEN, "Bearer " + REFRESHED_TOKEN), sentAuthorizationHeaders);
+        Mockito.verify(oAuthClient)
+               .refreshToken();
+    }
+
+    @Test
+    void testRequestIsRetriedOnlyOnce() {
+        ClientResponse response = sendRequest(HttpStatus.UNAUTHORIZED, HttpStatus.UNAUTHORIZED);
+
+        assertEquals(HttpStatus.UNAUTHORIZED, response.statusCode());
+        assertEquals(2, sentAuthorizationHeaders.size());
+    }
+
+    private ClientResponse sendRequest(HttpStatus... responseStatuses) {
+        List<HttpStatus> remainingStatuses = new ArrayList<>(List.of(responseStatuses));
+        return filter.filter(request, sentRequest -> {
+                         sentAuthorizationHeaders.add(sentRequest.headers()
+                                                                 .getFirst(HttpHeaders.AUTHORIZATION));
+                         return Mono.just(ClientResponse.create(remainingStatuses.removeFirst())
+                                                        .build());
+                     })
+                     .block();
+    }
+
+}
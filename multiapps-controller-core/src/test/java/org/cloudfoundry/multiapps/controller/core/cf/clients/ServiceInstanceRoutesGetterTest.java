@@ -273,6 +273,48 @@ class ServiceInstanceRoutesGetterTest extends CustomControllerClientBaseTest {
                                                  .getServiceInstanceId());
     }
 
+    @Test
+    void testPagesAreRequestedByNumberWhenTotalPagesIsKnown() {
+        String routeGuid = UUID.randomUUID()
+                               .toString();
+        List<String> serviceInstanceGuids = generateRandomGuids(3);
+        String nextPageHref = "https://api.example.com/v3/service_route_bindings?page=2&per_page=1&route_guids=" + routeGuid;
+        String firstPagePagination = "{\"total_pages\":3,\"next\":{\"href\":\"" + nextPageHref + "\"}}";
+        String page1Json = assembleRouteBindingsResponseJson(buildRouteBindingResourceJson(routeGuid, serviceInstanceGuids.get(0)),
+                                                             firstPagePagination);
+        String page2Json = buildServiceRouteBindingsResponse(routeGuid, serviceInstanceGuids.get(1), null);
+        String page3Json = buildServiceRouteBindingsResponse(routeGuid, serviceInstanceGuids.get(2), null);
+        stubWebClientToReturnResponse(page1Json, page2Json, page3Json);
+
+        List<ServiceRouteBinding> result = client.getServiceRouteBindings(List.of(routeGuid));
+
+        assertEquals(serviceInstanceGuids, result.stream()
+                                                 .map(ServiceRouteBinding::getServiceInstanceId)
+                                                 .toList());
+        assertEquals(3, capturedResolvedUris.size());
+        assertTrue(capturedResolvedUris.get(1)
+                                       .contains("page=2"));
+        assertTrue(capturedResolvedUris.get(2)
+                                       .contains("page=3"));
+    }
+
+    @Test
+    void testBatchedRequestsReturnEachResultOnce() {
+        List<String> routeGuids = generateRandomGuids(200);
+        String serviceInstanceGuid1 = UUID.randomUUID()
+                                          .toString();
+        String serviceInstanceGuid2 = UUID.randomUUID()
+                                          .toString();
+        stubWebClientToReturnResponse(buildServiceRouteBindingsResponse(routeGuids.get(0), serviceInstanceGuid1, null),
+                                      buildServiceRouteBindingsResponse(routeGuids.get(199), serviceInstanceGuid2, null));
+
+        List<ServiceRouteBinding> result = client.getServiceRouteBindings(routeGuids);
+
+        assertEquals(List.of(serviceInstanceGuid1, serviceInstanceGuid2), result.stream()
+                                                                                .map(ServiceRouteBinding::getServiceInstanceId)
+                                                                                .toList());
+    }
+
     private List<String> generateRandomGuids(int count) {
         List<String> guids = new ArrayList<>();
         for (int i = 0; i < count; i++) {
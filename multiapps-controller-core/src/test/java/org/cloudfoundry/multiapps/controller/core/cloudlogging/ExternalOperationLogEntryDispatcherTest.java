@@ -0,0 +1,175 @@
+package org.cloudfoundry.multiapps.controller.core.cloudlogging;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import org.cloudfoundry.multiapps.common.SLException;
+import org.cloudfoundry.multiapps.controller.persistence.model.ExternalOperationLogEntry;
+import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableExternalOperationLogEntry;
+import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableLoggingConfiguration;
+import org.cloudfoundry.multiapps.controller.persistence.model.LogLevel;
+import org.cloudfoundry.multiapps.controller.persistence.model.LoggingConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExternalOperationLogEntryDispatcherTest {
+
+    private static final String OPERATION_ID = "op-123";
+    private static final String LARGE_TEXT = "x".repeat(4 * 1024 * 1024);
+
+    private final List<List<ExternalOperationLogEntry>> sentBatches = new ArrayList<>();
+    private final List<String> removedClients = new ArrayList<>();
+    private final List<Runnable> queuedTasks = new ArrayList<>();
+    private boolean simulateHttpFailure;
+    private CloudLoggingServiceClient client;
+
+    @BeforeEach
+    void setUp() {
+        client = new CloudLoggingServiceClient() {
+            @Override
+            public void sendLogsToCloudLoggingService(LoggingConfiguration loggingConfiguration,
+                                                      List<ExternalOperationLogEntry> logEntryBatch) {
+                sentBatches.add(new ArrayList<>(logEntryBatch));
+                if (simulateHttpFailure) {
+                    throw new SLException("Simulated failure");
+                }
+            }
+
+            @Override
+            public void removeClientFromCache(String operationId) {
+                removedClients.add(operationId);
+            }
+        };
+    }
+
+    @Test
+    void testEntriesAreBufferedUntilDrained() {
+        ExternalOperationLogEntryDispatcher dispatcher = createDispatcher(OperationLogsExporterTest.sameThreadExecutor());
+
+        dispatcher.dispatch(buildConfig(true), List.of(entry("a")));
+        dispatcher.dispatch(buildConfig(true), List.of(entry("b"), entry("c")));
+
+        assertTrue(sentBatches.isEmpty());
+        dispatcher.drain(OPERATION_ID);
+        assertEquals(1, sentBatches.size());
+        assertEquals(3, sentBatches.get(0)
+                                   .size());
+        assertEquals(List.of(OPERATION_ID), removedClients);
+    }
+
+    @Test
+    void testEntriesDispatchedAfterDrainAreDropped() {
+        ExternalOperationLogEntryDispatcher dispatcher = createDispatcher(OperationLogsExporterTest.sameThreadExecutor());
+        dispatcher.drain(OPERATION_ID);
+
+        dispatcher.dispatch(buildConfig(true), List.of(entry("a")));
+        dispatcher.flushAll();
+
+        assertTrue(sentBatches.isEmpty());
+        assertEquals(List.of(OPERATION_ID), removedClients);
+    }
+
+    @Test
+    void testBufferIsFlushedWhenBatchSizeLimitIsReached() {
+        ExternalOperationLogEntryDispatcher dispatcher = createDispatcher(OperationLogsExporterTest.sameThreadExecutor());
+
+        dispatcher.dispatch(buildConfig(true), List.of(entry(LARGE_TEXT)));
+
+        assertEquals(1, sentBatches.size());
+        assertTrue(removedClients.isEmpty());
+    }
+
+    @Test
+    void testFlushAllSendsPendingEntries() {
+        ExternalOperationLogEntryDispatcher dispatcher = createDispatcher(OperationLogsExporterTest.sameThreadExecutor());
+        dispatcher.dispatch(buildConfig(true), List.of(entry("a")));
+
+        dispatcher.flushAll();
+
+        assertEquals(1, sentBatches.size());
+        dispatcher.flushAll();
+        assertEquals(1, sentBatches.size());
+    }
+
+    @Test
+    void testEntriesOverTheLimitAreDroppedForFailSafeConfiguration() {
+        ExternalOperationLogEntryDispatcher dispatcher = createDispatcher(queuingExecutor());
+
+        dispatcher.dispatch(buildConfig(true), Collections.nCopies(5, entry(LARGE_TEXT)));
+        dispatcher.dispatch(buildConfig(true), List.of(entry("a")));
+        assertTrue(sentBatches.isEmpty());
+        queuedTasks.forEach(Runnable::run);
+
+        assertEquals(4, countSentEntries());
+    }
+
+    @Test
+    void testCallerFlushesFullBufferForNonFailSafeConfiguration() {
+        ExternalOperationLogEntryDispatcher dispatcher = createDispatcher(queuingExecutor());
+        dispatcher.dispatch(buildConfig(false), Collections.nCopies(5, entry(LARGE_TEXT)));
+        assertTrue(sentBatches.isEmpty());
+
+        dispatcher.dispatch(buildConfig(false), List.of(entry("a")));
+
+        assertEquals(5, countSentEntries());
+    }
+
+    @Test
+    void testCallerFlushFailureIsPropagatedForNonFailSafeConfiguration() {
+        ExternalOperationLogEntryDispatcher dispatcher = createDispatcher(queuingExecutor());
+        dispatcher.dispatch(buildConfig(false), Collections.nCopies(5, entry(LARGE_TEXT)));
+        simulateHttpFailure = true;
+
+        List<ExternalOperationLogEntry> entries = List.of(entry("a"));
+        assertThrows(SLException.class, () -> dispatcher.dispatch(buildConfig(false), entries));
+    }
+
+    private ExternalOperationLogEntryDispatcher createDispatcher(ExecutorService senderExecutor) {
+        return new ExternalOperationLogEntryDispatcher(client, new ExternalOperationLogEntryBatcher(), senderExecutor);
+    }
+
+    private ExecutorService queuingExecutor() {
+        ExecutorService executor = Mockito.mock(ExecutorService.class);
+        Mockito.doAnswer(invocation -> queuedTasks.add(invocation.getArgument(0)))
+               .when(executor)
+               .execute(Mockito.any());
+        return executor;
+    }
+
+    private int countSentEntries() {
+        return sentBatches.stream()
+                          .mapToInt(List::size)
+                          .sum();
+    }
+
+    private static LoggingConfiguration buildConfig(boolean failSafe) {
+        return ImmutableLoggingConfiguration.builder()
+                                            .operationId(OPERATION_ID)
+                                            .mtaSpaceId("space-1")
+                                            .logLevel(LogLevel.INFO)
+                                            .isFailSafe(failSafe)
+                                            .endpointUrl("https://cls.example.com")
+                                            .serverCa("server-ca")
+                                            .clientCert("client-cert")
+                                            .clientKey("client-key")
+                                            .build();
+    }
+
+    private static ExternalOperationLogEntry entry(String message) {
+        return ImmutableExternalOperationLogEntry.builder()
+                                                 .message(message)
+                                                 .timestamp("2024-01-15T10:30:00Z")
+                                                 .id("id")
+                                                 .level("INFO")
+                                                 .correlationId(OPERATION_ID)
+                                                 .operationLogName("test-log")
+                                                 .build();
+    }
+}
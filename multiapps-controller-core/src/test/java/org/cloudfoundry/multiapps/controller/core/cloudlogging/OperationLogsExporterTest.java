@@ -2,9 +2,9 @@ package org.cloudfoundry.multiapps.controller.core.cloudlogging;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Stream;
 
-import org.cloudfoundry.multiapps.common.SLException;
 import org.cloudfoundry.multiapps.controller.persistence.Messages;
 import org.cloudfoundry.multiapps.controller.persistence.model.ExternalOperationLogEntry;
 import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableLoggingConfiguration;
@@ -18,11 +18,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.Mockito;
 import org.slf4j.LoggerFactory;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class OperationLogsExporterTest {
@@ -47,9 +47,10 @@ class OperationLogsExporterTest {
     void setUp() {
         httpClient = new CapturingHttpClient();
         CloudLoggingServiceMessageConverter messageConverter = new CloudLoggingServiceMessageConverter();
-        exporter = new OperationLogsExporter(httpClient,
-                                             new ExternalOperationLogEntryFactory(messageConverter),
-                                             new ExternalOperationLogEntryBatcher());
+        ExternalOperationLogEntryDispatcher dispatcher = new ExternalOperationLogEntryDispatcher(httpClient,
+                                                                                                 new ExternalOperationLogEntryBatcher(),
+                                                                                                 sameThreadExecutor());
+        exporter = new OperationLogsExporter(new ExternalOperationLogEntryFactory(messageConverter), dispatcher);
     }
 
     @Test
@@ -57,6 +58,7 @@ class OperationLogsExporterTest {
         LoggingConfiguration config = buildConfig(LogLevel.INFO);
 
         exporter.sendLogsToCloudLoggingService(config, buildEntry(INFO_LOG + WARN_LOG));
+        exporter.drain(OPERATION_ID);
 
         assertEquals(2, httpClient.capturedEntries()
                                   .size());
@@ -67,6 +69,7 @@ class OperationLogsExporterTest {
         LoggingConfiguration config = buildConfig(LogLevel.INFO);
 
         exporter.sendLogsToCloudLoggingService(config, buildEntry(WARN_LOG));
+        exporter.drain(OPERATION_ID);
 
         assertEquals("WARN", httpClient.capturedEntries()
                                        .get(0)
@@ -78,6 +81,7 @@ class OperationLogsExporterTest {
         LoggingConfiguration config = buildConfig(LogLevel.INFO);
 
         exporter.sendLogsToCloudLoggingService(config, buildEntry(INFO_LOG));
+        exporter.drain(OPERATION_ID);
 
         assertEquals(OPERATION_ID, httpClient.capturedEntries()
                                              .get(0)
@@ -94,6 +98,7 @@ class OperationLogsExporterTest {
                                                             .build();
 
         exporter.sendLogsToCloudLoggingService(config, entry);
+        exporter.drain(OPERATION_ID);
 
         assertEquals("my-log", httpClient.capturedEntries()
                                          .get(0)
@@ -105,6 +110,7 @@ class OperationLogsExporterTest {
         LoggingConfiguration config = buildConfig(LogLevel.INFO);
 
         exporter.sendLogsToCloudLoggingService(config, INFO_LOG);
+        exporter.drain(OPERATION_ID);
 
         assertEquals("deploy-app.hello-backend.log", httpClient.capturedEntries()
                                                                .get(0)
@@ -116,6 +122,7 @@ class OperationLogsExporterTest {
         LoggingConfiguration config = buildConfig(LogLevel.INFO);
 
         exporter.sendLogsToCloudLoggingService(config, INFO_LOG);
+        exporter.drain(OPERATION_ID);
 
         assertEquals(OPERATION_ID, httpClient.capturedEntries()
                                              .get(0)
@@ -127,6 +134,7 @@ class OperationLogsExporterTest {
         LoggingConfiguration config = buildConfig(LogLevel.INFO);
 
         exporter.sendLogsToCloudLoggingService(config, ERROR_LOG);
+        exporter.drain(OPERATION_ID);
 
         assertEquals("ERROR", httpClient.capturedEntries()
                                         .get(0)
@@ -138,6 +146,7 @@ class OperationLogsExporterTest {
         LoggingConfiguration config = buildConfig(LogLevel.ERROR);
 
         exporter.sendLogsToCloudLoggingService(config, INFO_LOG + DEBUG_LOG);
+        exporter.drain(OPERATION_ID);
 
         assertTrue(httpClient.capturedEntries()
                              .isEmpty());
@@ -159,6 +168,7 @@ class OperationLogsExporterTest {
         LoggingConfiguration config = buildConfig(configuredLevel);
 
         exporter.sendLogsToCloudLoggingService(config, buildEntry(logMessage));
+        exporter.drain(OPERATION_ID);
 
         assertEquals(expectedCount, httpClient.capturedEntries()
                                               .size());
@@ -169,6 +179,7 @@ class OperationLogsExporterTest {
         LoggingConfiguration config = buildConfig(LogLevel.INFO);
 
         exporter.sendLogsToCloudLoggingService(config, buildEntry(INFO_LOG + WARN_LOG + ERROR_LOG));
+        exporter.drain(OPERATION_ID);
 
         assertEquals(1, httpClient.capturedBatches.size());
         assertEquals(3, httpClient.capturedEntries()
@@ -180,6 +191,7 @@ class OperationLogsExporterTest {
         LoggingConfiguration config = buildConfig(LogLevel.INFO);
 
         exporter.sendLogsToCloudLoggingService(config, buildEntry(""));
+        exporter.drain(OPERATION_ID);
 
         assertTrue(httpClient.capturedBatches.isEmpty());
     }
@@ -194,6 +206,7 @@ class OperationLogsExporterTest {
         String log4 = logLine(LOG_DATE, "INFO", "deploy-app.svc", "[t] " + largeText);
 
         exporter.sendLogsToCloudLoggingService(config, buildEntry(log1 + log2 + log3 + log4));
+        exporter.drain(OPERATION_ID);
 
         assertTrue(httpClient.capturedBatches.size() > 1);
         assertEquals(4, httpClient.capturedEntries()
@@ -206,17 +219,32 @@ class OperationLogsExporterTest {
         httpClient.simulateHttpFailure = true;
 
         assertDoesNotThrow(() -> exporter.sendLogsToCloudLoggingService(config, INFO_LOG));
+        assertDoesNotThrow(() -> exporter.drain(OPERATION_ID));
 
         assertEquals(1, httpClient.capturedEntries()
                                   .size());
     }
 
     @Test
-    void testSendLogs_failSafeFalse_throwsOnHttpError() {
+    void testSendLogs_failSafeFalse_doesNotThrowWhenSentInBackground() {
         LoggingConfiguration config = buildConfig(LogLevel.INFO, false);
         httpClient.simulateHttpFailure = true;
 
-        assertThrows(SLException.class, () -> exporter.sendLogsToCloudLoggingService(config, INFO_LOG));
+        assertDoesNotThrow(() -> exporter.sendLogsToCloudLoggingService(config, INFO_LOG));
+        assertDoesNotThrow(() -> exporter.drain(OPERATION_ID));
+
+        assertEquals(1, httpClient.capturedEntries()
+                                  .size());
+    }
+
+    @Test
+    void testDrain_removesClientFromCache() {
+        LoggingConfiguration config = buildConfig(LogLevel.INFO);
+        exporter.sendLogsToCloudLoggingService(config, INFO_LOG);
+
+        exporter.drain(OPERATION_ID);
+
+        assertEquals(List.of(OPERATION_ID), httpClient.removedClients);
     }
 
     @Test
@@ -225,22 +253,37 @@ class OperationLogsExporterTest {
         httpClient.simulateNullResponse = true;
 
         assertDoesNotThrow(() -> exporter.sendLogsToCloudLoggingService(config, INFO_LOG));
+        assertDoesNotThrow(() -> exporter.drain(OPERATION_ID));
 
         assertEquals(1, httpClient.capturedEntries()
                                   .size());
     }
 
     @Test
-    void testSendLogs_cachedClientReusedOnSubsequentCalls() {
+    void testSendLogs_afterDrainAreDropped() {
         LoggingConfiguration config = buildConfig(LogLevel.INFO);
         exporter.sendLogsToCloudLoggingService(config, INFO_LOG);
+        exporter.drain(OPERATION_ID);
         int capturedAfterFirst = httpClient.capturedEntries()
                                            .size();
 
         exporter.sendLogsToCloudLoggingService(config, INFO_LOG);
+        exporter.drain(OPERATION_ID);
+
+        assertEquals(capturedAfterFirst, httpClient.capturedEntries()
+                                                   .size());
+    }
 
-        assertEquals(capturedAfterFirst * 2, httpClient.capturedEntries()
-                                                       .size());
+    static ExecutorService sameThreadExecutor() {
+        ExecutorService executor = Mockito.mock(ExecutorService.class);
+        Mockito.doAnswer(invocation -> {
+                   invocation.<Runnable> getArgument(0)
+                             .run();
+                   return null;
+               })
+               .when(executor)
+               .execute(Mockito.any());
+        return executor;
     }
 
     private static String logLine(String date, String level, String logName, String text) {
@@ -275,6 +318,7 @@ class OperationLogsExporterTest {
     private static class CapturingHttpClient extends CloudLoggingServiceClient {
 
         final List<List<ExternalOperationLogEntry>> capturedBatches = new ArrayList<>();
+        final List<String> removedClients = new ArrayList<>();
         boolean simulateHttpFailure = false;
         boolean simulateNullResponse = false;
 
@@ -284,6 +328,11 @@ class OperationLogsExporterTest {
                                   .toList();
         }
 
+        @Override
+        public void removeClientFromCache(String operationId) {
+            removedClients.add(operationId);
+        }
+
         @Override
         public void sendLogsToCloudLoggingService(LoggingConfiguration loggingConfiguration,
                                                   List<ExternalOperationLogEntry> logEntryBatch) {
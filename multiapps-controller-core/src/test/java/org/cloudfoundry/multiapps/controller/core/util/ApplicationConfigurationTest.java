@@ -371,15 +371,6 @@ class ApplicationConfigurationTest {
                                 configuration.getFlowableJobExecutorQueueCapacity());
     }
 
-    @Test
-    void testGetFssCacheUpdateTimeoutMinutes() {
-        Mockito.when(environment.getPositiveInteger(ApplicationConfiguration.CFG_FSS_CACHE_UPDATE_TIMEOUT_MINUTES,
-                                                    ApplicationConfiguration.DEFAULT_FSS_CACHE_UPDATE_TIMEOUT_MINUTES))
-               .thenReturn(ApplicationConfiguration.DEFAULT_FSS_CACHE_UPDATE_TIMEOUT_MINUTES);
-        Assertions.assertEquals(ApplicationConfiguration.DEFAULT_FSS_CACHE_UPDATE_TIMEOUT_MINUTES,
-                                configuration.getFssCacheUpdateTimeoutMinutes());
-    }
-
     @Test
     void testGetSpaceDeveloperCacheExpirationInSeconds() {
         Mockito.when(environment.getPositiveInteger(ApplicationConfiguration.CFG_SPACE_DEVELOPER_CACHE_TIME_IN_SECONDS,
@@ -1,6 +1,7 @@
 open module org.cloudfoundry.multiapps.controller.persistence {
 
     exports org.cloudfoundry.multiapps.controller.persistence;
+    exports org.cloudfoundry.multiapps.controller.persistence.changes;
     exports org.cloudfoundry.multiapps.controller.persistence.dialects;
     exports org.cloudfoundry.multiapps.controller.persistence.dto;
     exports org.cloudfoundry.multiapps.controller.persistence.jclouds.providers.aliyun;
@@ -32,6 +33,7 @@ open module org.cloudfoundry.multiapps.controller.persistence {
     requires aliyun.sdk.oss;
     requires com.azure.core;
     requires com.azure.storage.blob;
+    requires com.azure.storage.blob.batch;
     requires com.azure.core.http.jdk.httpclient;
     requires com.fasterxml.jackson.annotation;
     requires com.fasterxml.jackson.databind;
@@ -53,6 +55,7 @@ open module org.cloudfoundry.multiapps.controller.persistence {
     requires jakarta.annotation;
     requires jakarta.inject;
     requires liquibase.core;
+    requires micrometer.core;
     requires org.apache.logging.log4j;
     requires org.apache.logging.log4j.core;
     requires org.apache.commons.io;
@@ -11,6 +11,7 @@ public final class Messages {
     public static final String ERROR_FINDING_FILE_TO_UPLOAD = "Error finding file to upload with name {0}: {1}";
     public static final String ERROR_READING_FILE_CONTENT = "Error reading content of file {0}: {1}";
     public static final String FILE_WITH_ID_AND_SPACE_DOES_NOT_EXIST = "File with ID \"{0}\" and space \"{1}\" does not exist.";
+    public static final String SIZE_OF_FILE_WITH_ID_0_IS_UNKNOWN = "Size of file with ID \"{0}\" is unknown";
     public static final String ERROR_GETTING_FILES_WITH_SPACE_AND_NAMESPACE = "Error getting files with space {0} and namespace {1}";
     public static final String ERROR_GETTING_LOGS_WITH_SPACE_AND_OPERATION_ID = "Error getting logs with space {0} and operation id {1}";
     public static final String ERROR_GETTING_LOGS_WITH_SPACE_OPERATION_ID_AND_NAME = "Error getting logs with space {0} operation id {1} and file name {2}";
@@ -37,6 +38,8 @@ public final class Messages {
     public static final String ACCESS_TOKEN_ALREADY_EXISTS = "Access token with ID \"{0}\" already exist";
     public static final String LOCK_OWNER_NOT_FOUND = "Lock owner entry with ID \"{0}\" not found";
     public static final String LOCK_OWNER_ALREADY_EXISTS = "Lock owner entry with ID \"{0}\" already exists";
+    public static final String CLEAN_UP_PARTITION_NOT_FOUND = "Clean-up partition \"{0}\" not found";
+    public static final String CLEAN_UP_PARTITION_ALREADY_EXISTS = "Clean-up partition \"{0}\" already exists";
     public static final String INVALID_KEY_FORMAT = "Invalid key format: {0}";
     public static final String GENERATING_KEY_FILE_FAILED = "Generating key failed: {0}";
     public static final String ASYNC_UPLOAD_JOB_NOT_FOUND = "Async upload job entry with ID \"{0}\" not found";
@@ -66,8 +69,13 @@ public final class Messages {
     public static final String COULD_NOT_CLOSE_RESULT_SET = "Could not close result set.";
     public static final String COULD_NOT_CLOSE_STATEMENT = "Could not close statement.";
     public static final String COULD_NOT_CLOSE_CONNECTION = "Could not close connection.";
+    public static final String DIGEST_OF_FILE_0_DOES_NOT_MATCH_IT_WILL_NOT_BE_CACHED = "The digest of the content of file \"{0}\" does not match the digest of the file. It will not be cached.";
+    public static final String COULD_NOT_DELETE_CACHED_CONTENT_OF_FILE_0 = "Could not delete the cached content of file \"{0}\"";
+    public static final String COULD_NOT_CACHE_CONTENT_OF_FILE_0 = "Could not cache the content of file \"{0}\"";
     public static final String ATTEMPT_TO_UPLOAD_BLOB_FAILED = "Attempt [{0}/{1}] to upload blob to ObjectStore failed with \"{2}\"";
     public static final String RETRYING_SEND_LOGS_TO_CLS = "Retrying send of log batch to Cloud Logging service after transient failure: {0}";
+    public static final String DROPPED_0_LOG_ENTRIES_OF_OPERATION_1_BECAUSE_CLS_CANNOT_KEEP_UP = "Dropped {0} log entries of operation \"{1}\" because the Cloud Logging service cannot keep up";
+    public static final String EVICTED_0_PROCESS_LOGGERS_OF_OPERATION_1_AND_ACTIVITY_2_WHICH_WERE_NOT_PERSISTED_FOR_3 = "Evicted {0} process loggers of operation \"{1}\" and activity \"{2}\", which were not persisted for {3}";
     public static final String ATTEMPT_TO_DOWNLOAD_MISSING_BLOB = "Attempt [{0}/{1}] to download missing blob {2} from ObjectStore";
     public static final String USER_METADATA_OF_BLOB_0_EMPTY_AND_WILL_BE_DELETED = "User metadata of blob \"{0}\" is empty and will be deleted";
     public static final String DATE_METADATA_OF_BLOB_0_IS_NOT_IN_PROPER_FORMAT_AND_WILL_BE_DELETED = "Date metadata of blob \"{0}\" is not in a proper format and will be deleted";
@@ -78,10 +86,15 @@ public final class Messages {
     public static final String TIME_ELAPSED_FOR_GCP_OS_UPLOAD_0_IN_MILLIS = "Time elapsed for GCP object store upload: {0} in millis";
     public static final String TIME_ELAPSED_FOR_AZURE_OS_UPLOAD_0_IN_MILLIS = "Time elapsed for Azure object store upload: {0} in millis";
     public static final String TIME_ELAPSED_FOR_AWS_OS_UPLOAD_0_IN_MILLIS = "Time elapsed for AWS object store upload: {0} in millis";
+    public static final String POPULATED_PROPERTIES_OF_0_CONFIGURATION_ENTRIES = "Populated the properties of {0} configuration entries";
 
     // DEBUG log messages:
+    public static final String DROPPED_0_LOG_ENTRIES_OF_DRAINED_OPERATION_1 = "Dropped {0} log entries of operation \"{1}\" because its logs were already drained";
     public static final String STORED_FILE_0 = "Stored file: \"{0}\"";
     public static final String STORED_FILE_0_WITH_SIZE_1 = "Stored file \"{0}\" with size {1}";
+    public static final String STORED_FILE_0_WITH_SIZE_1_IN_2_PARTS = "Stored file \"{0}\" with size {1} in {2} parts";
+    public static final String ABORTED_MULTIPART_UPLOAD_OF_FILE_0 = "Aborted multipart upload of file \"{0}\"";
+    public static final String COULD_NOT_ABORT_MULTIPART_UPLOAD_OF_FILE_0 = "Could not abort multipart upload of file \"{0}\"";
     public static final String DELETED_0_FILES_WITH_SPACEIDS_1 = "Deleted {0} files with space ids \"{1}\".";
     public static final String DELETED_0_FILES_WITH_SPACE_1_AND_NAMESPACE_2 = "Deleted {0} files with space \"{1}\" and namespace \"{2}\".";
     public static final String DELETED_0_FILES_MODIFIED_BEFORE_1 = "Deleted {0} files modified before \"{1}\".";
@@ -90,11 +103,14 @@ public final class Messages {
     public static final String DELETED_0_FILES_WITHOUT_CONTENT = "Deleted {0} files without content.";
     public static final String FAILED_TO_SAVE_OPERATION_LOG_IN_DATABASE = "Failed to save operation log in database.";
     public static final String STORED_SECRET_TOKEN_WITH_VARIABLE_NAME_0_FOR_PROCESS_WITH_ID_1 = "Stored secret token with a variable name \"{0}\" for process with id \"{1}\"";
+    public static final String STORED_0_SECRET_TOKENS_WITH_VARIABLE_NAME_1_FOR_PROCESS_WITH_ID_2 = "Stored \"{0}\" secret tokens with a variable name \"{1}\" for process with id \"{2}\"";
     public static final String RETRIEVED_SECRET_TOKEN_WITH_ID_0_FOR_PROCESS_WITH_ID_1 = "Retrieved secret token with id \"{0}\" for process with id \"{1}\"";
+    public static final String RETRIEVED_0_SECRET_TOKENS_WITH_IDS_1 = "Retrieved \"{0}\" secret tokens with ids \"{1}\"";
     public static final String DELETED_0_SECRET_TOKENS_FOR_PROCESS_WITH_ID_1 = "Deleted \"{0}\" secret tokens for process with id \"{1}\"";
     public static final String DELETED_0_SECRET_TOKENS_WITH_EXPIRATION_DATE_1 = "Deleted secret tokens \"{0}\" with an expiration date \"{1}\"";
     public static final String CREATING_WEBCLIENT_WITH_MTLS_CONFIGURATION_FOR_ENDPOINT_1 = "Creating WebClient with mTLS configuration for endpoint: {0}";
     public static final String FAILED_TO_DELETE_FILE_0_IN_OBJECT_STORE_REASON_1 = "Failed to delete file \"{0}\" in object store. Reason: {1}";
+    public static final String CACHED_CONTENT_OF_FILE_0_WITH_SIZE_1 = "Cached content of file \"{0}\" with size {1}";
     public static final String S3_UPLOAD_FAILED_FILE_0_SIZE_1 = "S3 upload failed for file \"{0}\" (size={1}). Root cause chain: {2}";
 
     protected Messages() {
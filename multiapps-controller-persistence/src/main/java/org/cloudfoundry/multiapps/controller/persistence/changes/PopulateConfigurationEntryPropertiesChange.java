@@ -0,0 +1,90 @@
+package org.cloudfoundry.multiapps.controller.persistence.changes;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.text.MessageFormat;
+import java.util.Map;
+
+import liquibase.change.custom.CustomTaskChange;
+import liquibase.database.Database;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.exception.CustomChangeException;
+import liquibase.exception.ValidationErrors;
+import liquibase.resource.ResourceAccessor;
+import org.cloudfoundry.multiapps.controller.persistence.Messages;
+import org.cloudfoundry.multiapps.controller.persistence.util.ConfigurationEntriesUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Fills the configuration entry property table for the entries which have no properties there yet. The content is parsed in Java, so
+ * that the properties are the same as the ones written for new entries, regardless of the database.
+ */
+public class PopulateConfigurationEntryPropertiesChange implements CustomTaskChange {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PopulateConfigurationEntryPropertiesChange.class);
+
+    private static final int BATCH_SIZE = 100;
+    private static final String SELECT_ENTRIES_WITHOUT_PROPERTIES = "SELECT id, content FROM configuration_registry entry WHERE NOT EXISTS (SELECT 1 FROM configuration_entry_property property WHERE property.configuration_entry_id = entry.id)";
+    private static final String INSERT_PROPERTY = "INSERT INTO configuration_entry_property (configuration_entry_id, property_name, property_value) VALUES (?, ?, ?)";
+
+    @Override
+    public void execute(Database database) throws CustomChangeException {
+        JdbcConnection connection = (JdbcConnection) database.getConnection();
+        try {
+            populateProperties(connection.getUnderlyingConnection());
+        } catch (SQLException e) {
+            throw new CustomChangeException(e);
+        }
+    }
+
+    void populateProperties(Connection connection) throws SQLException {
+        try (PreparedStatement selectStatement = connection.prepareStatement(SELECT_ENTRIES_WITHOUT_PROPERTIES);
+            PreparedStatement insertStatement = connection.prepareStatement(INSERT_PROPERTY)) {
+            selectStatement.setFetchSize(BATCH_SIZE);
+            int batchedProperties = 0;
+            int populatedEntries = 0;
+            try (ResultSet entries = selectStatement.executeQuery()) {
+                while (entries.next()) {
+                    long id = entries.getLong(1);
+                    for (Map.Entry<String, String> property : ConfigurationEntriesUtil.getIndexedProperties(entries.getString(2))
+                                                                                      .entrySet()) {
+                        insertStatement.setLong(1, id);
+                        insertStatement.setString(2, property.getKey());
+                        insertStatement.setString(3, property.getValue());
+                        insertStatement.addBatch();
+                        if (++batchedProperties % BATCH_SIZE == 0) {
+                            insertStatement.executeBatch();
+                        }
+                    }
+                    populatedEntries++;
+                }
+            }
+            insertStatement.executeBatch();
+            LOGGER.info(MessageFormat.format(Messages.POPULATED_PROPERTIES_OF_0_CONFIGURATION_ENTRIES, populatedEntries));
+        }
+    }
+
+    @Override
+    public String getConfirmationMessage() {
+        return "Populated the properties of the configuration entries";
+    }
+
+    @Override
+    public void setUp() {
+        // Nothing to set up.
+    }
+
+    @Override
+    public void setFileOpener(ResourceAccessor resourceAccessor) {
+        // No resources are needed.
+    }
+
+    @Override
+    public ValidationErrors validate(Database database) {
+        return new ValidationErrors();
+    }
+
+}
@@ -7,6 +7,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 
 import org.cloudfoundry.multiapps.controller.persistence.query.options.StreamFetchingOptions;
+import org.cloudfoundry.multiapps.controller.persistence.services.SeekableFileContent;
 
 public interface DataSourceDialect {
 
@@ -16,6 +17,8 @@ public interface DataSourceDialect {
 
     InputStream getBinaryStreamFromBlob(ResultSet rs, String columnName) throws SQLException;
 
+    SeekableFileContent getSeekableContentFromBlob(ResultSet rs, String columnName) throws SQLException;
+
     void setBlobAsBinaryStream(PreparedStatement ps, int index, InputStream is) throws SQLException;
 
     InputStream getBinaryStreamFromByteArray(ResultSet rs, String columnName) throws SQLException;
@@ -7,6 +7,8 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 
 import org.cloudfoundry.multiapps.controller.persistence.query.options.StreamFetchingOptions;
+import org.cloudfoundry.multiapps.controller.persistence.services.SeekableFileContent;
+import org.cloudfoundry.multiapps.controller.persistence.stream.BlobSeekableFileContent;
 
 public class DefaultDataSourceDialect implements DataSourceDialect {
 
@@ -32,6 +34,11 @@ public class DefaultDataSourceDialect implements DataSourceDialect {
                                   streamFetchingOptions.endOffset() - streamFetchingOptions.startOffset() + 1);
     }
 
+    @Override
+    public SeekableFileContent getSeekableContentFromBlob(ResultSet rs, String columnName) throws SQLException {
+        return new BlobSeekableFileContent(rs.getBlob(columnName));
+    }
+
     @Override
     public void setBlobAsBinaryStream(PreparedStatement ps, int index, InputStream is) throws SQLException {
         ps.setBlob(index, is);
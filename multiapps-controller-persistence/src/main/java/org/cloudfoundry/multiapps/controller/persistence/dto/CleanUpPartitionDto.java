@@ -0,0 +1,107 @@
+package org.cloudfoundry.multiapps.controller.persistence.dto;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import org.cloudfoundry.multiapps.controller.persistence.model.PersistenceMetadata;
+
+@Entity
+@Table(name = PersistenceMetadata.TableNames.CLEAN_UP_PARTITION_TABLE)
+public class CleanUpPartitionDto implements DtoWithPrimaryKey<String> {
+
+    public static class AttributeNames {
+
+        private AttributeNames() {
+        }
+
+        public static final String NAME = "name";
+        public static final String LEASE_OWNER = "leaseOwner";
+        public static final String LEASE_EXPIRES_AT = "leaseExpiresAt";
+        public static final String LAST_STARTED_AT = "lastStartedAt";
+        public static final String LAST_FINISHED_AT = "lastFinishedAt";
+        public static final String LAST_CLEANED_ITEMS = "lastCleanedItems";
+        public static final String LAST_DURATION_IN_MILLIS = "lastDurationInMillis";
+
+    }
+
+    @Id
+    @Column(name = PersistenceMetadata.TableColumnNames.CLEAN_UP_PARTITION_NAME, nullable = false)
+    private String name;
+
+    @Column(name = PersistenceMetadata.TableColumnNames.CLEAN_UP_PARTITION_LEASE_OWNER)
+    private String leaseOwner;
+
+    @Column(name = PersistenceMetadata.TableColumnNames.CLEAN_UP_PARTITION_LEASE_EXPIRES_AT)
+    private LocalDateTime leaseExpiresAt;
+
+    @Column(name = PersistenceMetadata.TableColumnNames.CLEAN_UP_PARTITION_LAST_STARTED_AT)
+    private LocalDateTime lastStartedAt;
+
+    @Column(name = PersistenceMetadata.TableColumnNames.CLEAN_UP_PARTITION_LAST_FINISHED_AT)
+    private LocalDateTime lastFinishedAt;
+
+    @Column(name = PersistenceMetadata.TableColumnNames.CLEAN_UP_PARTITION_LAST_CLEANED_ITEMS)
+    private Long lastCleanedItems;
+
+    @Column(name = PersistenceMetadata.TableColumnNames.CLEAN_UP_PARTITION_LAST_DURATION_IN_MILLIS)
+    private Long lastDurationInMillis;
+
+    public CleanUpPartitionDto() {
+        // Required by JPA
+    }
+
+    public CleanUpPartitionDto(String name, String leaseOwner, LocalDateTime leaseExpiresAt, LocalDateTime lastStartedAt,
+                               LocalDateTime lastFinishedAt, Long lastCleanedItems, Long lastDurationInMillis) {
+        this.name = name;
+        this.leaseOwner = leaseOwner;
+        this.leaseExpiresAt = leaseExpiresAt;
+        this.lastStartedAt = lastStartedAt;
+        this.lastFinishedAt = lastFinishedAt;
+        this.lastCleanedItems = lastCleanedItems;
+        this.lastDurationInMillis = lastDurationInMillis;
+    }
+
+    @Override
+    public String getPrimaryKey() {
+        return name;
+    }
+
+    @Override
+    public void setPrimaryKey(String name) {
+        this.name = name;
+    }
+
+    public String getLeaseOwner() {
+        return leaseOwner;
+    }
+
+    public LocalDateTime getLeaseExpiresAt() {
+        return leaseExpiresAt;
+    }
+
+    public LocalDateTime getLastStartedAt() {
+        return lastStartedAt;
+    }
+
+    public LocalDateTime getLastFinishedAt() {
+        return lastFinishedAt;
+    }
+
+    public Long getLastCleanedItems() {
+        return lastCleanedItems;
+    }
+
+    public Long getLastDurationInMillis() {
+        return lastDurationInMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "CleanUpPartitionDto{" + "name='" + name + '\'' + ", leaseOwner='" + leaseOwner + '\'' + ", leaseExpiresAt="
+            + leaseExpiresAt + ", lastFinishedAt=" + lastFinishedAt + '}';
+    }
+}
@@ -1,13 +1,19 @@
 package org.cloudfoundry.multiapps.controller.persistence.dto;
 
+import java.util.Map;
+
 import jakarta.persistence.Access;
 import jakarta.persistence.AccessType;
+import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Lob;
+import jakarta.persistence.MapKeyColumn;
 import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
@@ -15,10 +21,12 @@ import jakarta.xml.bind.annotation.XmlAccessType;
 import jakarta.xml.bind.annotation.XmlAccessorType;
 import jakarta.xml.bind.annotation.XmlElement;
 import jakarta.xml.bind.annotation.XmlRootElement;
+import jakarta.xml.bind.annotation.XmlTransient;
 
 import org.cloudfoundry.multiapps.controller.persistence.model.PersistenceMetadata.SequenceNames;
 import org.cloudfoundry.multiapps.controller.persistence.model.PersistenceMetadata.TableColumnNames;
 import org.cloudfoundry.multiapps.controller.persistence.model.PersistenceMetadata.TableNames;
+import org.cloudfoundry.multiapps.controller.persistence.util.ConfigurationEntriesUtil;
 
 @Entity
 @Access(AccessType.FIELD)
@@ -47,6 +55,7 @@ public class ConfigurationEntryDto implements DtoWithPrimaryKey<Long> {
         public static final String CONTENT = "content";
         public static final String VISIBILITY = "visibility";
         public static final String CONTENT_ID = "contentId";
+        public static final String PROPERTIES = "properties";
     }
 
     @XmlElement
@@ -98,6 +107,17 @@ public class ConfigurationEntryDto implements DtoWithPrimaryKey<Long> {
     @Column(name = TableColumnNames.CONFIGURATION_ENTRY_CONTENT_ID)
     private String contentId;
 
+    /**
+     * The top-level string properties of the content, kept in a separate table so that queries for entries with specific content can
+     * be answered by the database. Always derived from the content.
+     */
+    @XmlTransient
+    @ElementCollection
+    @CollectionTable(name = TableNames.CONFIGURATION_ENTRY_PROPERTY_TABLE, joinColumns = @JoinColumn(name = TableColumnNames.CONFIGURATION_ENTRY_PROPERTY_ENTRY_ID))
+    @MapKeyColumn(name = TableColumnNames.CONFIGURATION_ENTRY_PROPERTY_NAME, length = ConfigurationEntriesUtil.MAX_INDEXED_PROPERTY_LENGTH)
+    @Column(name = TableColumnNames.CONFIGURATION_ENTRY_PROPERTY_VALUE, length = ConfigurationEntriesUtil.MAX_INDEXED_PROPERTY_LENGTH)
+    private Map<String, String> properties;
+
     protected ConfigurationEntryDto() {
         // Required by JPA and JAXB.
     }
@@ -116,6 +136,7 @@ public class ConfigurationEntryDto implements DtoWithPrimaryKey<Long> {
         this.spaceId = spaceId;
         this.providerNamespace = providerNamespace;
         this.contentId = contentId;
+        this.properties = ConfigurationEntriesUtil.getIndexedProperties(content);
     }
 
     @Override
@@ -168,6 +189,10 @@ public class ConfigurationEntryDto implements DtoWithPrimaryKey<Long> {
         return contentId;
     }
 
+    public Map<String, String> getProperties() {
+        return properties;
+    }
+
     public static Builder builder() {
         return new Builder();
     }
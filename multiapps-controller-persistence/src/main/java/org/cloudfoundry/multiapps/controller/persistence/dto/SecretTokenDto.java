@@ -14,7 +14,8 @@ import org.cloudfoundry.multiapps.controller.persistence.model.PersistenceMetada
 
 @Entity
 @Table(name = PersistenceMetadata.TableNames.SECRET_TOKEN)
-@SequenceGenerator(name = PersistenceMetadata.SequenceNames.SECRET_TOKEN_SEQUENCE, sequenceName = PersistenceMetadata.SequenceNames.SECRET_TOKEN_SEQUENCE, allocationSize = 1)
+// The allocation size must match the increment of the sequence in the database:
+@SequenceGenerator(name = PersistenceMetadata.SequenceNames.SECRET_TOKEN_SEQUENCE, sequenceName = PersistenceMetadata.SequenceNames.SECRET_TOKEN_SEQUENCE, allocationSize = 50)
 public class SecretTokenDto implements DtoWithPrimaryKey<Long> {
 
     public static class AttributeNames {
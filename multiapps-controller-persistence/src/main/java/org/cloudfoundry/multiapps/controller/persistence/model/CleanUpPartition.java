@@ -0,0 +1,35 @@
+package org.cloudfoundry.multiapps.controller.persistence.model;
+
+import java.time.LocalDateTime;
+
+import org.cloudfoundry.multiapps.common.Nullable;
+import org.immutables.value.Value;
+
+/**
+ * A unit of clean-up work, which is executed by at most one application instance at a time. The instance, which executes it, holds a
+ * lease on the partition until it finishes or until the lease expires.
+ */
+@Value.Immutable
+public interface CleanUpPartition {
+
+    String getName();
+
+    @Nullable
+    String getLeaseOwner();
+
+    @Nullable
+    LocalDateTime getLeaseExpiresAt();
+
+    @Nullable
+    LocalDateTime getLastStartedAt();
+
+    @Nullable
+    LocalDateTime getLastFinishedAt();
+
+    @Nullable
+    Long getLastCleanedItems();
+
+    @Nullable
+    Long getLastDurationInMillis();
+
+}
@@ -13,6 +13,7 @@ public class PersistenceMetadata {
         }
 
         public static final String CONFIGURATION_ENTRY_TABLE = "configuration_registry";
+        public static final String CONFIGURATION_ENTRY_PROPERTY_TABLE = "configuration_entry_property";
         public static final String CONFIGURATION_SUBSCRIPTION_TABLE = "configuration_subscription";
         public static final String PROGRESS_MESSAGE_TABLE = "progress_message";
         public static final String HISTORIC_OPERATION_EVENT_TABLE = "historic_operation_event";
@@ -23,6 +24,7 @@ public class PersistenceMetadata {
         public static final String APPLICATION_SHUTDOWN_TABLE = "application_shutdown";
         public static final String SECRET_TOKEN = "secret_token";
         public static final String CLOUD_LOGGING_SERVICE_CONFIGURATION_TABLE = "cloud_logging_service_configuration";
+        public static final String CLEAN_UP_PARTITION_TABLE = "clean_up_partition";
 
     }
 
@@ -60,6 +62,10 @@ public class PersistenceMetadata {
         public static final String CONFIGURATION_CLOUD_TARGET = "visibility";
         public static final String CONFIGURATION_ENTRY_CONTENT_ID = "content_id";
 
+        public static final String CONFIGURATION_ENTRY_PROPERTY_ENTRY_ID = "configuration_entry_id";
+        public static final String CONFIGURATION_ENTRY_PROPERTY_NAME = "property_name";
+        public static final String CONFIGURATION_ENTRY_PROPERTY_VALUE = "property_value";
+
         public static final String CONFIGURATION_SUBSCRIPTION_MTA_ID = "mta_id";
         public static final String CONFIGURATION_SUBSCRIPTION_ID = "id";
         public static final String CONFIGURATION_SUBSCRIPTION_SPACE_ID = "space_id";
@@ -143,6 +149,14 @@ public class PersistenceMetadata {
         public static final String CLOUD_LOGGING_LOG_LEVEL = "log_level";
         public static final String CLOUD_LOGGING_IS_FAILSAFE = "is_failsafe";
         public static final String CLOUD_LOGGING_ADDED_AT = "added_at";
+
+        public static final String CLEAN_UP_PARTITION_NAME = "name";
+        public static final String CLEAN_UP_PARTITION_LEASE_OWNER = "lease_owner";
+        public static final String CLEAN_UP_PARTITION_LEASE_EXPIRES_AT = "lease_expires_at";
+        public static final String CLEAN_UP_PARTITION_LAST_STARTED_AT = "last_started_at";
+        public static final String CLEAN_UP_PARTITION_LAST_FINISHED_AT = "last_finished_at";
+        public static final String CLEAN_UP_PARTITION_LAST_CLEANED_ITEMS = "last_cleaned_items";
+        public static final String CLEAN_UP_PARTITION_LAST_DURATION_IN_MILLIS = "last_duration_in_millis";
     }
 
 }
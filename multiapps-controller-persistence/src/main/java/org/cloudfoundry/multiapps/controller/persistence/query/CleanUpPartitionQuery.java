@@ -0,0 +1,47 @@
+package org.cloudfoundry.multiapps.controller.persistence.query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.cloudfoundry.multiapps.controller.persistence.model.CleanUpPartition;
+
+public interface CleanUpPartitionQuery extends Query<CleanUpPartition, CleanUpPartitionQuery> {
+
+    CleanUpPartitionQuery name(String name);
+
+    CleanUpPartitionQuery withNameAnyOf(List<String> names);
+
+    CleanUpPartitionQuery leaseOwner(String leaseOwner);
+
+    /**
+     * Restricts the query to partitions, which are not leased or whose lease expires before the given time.
+     */
+    CleanUpPartitionQuery leaseExpiredBefore(LocalDateTime time);
+
+    /**
+     * Restricts the query to partitions, which were never finished or were last finished before the given time.
+     */
+    CleanUpPartitionQuery notFinishedSince(LocalDateTime time);
+
+    /**
+     * Leases the matching partitions to the given owner.
+     *
+     * @return the number of leased partitions
+     */
+    int acquireLease(String leaseOwner, LocalDateTime startedAt, LocalDateTime leaseExpiresAt);
+
+    /**
+     * Releases the leases of the matching partitions and records the statistics of their last run.
+     *
+     * @return the number of released partitions
+     */
+    int releaseLease(LocalDateTime finishedAt, Long cleanedItems, long durationInMillis);
+
+    /**
+     * Releases the leases of the matching partitions without marking them as finished, so that they can be leased again.
+     *
+     * @return the number of released partitions
+     */
+    int abandonLease();
+
+}
@@ -11,6 +11,8 @@ public interface OperationQuery extends Query<Operation, OperationQuery> {
 
     OperationQuery processId(String processId);
 
+    OperationQuery processIdGreaterThan(String processId);
+
     OperationQuery processType(ProcessType processType);
 
     OperationQuery spaceId(String spaceId);
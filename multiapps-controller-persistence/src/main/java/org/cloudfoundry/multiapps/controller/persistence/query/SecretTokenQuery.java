@@ -1,6 +1,7 @@
 package org.cloudfoundry.multiapps.controller.persistence.query;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import org.cloudfoundry.multiapps.controller.persistence.model.SecretToken;
 
@@ -8,6 +9,8 @@ public interface SecretTokenQuery extends Query<SecretToken, SecretTokenQuery> {
 
     SecretTokenQuery id(Long id);
 
+    SecretTokenQuery withIdAnyOf(List<Long> ids);
+
     SecretTokenQuery processInstanceId(String processInstanceId);
 
     SecretTokenQuery variableName(String variableName);
@@ -1,5 +1,10 @@
 package org.cloudfoundry.multiapps.controller.persistence.query.impl;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 
 import jakarta.persistence.EntityManager;
@@ -7,6 +12,7 @@ import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaDelete;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 
@@ -67,10 +73,16 @@ public abstract class AbstractQueryImpl<R, T extends Query<R, T>> implements Que
     }
 
     protected <E> TypedQuery<E> createQuery(EntityManager entityManager, QueryCriteria criteria, Class<E> dtoClass) {
+        return createQuery(entityManager, criteria, dtoClass, (query, root) -> Collections.emptyList());
+    }
+
+    protected <E> TypedQuery<E> createQuery(EntityManager entityManager, QueryCriteria criteria, Class<E> dtoClass,
+                                            BiFunction<CriteriaQuery<E>, Root<E>, List<Predicate>> additionalPredicatesProvider) {
         CriteriaQuery<E> criteriaQuery = criteriaBuilder.createQuery(dtoClass);
         Root<E> root = criteriaQuery.from(dtoClass);
-        criteriaQuery.where(criteria.toQueryPredicates(root)
-                                    .toArray(new Predicate[0]));
+        List<Predicate> predicates = new ArrayList<>(criteria.toQueryPredicates(root));
+        predicates.addAll(additionalPredicatesProvider.apply(criteriaQuery, root));
+        criteriaQuery.where(predicates.toArray(new Predicate[0]));
         criteriaQuery = applyOrder(criteriaQuery, root);
         TypedQuery<E> typedQuery = entityManager.createQuery(criteriaQuery);
         applyLimitAndOffset(typedQuery);
@@ -85,6 +97,16 @@ public abstract class AbstractQueryImpl<R, T extends Query<R, T>> implements Que
         return entityManager.createQuery(deleteQuery);
     }
 
+    protected <E> jakarta.persistence.Query createUpdateQuery(EntityManager entityManager, QueryCriteria criteria, Class<E> dtoClass,
+                                                              Map<String, Object> newAttributeValues) {
+        CriteriaUpdate<E> updateQuery = criteriaBuilder.createCriteriaUpdate(dtoClass);
+        Root<E> root = updateQuery.from(dtoClass);
+        newAttributeValues.forEach(updateQuery::set);
+        updateQuery.where(criteria.toQueryPredicates(root)
+                                  .toArray(new Predicate[0]));
+        return entityManager.createQuery(updateQuery);
+    }
+
     protected <E> E executeInTransaction(Function<EntityManager, E> function) {
         return new TransactionalExecutor<E>(entityManager).execute(function);
     }
@@ -0,0 +1,139 @@
+package org.cloudfoundry.multiapps.controller.persistence.query.impl;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.NoResultException;
+import jakarta.persistence.NonUniqueResultException;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+
+import org.cloudfoundry.multiapps.controller.persistence.dto.CleanUpPartitionDto;
+import org.cloudfoundry.multiapps.controller.persistence.dto.CleanUpPartitionDto.AttributeNames;
+import org.cloudfoundry.multiapps.controller.persistence.model.CleanUpPartition;
+import org.cloudfoundry.multiapps.controller.persistence.query.CleanUpPartitionQuery;
+import org.cloudfoundry.multiapps.controller.persistence.query.criteria.ImmutableQueryAttributeRestriction;
+import org.cloudfoundry.multiapps.controller.persistence.query.criteria.QueryCriteria;
+import org.cloudfoundry.multiapps.controller.persistence.services.CleanUpPartitionService.CleanUpPartitionMapper;
+
+public class CleanUpPartitionQueryImpl extends AbstractQueryImpl<CleanUpPartition, CleanUpPartitionQuery> implements CleanUpPartitionQuery {
+
+    private final QueryCriteria queryCriteria = new QueryCriteria();
+    private final CleanUpPartitionMapper cleanUpPartitionMapper;
+
+    public CleanUpPartitionQueryImpl(EntityManager entityManager, CleanUpPartitionMapper cleanUpPartitionMapper) {
+        super(entityManager);
+        this.cleanUpPartitionMapper = cleanUpPartitionMapper;
+    }
+
+    @Override
+    public CleanUpPartitionQuery name(String name) {
+        queryCriteria.addRestriction(ImmutableQueryAttributeRestriction.builder()
+                                                                       .attribute(AttributeNames.NAME)
+                                                                       .condition(getCriteriaBuilder()::equal)
+                                                                       .value(name)
+                                                                       .build());
+        return this;
+    }
+
+    @Override
+    public CleanUpPartitionQuery withNameAnyOf(List<String> names) {
+        queryCriteria.addRestriction(ImmutableQueryAttributeRestriction.<List<String>> builder()
+                                                                       .attribute(AttributeNames.NAME)
+                                                                       .condition(Expression::in)
+                                                                       .value(names)
+                                                                       .build());
+        return this;
+    }
+
+    @Override
+    public CleanUpPartitionQuery leaseOwner(String leaseOwner) {
+        queryCriteria.addRestriction(ImmutableQueryAttributeRestriction.builder()
+                                                                       .attribute(AttributeNames.LEASE_OWNER)
+                                                                       .condition(getCriteriaBuilder()::equal)
+                                                                       .value(leaseOwner)
+                                                                       .build());
+        return this;
+    }
+
+    @Override
+    public CleanUpPartitionQuery leaseExpiredBefore(LocalDateTime time) {
+        queryCriteria.addRestriction(ImmutableQueryAttributeRestriction.<LocalDateTime> builder()
+                                                                       .attribute(AttributeNames.LEASE_EXPIRES_AT)
+                                                                       .condition(this::isNullOrLessThan)
+                                                                       .value(time)
+                                                                       .build());
+        return this;
+    }
+
+    @Override
+    public CleanUpPartitionQuery notFinishedSince(LocalDateTime time) {
+        queryCriteria.addRestriction(ImmutableQueryAttributeRestriction.<LocalDateTime> builder()
+                                                                       .attribute(AttributeNames.LAST_FINISHED_AT)
+                                                                       .condition(this::isNullOrLessThan)
+                                                                       .value(time)
+                                                                       .build());
+        return this;
+    }
+
+    private Predicate isNullOrLessThan(Expression<LocalDateTime> attribute, LocalDateTime value) {
+        return getCriteriaBuilder().or(getCriteriaBuilder().isNull(attribute), getCriteriaBuilder().lessThan(attribute, value));
+    }
+
+    @Override
+    public int acquireLease(String leaseOwner, LocalDateTime startedAt, LocalDateTime leaseExpiresAt) {
+        Map<String, Object> newAttributeValues = new HashMap<>();
+        newAttributeValues.put(AttributeNames.LEASE_OWNER, leaseOwner);
+        newAttributeValues.put(AttributeNames.LEASE_EXPIRES_AT, leaseExpiresAt);
+        newAttributeValues.put(AttributeNames.LAST_STARTED_AT, startedAt);
+        return executeInTransaction(manager -> createUpdateQuery(manager, queryCriteria, CleanUpPartitionDto.class,
+                                                                 newAttributeValues).executeUpdate());
+    }
+
+    @Override
+    public int releaseLease(LocalDateTime finishedAt, Long cleanedItems, long durationInMillis) {
+        Map<String, Object> newAttributeValues = new HashMap<>();
+        newAttributeValues.put(AttributeNames.LEASE_OWNER, null);
+        newAttributeValues.put(AttributeNames.LEASE_EXPIRES_AT, null);
+        newAttributeValues.put(AttributeNames.LAST_FINISHED_AT, finishedAt);
+        newAttributeValues.put(AttributeNames.LAST_CLEANED_ITEMS, cleanedItems);
+        newAttributeValues.put(AttributeNames.LAST_DURATION_IN_MILLIS, durationInMillis);
+        return executeInTransaction(manager -> createUpdateQuery(manager, queryCriteria, CleanUpPartitionDto.class,
+                                                                 newAttributeValues).executeUpdate());
+    }
+
+    @Override
+    public int abandonLease() {
+        Map<String, Object> newAttributeValues = new HashMap<>();
+        newAttributeValues.put(AttributeNames.LEASE_OWNER, null);
+        newAttributeValues.put(AttributeNames.LEASE_EXPIRES_AT, null);
+        return executeInTransaction(manager -> createUpdateQuery(manager, queryCriteria, CleanUpPartitionDto.class,
+                                                                 newAttributeValues).executeUpdate());
+    }
+
+    @Override
+    public CleanUpPartition singleResult() throws NoResultException, NonUniqueResultException {
+        CleanUpPartitionDto dto = executeInTransaction(manager -> createQuery(manager, queryCriteria,
+                                                                              CleanUpPartitionDto.class).getSingleResult());
+        return cleanUpPartitionMapper.fromDto(dto);
+    }
+
+    @Override
+    public List<CleanUpPartition> list() {
+        List<CleanUpPartitionDto> dtos = executeInTransaction(manager -> createQuery(manager, queryCriteria,
+                                                                                     CleanUpPartitionDto.class).getResultList());
+        return dtos.stream()
+                   .map(cleanUpPartitionMapper::fromDto)
+                   .collect(Collectors.toList());
+    }
+
+    @Override
+    public int delete() {
+        return executeInTransaction(manager -> createDeleteQuery(manager, queryCriteria, CleanUpPartitionDto.class).executeUpdate());
+    }
+
+}
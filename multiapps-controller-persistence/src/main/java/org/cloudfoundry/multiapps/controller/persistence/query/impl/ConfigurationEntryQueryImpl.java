@@ -1,6 +1,8 @@
 package org.cloudfoundry.multiapps.controller.persistence.query.impl;
 
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.function.BiPredicate;
@@ -8,7 +10,13 @@ import java.util.stream.Collectors;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.NoResultException;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.MapJoin;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 
+import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.cloudfoundry.multiapps.controller.persistence.Messages;
 import org.cloudfoundry.multiapps.controller.persistence.dto.ConfigurationEntryDto;
@@ -187,8 +195,10 @@ public class ConfigurationEntryQueryImpl extends AbstractQueryImpl<Configuration
 
     @Override
     public List<ConfigurationEntry> list() {
-        List<ConfigurationEntryDto> dtos = executeInTransaction(manager -> createQuery(manager, queryCriteria,
-                                                                                       ConfigurationEntryDto.class).getResultList());
+        List<ConfigurationEntryDto> dtos = executeInTransaction(manager -> createQuery(manager, queryCriteria, ConfigurationEntryDto.class,
+                                                                                       this::getRequiredPropertiesPredicates).getResultList());
+        // All required properties, as well as the version and visibility requirements, are checked in memory only for the entries which
+        // were already matched by the database:
         return dtos.stream()
                    .filter(this::satisfiesTargetWildcard)
                    .filter(this::satisfiesContent)
@@ -198,6 +208,40 @@ public class ConfigurationEntryQueryImpl extends AbstractQueryImpl<Configuration
                    .collect(Collectors.toList());
     }
 
+    private List<Predicate> getRequiredPropertiesPredicates(CriteriaQuery<ConfigurationEntryDto> query,
+                                                            Root<ConfigurationEntryDto> root) {
+        if (MapUtils.isEmpty(requiredProperties)) {
+            return Collections.emptyList();
+        }
+        List<Predicate> predicates = new ArrayList<>();
+        for (Map.Entry<String, Object> requiredProperty : requiredProperties.entrySet()) {
+            if (ConfigurationEntriesUtil.isIndexedProperty(requiredProperty.getKey(), requiredProperty.getValue())) {
+                // Entries without indexed properties (e.g. written by an older version of the application) are matched only in memory:
+                predicates.add(getCriteriaBuilder().or(hasProperty(query, root, requiredProperty), hasNoProperties(query, root)));
+            }
+        }
+        return predicates;
+    }
+
+    private Predicate hasProperty(CriteriaQuery<ConfigurationEntryDto> query, Root<ConfigurationEntryDto> root,
+                                  Map.Entry<String, Object> requiredProperty) {
+        Subquery<String> subquery = query.subquery(String.class);
+        MapJoin<ConfigurationEntryDto, String, String> property = subquery.correlate(root)
+                                                                           .joinMap(AttributeNames.PROPERTIES);
+        subquery.select(property.key())
+                .where(getCriteriaBuilder().equal(property.key(), requiredProperty.getKey()),
+                       getCriteriaBuilder().equal(property.value(), requiredProperty.getValue()));
+        return getCriteriaBuilder().exists(subquery);
+    }
+
+    private Predicate hasNoProperties(CriteriaQuery<ConfigurationEntryDto> query, Root<ConfigurationEntryDto> root) {
+        Subquery<String> subquery = query.subquery(String.class);
+        MapJoin<ConfigurationEntryDto, String, String> property = subquery.correlate(root)
+                                                                           .joinMap(AttributeNames.PROPERTIES);
+        subquery.select(property.key());
+        return getCriteriaBuilder().not(getCriteriaBuilder().exists(subquery));
+    }
+
     private boolean satisfiesVersion(ConfigurationEntry entry) {
         return VERSION_FILTER.test(entry, version);
     }
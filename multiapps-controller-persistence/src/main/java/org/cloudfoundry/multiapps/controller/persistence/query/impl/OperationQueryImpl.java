@@ -37,6 +37,16 @@ public class OperationQueryImpl extends AbstractQueryImpl<Operation, OperationQu
         return this;
     }
 
+    @Override
+    public OperationQuery processIdGreaterThan(String processId) {
+        queryCriteria.addRestriction(ImmutableQueryAttributeRestriction.<String> builder()
+                                                                       .attribute(AttributeNames.PROCESS_ID)
+                                                                       .condition(getCriteriaBuilder()::greaterThan)
+                                                                       .value(processId)
+                                                                       .build());
+        return this;
+    }
+
     @Override
     public OperationQuery processType(ProcessType processType) {
         queryCriteria.addRestriction(ImmutableQueryAttributeRestriction.builder()
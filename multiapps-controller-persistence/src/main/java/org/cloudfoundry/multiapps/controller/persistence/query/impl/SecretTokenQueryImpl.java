@@ -7,6 +7,7 @@ import java.util.stream.Collectors;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.NoResultException;
 import jakarta.persistence.NonUniqueResultException;
+import jakarta.persistence.criteria.Expression;
 import org.cloudfoundry.multiapps.controller.persistence.dto.SecretTokenDto;
 import org.cloudfoundry.multiapps.controller.persistence.dto.SecretTokenDto.AttributeNames;
 import org.cloudfoundry.multiapps.controller.persistence.model.SecretToken;
@@ -35,6 +36,16 @@ public class SecretTokenQueryImpl extends AbstractQueryImpl<SecretToken, SecretT
         return this;
     }
 
+    @Override
+    public SecretTokenQuery withIdAnyOf(List<Long> ids) {
+        queryCriteria.addRestriction(ImmutableQueryAttributeRestriction.<List<Long>> builder()
+                                                                       .attribute(AttributeNames.ID)
+                                                                       .condition(Expression::in)
+                                                                       .value(ids)
+                                                                       .build());
+        return this;
+    }
+
     @Override
     public SecretTokenQuery processInstanceId(String processInstanceId) {
         queryCriteria.addRestriction(ImmutableQueryAttributeRestriction.builder()
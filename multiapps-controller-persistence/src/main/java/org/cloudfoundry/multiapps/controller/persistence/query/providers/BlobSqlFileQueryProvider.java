@@ -7,6 +7,7 @@ import java.sql.SQLException;
 
 import org.cloudfoundry.multiapps.controller.persistence.dialects.DataSourceDialect;
 import org.cloudfoundry.multiapps.controller.persistence.query.options.StreamFetchingOptions;
+import org.cloudfoundry.multiapps.controller.persistence.services.SeekableFileContent;
 
 public class BlobSqlFileQueryProvider extends SqlFileQueryProvider {
 
@@ -30,4 +31,9 @@ public class BlobSqlFileQueryProvider extends SqlFileQueryProvider {
         throws SQLException {
         return getDataSourceDialect().getBinaryStreamFromBlob(resultSet, columnName, streamFetchingOptions);
     }
+
+    @Override
+    protected SeekableFileContent getSeekableContent(ResultSet resultSet, String columnName) throws SQLException {
+        return getDataSourceDialect().getSeekableContentFromBlob(resultSet, columnName);
+    }
 }
@@ -7,6 +7,7 @@ import java.sql.SQLException;
 
 import org.cloudfoundry.multiapps.controller.persistence.dialects.DataSourceDialect;
 import org.cloudfoundry.multiapps.controller.persistence.query.options.StreamFetchingOptions;
+import org.cloudfoundry.multiapps.controller.persistence.services.SeekableFileContent;
 
 public class ByteArraySqlFileQueryProvider extends SqlFileQueryProvider {
 
@@ -36,4 +37,9 @@ public class ByteArraySqlFileQueryProvider extends SqlFileQueryProvider {
                                                            StreamFetchingOptions streamFetchingOptions) {
         throw new UnsupportedOperationException();
     }
+
+    @Override
+    protected SeekableFileContent getSeekableContent(ResultSet resultSet, String columnName) {
+        throw new UnsupportedOperationException();
+    }
 }
@@ -6,6 +6,7 @@ import java.sql.ResultSet;
 
 import org.cloudfoundry.multiapps.controller.persistence.dialects.DataSourceDialect;
 import org.cloudfoundry.multiapps.controller.persistence.query.options.StreamFetchingOptions;
+import org.cloudfoundry.multiapps.controller.persistence.services.SeekableFileContent;
 
 public class ExternalSqlFileQueryProvider extends SqlFileQueryProvider {
 
@@ -28,4 +29,9 @@ public class ExternalSqlFileQueryProvider extends SqlFileQueryProvider {
                                                            StreamFetchingOptions streamFetchingOptions) {
         throw new UnsupportedOperationException();
     }
+
+    @Override
+    protected SeekableFileContent getSeekableContent(ResultSet resultSet, String columnName) {
+        throw new UnsupportedOperationException();
+    }
 }
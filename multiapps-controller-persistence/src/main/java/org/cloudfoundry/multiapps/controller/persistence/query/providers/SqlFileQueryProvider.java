@@ -26,6 +26,8 @@ import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableFileEntr
 import org.cloudfoundry.multiapps.controller.persistence.query.SqlQuery;
 import org.cloudfoundry.multiapps.controller.persistence.query.options.StreamFetchingOptions;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileContentProcessor;
+import org.cloudfoundry.multiapps.controller.persistence.services.SeekableFileContent;
+import org.cloudfoundry.multiapps.controller.persistence.services.SeekableFileContentProcessor;
 import org.cloudfoundry.multiapps.controller.persistence.stream.DBInputStream;
 import org.cloudfoundry.multiapps.controller.persistence.util.JdbcUtil;
 import org.slf4j.Logger;
@@ -40,6 +42,7 @@ public abstract class SqlFileQueryProvider {
     private static final String INSERT_FILE_ATTRIBUTES = "INSERT INTO %s (FILE_ID, SPACE, FILE_NAME, NAMESPACE, FILE_SIZE, DIGEST, DIGEST_ALGORITHM, MODIFIED, OPERATION_ID) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
     private static final String SELECT_FILES_WITHOUT_OPERATION_CREATED_AFTER_TIME1_AND_BEFORE_TIME2 = "SELECT FILE_ID, SPACE, DIGEST, DIGEST_ALGORITHM, MODIFIED, FILE_NAME, NAMESPACE, FILE_SIZE, OPERATION_ID FROM %s WHERE MODIFIED > ? AND MODIFIED < ? AND OPERATION_ID ISNULL";
     private static final String SELECT_ALL_FILES = "SELECT FILE_ID, SPACE, DIGEST, DIGEST_ALGORITHM, MODIFIED, FILE_NAME, NAMESPACE, FILE_SIZE, OPERATION_ID FROM %s";
+    private static final String SELECT_FILE_IDS_MODIFIED_BEFORE = "SELECT FILE_ID FROM %s WHERE MODIFIED<? ORDER BY MODIFIED";
     private static final String SELECT_FILES_BY_NAMESPACE_AND_SPACE_ID = "SELECT FILE_ID, SPACE, DIGEST, DIGEST_ALGORITHM, MODIFIED, FILE_NAME, NAMESPACE, FILE_SIZE, OPERATION_ID FROM %s WHERE NAMESPACE=? AND SPACE=?";
     private static final String SELECT_FILES_BY_SPACE_ID_WITH_NO_NAMESPACE = "SELECT FILE_ID, SPACE, DIGEST, DIGEST_ALGORITHM, MODIFIED, FILE_NAME, NAMESPACE, FILE_SIZE, OPERATION_ID FROM %s WHERE SPACE=? AND NAMESPACE IS NULL";
     private static final String SELECT_FILES_BY_SPACE_ID_AND_OPERATION_ID = "SELECT FILE_ID, SPACE, DIGEST, DIGEST_ALGORITHM, MODIFIED, FILE_NAME, NAMESPACE, FILE_SIZE, OPERATION_ID FROM %s WHERE SPACE=? AND OPERATION_ID=?";
@@ -215,6 +218,27 @@ public abstract class SqlFileQueryProvider {
         };
     }
 
+    public SqlQuery<List<String>> getListFileIdsModifiedBeforeQuery(LocalDateTime modificationTime, int maxResults) {
+        return (Connection connection) -> {
+            PreparedStatement statement = null;
+            ResultSet resultSet = null;
+            try {
+                List<String> fileIds = new ArrayList<>();
+                statement = connection.prepareStatement(getQuery(SELECT_FILE_IDS_MODIFIED_BEFORE));
+                statement.setTimestamp(1, Timestamp.valueOf(modificationTime));
+                statement.setMaxRows(maxResults);
+                resultSet = statement.executeQuery();
+                while (resultSet.next()) {
+                    fileIds.add(resultSet.getString(Constants.FILE_ENTRY_ID));
+                }
+                return fileIds;
+            } finally {
+                JdbcUtil.closeQuietly(resultSet);
+                JdbcUtil.closeQuietly(statement);
+            }
+        };
+    }
+
     public SqlQuery<FileEntry> getRetrieveFileQuery(String space, String id) {
         return (Connection connection) -> {
             PreparedStatement statement = null;
@@ -302,6 +326,30 @@ public abstract class SqlFileQueryProvider {
         };
     }
 
+    public <T> SqlQuery<T> getProcessSeekableFileContentQuery(String space, String id,
+                                                              SeekableFileContentProcessor<T> seekableFileContentProcessor) {
+        return (Connection connection) -> {
+            PreparedStatement statement = null;
+            ResultSet resultSet = null;
+            try {
+                statement = connection.prepareStatement(getSelectWithContentQuery());
+                statement.setString(1, id);
+                statement.setString(2, space);
+                resultSet = statement.executeQuery();
+                if (resultSet.next()) {
+                    return seekableFileContentProcessor.process(getSeekableContent(resultSet, getContentColumnName()));
+                } else {
+                    throw new SQLException(MessageFormat.format(Messages.FILE_NOT_FOUND, id));
+                }
+            } catch (IOException e) {
+                throw new SQLException(e.getMessage(), e);
+            } finally {
+                JdbcUtil.closeQuietly(resultSet);
+                JdbcUtil.closeQuietly(statement);
+            }
+        };
+    }
+
     public SqlQuery<Integer> getDeleteBySpaceAndNamespaceQuery(String space, String namespace) {
         return (Connection connection) -> {
             PreparedStatement statement = null;
@@ -469,6 +517,8 @@ public abstract class SqlFileQueryProvider {
                                                                     StreamFetchingOptions streamFetchingOptions)
         throws SQLException;
 
+    protected abstract SeekableFileContent getSeekableContent(ResultSet resultSet, String columnName) throws SQLException;
+
     private PreparedStatement getFilesStatementBasedOnNamespace(Connection connection, String space, String namespace) throws SQLException {
         PreparedStatement statement;
 
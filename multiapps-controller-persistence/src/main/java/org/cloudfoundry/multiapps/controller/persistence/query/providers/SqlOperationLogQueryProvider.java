@@ -21,7 +21,8 @@ public class SqlOperationLogQueryProvider {
     private static final String OPERATION_LOG_COLUMN_LABEL = "operation_log";
     private static final String OPERATION_LOG_NAME_COLUMN_LABEL = "operation_log_name";
     private static final String OPERATION_LOG_MODIFIED_COLUMN_LABEL = "modified";
-    private static final String SELECT_LOGS_BY_SPACE_ID_OPERATION_ID_AND_OPERATION_LOG_NAME = "SELECT ID, OPERATION_LOG, OPERATION_LOG_NAME, MODIFIED FROM %s WHERE SPACE=? AND OPERATION_ID=? AND OPERATION_LOG_NAME=? ORDER BY MODIFIED ASC";
+    private static final String SELECT_FIRST_LOG_CONTENT_PAGE_BY_SPACE_ID_OPERATION_ID_AND_OPERATION_LOG_NAME = "SELECT ID, OPERATION_LOG, MODIFIED FROM %s WHERE SPACE=? AND OPERATION_ID=? AND OPERATION_LOG_NAME=? ORDER BY MODIFIED ASC, ID ASC";
+    private static final String SELECT_NEXT_LOG_CONTENT_PAGE_BY_SPACE_ID_OPERATION_ID_AND_OPERATION_LOG_NAME = "SELECT ID, OPERATION_LOG, MODIFIED FROM %s WHERE SPACE=? AND OPERATION_ID=? AND OPERATION_LOG_NAME=? AND (MODIFIED > ? OR (MODIFIED = ? AND ID > ?)) ORDER BY MODIFIED ASC, ID ASC";
     private static final String SELECT_LOGS_BY_SPACE_ID_AND_NAME = "SELECT DISTINCT ID, OPERATION_LOG, OPERATION_LOG_NAME, MODIFIED FROM %s WHERE SPACE=? AND OPERATION_ID=? ORDER BY MODIFIED ASC";
 
     private final String tableName;
@@ -77,19 +78,27 @@ public class SqlOperationLogQueryProvider {
         };
     }
 
-    public SqlQuery<List<OperationLogEntry>> getListFilesQueryBySpaceOperationIdAndLogId(String space, String operationId, String logId) {
+    public SqlQuery<List<OperationLogEntry>> getLogContentPageQuery(String space, String operationId, String logId,
+                                                                    OperationLogEntry lastEntry, int pageSize) {
         return (Connection connection) -> {
             PreparedStatement statement = null;
             ResultSet resultSet = null;
             try {
                 List<OperationLogEntry> logs = new ArrayList<>();
-                statement = connection.prepareStatement(getListFilesBySpaceOperationIdAndLogIdQueryString());
+                statement = connection.prepareStatement(getLogContentPageQueryString(lastEntry));
                 statement.setString(1, space);
                 statement.setString(2, operationId);
                 statement.setString(3, logId);
+                if (lastEntry != null) {
+                    Timestamp lastModified = Timestamp.valueOf(lastEntry.getModified());
+                    statement.setTimestamp(4, lastModified);
+                    statement.setTimestamp(5, lastModified);
+                    statement.setString(6, lastEntry.getId());
+                }
+                statement.setMaxRows(pageSize);
                 resultSet = statement.executeQuery();
                 while (resultSet.next()) {
-                    logs.add(getOperationLogEntry(resultSet));
+                    logs.add(getOperationLogContent(resultSet));
                 }
                 return logs;
             } finally {
@@ -107,8 +116,11 @@ public class SqlOperationLogQueryProvider {
         return String.format(SELECT_LOGS_BY_SPACE_ID_AND_NAME, tableName);
     }
 
-    private String getListFilesBySpaceOperationIdAndLogIdQueryString() {
-        return String.format(SELECT_LOGS_BY_SPACE_ID_OPERATION_ID_AND_OPERATION_LOG_NAME, tableName);
+    private String getLogContentPageQueryString(OperationLogEntry lastEntry) {
+        if (lastEntry == null) {
+            return String.format(SELECT_FIRST_LOG_CONTENT_PAGE_BY_SPACE_ID_OPERATION_ID_AND_OPERATION_LOG_NAME, tableName);
+        }
+        return String.format(SELECT_NEXT_LOG_CONTENT_PAGE_BY_SPACE_ID_OPERATION_ID_AND_OPERATION_LOG_NAME, tableName);
     }
 
     private OperationLogEntry getOperationLogEntry(ResultSet resultSet) throws SQLException {
@@ -120,4 +132,13 @@ public class SqlOperationLogQueryProvider {
                                                             .toLocalDateTime())
                                          .build();
     }
+
+    private OperationLogEntry getOperationLogContent(ResultSet resultSet) throws SQLException {
+        return ImmutableOperationLogEntry.builder()
+                                         .id(resultSet.getString(ID_COLUMN_LABEL))
+                                         .operationLog(resultSet.getString(OPERATION_LOG_COLUMN_LABEL))
+                                         .modified(resultSet.getTimestamp(OPERATION_LOG_MODIFIED_COLUMN_LABEL)
+                                                            .toLocalDateTime())
+                                         .build();
+    }
 }
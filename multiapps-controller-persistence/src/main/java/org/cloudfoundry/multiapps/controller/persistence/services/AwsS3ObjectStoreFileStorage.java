@@ -26,6 +26,7 @@ import org.cloudfoundry.multiapps.controller.persistence.monitoring.UploadTimeou
 import org.cloudfoundry.multiapps.controller.persistence.util.ObjectStoreConstants;
 import org.cloudfoundry.multiapps.controller.persistence.util.ObjectStoreFilter;
 import org.cloudfoundry.multiapps.controller.persistence.util.ObjectStoreMapper;
+import org.cloudfoundry.multiapps.controller.persistence.util.ParallelChunkUploader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.MediaType;
@@ -39,6 +40,11 @@ import software.amazon.awssdk.retries.StandardRetryStrategy;
 import software.amazon.awssdk.retries.api.BackoffStrategy;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
 import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
@@ -53,6 +59,8 @@ import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.S3Error;
 import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
 
 public class AwsS3ObjectStoreFileStorage extends ObjectStoreFileStorage {
 
@@ -63,11 +71,14 @@ public class AwsS3ObjectStoreFileStorage extends ObjectStoreFileStorage {
     private final S3Client s3Client;
     private final String bucketName;
     private final UploadDurationTracker uploadDurationTracker;
+    private final ParallelChunkUploader partUploader;
 
     public AwsS3ObjectStoreFileStorage(Map<String, Object> credentials, UploadDurationTracker uploadDurationTracker) {
         this.bucketName = (String) credentials.get(CredentialKeys.BUCKET);
         this.s3Client = createS3Client(credentials);
         this.uploadDurationTracker = uploadDurationTracker;
+        this.partUploader = new ParallelChunkUploader(getVirtualThreadExecutor(),
+                                                      ObjectStoreConstants.AWS_OBJECT_STORE_MAX_PART_BYTES_IN_MEMORY);
     }
 
     protected S3Client createS3Client(Map<String, Object> credentials) {
@@ -121,8 +132,13 @@ public class AwsS3ObjectStoreFileStorage extends ObjectStoreFileStorage {
                                                    .metadata(ObjectStoreMapper.createFileEntryMetadata(fileEntry))
                                                    .build();
         try {
-            s3Client.putObject(request, RequestBody.fromInputStream(new BufferedInputStream(content), fileSize));
-            LOGGER.debug(MessageFormat.format(Messages.STORED_FILE_0_WITH_SIZE_1, fileEntry.getId(), fileSize));
+            if (fileSize > ObjectStoreConstants.AWS_OBJECT_STORE_MIN_PART_SIZE_IN_BYTES) {
+                int partsCount = addFileInParts(fileEntry, content, fileSize);
+                LOGGER.debug(MessageFormat.format(Messages.STORED_FILE_0_WITH_SIZE_1_IN_2_PARTS, fileEntry.getId(), fileSize, partsCount));
+            } else {
+                s3Client.putObject(request, RequestBody.fromInputStream(new BufferedInputStream(content), fileSize));
+                LOGGER.debug(MessageFormat.format(Messages.STORED_FILE_0_WITH_SIZE_1, fileEntry.getId(), fileSize));
+            }
             uploadDurationTracker.recordObjectStoreUpload(getElapsedTimeInMillis(startTime), false);
             LOGGER.info(MessageFormat.format(Messages.TIME_ELAPSED_FOR_AWS_OS_UPLOAD_0_IN_MILLIS, getElapsedTimeInMillis(startTime)));
         } catch (Exception e) {
@@ -134,6 +150,73 @@ public class AwsS3ObjectStoreFileStorage extends ObjectStoreFileStorage {
         }
     }
 
+    /**
+     * Uploads the file in parts, which are uploaded in parallel, so a large file is not uploaded over a single connection. A failed upload
+     * of a part is retried by the client without uploading the other parts again. The parts of all concurrent uploads share one memory
+     * limit.
+     */
+    private int addFileInParts(FileEntry fileEntry, InputStream content, long fileSize) throws Exception {
+        CreateMultipartUploadRequest request = CreateMultipartUploadRequest.builder()
+                                                                           .bucket(bucketName)
+                                                                           .key(fileEntry.getId())
+                                                                           .contentType(MediaType.APPLICATION_OCTET_STREAM_VALUE)
+                                                                           .contentDisposition(fileEntry.getName())
+                                                                           .metadata(ObjectStoreMapper.createFileEntryMetadata(fileEntry))
+                                                                           .build();
+        String uploadId = s3Client.createMultipartUpload(request)
+                                  .uploadId();
+        try {
+            List<CompletedPart> parts = partUploader.upload(content, getPartSize(fileSize),
+                                                            (partNumber, part) -> uploadPart(fileEntry, uploadId, partNumber, part));
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                                                                           .bucket(bucketName)
+                                                                           .key(fileEntry.getId())
+                                                                           .uploadId(uploadId)
+                                                                           .multipartUpload(CompletedMultipartUpload.builder()
+                                                                                                                    .parts(parts)
+                                                                                                                    .build())
+                                                                           .build());
+            return parts.size();
+        } catch (Exception e) {
+            abortMultipartUpload(fileEntry, uploadId);
+            throw e;
+        }
+    }
+
+    private static int getPartSize(long fileSize) {
+        long partSizeForMaxPartsCount = (fileSize + ObjectStoreConstants.AWS_OBJECT_STORE_MAX_PARTS_COUNT - 1)
+            / ObjectStoreConstants.AWS_OBJECT_STORE_MAX_PARTS_COUNT;
+        return (int) Math.max(ObjectStoreConstants.AWS_OBJECT_STORE_MIN_PART_SIZE_IN_BYTES, partSizeForMaxPartsCount);
+    }
+
+    private CompletedPart uploadPart(FileEntry fileEntry, String uploadId, int partNumber, byte[] part) {
+        UploadPartRequest request = UploadPartRequest.builder()
+                                                     .bucket(bucketName)
+                                                     .key(fileEntry.getId())
+                                                     .uploadId(uploadId)
+                                                     .partNumber(partNumber)
+                                                     .contentLength((long) part.length)
+                                                     .build();
+        UploadPartResponse response = s3Client.uploadPart(request, RequestBody.fromBytes(part));
+        return CompletedPart.builder()
+                            .partNumber(partNumber)
+                            .eTag(response.eTag())
+                            .build();
+    }
+
+    private void abortMultipartUpload(FileEntry fileEntry, String uploadId) {
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                                                                     .bucket(bucketName)
+                                                                     .key(fileEntry.getId())
+                                                                     .uploadId(uploadId)
+                                                                     .build());
+            LOGGER.debug(MessageFormat.format(Messages.ABORTED_MULTIPART_UPLOAD_OF_FILE_0, fileEntry.getId()));
+        } catch (Exception e) {
+            LOGGER.warn(MessageFormat.format(Messages.COULD_NOT_ABORT_MULTIPART_UPLOAD_OF_FILE_0, fileEntry.getId()), e);
+        }
+    }
+
     @Override
     public List<FileEntry> getFileEntriesWithoutContent(List<FileEntry> fileEntries) {
         Set<String> existingKeys = new HashSet<>(listAllObjectKeys());
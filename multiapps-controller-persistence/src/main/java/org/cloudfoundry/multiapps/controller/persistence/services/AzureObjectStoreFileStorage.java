@@ -22,6 +22,9 @@ import com.azure.storage.blob.BlobClient;
 import com.azure.storage.blob.BlobContainerClient;
 import com.azure.storage.blob.BlobServiceClient;
 import com.azure.storage.blob.BlobServiceClientBuilder;
+import com.azure.storage.blob.batch.BlobBatchClient;
+import com.azure.storage.blob.batch.BlobBatchClientBuilder;
+import com.azure.storage.blob.batch.BlobBatchStorageException;
 import com.azure.storage.blob.models.BlobItem;
 import com.azure.storage.blob.models.BlobListDetails;
 import com.azure.storage.blob.models.BlobRange;
@@ -29,6 +32,7 @@ import com.azure.storage.blob.models.BlobStorageException;
 import com.azure.storage.blob.models.ListBlobsOptions;
 import com.azure.storage.blob.models.ParallelTransferOptions;
 import com.azure.storage.blob.options.BlobParallelUploadOptions;
+import com.google.common.collect.Lists;
 import org.cloudfoundry.multiapps.controller.persistence.Messages;
 import org.cloudfoundry.multiapps.controller.persistence.model.FileEntry;
 import org.cloudfoundry.multiapps.controller.persistence.monitoring.UploadDurationTracker;
@@ -38,6 +42,7 @@ import org.cloudfoundry.multiapps.controller.persistence.util.ObjectStoreFilter;
 import org.cloudfoundry.multiapps.controller.persistence.util.ObjectStoreMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
 
 public class AzureObjectStoreFileStorage extends ObjectStoreFileStorage {
 
@@ -48,13 +53,16 @@ public class AzureObjectStoreFileStorage extends ObjectStoreFileStorage {
     private static final long MAX_SINGLE_UPLOAD_SIZE = 15L * 1024 * 1024; // 15MB
     private static final long BLOCK_SIZE = 8L * 1024 * 1024;              // 8MB
     private static final int MAX_CONCURRENCY = 5;
+    private static final int MAX_BLOBS_IN_BATCH = 256;
     private final HttpClient httpClient;
     private final BlobContainerClient containerClient;
+    private final BlobBatchClient blobBatchClient;
     private final UploadDurationTracker uploadDurationTracker;
 
     public AzureObjectStoreFileStorage(Map<String, Object> credentials, UploadDurationTracker uploadDurationTracker) {
         this.httpClient = new JdkHttpClientBuilder().build();
         this.containerClient = createContainerClient(credentials);
+        this.blobBatchClient = createBlobBatchClient(containerClient);
         this.uploadDurationTracker = uploadDurationTracker;
     }
 
@@ -161,7 +169,30 @@ public class AzureObjectStoreFileStorage extends ObjectStoreFileStorage {
 
     @Override
     public void deleteFilesByIds(List<String> fileIds) throws FileStorageException {
-        removeBlobsByFilter(blob -> fileIds.contains(blob.getName()));
+        for (List<String> batchFileIds : Lists.partition(fileIds, MAX_BLOBS_IN_BATCH)) {
+            deleteBlobBatch(batchFileIds);
+        }
+    }
+
+    private void deleteBlobBatch(List<String> fileIds) throws FileStorageException {
+        List<String> blobUrls = fileIds.stream()
+                                       .map(fileId -> containerClient.getBlobClient(fileId)
+                                                                     .getBlobUrl())
+                                       .toList();
+        try {
+            blobBatchClient.deleteBlobs(blobUrls, null)
+                           .forEach(response -> {
+                               // Consuming the responses makes the failed deletions surface as an exception
+                           });
+        } catch (BlobBatchStorageException e) {
+            for (BlobStorageException deletionException : e.getBatchExceptions()) {
+                if (deletionException.getStatusCode() != HttpStatus.NOT_FOUND.value()) {
+                    throw new FileStorageException(e);
+                }
+            }
+        } catch (BlobStorageException e) {
+            throw new FileStorageException(e);
+        }
     }
 
     @Override
@@ -169,7 +200,7 @@ public class AzureObjectStoreFileStorage extends ObjectStoreFileStorage {
         throws FileStorageException {
         FileEntry fileEntry = ObjectStoreMapper.createFileEntry(fileContentToProcess.getSpaceGuid(), fileContentToProcess.getGuid());
         BlobClient blobClient = containerClient.getBlobClient(fileEntry.getId());
-        long contentSize = fileContentToProcess.getEndOffset() - fileContentToProcess.getStartOffset();
+        long contentSize = fileContentToProcess.getEndOffset() - fileContentToProcess.getStartOffset() + 1;
         BlobRange blobRange = new BlobRange(fileContentToProcess.getStartOffset(), contentSize);
 
         try {
@@ -189,6 +220,10 @@ public class AzureObjectStoreFileStorage extends ObjectStoreFileStorage {
         return serviceClient.getBlobContainerClient((String) credentials.get(CONTAINER_NAME));
     }
 
+    protected BlobBatchClient createBlobBatchClient(BlobContainerClient containerClient) {
+        return new BlobBatchClientBuilder(containerClient).buildClient();
+    }
+
     public String getContainerUriEndpoint(Map<String, Object> credentials) {
         if (!credentials.containsKey(CONTAINER_URI)) {
             throw new IllegalStateException(Messages.MISSING_CONTAINER_URI_IN_THE_CREDENTIALS);
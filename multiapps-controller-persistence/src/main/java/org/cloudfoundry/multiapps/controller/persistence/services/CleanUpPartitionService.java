@@ -0,0 +1,128 @@
+package org.cloudfoundry.multiapps.controller.persistence.services;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import jakarta.persistence.EntityManagerFactory;
+
+import org.cloudfoundry.multiapps.common.ConflictException;
+import org.cloudfoundry.multiapps.common.NotFoundException;
+import org.cloudfoundry.multiapps.controller.persistence.Messages;
+import org.cloudfoundry.multiapps.controller.persistence.dto.CleanUpPartitionDto;
+import org.cloudfoundry.multiapps.controller.persistence.model.CleanUpPartition;
+import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableCleanUpPartition;
+import org.cloudfoundry.multiapps.controller.persistence.query.CleanUpPartitionQuery;
+import org.cloudfoundry.multiapps.controller.persistence.query.impl.CleanUpPartitionQueryImpl;
+
+@Named
+public class CleanUpPartitionService extends PersistenceService<CleanUpPartition, CleanUpPartitionDto, String> {
+
+    private final CleanUpPartitionMapper cleanUpPartitionMapper;
+
+    @Inject
+    public CleanUpPartitionService(EntityManagerFactory entityManagerFactory, CleanUpPartitionMapper cleanUpPartitionMapper) {
+        super(entityManagerFactory);
+        this.cleanUpPartitionMapper = cleanUpPartitionMapper;
+    }
+
+    public CleanUpPartitionQuery createQuery() {
+        return new CleanUpPartitionQueryImpl(createEntityManager(), cleanUpPartitionMapper);
+    }
+
+    /**
+     * Leases the partition with the given name to the given owner, unless it is currently leased by someone else or it was already
+     * finished after the given time. The check and the lease are done with a single conditional update, so at most one of the
+     * competing owners gets the lease.
+     *
+     * @return whether the partition was leased to the given owner
+     */
+    public boolean tryAcquireLease(String name, String leaseOwner, Duration leaseDuration, LocalDateTime notFinishedSince) {
+        addIfMissing(name);
+        LocalDateTime now = LocalDateTime.now();
+        return createQuery().name(name)
+                            .leaseExpiredBefore(now)
+                            .notFinishedSince(notFinishedSince)
+                            .acquireLease(leaseOwner, now, now.plus(leaseDuration)) == 1;
+    }
+
+    /**
+     * Releases the lease of the given owner on the partition with the given name and marks the partition as finished.
+     */
+    public void releaseLease(String name, String leaseOwner, long cleanedItems, long durationInMillis) {
+        createQuery().name(name)
+                     .leaseOwner(leaseOwner)
+                     .releaseLease(LocalDateTime.now(), cleanedItems, durationInMillis);
+    }
+
+    /**
+     * Releases the lease of the given owner on the partition with the given name without marking the partition as finished, so that it
+     * is cleaned again by the next instance that gets to it.
+     */
+    public void abandonLease(String name, String leaseOwner) {
+        createQuery().name(name)
+                     .leaseOwner(leaseOwner)
+                     .abandonLease();
+    }
+
+    private void addIfMissing(String name) {
+        if (!createQuery().name(name)
+                          .list()
+                          .isEmpty()) {
+            return;
+        }
+        try {
+            add(ImmutableCleanUpPartition.builder()
+                                         .name(name)
+                                         .build());
+        } catch (ConflictException e) {
+            // The partition was added concurrently by another application instance.
+        }
+    }
+
+    @Override
+    protected PersistenceObjectMapper<CleanUpPartition, CleanUpPartitionDto> getPersistenceObjectMapper() {
+        return cleanUpPartitionMapper;
+    }
+
+    @Override
+    protected void onEntityConflict(CleanUpPartitionDto dto, Throwable t) {
+        throw new ConflictException(t, Messages.CLEAN_UP_PARTITION_ALREADY_EXISTS, dto.getPrimaryKey());
+    }
+
+    @Override
+    protected void onEntityNotFound(String primaryKey) {
+        throw new NotFoundException(Messages.CLEAN_UP_PARTITION_NOT_FOUND, primaryKey);
+    }
+
+    @Named
+    public static class CleanUpPartitionMapper implements PersistenceObjectMapper<CleanUpPartition, CleanUpPartitionDto> {
+
+        @Override
+        public CleanUpPartition fromDto(CleanUpPartitionDto dto) {
+            return ImmutableCleanUpPartition.builder()
+                                            .name(dto.getPrimaryKey())
+                                            .leaseOwner(dto.getLeaseOwner())
+                                            .leaseExpiresAt(dto.getLeaseExpiresAt())
+                                            .lastStartedAt(dto.getLastStartedAt())
+                                            .lastFinishedAt(dto.getLastFinishedAt())
+                                            .lastCleanedItems(dto.getLastCleanedItems())
+                                            .lastDurationInMillis(dto.getLastDurationInMillis())
+                                            .build();
+        }
+
+        @Override
+        public CleanUpPartitionDto toDto(CleanUpPartition partition) {
+            return new CleanUpPartitionDto(partition.getName(),
+                                           partition.getLeaseOwner(),
+                                           partition.getLeaseExpiresAt(),
+                                           partition.getLastStartedAt(),
+                                           partition.getLastFinishedAt(),
+                                           partition.getLastCleanedItems(),
+                                           partition.getLastDurationInMillis());
+        }
+
+    }
+
+}
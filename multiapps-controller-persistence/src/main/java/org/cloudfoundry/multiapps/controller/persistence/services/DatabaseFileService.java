@@ -64,6 +64,17 @@ public class DatabaseFileService extends FileService {
         }
     }
 
+    @Override
+    public <T> T processSeekableFileContent(String space, String id, SeekableFileContentProcessor<T> seekableFileContentProcessor)
+        throws FileStorageException {
+        try {
+            return getSqlQueryExecutor().execute(getSqlFileQueryProvider().getProcessSeekableFileContentQuery(space, id,
+                                                                                                              seekableFileContentProcessor));
+        } catch (SQLException e) {
+            throw new FileStorageException(e.getMessage(), e);
+        }
+    }
+
     @Override
     public InputStream openInputStream(String space, String id) throws FileStorageException {
         try {
@@ -88,6 +99,11 @@ public class DatabaseFileService extends FileService {
         return deleteFileAttributesModifiedBefore(modificationTime);
     }
 
+    @Override
+    public int deleteOrphanedContentModifiedBefore(LocalDateTime modificationTime) {
+        return 0;
+    }
+
     @Override
     public boolean deleteFile(String space, String id) throws FileStorageException {
         return deleteFileAttribute(space, id);
@@ -0,0 +1,377 @@
+package org.cloudfoundry.multiapps.controller.persistence.services;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.xml.bind.DatatypeConverter;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.input.BoundedInputStream;
+import org.cloudfoundry.multiapps.controller.persistence.Messages;
+import org.cloudfoundry.multiapps.controller.persistence.model.FileEntry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the content of files on the local disk, so that a file, which is read again, e.g. by a retried step or a redeployment of the
+ * same MTA, is not downloaded from the file storage again. A file is cached by downloading its whole content in the background, so that
+ * it can be cached even if it is read only in ranges, e.g. the entries of an archive. The content is cached only after its digest is
+ * verified. A cached file is looked up by its ID, since the content stored under an ID does not change. The space of the files, which
+ * are being downloaded, is reserved in the cache, and the least recently used files are evicted when the size of the cache exceeds its
+ * maximum size.
+ */
+public class FileContentCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileContentCache.class);
+    private static final String METRICS_PREFIX = "multiapps.file.content.cache.";
+    private static final int MAX_SIZE_PERCENTAGE_OF_USABLE_DISK_SPACE = 25;
+    private static final long MIN_CACHED_FILE_SIZE = 1024 * 1024;
+    private static final int INPUT_STREAM_BUFFER_SIZE = 16 * 1024;
+    private static final Pattern CACHEABLE_FILE_ID = Pattern.compile("[A-Za-z0-9-]+");
+    private static final int MAX_ACCESSED_FILE_IDS = 10_000;
+
+    private final Path directory;
+    private final long maxSizeInBytes;
+    private final Executor fillExecutor;
+    private final Map<String, CachedFile> cachedFiles = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, Boolean> accessedFileIds = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > MAX_ACCESSED_FILE_IDS;
+        }
+    };
+    private final Map<String, CompletableFuture<Void>> fills = new HashMap<>();
+    private long sizeInBytes;
+    private long reservedSizeInBytes;
+    private final Counter hitsCounter = Counter.builder(METRICS_PREFIX + "hits")
+                                               .register(Metrics.globalRegistry);
+    private final Counter missesCounter = Counter.builder(METRICS_PREFIX + "misses")
+                                                 .register(Metrics.globalRegistry);
+    private final Counter evictionsCounter = Counter.builder(METRICS_PREFIX + "evictions")
+                                                    .register(Metrics.globalRegistry);
+
+    public FileContentCache(Path directory, long maxSizeInBytes) {
+        this(directory, maxSizeInBytes, Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    FileContentCache(Path directory, long maxSizeInBytes, Executor fillExecutor) {
+        this.directory = directory;
+        this.maxSizeInBytes = maxSizeInBytes;
+        this.fillExecutor = fillExecutor;
+        Gauge.builder(METRICS_PREFIX + "size", this, FileContentCache::getSizeInBytes)
+             .baseUnit("bytes")
+             .register(Metrics.globalRegistry);
+    }
+
+    /**
+     * Creates a cache in the given directory, which may use a quarter of the disk space, which is available to the directory. Files,
+     * which were cached before a restart, are deleted, since their digests were not verified by this instance.
+     */
+    public static FileContentCache inDirectory(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        FileUtils.cleanDirectory(directory.toFile());
+        long usableDiskSpace = Files.getFileStore(directory)
+                                    .getUsableSpace();
+        return new FileContentCache(directory, usableDiskSpace * MAX_SIZE_PERCENTAGE_OF_USABLE_DISK_SPACE / 100);
+    }
+
+    public boolean isCacheable(FileEntry fileEntry) {
+        if (fileEntry.getSize() == null || fileEntry.getDigest() == null || fileEntry.getDigestAlgorithm() == null) {
+            return false;
+        }
+        long size = fileEntry.getSize()
+                             .longValue();
+        return size >= MIN_CACHED_FILE_SIZE && size <= maxSizeInBytes && CACHEABLE_FILE_ID.matcher(fileEntry.getId())
+                                                                                          .matches();
+    }
+
+    /**
+     * Opens the cached content of a file or returns null, if the file is not cached.
+     */
+    public InputStream open(String space, String id) throws IOException {
+        return open(space, id, 0, Long.MAX_VALUE - 1);
+    }
+
+    /**
+     * Opens the cached content of a file between the given offsets, both of which are inclusive, or returns null, if the file is not
+     * cached.
+     */
+    public synchronized InputStream open(String space, String id, long startOffset, long endOffset) throws IOException {
+        InputStream content = openCachedFile(space, id, startOffset, endOffset);
+        if (content == null) {
+            missesCounter.increment();
+        } else {
+            hitsCounter.increment();
+        }
+        return content;
+    }
+
+    private synchronized InputStream openCachedFile(String space, String id, long startOffset, long endOffset) throws IOException {
+        CachedFile cachedFile = cachedFiles.get(id);
+        if (cachedFile == null || !cachedFile.fileEntry()
+                                             .getSpace()
+                                             .equals(space)) {
+            return null;
+        }
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(cachedFile.path());
+        } catch (NoSuchFileException _) {
+            remove(id);
+            return null;
+        }
+        try {
+            channel.position(startOffset);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        return BoundedInputStream.builder()
+                                 .setInputStream(new BufferedInputStream(Channels.newInputStream(channel), INPUT_STREAM_BUFFER_SIZE))
+                                 .setMaxCount(endOffset - startOffset + 1)
+                                 .get();
+    }
+
+    /**
+     * Records an access to a file and returns whether the file was accessed before.
+     */
+    public synchronized boolean recordAccess(String id) {
+        return accessedFileIds.put(id, Boolean.TRUE) != null;
+    }
+
+    /**
+     * Waits for the content of a file to be downloaded to the cache, if it is being downloaded. Returns whether it was.
+     */
+    public boolean awaitFill(String id) {
+        CompletableFuture<Void> fill;
+        synchronized (this) {
+            fill = fills.get(id);
+        }
+        if (fill == null) {
+            return false;
+        }
+        fill.join();
+        return true;
+    }
+
+    /**
+     * Starts downloading the whole content of a file to the cache in the background. Returns the download, which completes normally
+     * whether the content was cached or not, or null, if the file is not cacheable or there is no space for it in the cache, because
+     * other files are being downloaded. If the file is already being downloaded, that download is returned.
+     */
+    public CompletableFuture<Void> fill(FileEntry fileEntry, ContentDownloader contentDownloader) {
+        if (!isCacheable(fileEntry)) {
+            return null;
+        }
+        CompletableFuture<Void> fill;
+        synchronized (this) {
+            CompletableFuture<Void> existingFill = fills.get(fileEntry.getId());
+            if (existingFill != null) {
+                return existingFill;
+            }
+            if (cachedFiles.containsKey(fileEntry.getId())) {
+                return CompletableFuture.completedFuture(null);
+            }
+            if (!reserve(getSize(fileEntry))) {
+                return null;
+            }
+            fill = new CompletableFuture<>();
+            fills.put(fileEntry.getId(), fill);
+        }
+        try {
+            fillExecutor.execute(() -> download(fileEntry, contentDownloader, fill));
+        } catch (RejectedExecutionException e) {
+            LOGGER.warn(MessageFormat.format(Messages.COULD_NOT_CACHE_CONTENT_OF_FILE_0, fileEntry.getId()), e);
+            completeFill(fileEntry, null, fill);
+        }
+        return fill;
+    }
+
+    private void download(FileEntry fileEntry, ContentDownloader contentDownloader, CompletableFuture<Void> fill) {
+        Path file = null;
+        try {
+            file = downloadContent(fileEntry, contentDownloader);
+        } catch (IOException | FileStorageException | NoSuchAlgorithmException | RuntimeException e) {
+            // The readers of the file are not affected if it cannot be cached, e.g. because the disk is full:
+            LOGGER.warn(MessageFormat.format(Messages.COULD_NOT_CACHE_CONTENT_OF_FILE_0, fileEntry.getId()), e);
+        } finally {
+            completeFill(fileEntry, file, fill);
+        }
+    }
+
+    private Path downloadContent(FileEntry fileEntry, ContentDownloader contentDownloader)
+        throws IOException, FileStorageException, NoSuchAlgorithmException {
+        MessageDigest messageDigest = MessageDigest.getInstance(fileEntry.getDigestAlgorithm());
+        Path file = Files.createTempFile(directory, fileEntry.getId(), null);
+        boolean isVerified = false;
+        try {
+            try (OutputStream outputStream = new DigestOutputStream(Files.newOutputStream(file), messageDigest)) {
+                contentDownloader.download(outputStream);
+            }
+            isVerified = DatatypeConverter.printHexBinary(messageDigest.digest())
+                                          .equalsIgnoreCase(fileEntry.getDigest());
+            if (!isVerified) {
+                LOGGER.warn(MessageFormat.format(Messages.DIGEST_OF_FILE_0_DOES_NOT_MATCH_IT_WILL_NOT_BE_CACHED, fileEntry.getId()));
+                return null;
+            }
+            return file;
+        } finally {
+            if (!isVerified) {
+                deleteQuietly(file);
+            }
+        }
+    }
+
+    private void completeFill(FileEntry fileEntry, Path file, CompletableFuture<Void> fill) {
+        try {
+            synchronized (this) {
+                fills.remove(fileEntry.getId());
+                reservedSizeInBytes -= getSize(fileEntry);
+                if (file != null) {
+                    put(fileEntry, file);
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.warn(MessageFormat.format(Messages.COULD_NOT_CACHE_CONTENT_OF_FILE_0, fileEntry.getId()), e);
+            deleteQuietly(file);
+        } finally {
+            fill.complete(null);
+        }
+    }
+
+    private boolean reserve(long size) {
+        evictLeastRecentlyUsed(size);
+        if (sizeInBytes + reservedSizeInBytes + size > maxSizeInBytes) {
+            return false;
+        }
+        reservedSizeInBytes += size;
+        return true;
+    }
+
+    private static long getSize(FileEntry fileEntry) {
+        return fileEntry.getSize()
+                        .longValue();
+    }
+
+    private synchronized void put(FileEntry fileEntry, Path file) throws IOException {
+        Path cachedFilePath = directory.resolve(fileEntry.getId());
+        Files.move(file, cachedFilePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        long size = Files.size(cachedFilePath);
+        CachedFile previous = cachedFiles.put(fileEntry.getId(), new CachedFile(fileEntry, cachedFilePath, size));
+        if (previous != null) {
+            sizeInBytes -= previous.size();
+        }
+        sizeInBytes += size;
+        LOGGER.debug(MessageFormat.format(Messages.CACHED_CONTENT_OF_FILE_0_WITH_SIZE_1, fileEntry.getId(), size));
+        evictLeastRecentlyUsed(0);
+    }
+
+    private void evictLeastRecentlyUsed(long requiredSizeInBytes) {
+        Iterator<Map.Entry<String, CachedFile>> iterator = cachedFiles.entrySet()
+                                                                      .iterator();
+        // The most recently cached file is the last one, so it is evicted only if it does not fit in the cache on its own:
+        while (sizeInBytes + reservedSizeInBytes + requiredSizeInBytes > maxSizeInBytes && iterator.hasNext()) {
+            CachedFile cachedFile = iterator.next()
+                                            .getValue();
+            iterator.remove();
+            delete(cachedFile);
+            evictionsCounter.increment();
+        }
+    }
+
+    /**
+     * Removes the cached files, whose entries match the given predicate, e.g. because the files were deleted from the file storage.
+     */
+    public synchronized void invalidate(Predicate<FileEntry> predicate) {
+        List<String> invalidatedIds = new ArrayList<>();
+        for (Map.Entry<String, CachedFile> entry : cachedFiles.entrySet()) {
+            if (predicate.test(entry.getValue()
+                                    .fileEntry())) {
+                invalidatedIds.add(entry.getKey());
+            }
+        }
+        invalidatedIds.forEach(this::remove);
+    }
+
+    private void remove(String id) {
+        CachedFile cachedFile = cachedFiles.remove(id);
+        if (cachedFile != null) {
+            delete(cachedFile);
+        }
+    }
+
+    private void delete(CachedFile cachedFile) {
+        sizeInBytes -= cachedFile.size();
+        try {
+            // Streams, which are already open, can still be read after the file is deleted:
+            Files.deleteIfExists(cachedFile.path());
+        } catch (IOException e) {
+            LOGGER.warn(MessageFormat.format(Messages.COULD_NOT_DELETE_CACHED_CONTENT_OF_FILE_0, cachedFile.fileEntry()
+                                                                                                           .getId()),
+                        e);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOGGER.warn(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns the size of the cached files, together with the size of the files, which are being downloaded to the cache.
+     */
+    public synchronized long getSizeInBytes() {
+        return sizeInBytes + reservedSizeInBytes;
+    }
+
+    public synchronized int getCachedFilesCount() {
+        return cachedFiles.size();
+    }
+
+    public long getMaxSizeInBytes() {
+        return maxSizeInBytes;
+    }
+
+    /**
+     * Writes the whole content of a file, e.g. by downloading it from the file storage.
+     */
+    @FunctionalInterface
+    public interface ContentDownloader {
+
+        void download(OutputStream outputStream) throws IOException, FileStorageException;
+
+    }
+
+    private record CachedFile(FileEntry fileEntry, Path path, long size) {
+    }
+
+}
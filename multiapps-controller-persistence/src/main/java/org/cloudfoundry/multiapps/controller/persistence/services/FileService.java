@@ -18,6 +18,7 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.math.BigInteger;
 import java.security.DigestInputStream;
 import java.security.MessageDigest;
@@ -25,37 +26,64 @@ import java.security.NoSuchAlgorithmException;
 import java.sql.SQLException;
 import java.text.MessageFormat;
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
 
 public class FileService {
 
     protected static final String DEFAULT_TABLE_NAME = "LM_SL_PERSISTENCE_FILE";
     private static final int INPUT_STREAM_BUFFER_SIZE = 16 * 1024;
+    private static final int EXPIRED_FILES_BATCH_SIZE = 1000;
 
     protected final Logger logger = LoggerFactory.getLogger(getClass());
 
     private final FileStorage fileStorage;
     private final SqlQueryExecutor sqlQueryExecutor;
     private final SqlFileQueryProvider sqlFileQueryProvider;
+    private final FileContentCache fileContentCache;
 
     public FileService(DataSourceWithDialect dataSourceWithDialect, FileStorage fileStorage) {
         this(DEFAULT_TABLE_NAME, dataSourceWithDialect, fileStorage);
     }
 
+    public FileService(DataSourceWithDialect dataSourceWithDialect, FileStorage fileStorage, FileContentCache fileContentCache) {
+        this(dataSourceWithDialect, new ExternalSqlFileQueryProvider(DEFAULT_TABLE_NAME, dataSourceWithDialect.getDataSourceDialect()),
+             fileStorage, fileContentCache);
+    }
+
     public FileService(String tableName, DataSourceWithDialect dataSourceWithDialect, FileStorage fileStorage) {
         this(dataSourceWithDialect, new ExternalSqlFileQueryProvider(tableName, dataSourceWithDialect.getDataSourceDialect()), fileStorage);
     }
 
     protected FileService(DataSourceWithDialect dataSourceWithDialect, SqlFileQueryProvider sqlFileQueryProvider, FileStorage fileStorage) {
+        this(dataSourceWithDialect, sqlFileQueryProvider, fileStorage, null);
+    }
+
+    protected FileService(DataSourceWithDialect dataSourceWithDialect, SqlFileQueryProvider sqlFileQueryProvider, FileStorage fileStorage,
+                          FileContentCache fileContentCache) {
         this.sqlQueryExecutor = new SqlQueryExecutor(dataSourceWithDialect.getDataSource());
         this.sqlFileQueryProvider = sqlFileQueryProvider.withLogger(logger);
         this.fileStorage = fileStorage;
+        this.fileContentCache = fileContentCache;
     }
 
     public FileEntry addFile(FileEntry baseEntry, InputStream content) throws FileStorageException {
+        return addFileWithId(ImmutableFileEntry.copyOf(baseEntry)
+                                               .withId(generateRandomId()),
+                             content);
+    }
+
+    /**
+     * Stores a file under the ID of the given entry instead of a generated one, e.g. when the ID is derived from the content of the
+     * file. The ID must be unique and in the format of a UUID.
+     */
+    public FileEntry addFileWithId(FileEntry baseEntry, InputStream content) throws FileStorageException {
         FileEntry entryWithoutDigest = ImmutableFileEntry.copyOf(baseEntry)
-                                                         .withId(generateRandomId())
                                                          .withModified(LocalDateTime.now());
         FileEntry fileEntry = storeFile(entryWithoutDigest, content);
         logger.debug(MessageFormat.format(Messages.STORED_FILE_0, fileEntry));
@@ -127,41 +155,177 @@ public class FileService {
         });
     }
 
+    /**
+     * Processes a range of the content of a file, e.g. an entry of an archive. The range is read from the file content cache, if the
+     * whole file is cached. The first range of a file, which is not cached, is read from the file storage while the whole file is
+     * downloaded to the cache in the background, so that the next ranges are read from the cache.
+     */
     public <T> T processFileContentWithOffset(FileContentToProcess fileContentToProcess, FileContentProcessor<T> fileContentProcessor)
         throws FileStorageException {
+        if (fileContentCache != null) {
+            try (InputStream cachedContent = openCachedContent(fileContentToProcess.getSpaceGuid(), fileContentToProcess.getGuid(),
+                                                               fileContentToProcess.getStartOffset(), fileContentToProcess.getEndOffset(),
+                                                               CachePolicy.FILL_ON_FIRST_ACCESS)) {
+                if (cachedContent != null) {
+                    return fileContentProcessor.process(cachedContent);
+                }
+            } catch (IOException e) {
+                throw new FileStorageException(e);
+            }
+        }
         return fileStorage.processArchiveEntryContent(fileContentToProcess, fileContentProcessor);
     }
 
+    /**
+     * Processes the whole content of a file. When a file content cache is configured, a file, which is large enough to be worth caching
+     * and is read for the second time, is downloaded to the cache and processed from there, so that reading it again does not download
+     * it again.
+     */
     public <T> T processFileContent(String space, String id, FileContentProcessor<T> fileContentProcessor) throws FileStorageException {
+        if (fileContentCache == null) {
+            return fileStorage.processFileContent(space, id, fileContentProcessor);
+        }
+        try (InputStream cachedContent = openCachedContent(space, id, 0, Long.MAX_VALUE - 1, CachePolicy.FILL_ON_SECOND_ACCESS)) {
+            if (cachedContent != null) {
+                return fileContentProcessor.process(cachedContent);
+            }
+        } catch (IOException e) {
+            throw new FileStorageException(e);
+        }
         return fileStorage.processFileContent(space, id, fileContentProcessor);
     }
 
+    /**
+     * Opens the cached content of a file, or returns null, if it is not cached. Readers wait only for a download of the file to the
+     * cache, which is in progress, and never for the processing of the content by other readers.
+     */
+    private InputStream openCachedContent(String space, String id, long startOffset, long endOffset, CachePolicy cachePolicy)
+        throws FileStorageException, IOException {
+        fileContentCache.awaitFill(id);
+        InputStream cachedContent = fileContentCache.open(space, id, startOffset, endOffset);
+        if (cachedContent != null) {
+            return cachedContent;
+        }
+        CompletableFuture<Void> fill = startCacheFill(space, id, cachePolicy);
+        if (fill == null || !cachePolicy.awaitsFill()) {
+            return null;
+        }
+        fill.join();
+        return fileContentCache.open(space, id, startOffset, endOffset);
+    }
+
+    private CompletableFuture<Void> startCacheFill(String space, String id, CachePolicy cachePolicy) throws FileStorageException {
+        boolean isAccessedBefore = fileContentCache.recordAccess(id);
+        if (isAccessedBefore != cachePolicy.fillsWhenAccessedBefore()) {
+            return null;
+        }
+        FileEntry fileEntry = getFile(space, id);
+        if (fileEntry == null) {
+            return null;
+        }
+        return fileContentCache.fill(fileEntry, outputStream -> transferFileContent(space, id, outputStream));
+    }
+
+    private void transferFileContent(String space, String id, OutputStream outputStream) throws FileStorageException {
+        fileStorage.processFileContent(space, id, content -> content.transferTo(outputStream));
+    }
+
+    public long getCachedContentSizeInBytes() {
+        return fileContentCache == null ? 0 : fileContentCache.getSizeInBytes();
+    }
+
+    public int getCachedContentFilesCount() {
+        return fileContentCache == null ? 0 : fileContentCache.getCachedFilesCount();
+    }
+
+    /**
+     * Opens the whole content of a file, e.g. a part of an archive, which is read sequentially. A file, which is not cached, is
+     * downloaded to the cache on its first access and read from there.
+     */
     public InputStream openInputStream(String space, String id) throws FileStorageException {
+        if (fileContentCache != null) {
+            try {
+                InputStream cachedContent = openCachedContent(space, id, 0, Long.MAX_VALUE - 1, CachePolicy.AWAIT_FILL_ON_FIRST_ACCESS);
+                if (cachedContent != null) {
+                    return cachedContent;
+                }
+            } catch (IOException e) {
+                throw new FileStorageException(e);
+            }
+        }
         return fileStorage.openInputStream(space, id);
     }
 
+    public <T> T processSeekableFileContent(String space, String id, SeekableFileContentProcessor<T> seekableFileContentProcessor)
+        throws FileStorageException {
+        FileEntry fileEntry = getFile(space, id);
+        if (fileEntry == null) {
+            throw new FileStorageException(MessageFormat.format(Messages.FILE_WITH_ID_AND_SPACE_DOES_NOT_EXIST, id, space));
+        }
+        if (fileEntry.getSize() == null) {
+            throw new FileStorageException(MessageFormat.format(Messages.SIZE_OF_FILE_WITH_ID_0_IS_UNKNOWN, id));
+        }
+        try {
+            return seekableFileContentProcessor.process(new RangedFileContent(this, space, id, fileEntry.getSize()
+                                                                                                      .longValue()));
+        } catch (IOException e) {
+            throw new FileStorageException(e.getMessage(), e);
+        }
+    }
+
     public int deleteBySpaceAndNamespace(String space, String namespace) throws FileStorageException {
         fileStorage.deleteFilesBySpaceAndNamespace(space, namespace);
+        invalidateCachedContent(fileEntry -> space.equals(fileEntry.getSpace()) && Objects.equals(namespace, fileEntry.getNamespace()));
         return deleteFileAttributesBySpaceAndNamespace(space, namespace);
     }
 
     public int deleteBySpaceIds(List<String> spaceIds) throws FileStorageException {
         fileStorage.deleteFilesBySpaceIds(spaceIds);
+        invalidateCachedContent(fileEntry -> spaceIds.contains(fileEntry.getSpace()));
         return deleteFileAttributesBySpaceIds(spaceIds);
     }
 
+    /**
+     * Deletes the files modified before the given time. The expired files are looked up in the file table by their modification time, so
+     * their content is deleted by ID without listing the whole file storage. Content, which has no entry in the file table, is not deleted
+     * by this method - see {@link #deleteOrphanedContentModifiedBefore(LocalDateTime)}.
+     */
     public int deleteModifiedBefore(LocalDateTime modificationTime) throws FileStorageException {
-        int deletedItems = fileStorage.deleteFilesModifiedBefore(modificationTime);
-        return deleteFileAttributesModifiedBefore(modificationTime) + deletedItems;
+        int deletedFiles = 0;
+        List<String> expiredFileIds;
+        int deletedFileAttributes;
+        do {
+            expiredFileIds = getFileIdsModifiedBefore(modificationTime);
+            if (expiredFileIds.isEmpty()) {
+                break;
+            }
+            fileStorage.deleteFilesByIds(expiredFileIds);
+            invalidateCachedContent(expiredFileIds);
+            deletedFileAttributes = deleteFilesAttributesByIds(expiredFileIds);
+            deletedFiles += deletedFileAttributes;
+        } while (expiredFileIds.size() == EXPIRED_FILES_BATCH_SIZE && deletedFileAttributes > 0);
+        logger.debug(MessageFormat.format(Messages.DELETED_0_FILES_MODIFIED_BEFORE_1, deletedFiles, modificationTime));
+        return deletedFiles;
+    }
+
+    /**
+     * Scans the file storage for content modified before the given time. It is expected to be executed rarely, as a reconciliation for
+     * content, which was left without an entry in the file table, because {@link #deleteModifiedBefore(LocalDateTime)} has already deleted
+     * all entries modified before that time.
+     */
+    public int deleteOrphanedContentModifiedBefore(LocalDateTime modificationTime) throws FileStorageException {
+        return fileStorage.deleteFilesModifiedBefore(modificationTime);
     }
 
     public boolean deleteFile(String space, String id) throws FileStorageException {
         fileStorage.deleteFile(id, space);
+        invalidateCachedContent(List.of(id));
         return deleteFileAttribute(space, id);
     }
 
     public int deleteFilesByIds(List<String> fileIds) throws FileStorageException {
         fileStorage.deleteFilesByIds(fileIds);
+        invalidateCachedContent(fileIds);
         return deleteFilesAttributesByIds(fileIds);
     }
 
@@ -179,6 +343,17 @@ public class FileService {
         }
     }
 
+    private void invalidateCachedContent(List<String> fileIds) {
+        Set<String> invalidatedFileIds = new HashSet<>(fileIds);
+        invalidateCachedContent(fileEntry -> invalidatedFileIds.contains(fileEntry.getId()));
+    }
+
+    private void invalidateCachedContent(Predicate<FileEntry> predicate) {
+        if (fileContentCache != null) {
+            fileContentCache.invalidate(predicate);
+        }
+    }
+
     protected FileEntry storeFile(FileEntry fileEntry, InputStream content) throws FileStorageException {
         try (DigestInputStream dis = new DigestInputStream(content, MessageDigest.getInstance(Constants.DIGEST_ALGORITHM))) {
             fileStorage.addFile(fileEntry, dis);
@@ -209,6 +384,15 @@ public class FileService {
         }
     }
 
+    protected List<String> getFileIdsModifiedBefore(LocalDateTime modificationTime) throws FileStorageException {
+        try {
+            return getSqlQueryExecutor().execute(getSqlFileQueryProvider().getListFileIdsModifiedBeforeQuery(modificationTime,
+                                                                                                             EXPIRED_FILES_BATCH_SIZE));
+        } catch (SQLException e) {
+            throw new FileStorageException(e.getMessage(), e);
+        }
+    }
+
     protected int deleteFileAttributesBySpaceAndNamespace(String space, String namespace) throws FileStorageException {
         try {
             return getSqlQueryExecutor().execute(getSqlFileQueryProvider().getDeleteBySpaceAndNamespaceQuery(space, namespace));
@@ -254,4 +438,34 @@ public class FileService {
         }
     }
 
+    /**
+     * When a file, which is not cached, is downloaded to the file content cache, and whether its reader waits for that.
+     */
+    private enum CachePolicy {
+
+        // The first access of a file is usually a small range, e.g. the central directory of an archive, which is faster to read from the
+        // file storage:
+        FILL_ON_FIRST_ACCESS(false, false),
+        AWAIT_FILL_ON_FIRST_ACCESS(false, true),
+        // A file, which is read whole only once, e.g. to be uploaded, is not written to the disk:
+        FILL_ON_SECOND_ACCESS(true, true);
+
+        private final boolean fillsWhenAccessedBefore;
+        private final boolean awaitsFill;
+
+        CachePolicy(boolean fillsWhenAccessedBefore, boolean awaitsFill) {
+            this.fillsWhenAccessedBefore = fillsWhenAccessedBefore;
+            this.awaitsFill = awaitsFill;
+        }
+
+        boolean fillsWhenAccessedBefore() {
+            return fillsWhenAccessedBefore;
+        }
+
+        boolean awaitsFill() {
+            return awaitsFill;
+        }
+
+    }
+
 }
@@ -201,7 +201,9 @@ public class JCloudsObjectStoreFileStorage extends ObjectStoreFileStorage {
 
     @Override
     public void deleteFilesByIds(List<String> fileIds) {
-        removeBlobsByFilter(blob -> fileIds.contains(blob.getName()));
+        if (!fileIds.isEmpty()) {
+            blobStore.removeBlobs(container, fileIds);
+        }
     }
 
     private <T> T processContent(FileContentProcessor<T> fileContentProcessor, Payload payload) throws FileStorageException {
@@ -40,6 +40,10 @@ public abstract class ObjectStoreFileStorage implements FileStorage, DisposableB
 
     protected abstract boolean existsInObjectStore(FileEntry fileEntry);
 
+    protected ExecutorService getVirtualThreadExecutor() {
+        return virtualThreadExecutor;
+    }
+
     @Override
     public void destroy() {
         virtualThreadExecutor.shutdown();
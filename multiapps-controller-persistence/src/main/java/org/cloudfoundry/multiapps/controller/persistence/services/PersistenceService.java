@@ -1,6 +1,7 @@
 package org.cloudfoundry.multiapps.controller.persistence.services;
 
 import java.text.MessageFormat;
+import java.util.List;
 import java.util.function.Function;
 
 import jakarta.persistence.EntityManager;
@@ -18,9 +19,19 @@ public abstract class PersistenceService<T, D extends DtoWithPrimaryKey<P>, P> {
     private static final Logger LOGGER = LoggerFactory.getLogger(PersistenceService.class);
 
     private final EntityManagerFactory entityManagerFactory;
+    private final EntityManagerFactory batchWritingEntityManagerFactory;
 
     protected PersistenceService(EntityManagerFactory entityManagerFactory) {
+        this(entityManagerFactory, entityManagerFactory);
+    }
+
+    /**
+     * @param batchWritingEntityManagerFactory used only by {@link #addAll(List)}. EclipseLink configures JDBC batch writing per session, so
+     *        it is enabled through a separate factory instead of for every write of the persistence unit.
+     */
+    protected PersistenceService(EntityManagerFactory entityManagerFactory, EntityManagerFactory batchWritingEntityManagerFactory) {
         this.entityManagerFactory = entityManagerFactory;
+        this.batchWritingEntityManagerFactory = batchWritingEntityManagerFactory;
     }
 
     public T add(T object) {
@@ -38,6 +49,30 @@ public abstract class PersistenceService<T, D extends DtoWithPrimaryKey<P>, P> {
         return null;
     }
 
+    /**
+     * Persists all objects in a single transaction, so that their inserts are sent to the database together instead of committing each of
+     * them separately. The transaction is executed with the batch writing entity manager factory.
+     */
+    public List<T> addAll(List<T> objects) {
+        List<D> dtos = objects.stream()
+                              .map(getPersistenceObjectMapper()::toDto)
+                              .toList();
+        try {
+            List<D> newDtos = executeInTransaction(batchWritingEntityManagerFactory, manager -> {
+                dtos.forEach(manager::persist);
+                return dtos;
+            });
+            return newDtos.stream()
+                          .map(getPersistenceObjectMapper()::fromDto)
+                          .toList();
+        } catch (RollbackException e) {
+            LOGGER.error(MessageFormat.format(Messages.ERROR_WHILE_EXECUTING_TRANSACTION, e.getMessage()));
+            // The transaction does not tell which of the objects caused the conflict:
+            onEntityConflict(dtos.get(0), e);
+        }
+        return null;
+    }
+
     public T update(T oldObject, T newObject) {
         D oldDto = getPersistenceObjectMapper().toDto(oldObject);
         D newDto = getPersistenceObjectMapper().toDto(newObject);
@@ -54,6 +89,10 @@ public abstract class PersistenceService<T, D extends DtoWithPrimaryKey<P>, P> {
         return new TransactionalExecutor<R>(createEntityManager()).execute(function);
     }
 
+    private static <R> R executeInTransaction(EntityManagerFactory entityManagerFactory, Function<EntityManager, R> function) {
+        return new TransactionalExecutor<R>(entityManagerFactory.createEntityManager()).execute(function);
+    }
+
     protected EntityManager createEntityManager() {
         return entityManagerFactory.createEntityManager();
     }
@@ -1,8 +1,8 @@
 package org.cloudfoundry.multiapps.controller.persistence.services;
 
+import java.time.Duration;
 import java.util.List;
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import jakarta.inject.Named;
@@ -15,19 +15,21 @@ import org.cloudfoundry.multiapps.controller.persistence.Constants;
 import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableOperationLogEntry;
 import org.cloudfoundry.multiapps.controller.persistence.model.OperationLogEntry;
 import org.flowable.engine.delegate.DelegateExecution;
+import org.springframework.scheduling.annotation.Scheduled;
 
 @Named("processLoggerProvider")
 public class ProcessLoggerProvider {
     static final String LOG_LAYOUT = "#%d{yyyy MM dd HH:mm:ss.SSS}#%d{XXX}#%p#%c#%t#%n%m#%n";
     private static final String DEFAULT_LOG_NAME = "OPERATION";
     private static final String LOG_FILE_EXTENSION = ".log";
+    private static final Duration MAX_NOT_PERSISTED_LOGGER_AGE = Duration.ofHours(6);
     private final LoggerContext loggerContext = (LoggerContext) LogManager.getContext(false);
     private final PatternLayout patternLayout = PatternLayout.newBuilder()
                                                              .withPattern(LOG_LAYOUT)
                                                              .withConfiguration(loggerContext.getConfiguration())
                                                              .build();
 
-    private final Queue<ProcessLogger> loggerChache = new ConcurrentLinkedQueue<>();
+    private final ProcessLoggerRegistry loggerRegistry = new ProcessLoggerRegistry();
 
     public ProcessLogger getLogger(DelegateExecution execution) {
         return getLogger(execution, DEFAULT_LOG_NAME);
@@ -49,7 +51,7 @@ public class ProcessLoggerProvider {
             return new NullProcessLogger(spaceId, execution.getProcessInstanceId(), activityId);
         }
         ProcessLogger processLogger = createProcessLogger(spaceId, correlationId, activityId, name, logNameWithExtension, layout);
-        loggerChache.add(processLogger);
+        loggerRegistry.add(processLogger);
         return processLogger;
     }
 
@@ -77,19 +79,16 @@ public class ProcessLoggerProvider {
     }
 
     public List<ProcessLogger> getExistingLoggers(String operationId, String activityId) {
-        return loggerChache.stream()
-                           .filter(logger -> hasLoggerSpecificProcessIdAndActivityId(operationId, activityId, logger))
-                           .toList();
+        return loggerRegistry.get(operationId, activityId);
     }
 
-    private boolean hasLoggerSpecificProcessIdAndActivityId(String operationId, String activityId, ProcessLogger logger) {
-        return operationId.equals(logger.getOperationLogEntry()
-                                        .getOperationId())
-            && activityId.equals(logger.getActivityId());
+    public void removeProcessLoggerFromCache(ProcessLogger processLogger) {
+        loggerRegistry.remove(processLogger);
     }
 
-    public void removeProcessLoggerFromCache(ProcessLogger processLogger) {
-        loggerChache.remove(processLogger);
+    @Scheduled(fixedRate = 30, timeUnit = TimeUnit.MINUTES)
+    public void evictNotPersistedLoggers() {
+        loggerRegistry.evictLoggersOlderThan(MAX_NOT_PERSISTED_LOGGER_AGE);
     }
 
     private String getSpaceId(DelegateExecution execution) {
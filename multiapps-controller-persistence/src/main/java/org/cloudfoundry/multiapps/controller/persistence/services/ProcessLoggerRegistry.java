@@ -0,0 +1,114 @@
+package org.cloudfoundry.multiapps.controller.persistence.services;
+
+import java.text.MessageFormat;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.cloudfoundry.multiapps.controller.persistence.Messages;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the process loggers, which are not persisted yet, grouped by operation and activity, so that the loggers of an activity are found
+ * without scanning the loggers of all running operations. The loggers of an activity are added and removed under the lock of their entry
+ * in the registry, so activities of different operations do not contend with each other.
+ */
+class ProcessLoggerRegistry {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProcessLoggerRegistry.class);
+    private static final String METRICS_PREFIX = "multiapps.process.loggers.";
+
+    private final Map<ActivityKey, ActivityLoggers> loggers = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final Timer lookupTimer = Timer.builder(METRICS_PREFIX + "lookup")
+                                           .register(Metrics.globalRegistry);
+    private final Counter evictedLoggersCounter = Counter.builder(METRICS_PREFIX + "evicted")
+                                                         .register(Metrics.globalRegistry);
+
+    ProcessLoggerRegistry() {
+        Gauge.builder(METRICS_PREFIX + "registry.size", size, AtomicInteger::get)
+             .register(Metrics.globalRegistry);
+    }
+
+    void add(ProcessLogger processLogger) {
+        loggers.compute(getKey(processLogger), (key, activityLoggers) -> {
+            ActivityLoggers result = activityLoggers != null ? activityLoggers : new ActivityLoggers(Instant.now());
+            result.loggers()
+                  .add(processLogger);
+            size.incrementAndGet();
+            return result;
+        });
+    }
+
+    List<ProcessLogger> get(String operationId, String activityId) {
+        return lookupTimer.record(() -> {
+            ActivityLoggers activityLoggers = loggers.get(new ActivityKey(operationId, activityId));
+            return activityLoggers != null ? List.copyOf(activityLoggers.loggers()) : List.of();
+        });
+    }
+
+    void remove(ProcessLogger processLogger) {
+        loggers.computeIfPresent(getKey(processLogger), (key, activityLoggers) -> {
+            if (activityLoggers.loggers()
+                               .remove(processLogger)) {
+                size.decrementAndGet();
+            }
+            return activityLoggers.loggers()
+                                  .isEmpty() ? null : activityLoggers;
+        });
+    }
+
+    int size() {
+        return size.get();
+    }
+
+    /**
+     * Evicts the loggers of the activities, whose oldest logger was created before the given age and is still not persisted. Such loggers
+     * are leaked by a step, which did not persist its logs, and would otherwise be kept until the application is restarted.
+     */
+    void evictLoggersOlderThan(Duration maxAge) {
+        Instant deadline = Instant.now()
+                                  .minus(maxAge);
+        for (Map.Entry<ActivityKey, ActivityLoggers> entry : loggers.entrySet()) {
+            if (entry.getValue()
+                     .createdAt()
+                     .isBefore(deadline) && loggers.remove(entry.getKey(), entry.getValue())) {
+                int evictedLoggers = entry.getValue()
+                                          .loggers()
+                                          .size();
+                size.addAndGet(-evictedLoggers);
+                evictedLoggersCounter.increment(evictedLoggers);
+                LOGGER.warn(MessageFormat.format(Messages.EVICTED_0_PROCESS_LOGGERS_OF_OPERATION_1_AND_ACTIVITY_2_WHICH_WERE_NOT_PERSISTED_FOR_3,
+                                                 evictedLoggers, entry.getKey()
+                                                                      .operationId(), entry.getKey()
+                                                                                           .activityId(), maxAge));
+            }
+        }
+    }
+
+    private static ActivityKey getKey(ProcessLogger processLogger) {
+        return new ActivityKey(processLogger.getOperationLogEntry()
+                                            .getOperationId(), processLogger.getActivityId());
+    }
+
+    private record ActivityKey(String operationId, String activityId) {
+    }
+
+    private record ActivityLoggers(Instant createdAt, Queue<ProcessLogger> loggers) {
+
+        ActivityLoggers(Instant createdAt) {
+            this(createdAt, new ConcurrentLinkedQueue<>());
+        }
+    }
+
+}
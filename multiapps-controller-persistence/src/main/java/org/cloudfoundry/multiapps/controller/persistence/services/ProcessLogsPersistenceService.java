@@ -7,6 +7,9 @@ import org.cloudfoundry.multiapps.controller.persistence.model.OperationLogEntry
 import org.cloudfoundry.multiapps.controller.persistence.query.providers.ByteArraySqlFileQueryProvider;
 import org.cloudfoundry.multiapps.controller.persistence.query.providers.SqlOperationLogQueryProvider;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
 import java.text.MessageFormat;
 import java.util.List;
@@ -17,6 +20,8 @@ import java.util.stream.Collectors;
 public class ProcessLogsPersistenceService extends DatabaseFileService {
 
     public static final String TABLE_NAME = "process_log";
+    private static final int OPERATION_LOG_PAGE_SIZE = 100;
+
     private final SqlOperationLogQueryProvider sqlOperationLogQueryProvider;
 
     public ProcessLogsPersistenceService(DataSourceWithDialect dataSourceWithDialect) {
@@ -42,21 +47,48 @@ public class ProcessLogsPersistenceService extends DatabaseFileService {
         }
     }
 
-    public String getOperationLog(String space, String operationId, String logId) throws FileStorageException {
-        List<OperationLogEntry> operationLogs = listOperationLogs(space, operationId, logId);
-
-        StringBuilder builder = new StringBuilder();
-        for (OperationLogEntry operationLog : operationLogs) {
-            builder.append(operationLog.getOperationLog());
-        }
-        return builder.toString();
+    /**
+     * Writes the content of an operation log to the given stream. The log is read in pages of rows and each page is written after the
+     * database connection used to read it is released, so neither the whole log is loaded in memory nor a connection is held while the
+     * client reads the response.
+     *
+     * @param offset the number of bytes of the UTF-8 encoded log content to skip
+     * @return the number of bytes written to the stream
+     */
+    public long streamOperationLog(String space, String operationId, String logId, long offset, OutputStream outputStream)
+        throws FileStorageException, IOException {
+        long position = 0;
+        long writtenBytes = 0;
+        List<OperationLogEntry> page;
+        OperationLogEntry lastEntry = null;
+        do {
+            page = getOperationLogPage(space, operationId, logId, lastEntry);
+            for (OperationLogEntry entry : page) {
+                if (entry.getOperationLog() == null) {
+                    continue;
+                }
+                byte[] content = entry.getOperationLog()
+                                      .getBytes(StandardCharsets.UTF_8);
+                if (position + content.length > offset) {
+                    int start = (int) Math.max(0, offset - position);
+                    outputStream.write(content, start, content.length - start);
+                    writtenBytes += content.length - start;
+                }
+                position += content.length;
+            }
+            if (!page.isEmpty()) {
+                lastEntry = page.getLast();
+            }
+        } while (page.size() == OPERATION_LOG_PAGE_SIZE);
+        outputStream.flush();
+        return writtenBytes;
     }
 
-    private List<OperationLogEntry> listOperationLogs(final String space, final String operationId, String logId)
+    private List<OperationLogEntry> getOperationLogPage(String space, String operationId, String logId, OperationLogEntry lastEntry)
         throws FileStorageException {
         try {
             return getSqlQueryExecutor().execute(
-                sqlOperationLogQueryProvider.getListFilesQueryBySpaceOperationIdAndLogId(space, operationId, logId));
+                sqlOperationLogQueryProvider.getLogContentPageQuery(space, operationId, logId, lastEntry, OPERATION_LOG_PAGE_SIZE));
         } catch (SQLException e) {
             throw new FileStorageException(
                 MessageFormat.format(Messages.ERROR_GETTING_LOGS_WITH_SPACE_OPERATION_ID_AND_NAME, space, operationId, logId), e);
@@ -0,0 +1,43 @@
+package org.cloudfoundry.multiapps.controller.persistence.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * {@link SeekableFileContent} which fetches every requested range through a separate ranged read from the file storage.
+ */
+class RangedFileContent implements SeekableFileContent {
+
+    private final FileService fileService;
+    private final String space;
+    private final String id;
+    private final long size;
+
+    RangedFileContent(FileService fileService, String space, String id, long size) {
+        this.fileService = fileService;
+        this.space = space;
+        this.id = id;
+        this.size = size;
+    }
+
+    @Override
+    public long getSize() {
+        return size;
+    }
+
+    @Override
+    public byte[] read(long startOffset, long endOffset) throws IOException {
+        FileContentToProcess fileContentToProcess = ImmutableFileContentToProcess.builder()
+                                                                                 .guid(id)
+                                                                                 .spaceGuid(space)
+                                                                                 .startOffset(startOffset)
+                                                                                 .endOffset(endOffset)
+                                                                                 .build();
+        try {
+            return fileService.processFileContentWithOffset(fileContentToProcess, InputStream::readAllBytes);
+        } catch (FileStorageException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+}
@@ -2,6 +2,7 @@ package org.cloudfoundry.multiapps.controller.persistence.services;
 
 import java.time.LocalDateTime;
 
+import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import jakarta.persistence.EntityManagerFactory;
 import org.cloudfoundry.multiapps.common.ConflictException;
@@ -18,6 +19,14 @@ public class SecretTokenService extends PersistenceService<SecretToken, SecretTo
 
     private SecretTokenMapper secretTokenMapper;
 
+    @Inject
+    public SecretTokenService(EntityManagerFactory entityManagerFactory,
+                              @Named("batchWritingEntityManagerFactory") EntityManagerFactory batchWritingEntityManagerFactory,
+                              SecretTokenMapper secretTokenMapper) {
+        super(entityManagerFactory, batchWritingEntityManagerFactory);
+        this.secretTokenMapper = secretTokenMapper;
+    }
+
     public SecretTokenService(EntityManagerFactory entityManagerFactory, SecretTokenMapper secretTokenMapper) {
         super(entityManagerFactory);
         this.secretTokenMapper = secretTokenMapper;
@@ -0,0 +1,27 @@
+package org.cloudfoundry.multiapps.controller.persistence.services;
+
+import java.io.IOException;
+
+/**
+ * Random access view of the content of a stored file.
+ *
+ */
+public interface SeekableFileContent {
+
+    /**
+     * @return the size of the file content in bytes
+     * @throws IOException in case of read error
+     */
+    long getSize() throws IOException;
+
+    /**
+     * Reads a range of the file content.
+     *
+     * @param startOffset the offset of the first byte to read
+     * @param endOffset the offset of the last byte to read (inclusive)
+     * @return the bytes in the specified range
+     * @throws IOException in case of read error
+     */
+    byte[] read(long startOffset, long endOffset) throws IOException;
+
+}
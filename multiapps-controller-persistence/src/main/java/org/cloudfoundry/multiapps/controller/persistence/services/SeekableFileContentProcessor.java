@@ -0,0 +1,20 @@
+package org.cloudfoundry.multiapps.controller.persistence.services;
+
+import java.io.IOException;
+
+/**
+ * An interface for processing the content of a file which is accessed by ranges rather than sequentially.
+ *
+ */
+public interface SeekableFileContentProcessor<T> {
+
+    /**
+     * Process the content of a file.
+     *
+     * @param fileContent a random access view of the file content
+     * @return the result from the processing
+     * @throws IOException in case of read error
+     */
+    T process(SeekableFileContent fileContent) throws IOException;
+
+}
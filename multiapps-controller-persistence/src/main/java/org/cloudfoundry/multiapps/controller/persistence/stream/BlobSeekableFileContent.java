@@ -0,0 +1,37 @@
+package org.cloudfoundry.multiapps.controller.persistence.stream;
+
+import java.io.IOException;
+import java.sql.Blob;
+import java.sql.SQLException;
+
+import org.cloudfoundry.multiapps.controller.persistence.services.SeekableFileContent;
+
+public class BlobSeekableFileContent implements SeekableFileContent {
+
+    private final Blob blob;
+
+    public BlobSeekableFileContent(Blob blob) {
+        this.blob = blob;
+    }
+
+    @Override
+    public long getSize() throws IOException {
+        try {
+            return blob.length();
+        } catch (SQLException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public byte[] read(long startOffset, long endOffset) throws IOException {
+        try {
+            long lastOffset = Math.min(endOffset, blob.length() - 1);
+            // + 1 is required as the first position in the Blob is 1 instead of 0
+            return blob.getBytes(startOffset + 1, Math.toIntExact(lastOffset - startOffset + 1));
+        } catch (SQLException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+}
@@ -1,14 +1,53 @@
 package org.cloudfoundry.multiapps.controller.persistence.util;
 
+import java.util.HashMap;
+import java.util.Map;
+
+import org.cloudfoundry.multiapps.common.ParsingException;
+import org.cloudfoundry.multiapps.common.util.JsonUtil;
+
 public final class ConfigurationEntriesUtil {
 
     private ConfigurationEntriesUtil() {
     }
 
+    public static final int MAX_INDEXED_PROPERTY_LENGTH = 255;
+
     private static final String PROVIDER_NAMESPACE_DEFAULT_VALUE = "default";
 
     public static boolean providerNamespaceIsEmpty(String providerNamespace, boolean considerNullAsEmpty) {
         return (considerNullAsEmpty && providerNamespace == null) || PROVIDER_NAMESPACE_DEFAULT_VALUE.equals(providerNamespace);
     }
 
+    /**
+     * Returns the properties of a configuration entry content which can be matched in the database. Only top-level properties with
+     * string values that fit in the property table are indexed, all other properties can only be matched after the content is parsed.
+     */
+    public static Map<String, String> getIndexedProperties(String content) {
+        Map<String, String> indexedProperties = new HashMap<>();
+        for (Map.Entry<String, Object> property : parseContent(content).entrySet()) {
+            if (isIndexedProperty(property.getKey(), property.getValue())) {
+                indexedProperties.put(property.getKey(), (String) property.getValue());
+            }
+        }
+        return indexedProperties;
+    }
+
+    public static boolean isIndexedProperty(String name, Object value) {
+        return name != null && name.length() <= MAX_INDEXED_PROPERTY_LENGTH && value instanceof String stringValue
+            && stringValue.length() <= MAX_INDEXED_PROPERTY_LENGTH;
+    }
+
+    private static Map<String, Object> parseContent(String content) {
+        if (content == null) {
+            return Map.of();
+        }
+        try {
+            Map<String, Object> parsedContent = JsonUtil.convertJsonToMap(content);
+            return parsedContent == null ? Map.of() : parsedContent;
+        } catch (ParsingException e) {
+            return Map.of();
+        }
+    }
+
 }
@@ -17,9 +17,16 @@ public class ObjectStoreConstants {
     // Azure Blob
     public static final Duration AZURE_OBJECT_STORE_TOTAL_TIMEOUT_CONFIG_IN_MINUTES = Duration.ofMinutes(30);
 
+    // Google Cloud Storage
+    public static final int GCP_OBJECT_STORE_UPLOAD_CHUNK_SIZE_IN_BYTES = 16 * 1024 * 1024;
+
     // AWS S3
     public static final Duration AWS_OBJECT_STORE_TOTAL_TIMEOUT_CONFIG_IN_MINUTES = Duration.ofMinutes(30);
     public static final Duration AWS_OBJECT_STORE_SOCKET_TIMEOUT_CONFIG_IN_MINUTES = Duration.ofMinutes(10);
     public static final Duration AWS_OBJECT_STORE_CONNECTION_TIMEOUT_CONFIG_IN_SECONDS = Duration.ofSeconds(10);
+    public static final int AWS_OBJECT_STORE_MIN_PART_SIZE_IN_BYTES = 16 * 1024 * 1024;
+    public static final int AWS_OBJECT_STORE_MAX_PARTS_COUNT = 10000;
+    // Shared by all multipart uploads:
+    public static final int AWS_OBJECT_STORE_MAX_PART_BYTES_IN_MEMORY = 4 * AWS_OBJECT_STORE_MIN_PART_SIZE_IN_BYTES;
     public static final String BYTES_RANGE_FORMAT = "bytes=%d-%d";
 }
@@ -0,0 +1,112 @@
+package org.cloudfoundry.multiapps.controller.persistence.util;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Uploads the content of a stream in chunks, which are uploaded in parallel. The stream is read only by the calling thread and from
+ * its beginning to its end, so a digest, which is computed while the stream is being read, stays valid. The memory for the chunks is
+ * limited by a number of bytes, which is shared by all uploads of the uploader, so reading a stream waits for the upload of a previous
+ * chunk to finish, when the limit is reached. Each chunk is uploaded separately, so a failed upload of a chunk can be retried without
+ * uploading the whole content again.
+ */
+public class ParallelChunkUploader {
+
+    private final ExecutorService executor;
+    private final int maxBytesInMemory;
+    private final Semaphore bytesInMemory;
+
+    public ParallelChunkUploader(ExecutorService executor, int maxBytesInMemory) {
+        this.executor = executor;
+        this.maxBytesInMemory = maxBytesInMemory;
+        this.bytesInMemory = new Semaphore(maxBytesInMemory, true);
+    }
+
+    /**
+     * Returns the results of the chunk uploads in the order of the chunks. The chunks are numbered from 1. Only the last chunk can be
+     * smaller than the chunk size. If an upload fails, the uploads, which have not finished yet, are cancelled and the failure is thrown.
+     * A chunk, which is larger than the memory limit, is read only when no other chunks are in memory.
+     */
+    public <R> List<R> upload(InputStream content, int chunkSize, ChunkUpload<R> chunkUpload) throws Exception {
+        int chunkPermits = Math.min(chunkSize, maxBytesInMemory);
+        List<Future<R>> uploads = new ArrayList<>();
+        try {
+            int chunkNumber = 1;
+            byte[] chunk;
+            do {
+                bytesInMemory.acquire(chunkPermits);
+                boolean isSubmitted = false;
+                try {
+                    failOnFinishedUploadErrors(uploads);
+                    chunk = content.readNBytes(chunkSize);
+                    if (chunk.length == 0 && chunkNumber > 1) {
+                        break;
+                    }
+                    uploads.add(submitChunkUpload(chunkUpload, chunkNumber++, chunk, chunkPermits));
+                    isSubmitted = true;
+                } finally {
+                    if (!isSubmitted) {
+                        bytesInMemory.release(chunkPermits);
+                    }
+                }
+            } while (chunk.length == chunkSize);
+            return getResults(uploads);
+        } catch (Exception e) {
+            uploads.forEach(upload -> upload.cancel(true));
+            throw e;
+        }
+    }
+
+    private <R> Future<R> submitChunkUpload(ChunkUpload<R> chunkUpload, int chunkNumber, byte[] chunk, int chunkPermits) {
+        // The memory of the chunk is released when its upload is done, including when the upload is cancelled before it is started:
+        FutureTask<R> upload = new FutureTask<>(() -> chunkUpload.upload(chunkNumber, chunk)) {
+            @Override
+            protected void done() {
+                bytesInMemory.release(chunkPermits);
+            }
+        };
+        executor.execute(upload);
+        return upload;
+    }
+
+    private static <R> void failOnFinishedUploadErrors(List<Future<R>> uploads) throws Exception {
+        for (Future<R> upload : uploads) {
+            if (upload.isDone()) {
+                getResult(upload);
+            }
+        }
+    }
+
+    private static <R> List<R> getResults(List<Future<R>> uploads) throws Exception {
+        List<R> results = new ArrayList<>(uploads.size());
+        for (Future<R> upload : uploads) {
+            results.add(getResult(upload));
+        }
+        return results;
+    }
+
+    private static <R> R getResult(Future<R> upload) throws Exception {
+        try {
+            return upload.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @FunctionalInterface
+    public interface ChunkUpload<R> {
+
+        R upload(int chunkNumber, byte[] chunk) throws Exception;
+
+    }
+
+}
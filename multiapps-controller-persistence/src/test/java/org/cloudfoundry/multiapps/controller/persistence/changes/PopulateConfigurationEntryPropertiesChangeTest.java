@@ -0,0 +1,89 @@
+package org.cloudfoundry.multiapps.controller.persistence.changes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PopulateConfigurationEntryPropertiesChangeTest {
+
+    private final PopulateConfigurationEntryPropertiesChange change = new PopulateConfigurationEntryPropertiesChange();
+
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:populate-configuration-entry-properties", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE configuration_registry (id BIGINT PRIMARY KEY, content CLOB)");
+            statement.execute("CREATE TABLE configuration_entry_property (configuration_entry_id BIGINT, property_name VARCHAR(255), "
+                + "property_value VARCHAR(255), PRIMARY KEY (configuration_entry_id, property_name))");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    void testPopulateProperties() throws SQLException {
+        insertEntry(1, "{\"type\":\"a\",\"replicas\":1,\"plan\":\"lite\"}");
+        insertEntry(2, "[\"not\",\"an\",\"object\"]");
+        insertEntry(3, null);
+
+        change.populateProperties(connection);
+
+        assertEquals(Map.of("1/type", "a", "1/plan", "lite"), getProperties());
+    }
+
+    @Test
+    void testPopulatePropertiesSkipsEntriesWithProperties() throws SQLException {
+        insertEntry(1, "{\"type\":\"a\"}");
+        insertEntry(2, "{\"type\":\"b\"}");
+        insertProperty(1, "type", "a");
+
+        change.populateProperties(connection);
+
+        assertEquals(Map.of("1/type", "a", "2/type", "b"), getProperties());
+    }
+
+    private void insertEntry(long id, String content) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("INSERT INTO configuration_registry VALUES (?, ?)")) {
+            statement.setLong(1, id);
+            statement.setString(2, content);
+            statement.executeUpdate();
+        }
+    }
+
+    private void insertProperty(long id, String name, String value) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("INSERT INTO configuration_entry_property VALUES (?, ?, ?)")) {
+            statement.setLong(1, id);
+            statement.setString(2, name);
+            statement.setString(3, value);
+            statement.executeUpdate();
+        }
+    }
+
+    private Map<String, String> getProperties() throws SQLException {
+        Map<String, String> properties = new HashMap<>();
+        try (Statement statement = connection.createStatement();
+            ResultSet resultSet = statement.executeQuery("SELECT * FROM configuration_entry_property")) {
+            while (resultSet.next()) {
+                properties.put(resultSet.getLong(1) + "/" + resultSet.getString(2), resultSet.getString(3));
+            }
+        }
+        return properties;
+    }
+
+}
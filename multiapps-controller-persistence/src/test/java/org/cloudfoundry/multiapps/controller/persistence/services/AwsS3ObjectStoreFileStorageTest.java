@@ -13,6 +13,11 @@ import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
 import software.amazon.awssdk.retries.StandardRetryStrategy;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
 import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
@@ -26,6 +31,8 @@ import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.S3Exception;
 import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
@@ -117,6 +124,52 @@ class AwsS3ObjectStoreFileStorageTest {
         assertThrows(FileStorageException.class, () -> fileStorage.addFile(fileEntry, inputStream));
     }
 
+    @Test
+    void testAddLargeFileWithSuccessfulUploadInParts() throws FileStorageException {
+        int fileSize = 2 * ObjectStoreConstants.AWS_OBJECT_STORE_MIN_PART_SIZE_IN_BYTES + 1;
+        FileEntry fileEntry = createFileEntry(TEST_SPACE_ID, TEST_ID, fileSize);
+        setupMultipartUpload();
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(software.amazon.awssdk.core.sync.RequestBody.class)))
+            .thenReturn(UploadPartResponse.builder()
+                                          .eTag("etag")
+                                          .build());
+
+        fileStorage.addFile(fileEntry, new ByteArrayInputStream(new byte[fileSize]));
+
+        verify(s3Client, never()).putObject(any(PutObjectRequest.class), any(software.amazon.awssdk.core.sync.RequestBody.class));
+        ArgumentCaptor<UploadPartRequest> partCaptor = ArgumentCaptor.forClass(UploadPartRequest.class);
+        verify(s3Client, times(3)).uploadPart(partCaptor.capture(), any(software.amazon.awssdk.core.sync.RequestBody.class));
+        assertEquals(1L, partCaptor.getAllValues()
+                                   .stream()
+                                   .filter(request -> request.contentLength() == 1)
+                                   .count());
+        ArgumentCaptor<CompleteMultipartUploadRequest> completeCaptor = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(s3Client).completeMultipartUpload(completeCaptor.capture());
+        assertEquals(List.of(1, 2, 3), completeCaptor.getValue()
+                                                     .multipartUpload()
+                                                     .parts()
+                                                     .stream()
+                                                     .map(CompletedPart::partNumber)
+                                                     .toList());
+        verify(s3Client, never()).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+    }
+
+    @Test
+    void testAddLargeFileWithFailedUploadOfPart() {
+        int fileSize = 2 * ObjectStoreConstants.AWS_OBJECT_STORE_MIN_PART_SIZE_IN_BYTES + 1;
+        FileEntry fileEntry = createFileEntry(TEST_SPACE_ID, TEST_ID, fileSize);
+        setupMultipartUpload();
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(software.amazon.awssdk.core.sync.RequestBody.class)))
+            .thenThrow(S3Exception.builder()
+                                  .message("upload of part failed")
+                                  .build());
+
+        assertThrows(FileStorageException.class, () -> fileStorage.addFile(fileEntry, new ByteArrayInputStream(new byte[fileSize])));
+
+        verify(s3Client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        verify(s3Client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+
     @Test
     void testGetFileEntriesWithoutContent() {
         setupListObjects(TEST_ID_2);
@@ -602,10 +655,20 @@ class AwsS3ObjectStoreFileStorageTest {
         when(s3Client.headObject(headObjectRequestForKey(key))).thenReturn(response);
     }
 
+    private void setupMultipartUpload() {
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class))).thenReturn(CreateMultipartUploadResponse.builder()
+                                                                                                                           .uploadId("upload-id")
+                                                                                                                           .build());
+    }
+
     private static FileEntry createFileEntry(String space, String id) {
+        return createFileEntry(space, id, 10);
+    }
+
+    private static FileEntry createFileEntry(String space, String id, long size) {
         return ImmutableFileEntry.builder()
                                  .space(space)
-                                 .size(BigInteger.TEN)
+                                 .size(BigInteger.valueOf(size))
                                  .modified(FILE_TIMESTAMP)
                                  .id(id)
                                  .build();
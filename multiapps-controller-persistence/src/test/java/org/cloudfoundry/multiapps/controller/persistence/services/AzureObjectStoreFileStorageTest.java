@@ -8,6 +8,7 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.List;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Stream;
@@ -15,7 +16,10 @@ import java.util.stream.Stream;
 import com.azure.core.http.rest.PagedIterable;
 import com.azure.storage.blob.BlobClient;
 import com.azure.storage.blob.BlobContainerClient;
+import com.azure.storage.blob.batch.BlobBatchClient;
+import com.azure.storage.blob.batch.BlobBatchStorageException;
 import com.azure.storage.blob.models.BlobItem;
+import com.azure.storage.blob.models.BlobRange;
 import com.azure.storage.blob.models.BlobStorageException;
 import com.azure.storage.blob.specialized.BlobInputStream;
 import org.cloudfoundry.multiapps.controller.persistence.model.FileEntry;
@@ -23,12 +27,18 @@ import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableFileEntr
 import org.cloudfoundry.multiapps.controller.persistence.monitoring.UploadDurationTracker;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
@@ -43,6 +53,9 @@ class AzureObjectStoreFileStorageTest {
     @Mock
     private BlobClient blobClient;
 
+    @Mock
+    private BlobBatchClient blobBatchClient;
+
     @Mock
     private PagedIterable pagedIterable;
 
@@ -80,6 +93,11 @@ class AzureObjectStoreFileStorageTest {
             protected BlobContainerClient createContainerClient(Map<String, Object> credentials) {
                 return blobContainerClient;
             }
+
+            @Override
+            protected BlobBatchClient createBlobBatchClient(BlobContainerClient containerClient) {
+                return blobBatchClient;
+            }
         };
 
         when(blobContainerClient.getBlobClient(anyString())).thenReturn(blobClient);
@@ -185,6 +203,30 @@ class AzureObjectStoreFileStorageTest {
         assertThrows(FileStorageException.class, () -> fileStorage.processFileContent(TEST_SPACE_ID, TEST_ID, fileContentProcessor));
     }
 
+    @Test
+    void testProcessArchiveEntryContentReadsTheEndOffset() throws FileStorageException {
+        byte[] content = { 0, 1, 2, 3, 4, 5, 6, 7 };
+        when(blobClient.openInputStream(any(BlobRange.class), any())).thenAnswer(invocation -> {
+            BlobRange blobRange = invocation.getArgument(0);
+            int offset = (int) blobRange.getOffset();
+            int count = blobRange.getCount()
+                                 .intValue();
+            InputStream rangeContent = new ByteArrayInputStream(Arrays.copyOfRange(content, offset, Math.min(offset + count,
+                                                                                                             content.length)));
+            return Mockito.mock(BlobInputStream.class, AdditionalAnswers.delegatesTo(rangeContent));
+        });
+        FileContentToProcess fileContentToProcess = ImmutableFileContentToProcess.builder()
+                                                                                 .guid(TEST_ID)
+                                                                                 .spaceGuid(TEST_SPACE_ID)
+                                                                                 .startOffset(2L)
+                                                                                 .endOffset(5L)
+                                                                                 .build();
+
+        byte[] result = fileStorage.processArchiveEntryContent(fileContentToProcess, InputStream::readAllBytes);
+
+        assertArrayEquals(new byte[] { 2, 3, 4, 5 }, result);
+    }
+
     @Test
     void testDeleteFilesBySpaceIdsWithAllMatchingItems() throws FileStorageException {
         setupDeleteMethods(createFirstTestBlobItem(), createSecondTestBlobItem());
@@ -257,11 +299,38 @@ class AzureObjectStoreFileStorageTest {
 
     @Test
     void testDeleteFilesByIds() throws FileStorageException {
-        setupDeleteMethods(createFirstTestBlobItem(), createSecondTestBlobItem());
+        when(blobBatchClient.deleteBlobs(anyList(), any())).thenReturn(pagedIterable);
+        List<String> fileIds = Stream.generate(() -> TEST_ID)
+                                     .limit(300)
+                                     .toList();
 
-        fileStorage.deleteFilesByIds(List.of(TEST_ID));
+        fileStorage.deleteFilesByIds(fileIds);
 
-        verify(blobClient).deleteIfExists();
+        verify(blobBatchClient).deleteBlobs(argThat(blobUrls -> blobUrls.size() == 256), any());
+        verify(blobBatchClient).deleteBlobs(argThat(blobUrls -> blobUrls.size() == 44), any());
+        verify(blobClient, times(0)).deleteIfExists();
+    }
+
+    @Test
+    void testDeleteFilesByIdsWhichDoNotExist() {
+        BlobStorageException notFoundException = Mockito.mock(BlobStorageException.class);
+        when(notFoundException.getStatusCode()).thenReturn(404);
+        BlobBatchStorageException batchException = Mockito.mock(BlobBatchStorageException.class);
+        when(batchException.getBatchExceptions()).thenReturn(List.of(notFoundException));
+        when(blobBatchClient.deleteBlobs(anyList(), any())).thenThrow(batchException);
+
+        assertDoesNotThrow(() -> fileStorage.deleteFilesByIds(List.of(TEST_ID)));
+    }
+
+    @Test
+    void testDeleteFilesByIdsWithException() {
+        BlobStorageException exception = Mockito.mock(BlobStorageException.class);
+        when(exception.getStatusCode()).thenReturn(500);
+        BlobBatchStorageException batchException = Mockito.mock(BlobBatchStorageException.class);
+        when(batchException.getBatchExceptions()).thenReturn(List.of(exception));
+        when(blobBatchClient.deleteBlobs(anyList(), any())).thenThrow(batchException);
+
+        assertThrows(FileStorageException.class, () -> fileStorage.deleteFilesByIds(List.of(TEST_ID)));
     }
 
     private void setupDeleteMethods(BlobItem... blobItems) {
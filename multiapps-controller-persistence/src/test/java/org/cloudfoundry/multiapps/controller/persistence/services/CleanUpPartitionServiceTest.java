@@ -0,0 +1,139 @@
+package org.cloudfoundry.multiapps.controller.persistence.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+
+import org.cloudfoundry.multiapps.controller.persistence.model.CleanUpPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class CleanUpPartitionServiceTest {
+
+    private static final String PARTITION_NAME = "FilesCleaner";
+    private static final String LEASE_OWNER = "ds-guid/0";
+    private static final String OTHER_LEASE_OWNER = "ds-guid/1";
+    private static final Duration LEASE_DURATION = Duration.ofHours(3);
+
+    private final CleanUpPartitionService cleanUpPartitionService = createCleanUpPartitionService();
+
+    @AfterEach
+    void cleanUp() {
+        cleanUpPartitionService.createQuery()
+                               .delete();
+    }
+
+    @Test
+    void testLeaseIsAcquiredOnNewPartition() {
+        assertTrue(cleanUpPartitionService.tryAcquireLease(PARTITION_NAME, LEASE_OWNER, LEASE_DURATION, getRunStartTime()));
+
+        CleanUpPartition partition = getPartition();
+        assertEquals(LEASE_OWNER, partition.getLeaseOwner());
+        assertNotNull(partition.getLeaseExpiresAt());
+        assertNotNull(partition.getLastStartedAt());
+    }
+
+    @Test
+    void testLeaseIsNotAcquiredWhileHeldByAnotherOwner() {
+        cleanUpPartitionService.tryAcquireLease(PARTITION_NAME, OTHER_LEASE_OWNER, LEASE_DURATION, getRunStartTime());
+
+        assertFalse(cleanUpPartitionService.tryAcquireLease(PARTITION_NAME, LEASE_OWNER, LEASE_DURATION, getRunStartTime()));
+        assertEquals(OTHER_LEASE_OWNER, getPartition().getLeaseOwner());
+    }
+
+    @Test
+    void testExpiredLeaseIsAcquired() {
+        cleanUpPartitionService.tryAcquireLease(PARTITION_NAME, OTHER_LEASE_OWNER, Duration.ofMillis(-1), getRunStartTime());
+
+        assertTrue(cleanUpPartitionService.tryAcquireLease(PARTITION_NAME, LEASE_OWNER, LEASE_DURATION, getRunStartTime()));
+        assertEquals(LEASE_OWNER, getPartition().getLeaseOwner());
+    }
+
+    @Test
+    void testReleasedLeaseRecordsStatistics() {
+        cleanUpPartitionService.tryAcquireLease(PARTITION_NAME, LEASE_OWNER, LEASE_DURATION, getRunStartTime());
+
+        cleanUpPartitionService.releaseLease(PARTITION_NAME, LEASE_OWNER, 42L, 1000);
+
+        CleanUpPartition partition = getPartition();
+        assertNull(partition.getLeaseOwner());
+        assertNull(partition.getLeaseExpiresAt());
+        assertNotNull(partition.getLastFinishedAt());
+        assertEquals(42L, partition.getLastCleanedItems());
+        assertEquals(1000L, partition.getLastDurationInMillis());
+    }
+
+    @Test
+    void testAbandonedLeaseDoesNotMarkPartitionAsFinished() {
+        cleanUpPartitionService.tryAcquireLease(PARTITION_NAME, LEASE_OWNER, LEASE_DURATION, getRunStartTime());
+
+        cleanUpPartitionService.abandonLease(PARTITION_NAME, LEASE_OWNER);
+
+        CleanUpPartition partition = getPartition();
+        assertNull(partition.getLeaseOwner());
+        assertNull(partition.getLeaseExpiresAt());
+        assertNull(partition.getLastFinishedAt());
+        assertTrue(cleanUpPartitionService.tryAcquireLease(PARTITION_NAME, OTHER_LEASE_OWNER, LEASE_DURATION, getRunStartTime()));
+    }
+
+    @Test
+    void testLeaseIsNotReleasedByAnotherOwner() {
+        cleanUpPartitionService.tryAcquireLease(PARTITION_NAME, LEASE_OWNER, LEASE_DURATION, getRunStartTime());
+
+        cleanUpPartitionService.releaseLease(PARTITION_NAME, OTHER_LEASE_OWNER, 42L, 1000);
+
+        assertEquals(LEASE_OWNER, getPartition().getLeaseOwner());
+    }
+
+    @Test
+    void testPartitionFinishedInTheSameRunIsNotLeasedAgain() {
+        cleanUpPartitionService.tryAcquireLease(PARTITION_NAME, OTHER_LEASE_OWNER, LEASE_DURATION, getRunStartTime());
+        cleanUpPartitionService.releaseLease(PARTITION_NAME, OTHER_LEASE_OWNER, 42L, 1000);
+
+        assertFalse(cleanUpPartitionService.tryAcquireLease(PARTITION_NAME, LEASE_OWNER, LEASE_DURATION, getRunStartTime()));
+        assertTrue(cleanUpPartitionService.tryAcquireLease(PARTITION_NAME, LEASE_OWNER, LEASE_DURATION, LocalDateTime.now()
+                                                                                                                   .plusMinutes(1)));
+    }
+
+    @Test
+    void testQueryUnfinishedPartitions() {
+        cleanUpPartitionService.tryAcquireLease(PARTITION_NAME, LEASE_OWNER, LEASE_DURATION, getRunStartTime());
+        cleanUpPartitionService.tryAcquireLease("TokensCleaner", LEASE_OWNER, LEASE_DURATION, getRunStartTime());
+        cleanUpPartitionService.releaseLease("TokensCleaner", LEASE_OWNER, 0L, 10);
+
+        List<CleanUpPartition> unfinishedPartitions = cleanUpPartitionService.createQuery()
+                                                                             .withNameAnyOf(List.of(PARTITION_NAME, "TokensCleaner"))
+                                                                             .notFinishedSince(getRunStartTime())
+                                                                             .list();
+
+        assertEquals(1, unfinishedPartitions.size());
+        assertEquals(PARTITION_NAME, unfinishedPartitions.get(0)
+                                                         .getName());
+    }
+
+    private CleanUpPartition getPartition() {
+        return cleanUpPartitionService.createQuery()
+                                      .name(PARTITION_NAME)
+                                      .singleResult();
+    }
+
+    private static LocalDateTime getRunStartTime() {
+        return LocalDateTime.now()
+                            .minus(LEASE_DURATION);
+    }
+
+    private static CleanUpPartitionService createCleanUpPartitionService() {
+        EntityManagerFactory entityManagerFactory = Persistence.createEntityManagerFactory("TestDefault");
+        return new CleanUpPartitionService(entityManagerFactory, new CleanUpPartitionService.CleanUpPartitionMapper());
+    }
+
+}
@@ -6,7 +6,10 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import java.text.MessageFormat;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.Persistence;
 
@@ -30,6 +33,7 @@ class ConfigurationEntryServiceTest {
                                                                                              "namespace", "org3", "space3", "content3");
     private static final List<ConfigurationEntry> ALL_ENTRIES = List.of(CONFIGURATION_ENTRY_1, CONFIGURATION_ENTRY_2,
                                                                         CONFIGURATION_ENTRY_3);
+    private final EntityManagerFactory entityManagerFactory = Persistence.createEntityManagerFactory("TestDefault");
     private final ConfigurationEntryService configurationEntryService = createConfigurationEntryService();
 
     @AfterEach
@@ -141,6 +145,57 @@ class ConfigurationEntryServiceTest {
 
     }
 
+    @Test
+    void testQueryByRequiredProperties() {
+        ConfigurationEntry entryA = createConfigurationEntry(4L, "providerNid4", "providerId4", "1.0", null, "org4", "space4",
+                                                             "{\"type\":\"a\",\"replicas\":1}");
+        ConfigurationEntry entryB = createConfigurationEntry(5L, "providerNid5", "providerId5", "1.0", null, "org5", "space5",
+                                                             "{\"type\":\"b\",\"replicas\":1}");
+        addConfigurationEntries(List.of(entryA, entryB));
+
+        assertEquals(List.of("providerId4"), getProviderIdsOfEntriesWithProperties(Map.of("type", "a")));
+        assertEquals(List.of("providerId4"), getProviderIdsOfEntriesWithProperties(Map.of("type", "a", "replicas", 1)));
+        assertEquals(List.of(), getProviderIdsOfEntriesWithProperties(Map.of("type", "a", "replicas", 2)));
+        assertEquals(List.of(), getProviderIdsOfEntriesWithProperties(Map.of("type", "c")));
+    }
+
+    @Test
+    void testQueryByRequiredPropertiesMatchesEntriesWithoutIndexedProperties() {
+        ConfigurationEntry entryA = createConfigurationEntry(4L, "providerNid4", "providerId4", "1.0", null, "org4", "space4",
+                                                             "{\"type\":\"a\"}");
+        ConfigurationEntry entryB = createConfigurationEntry(5L, "providerNid5", "providerId5", "1.0", null, "org5", "space5",
+                                                             "{\"type\":\"b\"}");
+        addConfigurationEntries(List.of(entryA, entryB));
+        // Simulates entries written by an older version of the application, which did not index their properties:
+        deleteIndexedProperties();
+
+        assertEquals(List.of("providerId4"), getProviderIdsOfEntriesWithProperties(Map.of("type", "a")));
+        assertEquals(List.of(), getProviderIdsOfEntriesWithProperties(Map.of("type", "c")));
+    }
+
+    private void deleteIndexedProperties() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.getTransaction()
+                         .begin();
+            entityManager.createNativeQuery("DELETE FROM configuration_entry_property")
+                         .executeUpdate();
+            entityManager.getTransaction()
+                         .commit();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    private List<String> getProviderIdsOfEntriesWithProperties(Map<String, Object> requiredProperties) {
+        return configurationEntryService.createQuery()
+                                        .requiredProperties(requiredProperties)
+                                        .list()
+                                        .stream()
+                                        .map(ConfigurationEntry::getProviderId)
+                                        .collect(Collectors.toList());
+    }
+
     private void testQueryByCriteria(ConfigurationEntryQueryBuilder configurationEntryQueryBuilder) {
 
         addConfigurationEntries(ALL_ENTRIES);
@@ -191,7 +246,6 @@ class ConfigurationEntryServiceTest {
     }
 
     private ConfigurationEntryService createConfigurationEntryService() {
-        EntityManagerFactory entityManagerFactory = Persistence.createEntityManagerFactory("TestDefault");
         ConfigurationEntryService configurationEntryService = new ConfigurationEntryService(entityManagerFactory);
         configurationEntryService.entryMapper = new ConfigurationEntryMapper();
         return configurationEntryService;
@@ -22,6 +22,7 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
 import java.util.UUID;
@@ -106,6 +107,24 @@ class DatabaseFileServiceTest {
         verifyFileEntry(getFileEntry, space, namespace);
     }
 
+    @Test
+    void addFileWithIdTest() throws Exception {
+        String fileId = UUID.randomUUID()
+                            .toString();
+        FileEntry fileEntry = fileService.addFileWithId(ImmutableFileEntry.builder()
+                                                                          .id(fileId)
+                                                                          .space(SPACE_1)
+                                                                          .namespace(NAMESPACE_1)
+                                                                          .name(PIC_STORAGE_NAME)
+                                                                          .size(BigInteger.valueOf(PIC_SIZE))
+                                                                          .build(),
+                                                        getResource(PIC_RESOURCE_NAME));
+        verifyFileIsStored(fileEntry);
+
+        assertEquals(fileId, fileEntry.getId());
+        verifyFileEntry(fileService.getFile(SPACE_1, fileId), SPACE_1, NAMESPACE_1);
+    }
+
     @Test
     void processFileContentTest() throws Exception {
         Path expectedFile = Paths.get("src/test/resources/", PIC_RESOURCE_NAME);
@@ -207,6 +226,19 @@ class DatabaseFileServiceTest {
         }
     }
 
+    @Test
+    void testProcessSeekableFileContent() throws Exception {
+        FileEntry fileEntry = addTestFile(SPACE_1, NAMESPACE_1);
+        byte[] existingFileContent = IOUtils.toByteArray(getResource(PIC_RESOURCE_NAME));
+
+        byte[] fileContentRange = fileService.processSeekableFileContent(SPACE_1, fileEntry.getId(), fileContent -> {
+            assertEquals(PIC_SIZE, fileContent.getSize());
+            return fileContent.read(PIC_SIZE - 100, PIC_SIZE - 1);
+        });
+
+        assertArrayEquals(Arrays.copyOfRange(existingFileContent, PIC_SIZE - 100, PIC_SIZE), fileContentRange);
+    }
+
     protected FileService createFileService(DataSourceWithDialect dataSource) {
         return new DatabaseFileService(dataSource);
     }
@@ -0,0 +1,286 @@
+package org.cloudfoundry.multiapps.controller.persistence.services;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.xml.bind.DatatypeConverter;
+import org.cloudfoundry.multiapps.controller.persistence.Constants;
+import org.cloudfoundry.multiapps.controller.persistence.model.FileEntry;
+import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableFileEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileContentCacheTest {
+
+    private static final String SPACE = "space";
+    private static final int FILE_SIZE = 1024 * 1024;
+    private static final long MAX_SIZE_IN_BYTES = 2L * FILE_SIZE;
+
+    @TempDir
+    private Path directory;
+
+    private FileContentCache fileContentCache;
+
+    @BeforeEach
+    void setUp() {
+        fileContentCache = new FileContentCache(directory, MAX_SIZE_IN_BYTES, Runnable::run);
+    }
+
+    @Test
+    void testOpenCachedContent() throws Exception {
+        byte[] content = createContent((byte) 1);
+        FileEntry fileEntry = createFileEntry(content);
+
+        cache(fileEntry, content);
+
+        try (InputStream cachedContent = fileContentCache.open(SPACE, fileEntry.getId())) {
+            assertArrayEquals(content, cachedContent.readAllBytes());
+        }
+        assertEquals(FILE_SIZE, fileContentCache.getSizeInBytes());
+    }
+
+    @Test
+    void testOpenRangeOfCachedContent() throws Exception {
+        byte[] content = createContent((byte) 1);
+        content[10] = 2;
+        content[11] = 3;
+        FileEntry fileEntry = createFileEntry(content);
+        cache(fileEntry, content);
+
+        try (InputStream cachedContent = fileContentCache.open(SPACE, fileEntry.getId(), 10, 11)) {
+            assertArrayEquals(new byte[] { 2, 3 }, cachedContent.readAllBytes());
+        }
+    }
+
+    @Test
+    void testOpenContentWhichIsNotCached() throws IOException {
+        assertNull(fileContentCache.open(SPACE, UUID.randomUUID()
+                                                    .toString()));
+    }
+
+    @Test
+    void testOpenCachedContentFromAnotherSpace() throws Exception {
+        byte[] content = createContent((byte) 1);
+        FileEntry fileEntry = createFileEntry(content);
+        cache(fileEntry, content);
+
+        assertNull(fileContentCache.open("another-space", fileEntry.getId()));
+    }
+
+    @Test
+    void testContentWithWrongDigestIsNotCached() throws Exception {
+        FileEntry fileEntry = createFileEntry(createContent((byte) 1));
+
+        cache(fileEntry, createContent((byte) 2));
+
+        assertNull(fileContentCache.open(SPACE, fileEntry.getId()));
+        assertEquals(0, fileContentCache.getSizeInBytes());
+        assertEmptyDirectory();
+    }
+
+    @Test
+    void testContentWhichCannotBeDownloadedIsNotCached() throws IOException {
+        byte[] content = createContent((byte) 1);
+        FileEntry fileEntry = createFileEntry(content);
+        FileContentCache.ContentDownloader failingContentDownloader = outputStream -> {
+            outputStream.write(content, 0, 1);
+            throw new IOException("Connection reset");
+        };
+
+        fileContentCache.fill(fileEntry, failingContentDownloader)
+                        .join();
+
+        assertNull(fileContentCache.open(SPACE, fileEntry.getId()));
+        assertEquals(0, fileContentCache.getSizeInBytes());
+        assertEmptyDirectory();
+    }
+
+    @Test
+    void testOnlyOneFillOfFileAtATime() throws Exception {
+        byte[] content = createContent((byte) 1);
+        FileEntry fileEntry = createFileEntry(content);
+        List<Runnable> downloads = new ArrayList<>();
+        fileContentCache = new FileContentCache(directory, MAX_SIZE_IN_BYTES, downloads::add);
+        AtomicInteger downloadsCount = new AtomicInteger();
+        FileContentCache.ContentDownloader contentDownloader = outputStream -> {
+            downloadsCount.incrementAndGet();
+            outputStream.write(content);
+        };
+
+        CompletableFuture<Void> fill = fileContentCache.fill(fileEntry, contentDownloader);
+        assertSame(fill, fileContentCache.fill(fileEntry, contentDownloader));
+        downloads.forEach(Runnable::run);
+
+        assertTrue(fill.isDone());
+        assertFalse(fileContentCache.awaitFill(fileEntry.getId()));
+        assertTrue(fileContentCache.fill(fileEntry, contentDownloader)
+                                   .isDone());
+        assertEquals(1, downloadsCount.get());
+        try (InputStream cachedContent = fileContentCache.open(SPACE, fileEntry.getId())) {
+            assertArrayEquals(content, cachedContent.readAllBytes());
+        }
+    }
+
+    @Test
+    void testAwaitFill() throws Exception {
+        byte[] content = createContent((byte) 1);
+        FileEntry fileEntry = createFileEntry(content);
+        List<Runnable> downloads = new ArrayList<>();
+        fileContentCache = new FileContentCache(directory, MAX_SIZE_IN_BYTES, downloads::add);
+        fileContentCache.fill(fileEntry, outputStream -> outputStream.write(content));
+        CompletableFuture<byte[]> waitingReader = CompletableFuture.supplyAsync(() -> {
+            try {
+                fileContentCache.awaitFill(fileEntry.getId());
+                try (InputStream cachedContent = fileContentCache.open(SPACE, fileEntry.getId())) {
+                    return cachedContent.readAllBytes();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        downloads.forEach(Runnable::run);
+
+        assertArrayEquals(content, waitingReader.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testFillIsNotStartedWithoutSpaceForIt() {
+        List<Runnable> downloads = new ArrayList<>();
+        fileContentCache = new FileContentCache(directory, MAX_SIZE_IN_BYTES, downloads::add);
+        for (byte value = 1; value <= 2; value++) {
+            byte[] content = createContent(value);
+            assertNotNull(fileContentCache.fill(createFileEntry(content), outputStream -> outputStream.write(content)));
+        }
+
+        byte[] content = createContent((byte) 3);
+        assertNull(fileContentCache.fill(createFileEntry(content), outputStream -> outputStream.write(content)));
+        assertEquals(MAX_SIZE_IN_BYTES, fileContentCache.getSizeInBytes());
+
+        downloads.forEach(Runnable::run);
+        assertEquals(MAX_SIZE_IN_BYTES, fileContentCache.getSizeInBytes());
+        assertEquals(2, fileContentCache.getCachedFilesCount());
+    }
+
+    @Test
+    void testFillOfFileWhichIsNotCacheable() {
+        byte[] content = createContent((byte) 1);
+        FileEntry fileEntry = ImmutableFileEntry.copyOf(createFileEntry(content))
+                                                .withDigest(null);
+
+        assertNull(fileContentCache.fill(fileEntry, outputStream -> outputStream.write(content)));
+    }
+
+    @Test
+    void testRecordAccess() {
+        String id = UUID.randomUUID()
+                        .toString();
+
+        assertFalse(fileContentCache.recordAccess(id));
+        assertTrue(fileContentCache.recordAccess(id));
+    }
+
+    @Test
+    void testLeastRecentlyUsedContentIsEvicted() throws Exception {
+        byte[] firstContent = createContent((byte) 1);
+        byte[] secondContent = createContent((byte) 2);
+        byte[] thirdContent = createContent((byte) 3);
+        FileEntry firstFileEntry = createFileEntry(firstContent);
+        FileEntry secondFileEntry = createFileEntry(secondContent);
+        FileEntry thirdFileEntry = createFileEntry(thirdContent);
+        cache(firstFileEntry, firstContent);
+        cache(secondFileEntry, secondContent);
+        fileContentCache.open(SPACE, firstFileEntry.getId())
+                        .close();
+
+        cache(thirdFileEntry, thirdContent);
+
+        assertNotNull(fileContentCache.open(SPACE, firstFileEntry.getId()));
+        assertNull(fileContentCache.open(SPACE, secondFileEntry.getId()));
+        assertNotNull(fileContentCache.open(SPACE, thirdFileEntry.getId()));
+        assertEquals(MAX_SIZE_IN_BYTES, fileContentCache.getSizeInBytes());
+    }
+
+    @Test
+    void testInvalidate() throws Exception {
+        byte[] content = createContent((byte) 1);
+        FileEntry fileEntry = createFileEntry(content);
+        cache(fileEntry, content);
+
+        fileContentCache.invalidate(cachedFileEntry -> SPACE.equals(cachedFileEntry.getSpace()));
+
+        assertNull(fileContentCache.open(SPACE, fileEntry.getId()));
+        assertEquals(0, fileContentCache.getSizeInBytes());
+        assertEmptyDirectory();
+    }
+
+    @Test
+    void testIsCacheable() {
+        FileEntry fileEntry = createFileEntry(createContent((byte) 1));
+
+        assertTrue(fileContentCache.isCacheable(fileEntry));
+        assertFalse(fileContentCache.isCacheable(ImmutableFileEntry.copyOf(fileEntry)
+                                                                   .withSize(BigInteger.ONE)));
+        assertFalse(fileContentCache.isCacheable(ImmutableFileEntry.copyOf(fileEntry)
+                                                                   .withSize(BigInteger.valueOf(MAX_SIZE_IN_BYTES + 1))));
+        assertFalse(fileContentCache.isCacheable(ImmutableFileEntry.copyOf(fileEntry)
+                                                                   .withDigest(null)));
+        assertFalse(fileContentCache.isCacheable(ImmutableFileEntry.copyOf(fileEntry)
+                                                                   .withId("../" + fileEntry.getId())));
+    }
+
+    private static byte[] createContent(byte value) {
+        byte[] content = new byte[FILE_SIZE];
+        Arrays.fill(content, value);
+        return content;
+    }
+
+    private static FileEntry createFileEntry(byte[] content) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance(Constants.DIGEST_ALGORITHM);
+            return ImmutableFileEntry.builder()
+                                     .id(UUID.randomUUID()
+                                             .toString())
+                                     .space(SPACE)
+                                     .size(BigInteger.valueOf(content.length))
+                                     .digest(DatatypeConverter.printHexBinary(messageDigest.digest(content)))
+                                     .digestAlgorithm(Constants.DIGEST_ALGORITHM)
+                                     .build();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void cache(FileEntry fileEntry, byte[] content) {
+        fileContentCache.fill(fileEntry, outputStream -> outputStream.write(content))
+                        .join();
+    }
+
+    private void assertEmptyDirectory() throws IOException {
+        try (var files = Files.list(directory)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+}
@@ -1,5 +1,6 @@
 package org.cloudfoundry.multiapps.controller.persistence.services;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -10,9 +11,12 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.math.BigInteger;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
 
 import org.apache.commons.io.IOUtils;
@@ -22,6 +26,7 @@ import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableFileEntr
 import org.cloudfoundry.multiapps.controller.persistence.query.providers.ExternalSqlFileQueryProvider;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
@@ -141,9 +146,20 @@ class FileServiceTest extends DatabaseFileServiceTest {
     void deleteByModificationTimeTest() throws Exception {
         super.deleteByModificationTimeTest();
         Mockito.verify(fileStorage)
+               .deleteFilesByIds(Mockito.argThat(fileIds -> fileIds.size() == 2));
+        Mockito.verify(fileStorage, Mockito.never())
                .deleteFilesModifiedBefore(Mockito.any());
     }
 
+    @Test
+    void deleteOrphanedContentModifiedBeforeTest() throws Exception {
+        LocalDateTime modificationTime = LocalDateTime.now();
+        Mockito.when(fileStorage.deleteFilesModifiedBefore(modificationTime))
+               .thenReturn(3);
+
+        assertEquals(3, fileService.deleteOrphanedContentModifiedBefore(modificationTime));
+    }
+
     @Test
     @Override
     void testOpenInputStream() throws Exception {
@@ -154,6 +170,22 @@ class FileServiceTest extends DatabaseFileServiceTest {
                .openInputStream(anyString(), anyString());
     }
 
+    @Test
+    @Override
+    void testProcessSeekableFileContent() throws Exception {
+        when(fileStorage.processArchiveEntryContent(Mockito.any(), Mockito.any())).thenAnswer(invocation -> {
+            FileContentToProcess fileContentToProcess = invocation.getArgument(0);
+            FileContentProcessor<?> fileContentProcessor = invocation.getArgument(1);
+            byte[] content = IOUtils.toByteArray(getResource(PIC_RESOURCE_NAME));
+            return fileContentProcessor.process(new ByteArrayInputStream(content, (int) fileContentToProcess.getStartOffset(),
+                                                                         (int) (fileContentToProcess.getEndOffset()
+                                                                             - fileContentToProcess.getStartOffset() + 1)));
+        });
+        super.testProcessSeekableFileContent();
+        Mockito.verify(fileStorage)
+               .processArchiveEntryContent(Mockito.any(), Mockito.any());
+    }
+
     @Test
     void listFilesReturnsOnlyEntriesExistingInObjectStore() throws Exception {
         FileEntry existingInBoth = addTestFile(SPACE_1, NAMESPACE_1);
@@ -254,6 +286,75 @@ class FileServiceTest extends DatabaseFileServiceTest {
         return fileEntry;
     }
 
+    @Test
+    void processFileContentFromFileContentCacheTest(@TempDir Path cacheDirectory) throws Exception {
+        FileEntry fileEntry = addTestFile(SPACE_1, NAMESPACE_1);
+        FileService cachingFileService = createCachingFileService(cacheDirectory, fileEntry);
+        byte[] expectedContent = IOUtils.toByteArray(getResource(PIC_RESOURCE_NAME));
+
+        assertArrayEquals(expectedContent, cachingFileService.processFileContent(SPACE_1, fileEntry.getId(), InputStream::readAllBytes));
+        assertEquals(0, cachingFileService.getCachedContentFilesCount());
+        assertArrayEquals(expectedContent, cachingFileService.processFileContent(SPACE_1, fileEntry.getId(), InputStream::readAllBytes));
+        assertEquals(1, cachingFileService.getCachedContentFilesCount());
+        assertArrayEquals(expectedContent, cachingFileService.processFileContent(SPACE_1, fileEntry.getId(), InputStream::readAllBytes));
+
+        Mockito.verify(fileStorage, Mockito.times(2))
+               .processFileContent(Mockito.eq(SPACE_1), Mockito.eq(fileEntry.getId()), Mockito.any());
+    }
+
+    @Test
+    void processFileContentWithOffsetFromFileContentCacheTest(@TempDir Path cacheDirectory) throws Exception {
+        FileEntry fileEntry = addTestFile(SPACE_1, NAMESPACE_1);
+        FileService cachingFileService = createCachingFileService(cacheDirectory, fileEntry);
+        byte[] expectedContent = Arrays.copyOfRange(IOUtils.toByteArray(getResource(PIC_RESOURCE_NAME)), 10, 20);
+        FileContentToProcess fileContentToProcess = ImmutableFileContentToProcess.builder()
+                                                                                 .guid(fileEntry.getId())
+                                                                                 .spaceGuid(SPACE_1)
+                                                                                 .startOffset(10)
+                                                                                 .endOffset(19)
+                                                                                 .build();
+        Mockito.when(fileStorage.processArchiveEntryContent(Mockito.eq(fileContentToProcess), Mockito.any()))
+               .thenAnswer(invocation -> ((FileContentProcessor<?>) invocation.getArgument(1)).process(
+                   new ByteArrayInputStream(expectedContent)));
+
+        for (int i = 0; i < 2; i++) {
+            assertArrayEquals(expectedContent,
+                              cachingFileService.processFileContentWithOffset(fileContentToProcess, InputStream::readAllBytes));
+        }
+
+        assertEquals(1, cachingFileService.getCachedContentFilesCount());
+        Mockito.verify(fileStorage)
+               .processArchiveEntryContent(Mockito.eq(fileContentToProcess), Mockito.any());
+        Mockito.verify(fileStorage)
+               .processFileContent(Mockito.eq(SPACE_1), Mockito.eq(fileEntry.getId()), Mockito.any());
+    }
+
+    @Test
+    void openInputStreamFromFileContentCacheTest(@TempDir Path cacheDirectory) throws Exception {
+        FileEntry fileEntry = addTestFile(SPACE_1, NAMESPACE_1);
+        FileService cachingFileService = createCachingFileService(cacheDirectory, fileEntry);
+        byte[] expectedContent = IOUtils.toByteArray(getResource(PIC_RESOURCE_NAME));
+
+        for (int i = 0; i < 2; i++) {
+            try (InputStream content = cachingFileService.openInputStream(SPACE_1, fileEntry.getId())) {
+                assertArrayEquals(expectedContent, content.readAllBytes());
+            }
+        }
+
+        Mockito.verify(fileStorage, Mockito.never())
+               .openInputStream(Mockito.any(), Mockito.any());
+        Mockito.verify(fileStorage)
+               .processFileContent(Mockito.eq(SPACE_1), Mockito.eq(fileEntry.getId()), Mockito.any());
+    }
+
+    private FileService createCachingFileService(Path cacheDirectory, FileEntry fileEntry) throws FileStorageException {
+        Mockito.when(fileStorage.processFileContent(Mockito.eq(SPACE_1), Mockito.eq(fileEntry.getId()), Mockito.any()))
+               .thenAnswer(invocation -> ((FileContentProcessor<?>) invocation.getArgument(2)).process(getResource(PIC_RESOURCE_NAME)));
+        return new FileService(testDataSource,
+                               new ExternalSqlFileQueryProvider(FileService.DEFAULT_TABLE_NAME, testDataSource.getDataSourceDialect()),
+                               fileStorage, new FileContentCache(cacheDirectory, 2L * PIC_SIZE));
+    }
+
     @Override
     protected FileService createFileService(DataSourceWithDialect dataSource) {
         ExternalSqlFileQueryProvider externalSqlFileQueryProvider = new ExternalSqlFileQueryProvider(FileService.DEFAULT_TABLE_NAME,
@@ -156,6 +156,17 @@ class GcpObjectStoreFileStorageTest extends JCloudsObjectStoreFileStorageTest {
         verify(mockedStorage).get(List.of(BlobId.of(CONTAINER, entry.getId())));
     }
 
+    @Override
+    @Test
+    void testDeleteFilesByIds() throws Exception {
+        FileEntry firstEntry = createFileEntryWithRandomId();
+        FileEntry secondEntry = createFileEntryWithRandomId();
+
+        mockedGcpFileStorage.deleteFilesByIds(List.of(firstEntry.getId(), secondEntry.getId()));
+
+        verify(mockedStorage).delete(List.of(BlobId.of(CONTAINER, firstEntry.getId()), BlobId.of(CONTAINER, secondEntry.getId())));
+    }
+
     @Override
     @Test
     void testConnection() {
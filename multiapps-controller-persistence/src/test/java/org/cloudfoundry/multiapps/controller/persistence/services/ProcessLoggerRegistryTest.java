@@ -0,0 +1,71 @@
+package org.cloudfoundry.multiapps.controller.persistence.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.apache.logging.log4j.core.layout.AbstractStringLayout;
+import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableOperationLogEntry;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class ProcessLoggerRegistryTest {
+
+    private static final String OPERATION_ID = "test-operation-id";
+    private static final String SECOND_OPERATION_ID = "test-second-operation-id";
+    private static final String ACTIVITY_ID = "test-activity-id";
+    private static final String SECOND_ACTIVITY_ID = "test-second-activity-id";
+
+    private final ProcessLoggerRegistry processLoggerRegistry = new ProcessLoggerRegistry();
+
+    @Test
+    void testGetReturnsOnlyLoggersOfActivity() {
+        ProcessLogger processLogger = createProcessLogger(OPERATION_ID, ACTIVITY_ID);
+        processLoggerRegistry.add(processLogger);
+        processLoggerRegistry.add(createProcessLogger(OPERATION_ID, SECOND_ACTIVITY_ID));
+        processLoggerRegistry.add(createProcessLogger(SECOND_OPERATION_ID, ACTIVITY_ID));
+
+        assertEquals(List.of(processLogger), processLoggerRegistry.get(OPERATION_ID, ACTIVITY_ID));
+        assertEquals(3, processLoggerRegistry.size());
+    }
+
+    @Test
+    void testRemove() {
+        ProcessLogger processLogger = createProcessLogger(OPERATION_ID, ACTIVITY_ID);
+        ProcessLogger secondProcessLogger = createProcessLogger(OPERATION_ID, ACTIVITY_ID);
+        processLoggerRegistry.add(processLogger);
+        processLoggerRegistry.add(secondProcessLogger);
+
+        processLoggerRegistry.remove(processLogger);
+        assertEquals(List.of(secondProcessLogger), processLoggerRegistry.get(OPERATION_ID, ACTIVITY_ID));
+
+        processLoggerRegistry.remove(secondProcessLogger);
+        processLoggerRegistry.remove(secondProcessLogger);
+        assertTrue(processLoggerRegistry.get(OPERATION_ID, ACTIVITY_ID)
+                                        .isEmpty());
+        assertEquals(0, processLoggerRegistry.size());
+    }
+
+    @Test
+    void testEvictLoggersOlderThan() {
+        processLoggerRegistry.add(createProcessLogger(OPERATION_ID, ACTIVITY_ID));
+        processLoggerRegistry.add(createProcessLogger(OPERATION_ID, ACTIVITY_ID));
+
+        processLoggerRegistry.evictLoggersOlderThan(Duration.ofHours(1));
+        assertEquals(2, processLoggerRegistry.size());
+
+        processLoggerRegistry.evictLoggersOlderThan(Duration.ofMillis(-1));
+        assertEquals(0, processLoggerRegistry.size());
+        assertTrue(processLoggerRegistry.get(OPERATION_ID, ACTIVITY_ID)
+                                        .isEmpty());
+    }
+
+    private static ProcessLogger createProcessLogger(String operationId, String activityId) {
+        return new ProcessLogger(ImmutableOperationLogEntry.builder()
+                                                           .operationId(operationId)
+                                                           .build(),
+                                 operationId + ".OPERATION", Mockito.mock(AbstractStringLayout.class), activityId);
+    }
+}
@@ -0,0 +1,104 @@
+package org.cloudfoundry.multiapps.controller.persistence.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.cloudfoundry.multiapps.controller.persistence.DataSourceWithDialect;
+import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableOperationLogEntry;
+import org.cloudfoundry.multiapps.controller.persistence.test.TestDataSourceProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ProcessLogsPersistenceServiceTest {
+
+    private static final String LIQUIBASE_CHANGELOG_LOCATION = "org/cloudfoundry/multiapps/controller/persistence/db/changelog/db-changelog.xml";
+    private static final String SPACE = "myspace";
+    private static final String LOG_NAME = "OPERATION.log";
+    private static final List<String> LOG_CHUNKS = List.of("first line\n", "second line with ünicode\n", "third line\n");
+    private static final String LOG_CONTENT = String.join("", LOG_CHUNKS);
+
+    private final String operationId = UUID.randomUUID()
+                                           .toString();
+    private DataSourceWithDialect testDataSource;
+    private ProcessLogsPersistenceService processLogsPersistenceService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        testDataSource = new DataSourceWithDialect(TestDataSourceProvider.getDataSource(LIQUIBASE_CHANGELOG_LOCATION));
+        processLogsPersistenceService = new ProcessLogsPersistenceService(testDataSource);
+        LocalDateTime modified = LocalDateTime.now();
+        for (int i = 0; i < LOG_CHUNKS.size(); i++) {
+            persistLog(LOG_NAME, LOG_CHUNKS.get(i), modified.plusSeconds(i));
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        testDataSource.getDataSource()
+                      .getConnection()
+                      .close();
+    }
+
+    @Test
+    void testStreamOperationLog() throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        long writtenBytes = processLogsPersistenceService.streamOperationLog(SPACE, operationId, LOG_NAME, 0, outputStream);
+        assertEquals(LOG_CONTENT, outputStream.toString(StandardCharsets.UTF_8));
+        assertEquals(LOG_CONTENT.getBytes(StandardCharsets.UTF_8).length, writtenBytes);
+    }
+
+    @Test
+    void testStreamOperationLogFromOffset() throws Exception {
+        byte[] content = LOG_CONTENT.getBytes(StandardCharsets.UTF_8);
+        int offset = LOG_CHUNKS.get(0)
+                               .length() + 5;
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        long writtenBytes = processLogsPersistenceService.streamOperationLog(SPACE, operationId, LOG_NAME, offset, outputStream);
+        assertEquals(new String(content, offset, content.length - offset, StandardCharsets.UTF_8),
+                     outputStream.toString(StandardCharsets.UTF_8));
+        assertEquals(content.length - offset, writtenBytes);
+    }
+
+    @Test
+    void testStreamOperationLogFromOffsetAfterTheEnd() throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        long writtenBytes = processLogsPersistenceService.streamOperationLog(SPACE, operationId, LOG_NAME, Long.MAX_VALUE, outputStream);
+        assertEquals(0, writtenBytes);
+        assertEquals(0, outputStream.size());
+    }
+
+    @Test
+    void testStreamOperationLogWithMultiplePages() throws Exception {
+        String logName = "MAIN_LOG.log";
+        LocalDateTime modified = LocalDateTime.now();
+        StringBuilder expectedContent = new StringBuilder();
+        for (int i = 0; i < 250; i++) {
+            String line = "line " + i + "\n";
+            persistLog(logName, line, modified.plusSeconds(i / 2));
+            expectedContent.append(line);
+        }
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        long writtenBytes = processLogsPersistenceService.streamOperationLog(SPACE, operationId, logName, 0, outputStream);
+        assertEquals(expectedContent.length(), writtenBytes);
+        assertEquals(expectedContent.length(), outputStream.size());
+    }
+
+    private void persistLog(String logName, String content, LocalDateTime modified) {
+        processLogsPersistenceService.persistLog(ImmutableOperationLogEntry.builder()
+                                                                           .id(UUID.randomUUID()
+                                                                                   .toString())
+                                                                           .space(SPACE)
+                                                                           .operationId(operationId)
+                                                                           .operationLogName(logName)
+                                                                           .operationLog(content)
+                                                                           .modified(modified)
+                                                                           .build());
+    }
+
+}
@@ -0,0 +1,141 @@
+package org.cloudfoundry.multiapps.controller.persistence.services;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+
+import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableSecretToken;
+import org.cloudfoundry.multiapps.controller.persistence.model.SecretToken;
+import org.eclipse.persistence.config.BatchWriting;
+import org.eclipse.persistence.config.PersistenceUnitProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class SecretTokenServiceTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2025, Month.MARCH, 15, 7, 54, 12);
+    private static final String PROCESS_INSTANCE_ID = "process-instance-id";
+    private static final String VARIABLE_NAME = "variable-name";
+    private static final Map<String, String> BATCH_WRITING_PROPERTIES = Map.of(PersistenceUnitProperties.SESSION_NAME,
+                                                                               "TestDefaultBatchWriting",
+                                                                               PersistenceUnitProperties.BATCH_WRITING, BatchWriting.JDBC,
+                                                                               PersistenceUnitProperties.BATCH_WRITING_SIZE, "100");
+
+    private final SecretTokenService secretTokenService = createSecretTokenService();
+
+    @AfterEach
+    void cleanUp() {
+        secretTokenService.createQuery()
+                          .delete();
+    }
+
+    @Test
+    void testAddAll() {
+        List<SecretToken> secretTokens = List.of(createSecretToken("first"), createSecretToken("second"), createSecretToken("third"));
+
+        List<SecretToken> storedSecretTokens = secretTokenService.addAll(secretTokens);
+
+        assertEquals(3, storedSecretTokens.size());
+        assertEquals(3, storedSecretTokens.stream()
+                                          .map(SecretToken::getId)
+                                          .distinct()
+                                          .count());
+        for (int i = 0; i < secretTokens.size(); i++) {
+            SecretToken storedSecretToken = secretTokenService.createQuery()
+                                                              .id(storedSecretTokens.get(i)
+                                                                                    .getId())
+                                                              .singleResult();
+            verifySecretTokensAreEqual(secretTokens.get(i), storedSecretToken);
+        }
+    }
+
+    @Test
+    void testAddAllWithMoreTokensThanTheSequenceAllocation() {
+        List<SecretToken> secretTokens = IntStream.range(0, 120)
+                                                  .mapToObj(i -> createSecretToken("value-" + i))
+                                                  .toList();
+
+        List<SecretToken> storedSecretTokens = secretTokenService.addAll(secretTokens);
+
+        Set<Long> ids = storedSecretTokens.stream()
+                                          .map(SecretToken::getId)
+                                          .collect(Collectors.toSet());
+        assertEquals(120, ids.size());
+        assertEquals(120, secretTokenService.createQuery()
+                                            .list()
+                                            .size());
+    }
+
+    @Test
+    void testAddAllWithoutTokens() {
+        assertTrue(secretTokenService.addAll(List.of())
+                                     .isEmpty());
+    }
+
+    @Test
+    void testFindWithIdAnyOf() {
+        List<SecretToken> storedSecretTokens = secretTokenService.addAll(List.of(createSecretToken("first"), createSecretToken("second"),
+                                                                                 createSecretToken("third")));
+        long firstId = storedSecretTokens.get(0)
+                                         .getId();
+        long thirdId = storedSecretTokens.get(2)
+                                         .getId();
+
+        List<SecretToken> secretTokens = secretTokenService.createQuery()
+                                                           .withIdAnyOf(List.of(firstId, thirdId, Long.MAX_VALUE))
+                                                           .list();
+
+        assertEquals(Set.of(firstId, thirdId), secretTokens.stream()
+                                                           .map(SecretToken::getId)
+                                                           .collect(Collectors.toSet()));
+    }
+
+    @Test
+    void testDeleteWithIdAnyOf() {
+        List<SecretToken> storedSecretTokens = secretTokenService.addAll(List.of(createSecretToken("first"), createSecretToken("second")));
+
+        assertEquals(1, secretTokenService.createQuery()
+                                          .withIdAnyOf(List.of(storedSecretTokens.get(0)
+                                                                                 .getId()))
+                                          .delete());
+        List<SecretToken> secretTokens = secretTokenService.createQuery()
+                                                           .list();
+        assertEquals(1, secretTokens.size());
+        verifySecretTokensAreEqual(storedSecretTokens.get(1), secretTokens.get(0));
+    }
+
+    private SecretTokenService createSecretTokenService() {
+        EntityManagerFactory entityManagerFactory = Persistence.createEntityManagerFactory("TestDefault");
+        EntityManagerFactory batchWritingEntityManagerFactory = Persistence.createEntityManagerFactory("TestDefault",
+                                                                                                      BATCH_WRITING_PROPERTIES);
+        return new SecretTokenService(entityManagerFactory, batchWritingEntityManagerFactory, new SecretTokenService.SecretTokenMapper());
+    }
+
+    private static SecretToken createSecretToken(String content) {
+        return ImmutableSecretToken.builder()
+                                   .processInstanceId(PROCESS_INSTANCE_ID)
+                                   .variableName(VARIABLE_NAME)
+                                   .content(content.getBytes(StandardCharsets.UTF_8))
+                                   .timestamp(DATE)
+                                   .build();
+    }
+
+    private static void verifySecretTokensAreEqual(SecretToken expectedSecretToken, SecretToken actualSecretToken) {
+        assertEquals(expectedSecretToken.getProcessInstanceId(), actualSecretToken.getProcessInstanceId());
+        assertEquals(expectedSecretToken.getVariableName(), actualSecretToken.getVariableName());
+        assertArrayEquals(expectedSecretToken.getContent(), actualSecretToken.getContent());
+        assertEquals(expectedSecretToken.getTimestamp(), actualSecretToken.getTimestamp());
+    }
+}
@@ -1,5 +1,7 @@
 package org.cloudfoundry.multiapps.controller.persistence.util;
 
+import java.util.Map;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -23,6 +25,20 @@ class ConfigurationEntriesUtilTest {
         Assertions.assertFalse(ConfigurationEntriesUtil.providerNamespaceIsEmpty("custom", false));
     }
 
+    @Test
+    void testOnlyShortTopLevelStringPropertiesAreIndexed() {
+        String longValue = "x".repeat(ConfigurationEntriesUtil.MAX_INDEXED_PROPERTY_LENGTH + 1);
+        String content = "{\"type\":\"a\",\"replicas\":1,\"nested\":{\"key\":\"value\"},\"long\":\"" + longValue + "\"}";
+
+        Assertions.assertEquals(Map.of("type", "a"), ConfigurationEntriesUtil.getIndexedProperties(content));
+    }
+
+    @Test
+    void testNoPropertiesAreIndexedForNonJsonContent() {
+        Assertions.assertEquals(Map.of(), ConfigurationEntriesUtil.getIndexedProperties("not json"));
+        Assertions.assertEquals(Map.of(), ConfigurationEntriesUtil.getIndexedProperties(null));
+    }
+
     @Test
     void testEmptyStringIsNotConsideredEmpty() {
         Assertions.assertFalse(ConfigurationEntriesUtil.providerNamespaceIsEmpty("", true));
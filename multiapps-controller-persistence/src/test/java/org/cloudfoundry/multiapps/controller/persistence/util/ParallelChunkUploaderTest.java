@@ -0,0 +1,126 @@
+package org.cloudfoundry.multiapps.controller.persistence.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParallelChunkUploaderTest {
+
+    private static final int CHUNK_SIZE = 4;
+    private static final int MAX_CHUNKS_IN_MEMORY = 2;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ParallelChunkUploader uploader = new ParallelChunkUploader(executor, MAX_CHUNKS_IN_MEMORY * CHUNK_SIZE);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testUploadReturnsResultsInOrderOfChunks() throws Exception {
+        byte[] content = "0123456789".getBytes();
+
+        List<String> chunks = uploader.upload(new ByteArrayInputStream(content), CHUNK_SIZE,
+                                              (chunkNumber, chunk) -> chunkNumber + ":" + new String(chunk));
+
+        assertEquals(List.of("1:0123", "2:4567", "3:89"), chunks);
+    }
+
+    @Test
+    void testUploadOfContentWithSizeOfChunk() throws Exception {
+        List<Integer> chunkSizes = uploader.upload(new ByteArrayInputStream("0123".getBytes()), CHUNK_SIZE,
+                                                   (chunkNumber, chunk) -> chunk.length);
+
+        assertEquals(List.of(CHUNK_SIZE), chunkSizes);
+    }
+
+    @Test
+    void testUploadOfEmptyContent() throws Exception {
+        List<Integer> chunkSizes = uploader.upload(new ByteArrayInputStream(new byte[0]), CHUNK_SIZE, (chunkNumber, chunk) -> chunk.length);
+
+        assertEquals(List.of(0), chunkSizes);
+    }
+
+    @Test
+    void testUploadKeepsAtMostMaxChunksInMemory() throws Exception {
+        AtomicInteger chunksInUpload = new AtomicInteger();
+        AtomicInteger maxChunksInUpload = new AtomicInteger();
+
+        uploader.upload(new ByteArrayInputStream(new byte[10 * CHUNK_SIZE]), CHUNK_SIZE, (chunkNumber, chunk) -> {
+            maxChunksInUpload.accumulateAndGet(chunksInUpload.incrementAndGet(), Math::max);
+            Thread.sleep(10);
+            return chunksInUpload.decrementAndGet();
+        });
+
+        assertTrue(maxChunksInUpload.get() <= MAX_CHUNKS_IN_MEMORY);
+    }
+
+    @Test
+    void testConcurrentUploadsShareMemoryLimit() throws Exception {
+        AtomicInteger chunksInUpload = new AtomicInteger();
+        AtomicInteger maxChunksInUpload = new AtomicInteger();
+        ParallelChunkUploader.ChunkUpload<Integer> chunkUpload = (chunkNumber, chunk) -> {
+            maxChunksInUpload.accumulateAndGet(chunksInUpload.incrementAndGet(), Math::max);
+            Thread.sleep(10);
+            return chunksInUpload.decrementAndGet();
+        };
+
+        Future<List<Integer>> firstUpload = executor.submit(
+            () -> uploader.upload(new ByteArrayInputStream(new byte[10 * CHUNK_SIZE]), CHUNK_SIZE, chunkUpload));
+        uploader.upload(new ByteArrayInputStream(new byte[10 * CHUNK_SIZE]), CHUNK_SIZE, chunkUpload);
+        firstUpload.get();
+
+        assertTrue(maxChunksInUpload.get() <= MAX_CHUNKS_IN_MEMORY);
+    }
+
+    @Test
+    void testChunkLargerThanMemoryLimitIsUploaded() throws Exception {
+        int largeChunkSize = 3 * CHUNK_SIZE;
+
+        List<Integer> chunkSizes = uploader.upload(new ByteArrayInputStream(new byte[2 * largeChunkSize]), largeChunkSize,
+                                                   (chunkNumber, chunk) -> chunk.length);
+
+        assertEquals(List.of(largeChunkSize, largeChunkSize), chunkSizes);
+    }
+
+    @Test
+    void testMemoryOfFailedUploadIsReleased() {
+        assertThrows(IOException.class, () -> uploader.upload(new ByteArrayInputStream(new byte[10 * CHUNK_SIZE]), CHUNK_SIZE,
+                                                              (chunkNumber, chunk) -> {
+                                                                  throw new IOException("upload of chunk failed");
+                                                              }));
+
+        List<Integer> chunkSizes = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> uploader.upload(
+            new ByteArrayInputStream(new byte[MAX_CHUNKS_IN_MEMORY * CHUNK_SIZE]), CHUNK_SIZE, (chunkNumber, chunk) -> chunk.length));
+        assertEquals(List.of(CHUNK_SIZE, CHUNK_SIZE), chunkSizes);
+    }
+
+    @Test
+    void testUploadFailsWhenUploadOfChunkFails() {
+        IOException exception = assertThrows(IOException.class,
+                                             () -> uploader.upload(new ByteArrayInputStream(new byte[10 * CHUNK_SIZE]), CHUNK_SIZE,
+                                                                   (chunkNumber, chunk) -> {
+                                                                       if (chunkNumber == 2) {
+                                                                           throw new IOException("upload of chunk failed");
+                                                                       }
+                                                                       return chunkNumber;
+                                                                   }));
+
+        assertEquals("upload of chunk failed", exception.getMessage());
+    }
+
+}
@@ -63,6 +63,7 @@ open module org.cloudfoundry.multiapps.controller.process {
     requires reactor.netty.http;
     requires io.netty.handler;
     requires io.netty.transport;
+    requires micrometer.core;
 
     requires static java.compiler;
     requires static org.immutables.value;
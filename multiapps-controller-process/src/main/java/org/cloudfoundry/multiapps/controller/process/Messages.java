@@ -66,6 +66,7 @@ public class Messages {
     public static final String APPLICATION_0_WAS_NOT_FOUND = "Application \"{0}\" was not found";
     public static final String FAILED_TO_UPDATE_FILES_OF_OPERATION_0 = "Failed to update files of operation: {0}";
     public static final String COULD_NOT_DELETE_ORPHANED_FILES_MODIFIED_AFTER_0_AND_BEFORE_1 = "Could not delete orphaned files modified after {0} and before {1}";
+    public static final String COULD_NOT_DELETE_ORPHANED_FILE_CONTENT_MODIFIED_BEFORE_0 = "Could not delete orphaned file content modified before {0}";
     public static final String ERROR_WHILE_STARTING_ASYNC_UPLOAD_OF_APP_WITH_NAME_0 = "Error while starting async upload of app with name {0}";
     public static final String REQUIRED_APPLICATION_TO_POLL_0_NOT_FOUND = "Required application to poll: \"{0}\" not found";
     public static final String NOT_INTEGER_PARAMETER_VALUE = "Value \"{0}\" of parameter \"{1}\" is not integer";
@@ -74,6 +75,10 @@ public class Messages {
     public static final String NOT_BOOLEAN_PARAMETER_VALUE = "Value \"{0}\" of parameter \"{1}\" is not boolean";
     public static final String ERROR_OCCURRED_DURING_APPLICATION_UPLOAD_0 = "Error occurred during application upload: {0}";
     public static final String COMPRESSION_METHOD_WITH_VALUE_0_NOT_FOUND = "Compression method with value: {0} not found";
+    public static final String END_OF_CENTRAL_DIRECTORY_NOT_FOUND = "End of central directory record of the archive not found";
+    public static final String INVALID_ZIP64_END_OF_CENTRAL_DIRECTORY_AT_OFFSET_0 = "Invalid ZIP64 end of central directory record at offset {0}";
+    public static final String INVALID_CENTRAL_DIRECTORY_FILE_HEADER_AT_OFFSET_0 = "Invalid central directory file header at offset {0}";
+    public static final String INVALID_LOCAL_FILE_HEADER_AT_OFFSET_0 = "Invalid local file header at offset {0}";
     public static final String ROLLBACK_OF_MTA_ID_0_CANNOT_BE_DONE_MISSING_DEPLOYED_MTA = "Rollback of mta id \"{0}\" cannot be done, missing deployed/backup mta";
     public static final String MTA_VERSION_NOT_SET_IN_APPLICATION_ROLLBACK_CANNOT_BE_DONE = "MTA version is not set in the application metadata and rollback operation cannot be done";
     public static final String ROLLBACK_OPERATION_CANNOT_BE_DONE_BACKUP_APPLICATIONS_HAVE_DIFFERENT_MTA_VERSIONS = "Rollback operation cannot be done, backup applications have different MTA versions!";
@@ -89,6 +94,8 @@ public class Messages {
     public static final String INVALID_ENCRYPTION_KEY_LENGTH = "Length of the encryption key is invalid - it must be 32 characters long!";
     public static final String MISSING_MTA_ID_IN_ENCRYPTION_KEY_RESOLVER = "Missing mtaId in encryption key resolver! Cannot continue from here!";
     public static final String STEP_OF_THE_PROCESS_HAS_FAILED = "A step of the process has failed.";
+    public static final String ERROR_STORING_VALUE_OF_PROCESS_VARIABLE_0 = "Error storing the value of process variable \"{0}\"";
+    public static final String ERROR_LOADING_EXTERNALIZED_PROCESS_VARIABLE_VALUE_0 = "Error loading externalized process variable value from file \"{0}\"";
 
     // Audit log messages
 
@@ -122,6 +129,7 @@ public class Messages {
     public static final String ERROR_BUILDING_CLOUD_UNDEPLOY_MODEL = "Error building cloud undeployment model";
     public static final String ERROR_ADDING_DOMAINS = "Error adding domains";
     public static final String ERROR_COMPUTING_NEXT_MODULES_FOR_PARALLEL_ITERATION = "Error computing modules for next parallel iteration";
+    public static final String ERROR_WAITING_FOR_DEPENDENCIES_OF_MODULE_0 = "Error waiting for the dependencies of module \"{0}\"";
     public static final String ERROR_DELETING_SERVICES = "Error deleting services";
     public static final String ERROR_DELETING_SUBSCRIPTIONS = "Error deleting discontinued subscriptions";
     public static final String ERROR_BUILDING_CLOUD_APP_MODEL = "Error building cloud application deploy model";
@@ -213,6 +221,7 @@ public class Messages {
     public static final String ERROR_RESOLVED_FILE_CONTENT_IS_0_WHICH_IS_LARGER_THAN_MAX_1 = "All resolved external file content is \"{0}\", which is larger than max configured size of \"{1}\" ";
 
     // WARN log messages
+    public static final String COULD_NOT_READ_CENTRAL_DIRECTORY_OF_ARCHIVE_0_FALLING_BACK_TO_SEQUENTIAL_SCAN = "Could not read the central directory of archive \"{0}\", falling back to a sequential scan: {1}";
     public static final String CANNOT_RETRIEVE_SERVICE_INSTANCE_OF_OPTIONAL_SERVICE = "Cannot retrieve service instance of optional service \"{0}\"";
     public static final String CANNOT_RETRIEVE_PARAMETERS_OF_BINDING_BETWEEN_APPLICATION_0_AND_SERVICE_INSTANCE_1 = "Cannot retrieve parameters of binding between application \"{0}\" and service instance \"{1}\"";
     public static final String CANNOT_RETRIEVE_PARAMETERS_OF_BINDING_BETWEEN_APPLICATION_0_AND_SERVICE_INSTANCE_1_FIX = "Cannot retrieve parameters of binding between application \"{0}\" and service instance \"{1}\". Got 502.";
@@ -304,6 +313,9 @@ public class Messages {
     public static final String CLEAN_UP_JOB_STARTED_BY_APPLICATION_INSTANCE_0_AT_1 = "Clean-up job started by application instance {0} at: {1}";
     public static final String CLEAN_UP_JOB_WHICH_STARTED_AT_0_HAS_FINISHED_AT_1 = "Clean-up job, which started at: {0}, has finished at: {1}";
     public static final String WILL_CLEAN_UP_DATA_STORED_BEFORE_0 = "Will clean-up data stored before: {0}";
+    public static final String CLEAN_UP_PARTITION_0_IS_LEASED_BY_ANOTHER_INSTANCE_OR_ALREADY_CLEANED = "Clean-up partition \"{0}\" is leased by another application instance or was already cleaned in this run";
+    public static final String CLEAN_UP_PARTITION_0_CLEANED_1_ITEMS_IN_2_MS_3_ITEMS_PER_SECOND = "Clean-up partition \"{0}\" cleaned {1} items in {2} ms ({3} items per second)";
+    public static final String CLEAN_UP_PARTITIONS_0_ARE_STILL_BEING_CLEANED_BY_OTHER_INSTANCES = "Clean-up partitions {0} are still being cleaned by other application instances, which will execute the remaining clean-up phases";
     public static final String WILL_DELETE_HISTORIC_PROCESSES_BEFORE_0 = "Will delete Flowable historic processes before: {0}";
     public static final String DELETED_HISTORIC_PROCESSES_0 = "Deleted historic processes: {0}";
     public static final String DELETED_FILES_0 = "Deleted files: {0}";
@@ -344,6 +356,7 @@ public class Messages {
     public static final String BATCH_OF_PROCESSES_DELETED = "Batch of processes deleted: {0}";
     public static final String DELETING_THE_FOLLOWING_FILE_ENTRIES_WITHOUT_CONTENT_0 = "Deleting the following file entries without content: {0}";
     public static final String DELETED_FILE_ENTRIES_0 = "Deleted file entries: {0}";
+    public static final String DELETED_ORPHANED_FILE_CONTENT_0 = "Deleted orphaned file content: {0}";
     public static final String APPLICATION_WITH_NAME_0_SAVED_TO_1 = "Application with name \"{0}\" saved to \"{1}\"";
     public static final String CLOSING_STREAM_FOR_PART_0 = "Closing stream for part: {0}";
     public static final String REACHED_THE_END_OF_THE_INPUT_STREAM = "Reached the end of the input stream";
@@ -352,6 +365,7 @@ public class Messages {
     public static final String FILE_WITH_ID_0_WAS_DELETED = "File with id \"{0}\" was deleted";
     public static final String CALCULATING_APPLICATION_DIGEST_0 = "Calculating application digest: \"{0}\"";
     public static final String SKIPPING_APPLICATION_0_DIGEST_CALCULATION = "Skipping application: \"{0}\" digest calculation";
+    public static final String APPLICATION_0_HAS_NO_DIGEST_CALCULATING_DIGEST_DURING_EXTRACTION = "Application: \"{0}\" has no recorded content digest, the digest will be calculated during extraction";
     public static final String TIME_ELAPSED_FOR_UPLOAD_0_IN_MILLIS = "Time elapsed for upload: {0} in millis";
     public static final String TIME_ELAPSED_FOR_APP_BINARY_DOWNLOAD_0_IN_MILLIS = "Time elapsed for app binary download: {0} in millis";
     public static final String DELETING_BACKUP_DESCRIPTOR_WITH_MTA_ID_0_SPACE_1_NAMESPACE_2_AND_VERSION_3 = "Deleting backup descriptor with mta id \"{0}\" in space \"{1}\" namespace \"{2}\" and version \"{3}\"";
@@ -481,6 +495,9 @@ public class Messages {
     public static final String CALCULATING_RESOURCE_BATCHES_COMPLETE = "Calculating resource batches completed.";
     public static final String COMPUTING_NEXT_MODULES_FOR_PARALLEL_ITERATION = "Computing modules for next parallel iteration...";
     public static final String COMPUTED_NEXT_MODULES_FOR_PARALLEL_ITERATION = "Computed modules for next parallel iteration: {0}";
+    public static final String MODULE_0_IS_WAITING_FOR_ITS_DEPENDENCIES_TO_BE_DEPLOYED = "Module \"{0}\" is waiting for its dependencies to be deployed...";
+    public static final String DEPENDENCIES_OF_MODULE_0_ARE_DEPLOYED = "Dependencies of module \"{0}\" are deployed";
+    public static final String DATAFLOW_DEPLOYMENT_IS_NOT_SUPPORTED_FOR_0_PROCESSES_MODULES_WILL_BE_DEPLOYED_IN_PARALLEL = "Dataflow deployment is not supported for {0} processes, modules will be deployed in parallel";
     public static final String CHECKING_APP_STATUS = "Checking status of application \"{0}\"...";
     public static final String APP_STAGING_STATUS = "Staging status of application \"{0}\": {1}";
     public static final String APP_CREATED = "Application \"{0}\" created";
@@ -572,6 +589,7 @@ public class Messages {
     public static final String STARTED_ASYNC_UPLOAD_OF_APP_0 = "Started async upload of application \"{0}\"";
     public static final String DELETING_HISTORIC_PROCESS_0 = "Deleting historic process \"{0}\"...";
     public static final String DELETING_FILES_MODIFIED_BEFORE_0 = "Deleting files modified before: {0}";
+    public static final String DELETING_ORPHANED_FILE_CONTENT_MODIFIED_BEFORE_0 = "Deleting orphaned file content modified before: {0}";
     public static final String DELETING_OPERATIONS_STARTED_BEFORE_0 = "Deleting operations started before: {0}";
     public static final String ABORTING_OPERATION_0 = "Aborting operation \"{0}\"...";
     public static final String DELETING_OPERATIONS_ABORTED_BEFORE_0 = "Deleting operations aborted before \"{0}\"...";
@@ -631,6 +649,7 @@ public class Messages {
     public static final String GETTING_INSTANCES_FOR_APPLICATION_0 = "Getting instances for application \"{0}\"...";
     public static final String GETTING_PROCESS_FOR_APPLICATION_0 = "Getting process for application \"{0}\"...";
     public static final String GETTING_ROUTES_FOR_APPLICATION_0 = "Getting routes for application \"{0}\"...";
+    public static final String GETTING_ROUTES_OF_APPLICATIONS_IN_SPACE = "Getting routes of applications in space...";
     public static final String GETTING_SSH_ENABLED_FOR_APPLICATION_0 = "Getting ssh enabled for application \"{0}\"...";
     public static final String GETTING_APPLICATIONS = "Getting applications...";
     public static final String GETTING_DEFAULT_DOMAIN = "Getting default domain...";
@@ -683,6 +702,7 @@ public class Messages {
     public static final String BINDING_DROPLET_0_TO_APPLICATION_1 = "Binding droplet \"{0}\" to application \"{1}\"...";
     public static final String GETTING_BUILDS_FOR_APPLICATION_0 = "Getting builds for application \"{0}\"...";
     public static final String GETTING_BUILDS_FOR_PACKAGE_0 = "Getting builds for package \"{0}\"...";
+    public static final String GETTING_BUILDS_FOR_PACKAGES_0 = "Getting builds for packages \"{0}\"...";
     public static final String GETTING_APPLICATIONS_BY_METADATA_LABEL_SELECTOR_0 = "Getting applications by metadata label selector \"{0}\"...";
     public static final String UPDATING_METADATA_OF_APPLICATION_0_TO_1 = "Updating metadata of application \"{0}\" to: {1}";
     public static final String GETTING_SERVICE_INSTANCES_BY_METADATA_LABEL_SELECTOR_0 = "Getting service instances by metadata label selector \"{0}\"...";
@@ -825,6 +845,8 @@ public class Messages {
 
     public static final String ASYNC_UPLOAD_JOB_FOR_OPERATION_0_IS_1 = "Async upload job for operation \"{0}\" - {1}";
     public static final String COULD_NOT_LOG_ASYNC_UPLOAD_JOBS_FOR_OPERATION_0 = "Could not log async upload jobs for operation \"{0}\"";
+    public static final String STORED_VALUE_OF_PROCESS_VARIABLE_0_WITH_SIZE_1_AS_FILE_2 = "Stored the value of process variable \"{0}\" with size {1} bytes as file \"{2}\"";
+    public static final String DELETED_0_EXTERNALIZED_VARIABLE_VALUES_OF_OPERATION_1 = "Deleted {0} externalized variable values of operation \"{1}\"";
 
     // Not log messages
     public static final String SERVICE_TYPE = "{0}/{1}";
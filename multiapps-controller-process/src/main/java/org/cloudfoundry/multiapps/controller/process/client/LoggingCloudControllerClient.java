@@ -275,6 +275,12 @@ public class LoggingCloudControllerClient implements CloudControllerClient {
         return delegate.getApplicationRoutes(applicationGuid);
     }
 
+    @Override
+    public Map<UUID, List<CloudRoute>> getApplicationRoutesInSpace() {
+        logger.debug(Messages.GETTING_ROUTES_OF_APPLICATIONS_IN_SPACE);
+        return delegate.getApplicationRoutesInSpace();
+    }
+
     @Override
     public boolean getApplicationSshEnabled(UUID applicationGuid) {
         logger.debug(Messages.GETTING_SSH_ENABLED_FOR_APPLICATION_0, applicationGuid);
@@ -663,6 +669,12 @@ public class LoggingCloudControllerClient implements CloudControllerClient {
         return delegate.getBuildsForPackage(packageGuid);
     }
 
+    @Override
+    public List<CloudBuild> getBuildsForPackages(List<UUID> packageGuids) {
+        logger.debug(Messages.GETTING_BUILDS_FOR_PACKAGES_0, packageGuids);
+        return delegate.getBuildsForPackages(packageGuids);
+    }
+
     @Override
     public List<CloudApplication> getApplicationsByMetadataLabelSelector(String labelSelector) {
         logger.debug(Messages.GETTING_APPLICATIONS_BY_METADATA_LABEL_SELECTOR_0, labelSelector);
@@ -6,6 +6,7 @@ import java.time.ZoneId;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import jakarta.inject.Inject;
@@ -149,6 +150,30 @@ public class FlowableFacade {
                             .singleResult();
     }
 
+    public List<String> getFinishedSubProcessIds(String superProcessInstanceId, String processDefinitionKey) {
+        return processEngine.getHistoryService()
+                            .createHistoricProcessInstanceQuery()
+                            .superProcessInstanceId(superProcessInstanceId)
+                            .processDefinitionKey(processDefinitionKey)
+                            .finished()
+                            .list()
+                            .stream()
+                            .map(HistoricProcessInstance::getId)
+                            .collect(Collectors.toList());
+    }
+
+    public List<HistoricVariableInstance> getHistoricVariableInstances(Set<String> processInstanceIds, String variableName) {
+        if (processInstanceIds.isEmpty()) {
+            return List.of();
+        }
+        // process instance variables are stored on the root execution, whose id matches the id of the process instance
+        return processEngine.getHistoryService()
+                            .createHistoricVariableInstanceQuery()
+                            .executionIds(processInstanceIds)
+                            .variableName(variableName)
+                            .list();
+    }
+
     public List<String> getActiveHistoricSubProcessIds(String correlationId) {
         return getHistoricSubProcessIds(correlationId).stream()
                                                       .filter(this::isActive)
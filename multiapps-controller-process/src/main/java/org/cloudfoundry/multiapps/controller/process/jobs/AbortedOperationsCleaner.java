@@ -39,7 +39,7 @@ public class AbortedOperationsCleaner implements Cleaner {
     }
 
     @Override
-    public void execute(LocalDateTime expirationTime) {
+    public long execute(LocalDateTime expirationTime) {
         Instant instant = Instant.now()
                                  .minus(applicationConfiguration.getAbortedOperationsTtlInSeconds(), ChronoUnit.SECONDS);
         LOGGER.debug(CleanUpJob.LOG_MARKER, MessageFormat.format(Messages.DELETING_OPERATIONS_ABORTED_BEFORE_0, instant));
@@ -48,23 +48,26 @@ public class AbortedOperationsCleaner implements Cleaner {
                                                                                       .olderThan(LocalDateTime.ofInstant(instant,
                                                                                                                          ZoneId.systemDefault()))
                                                                                       .list();
-        abortedOperations.stream()
-                         .map(HistoricOperationEvent::getProcessId)
-                         .distinct()
-                         .filter(this::isInActiveState)
-                         .forEach(this::deleteProcessInstance);
+        return abortedOperations.stream()
+                                .map(HistoricOperationEvent::getProcessId)
+                                .distinct()
+                                .filter(this::isInActiveState)
+                                .filter(this::deleteProcessInstance)
+                                .count();
     }
 
     private boolean isInActiveState(String processId) {
         return flowableFacade.getProcessInstance(processId) != null;
     }
 
-    private void deleteProcessInstance(String processInstanceId) {
+    private boolean deleteProcessInstance(String processInstanceId) {
         try {
             LOGGER.info(CleanUpJob.LOG_MARKER, MessageFormat.format(Messages.DELETING_OPERATION_WITH_ID, processInstanceId));
             flowableFacade.deleteProcessInstance(processInstanceId, Operation.State.ABORTED.name());
+            return true;
         } catch (Exception e) {
             LOGGER.error(CleanUpJob.LOG_MARKER, MessageFormat.format(Messages.ERROR_DELETING_OPERATION_WITH_ID, processInstanceId), e);
+            return false;
         }
     }
 }
@@ -2,40 +2,60 @@ package org.cloudfoundry.multiapps.controller.process.jobs;
 
 import static java.text.MessageFormat.format;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 
 import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
+import org.cloudfoundry.multiapps.controller.core.util.ApplicationInstanceNameUtil;
 import org.cloudfoundry.multiapps.controller.core.util.SafeExecutor;
+import org.cloudfoundry.multiapps.controller.persistence.model.CleanUpPartition;
+import org.cloudfoundry.multiapps.controller.persistence.services.CleanUpPartitionService;
 import org.cloudfoundry.multiapps.controller.process.Messages;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.Marker;
 import org.slf4j.MarkerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.OrderUtils;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.support.CronExpression;
 
+/**
+ * Executes the registered cleaners on every application instance. Each cleaner is a partition, which is leased in the database by the
+ * instance that executes it, so it is executed by only one instance per run, and by any instance that gets to it first. The cleaners are
+ * executed in phases by their {@link org.springframework.core.annotation.Order}. The cleaners of a phase are independent of each other,
+ * so they are executed concurrently. A phase is started only after all partitions of the previous phases are finished, so an instance,
+ * which finds a partition of an earlier phase still leased by another instance, leaves the remaining phases to that instance.
+ */
 @Named
 public class CleanUpJob {
 
     public static final Marker LOG_MARKER = MarkerFactory.getMarker("clean-up-job");
     private static final Logger LOGGER = LoggerFactory.getLogger(CleanUpJob.class);
-    private static final int SELECTED_INSTANCE_FOR_CLEAN_UP = 0;
+    private static final int MAX_CONCURRENTLY_EXECUTED_CLEANERS = 4;
 
     @Inject
     ApplicationConfiguration configuration;
     @Inject
     List<Cleaner> cleaners;
+    @Inject
+    CleanUpPartitionService cleanUpPartitionService;
     private final SafeExecutor safeExecutor = new SafeExecutor(CleanUpJob::log);
 
     @Scheduled(cron = "#{@applicationConfiguration.getCronExpressionForOldData()}")
     public void execute() {
-        if (configuration.getApplicationInstanceIndex() != SELECTED_INSTANCE_FOR_CLEAN_UP) {
-            return;
-        }
         Instant cleanUpJobStartTime = Instant.now();
         LOGGER.info(LOG_MARKER, format(Messages.CLEAN_UP_JOB_STARTED_BY_APPLICATION_INSTANCE_0_AT_1,
                                        configuration.getApplicationInstanceIndex(), cleanUpJobStartTime));
@@ -43,8 +63,20 @@ public class CleanUpJob {
         LocalDateTime expirationTime = computeExpirationTime();
         LOGGER.info(LOG_MARKER, format(Messages.WILL_CLEAN_UP_DATA_STORED_BEFORE_0, expirationTime));
         LOGGER.info(LOG_MARKER, format(Messages.REGISTERED_CLEANERS_IN_CLEAN_UP_JOB_0, cleaners));
-        for (Cleaner cleaner : cleaners) {
-            safeExecutor.execute(() -> cleaner.execute(expirationTime));
+        Duration leaseDuration = computeLeaseDuration();
+        // Partitions, which were finished less than half of the interval between two runs ago, were finished in this run:
+        LocalDateTime runStartTime = LocalDateTime.now()
+                                                  .minus(leaseDuration);
+        ExecutorService executorService = Executors.newFixedThreadPool(MAX_CONCURRENTLY_EXECUTED_CLEANERS);
+        try {
+            for (List<Cleaner> phase : groupInPhases(cleaners)) {
+                executePhase(executorService, phase, expirationTime, leaseDuration, runStartTime);
+                if (!isPhaseFinished(phase, runStartTime)) {
+                    break;
+                }
+            }
+        } finally {
+            executorService.shutdown();
         }
 
         LOGGER.info(LOG_MARKER, format(Messages.CLEAN_UP_JOB_WHICH_STARTED_AT_0_HAS_FINISHED_AT_1, cleanUpJobStartTime, Instant.now()));
@@ -56,6 +88,87 @@ public class CleanUpJob {
                             .minusSeconds(maxTtlForOldData);
     }
 
+    private Duration computeLeaseDuration() {
+        CronExpression cronExpression = CronExpression.parse(configuration.getCronExpressionForOldData());
+        LocalDateTime nextRunTime = cronExpression.next(LocalDateTime.now());
+        LocalDateTime runTimeAfterNext = cronExpression.next(nextRunTime);
+        return Duration.between(nextRunTime, runTimeAfterNext)
+                       .dividedBy(2);
+    }
+
+    private static Collection<List<Cleaner>> groupInPhases(List<Cleaner> cleaners) {
+        Map<Integer, List<Cleaner>> phases = new TreeMap<>();
+        for (Cleaner cleaner : cleaners) {
+            phases.computeIfAbsent(OrderUtils.getOrder(cleaner.getClass(), Ordered.LOWEST_PRECEDENCE), order -> new ArrayList<>())
+                  .add(cleaner);
+        }
+        return phases.values();
+    }
+
+    private void executePhase(ExecutorService executorService, List<Cleaner> phase, LocalDateTime expirationTime,
+                              Duration leaseDuration, LocalDateTime runStartTime) {
+        CompletableFuture<?>[] partitions = phase.stream()
+                                                 .map(cleaner -> CompletableFuture.runAsync(() -> safeExecutor.execute(
+                                                     () -> executePartition(cleaner, expirationTime, leaseDuration, runStartTime)),
+                                                                                            executorService))
+                                                 .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(partitions)
+                         .join();
+    }
+
+    private void executePartition(Cleaner cleaner, LocalDateTime expirationTime, Duration leaseDuration, LocalDateTime runStartTime) {
+        String partitionName = cleaner.getName();
+        String leaseOwner = ApplicationInstanceNameUtil.buildApplicationInstanceTemplate(configuration);
+        LocalDateTime notFinishedSince = getNotFinishedSince(cleaner, runStartTime);
+        if (!cleanUpPartitionService.tryAcquireLease(partitionName, leaseOwner, leaseDuration, notFinishedSince)) {
+            LOGGER.info(LOG_MARKER, format(Messages.CLEAN_UP_PARTITION_0_IS_LEASED_BY_ANOTHER_INSTANCE_OR_ALREADY_CLEANED, partitionName));
+            return;
+        }
+        long startTime = System.currentTimeMillis();
+        long cleanedItems;
+        try {
+            cleanedItems = cleaner.execute(expirationTime);
+        } catch (RuntimeException e) {
+            cleanUpPartitionService.abandonLease(partitionName, leaseOwner);
+            throw e;
+        }
+        long durationInMillis = System.currentTimeMillis() - startTime;
+        cleanUpPartitionService.releaseLease(partitionName, leaseOwner, cleanedItems, durationInMillis);
+        LOGGER.info(LOG_MARKER, format(Messages.CLEAN_UP_PARTITION_0_CLEANED_1_ITEMS_IN_2_MS_3_ITEMS_PER_SECOND, partitionName,
+                                       cleanedItems, durationInMillis, cleanedItems * 1000 / Math.max(durationInMillis, 1)));
+    }
+
+    private static LocalDateTime getNotFinishedSince(Cleaner cleaner, LocalDateTime runStartTime) {
+        return runStartTime.minus(cleaner.getInterval());
+    }
+
+    private boolean isPhaseFinished(List<Cleaner> phase, LocalDateTime runStartTime) {
+        // Cleaners with different intervals must have been finished after different times:
+        Map<LocalDateTime, List<String>> partitionsByNotFinishedSince = new TreeMap<>();
+        for (Cleaner cleaner : phase) {
+            partitionsByNotFinishedSince.computeIfAbsent(getNotFinishedSince(cleaner, runStartTime), notFinishedSince -> new ArrayList<>())
+                                        .add(cleaner.getName());
+        }
+        List<String> unfinishedPartitions = new ArrayList<>();
+        partitionsByNotFinishedSince.forEach((notFinishedSince, partitionNames) -> unfinishedPartitions.addAll(
+            getUnfinishedPartitions(partitionNames, notFinishedSince)));
+        if (unfinishedPartitions.isEmpty()) {
+            return true;
+        }
+        LOGGER.info(LOG_MARKER, format(Messages.CLEAN_UP_PARTITIONS_0_ARE_STILL_BEING_CLEANED_BY_OTHER_INSTANCES, unfinishedPartitions));
+        return false;
+    }
+
+    private List<String> getUnfinishedPartitions(List<String> partitionNames, LocalDateTime notFinishedSince) {
+        return cleanUpPartitionService.createQuery()
+                                      .withNameAnyOf(partitionNames)
+                                      .notFinishedSince(notFinishedSince)
+                                      .list()
+                                      .stream()
+                                      .map(CleanUpPartition::getName)
+                                      .toList();
+    }
+
     private static void log(Exception e) {
         LOGGER.error(LOG_MARKER, format(Messages.ERROR_DURING_CLEAN_UP_0, e.getMessage()), e);
     }
@@ -1,9 +1,28 @@
 package org.cloudfoundry.multiapps.controller.process.jobs;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 
 public interface Cleaner {
 
-    void execute(LocalDateTime expirationTime);
+    /**
+     * @return the number of cleaned items
+     */
+    long execute(LocalDateTime expirationTime);
+
+    /**
+     * The name of the clean-up partition, which this cleaner is executed as. At most one application instance executes it at a time.
+     */
+    default String getName() {
+        return getClass().getSimpleName();
+    }
+
+    /**
+     * The minimum time between two executions of this cleaner. Cleaners, which are expensive, are skipped by the runs of the clean-up job,
+     * which are started earlier than this after the last execution was finished. By default, a cleaner is executed in every run.
+     */
+    default Duration getInterval() {
+        return Duration.ZERO;
+    }
 
 }
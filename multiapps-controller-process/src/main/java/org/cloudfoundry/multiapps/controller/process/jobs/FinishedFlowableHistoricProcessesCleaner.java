@@ -20,6 +20,7 @@ import org.cloudfoundry.multiapps.controller.api.model.Operation;
 import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
 import org.cloudfoundry.multiapps.controller.persistence.services.OperationService;
 import org.cloudfoundry.multiapps.controller.process.Messages;
+import org.cloudfoundry.multiapps.controller.process.variables.ExternalizedVariableStore;
 import org.flowable.engine.HistoryService;
 import org.flowable.engine.history.HistoricProcessInstance;
 import org.slf4j.Logger;
@@ -39,13 +40,15 @@ public class FinishedFlowableHistoricProcessesCleaner {
     private final ApplicationConfiguration applicationConfiguration;
     private final OperationService operationService;
     private final HistoryService historyService;
+    private final ExternalizedVariableStore externalizedVariableStore;
 
     @Inject
     public FinishedFlowableHistoricProcessesCleaner(ApplicationConfiguration applicationConfiguration, OperationService operationService,
-                                                    HistoryService historyService) {
+                                                    HistoryService historyService, ExternalizedVariableStore externalizedVariableStore) {
         this.applicationConfiguration = applicationConfiguration;
         this.operationService = operationService;
         this.historyService = historyService;
+        this.externalizedVariableStore = externalizedVariableStore;
     }
 
     @Scheduled(fixedRateString = "#{@applicationConfiguration.getExecutionTimeForFinishedProcesses()}")
@@ -114,6 +117,8 @@ public class FinishedFlowableHistoricProcessesCleaner {
         try {
             LOGGER.debug(MessageFormat.format(Messages.DELETING_PROCESS_WITH_ID_0, historicProcessInstance.getId()));
             historyService.deleteHistoricProcessInstance(historicProcessInstance.getId());
+            // The historic variables of the process are the last ones, which refer to its externalized variable values:
+            externalizedVariableStore.deleteOperationVariables(historicProcessInstance.getId());
             LOGGER.debug(MessageFormat.format(Messages.PROCESS_WAS_DELETED_0, historicProcessInstance.getId()));
             return true;
         } catch (Exception e) {
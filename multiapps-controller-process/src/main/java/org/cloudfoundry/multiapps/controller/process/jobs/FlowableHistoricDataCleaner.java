@@ -38,7 +38,7 @@ public class FlowableHistoricDataCleaner implements Cleaner {
     }
 
     @Override
-    public void execute(LocalDateTime expirationTime) {
+    public long execute(LocalDateTime expirationTime) {
         LOGGER.info(CleanUpJob.LOG_MARKER, format(Messages.WILL_DELETE_HISTORIC_PROCESSES_BEFORE_0, expirationTime));
         long deletedProcessesCount = 0;
         long expiredProcessesPages = getExpiredProcessesPageCount(expirationTime);
@@ -46,6 +46,7 @@ public class FlowableHistoricDataCleaner implements Cleaner {
             deletedProcessesCount += deleteExpiredProcessesPage(expirationTime);
         }
         LOGGER.info(CleanUpJob.LOG_MARKER, format(Messages.DELETED_HISTORIC_PROCESSES_0, deletedProcessesCount));
+        return deletedProcessesCount;
     }
 
     private long getExpiredProcessesPageCount(LocalDateTime expirationTime) {
@@ -9,6 +9,7 @@ import jakarta.inject.Named;
 import org.cloudfoundry.multiapps.controller.api.model.ImmutableOperation;
 import org.cloudfoundry.multiapps.controller.api.model.Operation;
 import org.cloudfoundry.multiapps.controller.persistence.OrderDirection;
+import org.cloudfoundry.multiapps.controller.persistence.query.OperationQuery;
 import org.cloudfoundry.multiapps.controller.persistence.services.OperationService;
 import org.cloudfoundry.multiapps.controller.process.Messages;
 import org.cloudfoundry.multiapps.controller.process.flowable.Action;
@@ -44,7 +45,7 @@ public class OperationsCleaner implements Cleaner {
     }
 
     @Override
-    public void execute(LocalDateTime expirationTime) {
+    public long execute(LocalDateTime expirationTime) {
         LOGGER.debug(CleanUpJob.LOG_MARKER, format(Messages.DELETING_OPERATIONS_STARTED_BEFORE_0, expirationTime));
         int abortedOperations = abortActiveOperations(expirationTime);
         LOGGER.info(CleanUpJob.LOG_MARKER, format(Messages.ABORTED_OPERATIONS_0, abortedOperations));
@@ -53,12 +54,14 @@ public class OperationsCleaner implements Cleaner {
                                                 .inFinalState()
                                                 .delete();
         LOGGER.info(CleanUpJob.LOG_MARKER, format(Messages.DELETED_OPERATIONS_0, deletedOperations));
+        return abortedOperations + deletedOperations;
     }
 
     private int abortActiveOperations(LocalDateTime expirationTime) {
         int abortedOperations = 0;
-        for (int pageIndex = 0; ; pageIndex++) {
-            List<Operation> operationsPage = getOperationsPage(expirationTime, pageIndex);
+        String lastProcessId = null;
+        while (true) {
+            List<Operation> operationsPage = getOperationsPage(expirationTime, lastProcessId);
             for (Operation operation : operationsPage) {
                 if (inFinalState(operation)) {
                     continue;
@@ -71,16 +74,25 @@ public class OperationsCleaner implements Cleaner {
             if (pageSize > operationsPage.size()) {
                 return abortedOperations;
             }
+            lastProcessId = operationsPage.get(operationsPage.size() - 1)
+                                          .getProcessId();
         }
     }
 
-    private List<Operation> getOperationsPage(LocalDateTime expirationTime, int pageIndex) {
-        return operationService.createQuery()
-                               .startedBefore(expirationTime)
-                               .offsetOnSelect(pageIndex * pageSize)
-                               .limitOnSelect(pageSize)
-                               .orderByProcessId(OrderDirection.ASCENDING)
-                               .list();
+    /**
+     * Returns the page of operations, which follows the operation with the given process ID. Seeking to the next page by the last seen
+     * process ID instead of by offset lets the database start reading from the index at the right place, so later pages are not
+     * slower to fetch than the first one.
+     */
+    private List<Operation> getOperationsPage(LocalDateTime expirationTime, String lastProcessId) {
+        OperationQuery query = operationService.createQuery()
+                                               .startedBefore(expirationTime);
+        if (lastProcessId != null) {
+            query = query.processIdGreaterThan(lastProcessId);
+        }
+        return query.limitOnSelect(pageSize)
+                    .orderByProcessId(OrderDirection.ASCENDING)
+                    .list();
     }
 
     private boolean inFinalState(Operation operation) {
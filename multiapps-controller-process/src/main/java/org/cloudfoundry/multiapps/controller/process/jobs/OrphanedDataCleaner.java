@@ -38,13 +38,15 @@ public abstract class OrphanedDataCleaner<T extends AuditableConfiguration> impl
     }
 
     @Override
-    public void execute(LocalDateTime expirationTime) {
-        if (!executed) {
-            LOGGER.info(CleanUpJob.LOG_MARKER, getStartCleanupLogMessage());
-            int deletedOrphanedDataCount = deleteOrphanedData();
-            LOGGER.info(CleanUpJob.LOG_MARKER, getEndCleanupLogMessage(deletedOrphanedDataCount));
-            executed = true;
+    public long execute(LocalDateTime expirationTime) {
+        if (executed) {
+            return 0;
         }
+        LOGGER.info(CleanUpJob.LOG_MARKER, getStartCleanupLogMessage());
+        int deletedOrphanedDataCount = deleteOrphanedData();
+        LOGGER.info(CleanUpJob.LOG_MARKER, getEndCleanupLogMessage(deletedOrphanedDataCount));
+        executed = true;
+        return deletedOrphanedDataCount;
     }
 
     protected abstract String getStartCleanupLogMessage();
@@ -0,0 +1,58 @@
+package org.cloudfoundry.multiapps.controller.process.jobs;
+
+import java.text.MessageFormat;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+import org.cloudfoundry.multiapps.common.SLException;
+import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileService;
+import org.cloudfoundry.multiapps.controller.process.Messages;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.annotation.Order;
+
+/**
+ * Reconciles the file storage with the file table. The {@link FilesCleaner} deletes only the content of the files, which have an entry in
+ * the file table, so content, which was left without an entry (e.g. because of a failed upload or deletion), is deleted here by scanning
+ * the whole file storage. The scan is expensive, so it is executed only once per configured interval.
+ */
+@Named
+@Order(30)
+public class OrphanedFileContentCleaner implements Cleaner {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OrphanedFileContentCleaner.class);
+    private static final long GRACE_PERIOD_IN_DAYS = 1;
+
+    private final FileService fileService;
+    private final ApplicationConfiguration applicationConfiguration;
+
+    @Inject
+    public OrphanedFileContentCleaner(FileService fileService, ApplicationConfiguration applicationConfiguration) {
+        this.fileService = fileService;
+        this.applicationConfiguration = applicationConfiguration;
+    }
+
+    @Override
+    public long execute(LocalDateTime expirationTime) {
+        // The grace period gives the files cleaner the time to delete the entries of the expired files together with their content:
+        LocalDateTime orphanedContentExpirationTime = expirationTime.minusDays(GRACE_PERIOD_IN_DAYS);
+        try {
+            LOGGER.info(CleanUpJob.LOG_MARKER, MessageFormat.format(Messages.DELETING_ORPHANED_FILE_CONTENT_MODIFIED_BEFORE_0,
+                                                                    orphanedContentExpirationTime));
+            int deletedFiles = fileService.deleteOrphanedContentModifiedBefore(orphanedContentExpirationTime);
+            LOGGER.info(CleanUpJob.LOG_MARKER, MessageFormat.format(Messages.DELETED_ORPHANED_FILE_CONTENT_0, deletedFiles));
+            return deletedFiles;
+        } catch (Exception e) {
+            throw new SLException(e, Messages.COULD_NOT_DELETE_ORPHANED_FILE_CONTENT_MODIFIED_BEFORE_0, orphanedContentExpirationTime);
+        }
+    }
+
+    @Override
+    public Duration getInterval() {
+        return Duration.ofSeconds(applicationConfiguration.getOrphanedFileContentCleanUpIntervalInSeconds());
+    }
+}
@@ -28,12 +28,13 @@ public class ProgressMessagesCleaner implements Cleaner {
     }
 
     @Override
-    public void execute(LocalDateTime expirationTime) {
+    public long execute(LocalDateTime expirationTime) {
         LOGGER.debug(CleanUpJob.LOG_MARKER, format(Messages.DELETING_PROGRESS_MESSAGES_STORED_BEFORE_0, expirationTime));
         int removedProgressMessages = progressMessageService.createQuery()
                                                             .olderThan(expirationTime)
                                                             .delete();
         LOGGER.info(CleanUpJob.LOG_MARKER, format(Messages.DELETED_PROGRESS_MESSAGES_0, removedProgressMessages));
+        return removedProgressMessages;
     }
 
 }
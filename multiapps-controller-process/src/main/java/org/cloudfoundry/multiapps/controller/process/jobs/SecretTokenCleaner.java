@@ -25,13 +25,14 @@ public class SecretTokenCleaner implements Cleaner {
         this.secretTokenStoreFactory = secretTokenStoreFactory;
     }
 
-    public void execute(LocalDateTime expirationTime) {
+    public long execute(LocalDateTime expirationTime) {
         LOGGER.info(CleanUpJob.LOG_MARKER, Messages.REMOVING_EXPIRED_SECRET_TOKENS);
 
         SecretTokenStoreDeletion secretTokenStore = secretTokenStoreFactory.createSecretTokenStoreDeletionRelated();
         int tokens = secretTokenStore.deleteOlderThan(expirationTime);
 
         LOGGER.info(CleanUpJob.LOG_MARKER, MessageFormat.format(Messages.REMOVED_SECRET_TOKENS_0, tokens));
+        return tokens;
     }
 
 }
@@ -3,7 +3,10 @@ package org.cloudfoundry.multiapps.controller.process.security;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
@@ -189,7 +192,9 @@ public class SecretTokenSerializer<T> implements Serializer<T> {
         try {
             JsonNode rootNode = OBJECT_MAPPER.readTree(candidate);
             AtomicBoolean changed = new AtomicBoolean();
-            JsonNode output = processJsonValue(rootNode, censor, changed);
+            SecretValues secretValues = censor ? new SecretValues(Map.of()) : new SecretValues(resolveSecretTokens(rootNode));
+            JsonNode output = processJsonValue(rootNode, censor, changed, secretValues);
+            tokenize(secretValues.getValuesToTokenize());
 
             if (changed.get()) {
                 return OBJECT_MAPPER.writeValueAsString(output);
@@ -210,27 +215,46 @@ public class SecretTokenSerializer<T> implements Serializer<T> {
         return true;
     }
 
-    private JsonNode processJsonValue(JsonNode currentNode, boolean censor, AtomicBoolean changed) {
+    private Map<Long, String> resolveSecretTokens(JsonNode rootNode) {
+        Set<Long> secretTokenIds = new LinkedHashSet<>();
+        collectSecretTokenIds(rootNode, secretTokenIds);
+        if (secretTokenIds.isEmpty()) {
+            return Map.of();
+        }
+        return secretTokenStore.getAll(secretTokenIds);
+    }
+
+    private static void collectSecretTokenIds(JsonNode currentNode, Set<Long> secretTokenIds) {
+        if (currentNode.isTextual() && SecretTokenUtil.isSecretToken(currentNode.asText())) {
+            secretTokenIds.add(SecretTokenUtil.extractId(currentNode.asText()));
+            return;
+        }
+        for (JsonNode childNode : currentNode) {
+            collectSecretTokenIds(childNode, secretTokenIds);
+        }
+    }
+
+    private JsonNode processJsonValue(JsonNode currentNode, boolean censor, AtomicBoolean changed, SecretValues secretValues) {
         if (currentNode.isObject()) {
-            return processObjectNode(currentNode, censor, changed);
+            return processObjectNode(currentNode, censor, changed, secretValues);
         }
 
         if (currentNode.isArray()) {
-            return processArrayNode(currentNode, censor, changed);
+            return processArrayNode(currentNode, censor, changed, secretValues);
         }
 
         if (currentNode.isTextual()) {
-            return processTextualNode(currentNode, censor, changed);
+            return processTextualNode(currentNode, censor, changed, secretValues);
         }
 
         return currentNode;
     }
 
-    private JsonNode processObjectNode(JsonNode currentNode, boolean censor, AtomicBoolean changed) {
+    private JsonNode processObjectNode(JsonNode currentNode, boolean censor, AtomicBoolean changed, SecretValues secretValues) {
         ObjectNode objectNode = currentNode.deepCopy();
 
         List<String> fields = collectObjectNodeFields(objectNode);
-        processObjectNodeFields(fields, objectNode, changed, censor);
+        processObjectNodeFields(fields, objectNode, changed, censor, secretValues);
 
         return objectNode;
     }
@@ -245,61 +269,63 @@ public class SecretTokenSerializer<T> implements Serializer<T> {
         return fields;
     }
 
-    private void processObjectNodeFields(List<String> fields, ObjectNode objectNode, AtomicBoolean changed, boolean censor) {
+    private void processObjectNodeFields(List<String> fields, ObjectNode objectNode, AtomicBoolean changed, boolean censor,
+                                         SecretValues secretValues) {
         for (String currentField : fields) {
             JsonNode childNode = objectNode.get(currentField);
-            JsonNode processedNode = processJsonValue(childNode, censor, changed);
+            JsonNode processedNode = processJsonValue(childNode, censor, changed, secretValues);
             
-            determineWhetherToEncodeOrDecode(childNode, processedNode, objectNode, currentField, censor, changed);
+            determineWhetherToEncodeOrDecode(childNode, processedNode, objectNode, currentField, censor, changed, secretValues);
         }
     }
 
     private void determineWhetherToEncodeOrDecode(JsonNode childNode, JsonNode processedNode, ObjectNode objectNode, String currentField,
-                                                  boolean censor, AtomicBoolean changed) {
+                                                  boolean censor, AtomicBoolean changed, SecretValues secretValues) {
         boolean isCurrentKeySecretValue = secretValueNames.contains(currentField);
         if (isCurrentKeySecretValue && childNode.isValueNode()) {
             String currentValue = convertChildNodeToText(childNode);
             if (censor) {
-                encodeValue(objectNode, currentValue, currentField, changed);
+                encodeValue(objectNode, currentValue, currentField, changed, secretValues);
             } else {
-                decodeValue(objectNode, currentValue, currentField, changed, processedNode);
+                decodeValue(objectNode, currentValue, currentField, changed, processedNode, secretValues);
             }
         } else {
             objectNode.set(currentField, processedNode);
         }
     }
 
-    private JsonNode processArrayNode(JsonNode currentNode, boolean censor, AtomicBoolean changed) {
+    private JsonNode processArrayNode(JsonNode currentNode, boolean censor, AtomicBoolean changed, SecretValues secretValues) {
         ArrayNode arrayNode = currentNode.deepCopy();
         for (int i = 0; i < arrayNode.size(); i++) {
-            arrayNode.set(i, processJsonValue(arrayNode.get(i), censor, changed));
+            arrayNode.set(i, processJsonValue(arrayNode.get(i), censor, changed, secretValues));
         }
         return arrayNode;
     }
 
-    private JsonNode processTextualNode(JsonNode currentNode, boolean censor, AtomicBoolean changed) {
+    private JsonNode processTextualNode(JsonNode currentNode, boolean censor, AtomicBoolean changed, SecretValues secretValues) {
         String value = currentNode.asText();
         if (!censor && SecretTokenUtil.isSecretToken(value)) {
             changed.set(true);
-            String detokenizedValue = detokenize(value);
+            String detokenizedValue = detokenize(value, secretValues);
             return forceToInteger(detokenizedValue);
         }
         return currentNode;
     }
 
-    private void encodeValue(ObjectNode objectNode, String currentValue, String currentField, AtomicBoolean changed) {
+    private void encodeValue(ObjectNode objectNode, String currentValue, String currentField, AtomicBoolean changed,
+                             SecretValues secretValues) {
         if (SecretTokenUtil.isSecretToken(currentValue) || isPlaceholder(currentValue)) {
             objectNode.put(currentField, currentValue);
         } else {
-            objectNode.put(currentField, tokenize(currentValue));
+            secretValues.addValueToTokenize(new ValueToTokenize(objectNode, currentField, currentValue));
             changed.set(true);
         }
     }
 
     private void decodeValue(ObjectNode objectNode, String currentValue, String currentField, AtomicBoolean changed,
-                             JsonNode processedNode) {
+                             JsonNode processedNode, SecretValues secretValues) {
         if (SecretTokenUtil.isSecretToken(currentValue)) {
-            String detokenizedValue = detokenize(currentValue);
+            String detokenizedValue = detokenize(currentValue, secretValues);
             JsonNode jsonConverted = forceToInteger(detokenizedValue);
             objectNode.set(currentField, jsonConverted);
             changed.set(true);
@@ -315,19 +341,31 @@ public class SecretTokenSerializer<T> implements Serializer<T> {
         return null;
     }
 
-    private String tokenize(String plainText) {
-        long id;
-        if (plainText != null) {
-            id = secretTokenStore.put(processInstanceId, variableName, plainText);
-        } else {
-            id = secretTokenStore.put(processInstanceId, variableName, "");
+    private void tokenize(List<ValueToTokenize> valuesToTokenize) {
+        if (valuesToTokenize.isEmpty()) {
+            return;
+        }
+        List<String> plainTexts = valuesToTokenize.stream()
+                                                  .map(valueToTokenize -> Objects.requireNonNullElse(valueToTokenize.plainText(), ""))
+                                                  .toList();
+        List<Long> ids = secretTokenStore.putAll(processInstanceId, variableName, plainTexts);
+        for (int i = 0; i < valuesToTokenize.size(); i++) {
+            ValueToTokenize valueToTokenize = valuesToTokenize.get(i);
+            valueToTokenize.objectNode()
+                           .put(valueToTokenize.field(), SecretTokenUtil.of(ids.get(i)));
         }
-        return SecretTokenUtil.of(id);
     }
 
     private String detokenize(String token) {
+        return detokenize(token, new SecretValues(Map.of()));
+    }
+
+    private String detokenize(String token, SecretValues secretValues) {
         long id = SecretTokenUtil.extractId(token);
-        String result = secretTokenStore.get(id);
+        String result = secretValues.getResolvedValue(id);
+        if (result == null) {
+            result = secretTokenStore.get(id);
+        }
         if (result == null) {
             throw new SLException(
                 MessageFormat.format(Messages.SECRET_VALUE_NOT_FOUND_FOR_TOKEN_0_PID_1_VARIABLE_2, token, processInstanceId, variableName));
@@ -366,4 +404,33 @@ public class SecretTokenSerializer<T> implements Serializer<T> {
 
     }
 
+    /**
+     * The secret values of a single JSON document. The values to tokenize are stored together once the whole document is processed, and
+     * the tokens in it are resolved together before it is processed.
+     */
+    private static class SecretValues {
+
+        private final Map<Long, String> resolvedValues;
+        private final List<ValueToTokenize> valuesToTokenize = new ArrayList<>();
+
+        SecretValues(Map<Long, String> resolvedValues) {
+            this.resolvedValues = resolvedValues;
+        }
+
+        String getResolvedValue(long id) {
+            return resolvedValues.get(id);
+        }
+
+        void addValueToTokenize(ValueToTokenize valueToTokenize) {
+            valuesToTokenize.add(valueToTokenize);
+        }
+
+        List<ValueToTokenize> getValuesToTokenize() {
+            return valuesToTokenize;
+        }
+    }
+
+    private record ValueToTokenize(ObjectNode objectNode, String field, String plainText) {
+    }
+
 }
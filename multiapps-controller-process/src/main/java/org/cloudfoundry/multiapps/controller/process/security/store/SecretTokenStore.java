@@ -1,9 +1,37 @@
 package org.cloudfoundry.multiapps.controller.process.security.store;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 public interface SecretTokenStore extends SecretTokenStoreDeletion {
 
     long put(String processInstanceId, String variableName, String plainText);
 
     String get(long id);
 
+    /**
+     * Stores all values of a variable at once and returns the IDs of their tokens in the order of the values.
+     */
+    default List<Long> putAll(String processInstanceId, String variableName, List<String> plainTexts) {
+        return plainTexts.stream()
+                         .map(plainText -> put(processInstanceId, variableName, plainText))
+                         .toList();
+    }
+
+    /**
+     * Resolves the values of all tokens at once. The IDs of tokens, which do not have a value, are not contained in the result.
+     */
+    default Map<Long, String> getAll(Collection<Long> ids) {
+        Map<Long, String> result = new LinkedHashMap<>();
+        for (Long id : ids) {
+            String value = get(id);
+            if (value != null) {
+                result.put(id, value);
+            }
+        }
+        return result;
+    }
+
 }
@@ -3,6 +3,14 @@ package org.cloudfoundry.multiapps.controller.process.security.store;
 import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.cloudfoundry.multiapps.controller.core.security.encryption.AesEncryptionUtil;
 import org.cloudfoundry.multiapps.controller.persistence.Messages;
@@ -12,14 +20,22 @@ import org.cloudfoundry.multiapps.controller.persistence.services.SecretTokenSer
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * A store is created for the execution of a single step, so the values, which were stored or retrieved through it, are cached until the
+ * step is finished. This way a variable, which is read multiple times during a step, is decrypted only once.
+ */
 public class SecretTokenStoreImpl extends SecretTokenStoreImplForDeletion implements SecretTokenStore {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(SecretTokenStoreImpl.class);
+    // Keeps the IN lists below the limits of the supported databases:
+    private static final int MAX_IDS_PER_QUERY = 1000;
 
     private final SecretTokenService secretTokenService;
 
     private final String encryptionKey;
 
+    private final Map<Long, String> decryptedValues = new ConcurrentHashMap<>();
+
     public SecretTokenStoreImpl(SecretTokenService secretTokenService, String encryptionKey) {
         super(secretTokenService);
         this.secretTokenService = secretTokenService;
@@ -28,40 +44,100 @@ public class SecretTokenStoreImpl extends SecretTokenStoreImplForDeletion implem
 
     @Override
     public long put(String processInstanceId, String variableName, String plainText) {
-        byte[] keyBytes = keyBytes();
-        byte[] encryptedValue = AesEncryptionUtil.encrypt(plainText, keyBytes);
-
-        long result = secretTokenService.add(ImmutableSecretToken.builder()
-                                                                 .processInstanceId(processInstanceId)
-                                                                 .variableName(variableName)
-                                                                 .content(encryptedValue)
-                                                                 .timestamp(LocalDateTime.now())
-                                                                 .build())
+        long result = secretTokenService.add(buildSecretToken(processInstanceId, variableName, plainText))
                                         .getId();
+        decryptedValues.put(result, plainText);
         LOGGER.debug(MessageFormat.format(
             Messages.STORED_SECRET_TOKEN_WITH_VARIABLE_NAME_0_FOR_PROCESS_WITH_ID_1,
             variableName, processInstanceId));
         return result;
     }
 
+    @Override
+    public List<Long> putAll(String processInstanceId, String variableName, List<String> plainTexts) {
+        if (plainTexts.isEmpty()) {
+            return List.of();
+        }
+        List<SecretToken> secretTokens = plainTexts.stream()
+                                                   .map(plainText -> buildSecretToken(processInstanceId, variableName, plainText))
+                                                   .toList();
+        List<SecretToken> storedSecretTokens = secretTokenService.addAll(secretTokens);
+        List<Long> result = new ArrayList<>(storedSecretTokens.size());
+        for (int i = 0; i < storedSecretTokens.size(); i++) {
+            long id = storedSecretTokens.get(i)
+                                        .getId();
+            decryptedValues.put(id, plainTexts.get(i));
+            result.add(id);
+        }
+        LOGGER.debug(MessageFormat.format(Messages.STORED_0_SECRET_TOKENS_WITH_VARIABLE_NAME_1_FOR_PROCESS_WITH_ID_2, result.size(),
+                                          variableName, processInstanceId));
+        return result;
+    }
+
+    private SecretToken buildSecretToken(String processInstanceId, String variableName, String plainText) {
+        byte[] encryptedValue = AesEncryptionUtil.encrypt(plainText, keyBytes());
+        return ImmutableSecretToken.builder()
+                                   .processInstanceId(processInstanceId)
+                                   .variableName(variableName)
+                                   .content(encryptedValue)
+                                   .timestamp(LocalDateTime.now())
+                                   .build();
+    }
+
     private byte[] keyBytes() {
         return encryptionKey.getBytes(StandardCharsets.UTF_8);
     }
 
     @Override
     public String get(long id) {
+        String cachedValue = decryptedValues.get(id);
+        if (cachedValue != null) {
+            return cachedValue;
+        }
         SecretToken secretTokenResult = secretTokenService.createQuery()
                                                           .id(id)
                                                           .singleResult();
-        byte[] encryptedValueFromDatabase = secretTokenResult.getContent();
+        String result = decrypt(secretTokenResult);
+        LOGGER.debug(MessageFormat.format(Messages.RETRIEVED_SECRET_TOKEN_WITH_ID_0_FOR_PROCESS_WITH_ID_1, id,
+                                          secretTokenResult.getProcessInstanceId()));
+        return result;
+    }
+
+    @Override
+    public Map<Long, String> getAll(Collection<Long> ids) {
+        Map<Long, String> result = new HashMap<>();
+        Set<Long> notCachedIds = new LinkedHashSet<>();
+        for (Long id : ids) {
+            String cachedValue = decryptedValues.get(id);
+            if (cachedValue != null) {
+                result.put(id, cachedValue);
+            } else {
+                notCachedIds.add(id);
+            }
+        }
+        List<Long> idsToRetrieve = List.copyOf(notCachedIds);
+        for (int i = 0; i < idsToRetrieve.size(); i += MAX_IDS_PER_QUERY) {
+            List<Long> idsInQuery = idsToRetrieve.subList(i, Math.min(i + MAX_IDS_PER_QUERY, idsToRetrieve.size()));
+            for (SecretToken secretToken : secretTokenService.createQuery()
+                                                             .withIdAnyOf(idsInQuery)
+                                                             .list()) {
+                String value = decrypt(secretToken);
+                if (value != null) {
+                    result.put(secretToken.getId(), value);
+                }
+            }
+            LOGGER.debug(MessageFormat.format(Messages.RETRIEVED_0_SECRET_TOKENS_WITH_IDS_1, idsInQuery.size(), idsInQuery));
+        }
+        return result;
+    }
+
+    private String decrypt(SecretToken secretToken) {
+        byte[] encryptedValueFromDatabase = secretToken.getContent();
         if (encryptedValueFromDatabase == null) {
             return null;
         }
-
-        byte[] keyBytes = keyBytes();
-        String result = AesEncryptionUtil.decrypt(encryptedValueFromDatabase, keyBytes);
-        LOGGER.debug(MessageFormat.format(Messages.RETRIEVED_SECRET_TOKEN_WITH_ID_0_FOR_PROCESS_WITH_ID_1, id,
-                                          secretTokenResult.getProcessInstanceId()));
+        String result = AesEncryptionUtil.decrypt(encryptedValueFromDatabase, keyBytes());
+        decryptedValues.put(secretToken.getId(), result);
         return result;
     }
 
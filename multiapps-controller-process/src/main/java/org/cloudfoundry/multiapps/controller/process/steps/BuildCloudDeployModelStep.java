@@ -12,6 +12,7 @@ import org.cloudfoundry.multiapps.controller.client.facade.domain.CloudServiceKe
 import org.cloudfoundry.multiapps.controller.client.facade.oauth2.OAuth2AccessTokenWithAdditionalInfo;
 import org.cloudfoundry.multiapps.controller.client.lib.domain.CloudServiceInstanceExtended;
 import org.cloudfoundry.multiapps.controller.core.cf.CloudHandlerFactory;
+import org.cloudfoundry.multiapps.controller.core.cf.DeploymentMode;
 import org.cloudfoundry.multiapps.controller.core.cf.clients.CustomServiceKeysClient;
 import org.cloudfoundry.multiapps.controller.core.cf.clients.WebClientFactory;
 import org.cloudfoundry.multiapps.controller.core.cf.util.CloudModelBuilderContentCalculator;
@@ -123,7 +124,7 @@ public class BuildCloudDeployModelStep extends SyncFlowableStep {
 
         context.setVariable(Variables.APPS_TO_DEPLOY, getAppNames(modulesCalculatedForDeployment));
 
-        context.setVariable(Variables.DEPLOYMENT_MODE, applicationCloudModelBuilder.getDeploymentMode());
+        context.setVariable(Variables.DEPLOYMENT_MODE, getDeploymentMode(context, applicationCloudModelBuilder));
         context.setVariable(Variables.USE_IDLE_URIS, false);
 
         // Build a list of custom domains and save them in the context:
@@ -264,6 +265,18 @@ public class BuildCloudDeployModelStep extends SyncFlowableStep {
         return resourcesCloudModelBuilderContentCalculator.calculateContentForBuilding(deploymentDescriptor.getResources());
     }
 
+    // Only the deploy process starts the module sub-processes at once, the other processes deploy the modules in waves:
+    private DeploymentMode getDeploymentMode(ProcessContext context, ApplicationCloudModelBuilder applicationCloudModelBuilder) {
+        DeploymentMode deploymentMode = applicationCloudModelBuilder.getDeploymentMode();
+        ProcessType processType = processTypeParser.getProcessType(context.getExecution());
+        if (deploymentMode == DeploymentMode.DATAFLOW && processType != ProcessType.DEPLOY) {
+            getStepLogger().debug(Messages.DATAFLOW_DEPLOYMENT_IS_NOT_SUPPORTED_FOR_0_PROCESSES_MODULES_WILL_BE_DEPLOYED_IN_PARALLEL,
+                                  processType);
+            return DeploymentMode.PARALLEL;
+        }
+        return deploymentMode;
+    }
+
     private boolean shouldProcessOnlyUserProvidedServices(ProcessContext context) {
         return processTypeParser.getProcessType(context.getExecution()) == ProcessType.ROLLBACK_MTA && context.getVariable(
             Variables.PROCESS_USER_PROVIDED_SERVICES);
@@ -1,6 +1,7 @@
 package org.cloudfoundry.multiapps.controller.process.steps;
 
 import java.util.Set;
+import java.util.function.Supplier;
 
 import org.cloudfoundry.multiapps.common.SLException;
 import org.cloudfoundry.multiapps.controller.client.facade.CloudControllerClient;
@@ -10,6 +11,7 @@ import org.cloudfoundry.multiapps.controller.core.security.serialization.SecureS
 import org.cloudfoundry.multiapps.controller.process.Messages;
 import org.cloudfoundry.multiapps.controller.process.client.LoggingCloudControllerClient;
 import org.cloudfoundry.multiapps.controller.process.util.StepLogger;
+import org.cloudfoundry.multiapps.controller.process.variables.DeserializedVariableCache;
 import org.cloudfoundry.multiapps.controller.process.variables.Variable;
 import org.cloudfoundry.multiapps.controller.process.variables.VariableHandling;
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
@@ -20,6 +22,7 @@ public class ProcessContext {
     private final DelegateExecution execution;
     private final StepLogger stepLogger;
     private final CloudControllerClientProvider clientProvider;
+    private final DeserializedVariableCache variableCache = new DeserializedVariableCache();
 
     public ProcessContext(DelegateExecution execution, StepLogger stepLogger, CloudControllerClientProvider clientProvider) {
         this.execution = execution;
@@ -63,11 +66,11 @@ public class ProcessContext {
     }
 
     public <T> T getVariable(Variable<T> variable) {
-        return VariableHandling.get(execution, variable);
+        return getCachedVariable(variable, () -> VariableHandling.get(execution, variable));
     }
 
     public <T> T getVariableIfSet(Variable<T> variable) {
-        return VariableHandling.getIfSet(execution, variable);
+        return getCachedVariable(variable, () -> VariableHandling.getIfSet(execution, variable));
     }
 
     public <T> T getVariableBackwardsCompatible(Variable<T> variable) {
@@ -75,11 +78,21 @@ public class ProcessContext {
     }
 
     public <T> void setVariable(Variable<T> variable, T value) {
+        invalidateCachedVariable(variable);
         VariableHandling.set(execution, variable, value);
     }
 
     public void removeVariable(Variable<?> variable) {
+        invalidateCachedVariable(variable);
         VariableHandling.remove(execution, variable);
     }
 
+    protected <T> T getCachedVariable(Variable<T> variable, Supplier<T> deserializer) {
+        return variableCache.get(execution, variable, deserializer);
+    }
+
+    protected void invalidateCachedVariable(Variable<?> variable) {
+        variableCache.invalidate(variable);
+    }
+
 }
@@ -59,17 +59,18 @@ public class SecureProcessContext extends ProcessContext {
 
     @Override
     public <T> void setVariable(Variable<T> variable, T value) {
+        invalidateCachedVariable(variable);
         VariableHandling.set(getExecution(), wrap(variable), value);
     }
 
     @Override
     public <T> T getVariable(Variable<T> variable) {
-        return VariableHandling.get(getExecution(), wrap(variable));
+        return getCachedVariable(variable, () -> VariableHandling.get(getExecution(), wrap(variable)));
     }
 
     @Override
     public <T> T getVariableIfSet(Variable<T> variable) {
-        return VariableHandling.getIfSet(getExecution(), wrap(variable));
+        return getCachedVariable(variable, () -> VariableHandling.getIfSet(getExecution(), wrap(variable)));
     }
 
     @Override
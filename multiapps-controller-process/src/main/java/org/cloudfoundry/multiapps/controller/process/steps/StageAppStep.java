@@ -11,6 +11,7 @@ import org.cloudfoundry.multiapps.controller.core.cf.CloudControllerClientFactor
 import org.cloudfoundry.multiapps.controller.core.security.token.TokenService;
 import org.cloudfoundry.multiapps.controller.process.Messages;
 import org.cloudfoundry.multiapps.controller.process.util.ApplicationStager;
+import org.cloudfoundry.multiapps.controller.process.util.BatchedStatusPoller;
 import org.cloudfoundry.multiapps.controller.process.util.TimeoutType;
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
 import org.springframework.beans.factory.config.BeanDefinition;
@@ -24,6 +25,8 @@ public class StageAppStep extends TimeoutAsyncFlowableStep {
     protected CloudControllerClientFactory clientFactory;
     @Inject
     protected TokenService tokenService;
+    @Inject
+    protected BatchedStatusPoller statusPoller;
 
     @Override
     protected StepPhase executeAsyncStep(ProcessContext context) {
@@ -40,7 +43,8 @@ public class StageAppStep extends TimeoutAsyncFlowableStep {
 
     @Override
     protected List<AsyncExecution> getAsyncStepExecutions(ProcessContext context) {
-        return List.of(new PollStageAppStatusExecution(new ApplicationStager(context), clientFactory, tokenService, operationLogsExporter));
+        return List.of(new PollStageAppStatusExecution(new ApplicationStager(context, statusPoller), clientFactory, tokenService,
+                                                       operationLogsExporter));
     }
 
     @Override
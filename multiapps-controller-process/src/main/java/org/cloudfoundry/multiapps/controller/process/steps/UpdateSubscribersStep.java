@@ -9,6 +9,7 @@ import java.util.Objects;
 import java.util.TreeMap;
 import java.util.UUID;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import jakarta.inject.Inject;
@@ -34,6 +35,7 @@ import org.cloudfoundry.multiapps.controller.core.helpers.v2.ConfigurationRefere
 import org.cloudfoundry.multiapps.controller.core.model.SupportedParameters;
 import org.cloudfoundry.multiapps.controller.core.security.serialization.DynamicSecureSerialization;
 import org.cloudfoundry.multiapps.controller.core.security.token.TokenService;
+import org.cloudfoundry.multiapps.controller.core.util.ForkJoinPoolUtil;
 import org.cloudfoundry.multiapps.controller.persistence.model.CloudTarget;
 import org.cloudfoundry.multiapps.controller.persistence.model.ConfigurationEntry;
 import org.cloudfoundry.multiapps.controller.persistence.model.ConfigurationSubscription;
@@ -103,26 +105,29 @@ public class UpdateSubscribersStep extends SyncFlowableStep {
         List<ConfigurationEntry> deletedEntries = StepsUtil.getDeletedEntriesFromAllProcesses(context, flowableFacade);
         List<ConfigurationEntry> updatedEntries = ListUtils.union(publishedEntries, deletedEntries);
 
-        List<CloudApplication> updatedSubscribers = new ArrayList<>();
-        List<CloudApplication> updatedServiceBrokerSubscribers = new ArrayList<>();
         List<ConfigurationSubscription> subscriptions = configurationSubscriptionService.createQuery()
                                                                                         .onSelectMatching(updatedEntries)
                                                                                         .list();
-        ClientHelper clientHelper = new ClientHelper(createSpaceClient(context));
-        for (ConfigurationSubscription subscription : subscriptions) {
-            CloudSpace target = targetCalculator.apply(clientHelper, subscription.getSpaceId());
-            if (target == null) {
-                getStepLogger().warn(Messages.COULD_NOT_COMPUTE_ORG_AND_SPACE, subscription.getSpaceId());
+        // The subscriber applications of each space are processed sequentially with a single client, while the spaces are processed in
+        // parallel. Everything that needs the process context, including logging, happens on the current thread.
+        List<List<Subscriber>> subscribersBySpace = getSubscribersBySpace(context, subscriptions);
+        List<List<SubscriberUpdate>> subscriberUpdatesBySpace = new ArrayList<>();
+        for (List<Subscriber> subscribersInSpace : subscribersBySpace) {
+            subscriberUpdatesBySpace.add(computeSubscriberUpdates(context, subscribersInSpace, dynamicSecureSerialization));
+        }
+        List<SubscriberUpdateResult> subscriberUpdateResults = executeInParallel(subscriberUpdatesBySpace, this::updateSubscribers);
+
+        List<CloudApplication> updatedSubscribers = new ArrayList<>();
+        List<CloudApplication> updatedServiceBrokerSubscribers = new ArrayList<>();
+        for (SubscriberUpdateResult subscriberUpdateResult : subscriberUpdateResults) {
+            SubscriberUpdate subscriberUpdate = subscriberUpdateResult.subscriberUpdate();
+            if (subscriberUpdateResult.error() != null) {
+                subscriberUpdate.subscriptions()
+                                .forEach(subscription -> logSubscriberUpdateError(subscription, subscriberUpdateResult.error()));
                 continue;
             }
-            CloudControllerClient client = getClient(context, target);
-            CloudApplication subscriberApp = client.getApplication(subscription.getAppName());
-            Map<String, String> appEnv = client.getApplicationEnvironment(subscriberApp.getGuid());
-            CloudApplication updatedApplication = updateSubscriber(context, subscription, client, subscriberApp, appEnv,
-                                                                   dynamicSecureSerialization);
-            if (updatedApplication != null) {
-                addApplicationToProperList(updatedSubscribers, updatedServiceBrokerSubscribers, updatedApplication, appEnv);
-            }
+            Subscriber subscriber = subscriberUpdate.subscriber();
+            addApplicationToProperList(updatedSubscribers, updatedServiceBrokerSubscribers, subscriber.app(), subscriber.appEnv());
         }
         context.setVariable(Variables.UPDATED_SUBSCRIBERS, removeDuplicates(updatedSubscribers));
         context.setVariable(Variables.UPDATED_SERVICE_BROKER_SUBSCRIBERS, updatedServiceBrokerSubscribers);
@@ -135,6 +140,100 @@ public class UpdateSubscribersStep extends SyncFlowableStep {
         return Messages.ERROR_UPDATING_SUBSCRIBERS;
     }
 
+    private List<List<Subscriber>> getSubscribersBySpace(ProcessContext context, List<ConfigurationSubscription> subscriptions) {
+        ClientHelper clientHelper = new ClientHelper(createSpaceClient(context));
+        Map<String, List<ConfigurationSubscription>> subscriptionsBySpaceId = subscriptions.stream()
+                                                                                           .collect(Collectors.groupingBy(
+                                                                                               ConfigurationSubscription::getSpaceId,
+                                                                                               LinkedHashMap::new,
+                                                                                               Collectors.toList()));
+        List<SpaceSubscriptions> spaceSubscriptions = new ArrayList<>();
+        for (Map.Entry<String, List<ConfigurationSubscription>> subscriptionsInSpace : subscriptionsBySpaceId.entrySet()) {
+            CloudSpace target = targetCalculator.apply(clientHelper, subscriptionsInSpace.getKey());
+            if (target == null) {
+                getStepLogger().warn(Messages.COULD_NOT_COMPUTE_ORG_AND_SPACE, subscriptionsInSpace.getKey());
+                continue;
+            }
+            spaceSubscriptions.add(new SpaceSubscriptions(getClient(context, target), subscriptionsInSpace.getValue()));
+        }
+        return executeInParallel(spaceSubscriptions, this::getSubscribers);
+    }
+
+    private List<Subscriber> getSubscribers(SpaceSubscriptions spaceSubscriptions) {
+        CloudControllerClient client = spaceSubscriptions.client();
+        Map<String, List<ConfigurationSubscription>> subscriptionsByAppName = spaceSubscriptions.subscriptions()
+                                                                                                .stream()
+                                                                                                .collect(Collectors.groupingBy(
+                                                                                                    ConfigurationSubscription::getAppName,
+                                                                                                    LinkedHashMap::new,
+                                                                                                    Collectors.toList()));
+        List<Subscriber> subscribers = new ArrayList<>();
+        for (Map.Entry<String, List<ConfigurationSubscription>> subscriptionsOfApp : subscriptionsByAppName.entrySet()) {
+            CloudApplication subscriberApp = client.getApplication(subscriptionsOfApp.getKey());
+            Map<String, String> appEnv = client.getApplicationEnvironment(subscriberApp.getGuid());
+            subscribers.add(new Subscriber(subscriptionsOfApp.getValue(), client, subscriberApp, appEnv));
+        }
+        return subscribers;
+    }
+
+    private List<SubscriberUpdate> computeSubscriberUpdates(ProcessContext context, List<Subscriber> subscribers,
+                                                            DynamicSecureSerialization dynamicSecureSerialization) {
+        List<SubscriberUpdate> subscriberUpdates = new ArrayList<>();
+        for (Subscriber subscriber : subscribers) {
+            SubscriberUpdate subscriberUpdate = computeSubscriberUpdate(context, subscriber, dynamicSecureSerialization);
+            if (subscriberUpdate != null) {
+                subscriberUpdates.add(subscriberUpdate);
+            }
+        }
+        return subscriberUpdates;
+    }
+
+    // All subscriptions of an application are applied one after another to the same environment, so that none of them overwrites the
+    // changes of another one, and the application is updated only once:
+    private SubscriberUpdate computeSubscriberUpdate(ProcessContext context, Subscriber subscriber,
+                                                     DynamicSecureSerialization dynamicSecureSerialization) {
+        Map<String, String> environment = new LinkedHashMap<>(subscriber.appEnv());
+        List<ConfigurationSubscription> appliedSubscriptions = new ArrayList<>();
+        for (ConfigurationSubscription subscription : subscriber.subscriptions()) {
+            if (updateEnvironment(context, subscriber.client(), subscription, environment, dynamicSecureSerialization)) {
+                appliedSubscriptions.add(subscription);
+            }
+        }
+        if (appliedSubscriptions.isEmpty()) {
+            return null;
+        }
+        return new SubscriberUpdate(subscriber, appliedSubscriptions, environment);
+    }
+
+    private List<SubscriberUpdateResult> updateSubscribers(List<SubscriberUpdate> subscriberUpdates) {
+        List<SubscriberUpdateResult> results = new ArrayList<>();
+        for (SubscriberUpdate subscriberUpdate : subscriberUpdates) {
+            Subscriber subscriber = subscriberUpdate.subscriber();
+            try {
+                subscriber.client()
+                          .updateApplicationEnv(subscriber.app()
+                                                          .getName(), subscriberUpdate.updatedEnvironment());
+                results.add(new SubscriberUpdateResult(subscriberUpdate, null));
+            } catch (CloudOperationException | SLException e) {
+                results.add(new SubscriberUpdateResult(subscriberUpdate, e));
+            }
+        }
+        return results;
+    }
+
+    private <T, R> List<R> executeInParallel(List<T> tasksBySpace, Function<T, List<R>> task) {
+        if (tasksBySpace.isEmpty()) {
+            return Collections.emptyList();
+        }
+        int maxParallelThreads = Math.min(tasksBySpace.size(), configuration.getSubscribersUpdateMaxParallelThreads());
+        List<List<R>> resultsBySpace = ForkJoinPoolUtil.execute(maxParallelThreads, () -> tasksBySpace.parallelStream()
+                                                                                                      .map(task)
+                                                                                                      .collect(Collectors.toList()));
+        return resultsBySpace.stream()
+                             .flatMap(List::stream)
+                             .collect(Collectors.toList());
+    }
+
     private CloudSpaceClient createSpaceClient(ProcessContext context) {
         var userGuid = context.getVariable(Variables.USER_GUID);
         var token = tokenService.getToken(userGuid);
@@ -161,23 +260,25 @@ public class UpdateSubscribersStep extends SyncFlowableStep {
         return new ArrayList<>(applicationsMap.values());
     }
 
-    private CloudApplication updateSubscriber(ProcessContext context, ConfigurationSubscription subscription, CloudControllerClient client,
-                                              CloudApplication subscriberApp, Map<String, String> appEnv,
-                                              DynamicSecureSerialization dynamicSecureSerialization) {
+    private boolean updateEnvironment(ProcessContext context, CloudControllerClient client, ConfigurationSubscription subscription,
+                                      Map<String, String> environment, DynamicSecureSerialization dynamicSecureSerialization) {
         try {
-            return attemptToUpdateSubscriber(context, client, subscription, subscriberApp, appEnv, dynamicSecureSerialization);
+            return attemptToUpdateEnvironment(context, client, subscription, environment, dynamicSecureSerialization);
         } catch (CloudOperationException | SLException e) {
-            String appName = subscription.getAppName();
-            String mtaId = subscription.getMtaId();
-            String subscriptionName = getRequiredDependency(subscription).getName();
-            getStepLogger().warn(e, Messages.COULD_NOT_UPDATE_SUBSCRIBER, appName, mtaId, subscriptionName);
-            return null;
+            logSubscriberUpdateError(subscription, e);
+            return false;
         }
     }
 
-    private CloudApplication attemptToUpdateSubscriber(ProcessContext context, CloudControllerClient client,
-                                                       ConfigurationSubscription subscription, CloudApplication subscriberApp,
-                                                       Map<String, String> appEnv, DynamicSecureSerialization dynamicSecureSerialization) {
+    private void logSubscriberUpdateError(ConfigurationSubscription subscription, Exception e) {
+        String appName = subscription.getAppName();
+        String mtaId = subscription.getMtaId();
+        String subscriptionName = getRequiredDependency(subscription).getName();
+        getStepLogger().warn(e, Messages.COULD_NOT_UPDATE_SUBSCRIBER, appName, mtaId, subscriptionName);
+    }
+
+    private boolean attemptToUpdateEnvironment(ProcessContext context, CloudControllerClient client, ConfigurationSubscription subscription,
+                                               Map<String, String> environment, DynamicSecureSerialization dynamicSecureSerialization) {
         CloudHandlerFactory handlerFactory = CloudHandlerFactory.forSchemaVersion(MAJOR_SCHEMA_VERSION);
 
         DeploymentDescriptor dummyDescriptor = buildDummyDescriptor(subscription, handlerFactory);
@@ -216,19 +317,17 @@ public class UpdateSubscribersStep extends SyncFlowableStep {
         CloudApplicationExtended application = applicationCloudModelBuilder.build(module, moduleToDeployHelper);
 
         Map<String, String> updatedEnvironment = application.getEnv();
-        Map<String, String> currentEnvironment = new LinkedHashMap<>(appEnv);
 
-        boolean neededToBeUpdated = updateCurrentEnvironment(currentEnvironment, updatedEnvironment,
+        boolean neededToBeUpdated = updateCurrentEnvironment(environment, updatedEnvironment,
                                                              getPropertiesToTransfer(subscription, resolver));
 
         if (!neededToBeUpdated) {
-            return null;
+            return false;
         }
 
         getStepLogger().info(Messages.UPDATING_SUBSCRIBER, subscription.getAppName(), subscription.getMtaId(),
                              getRequiredDependency(subscription).getName());
-        client.updateApplicationEnv(subscriberApp.getName(), currentEnvironment);
-        return subscriberApp;
+        return true;
     }
 
     private boolean updateCurrentEnvironment(Map<String, String> currentEnvironment, Map<String, String> updatedEnvironment,
@@ -318,6 +417,20 @@ public class UpdateSubscribersStep extends SyncFlowableStep {
         return true;
     }
 
+    private record SpaceSubscriptions(CloudControllerClient client, List<ConfigurationSubscription> subscriptions) {
+    }
+
+    private record Subscriber(List<ConfigurationSubscription> subscriptions, CloudControllerClient client, CloudApplication app,
+                              Map<String, String> appEnv) {
+    }
+
+    private record SubscriberUpdate(Subscriber subscriber, List<ConfigurationSubscription> subscriptions,
+                                    Map<String, String> updatedEnvironment) {
+    }
+
+    private record SubscriberUpdateResult(SubscriberUpdate subscriberUpdate, Exception error) {
+    }
+
     private static class ReferenceDetector extends ReferencingPropertiesVisitor {
 
         public ReferenceDetector(String name) {
@@ -75,10 +75,13 @@ public class UploadAppAsyncExecution implements AsyncExecution {
             context.setVariable(Variables.UPLOAD_START_TIME, Instant.now());
         }
         ApplicationToUploadContext applicationToUploadContext = buildApplicationToUploadContext(context, applicationToProcess);
+        ApplicationArchiveContext applicationArchiveContext = createApplicationArchiveContext(applicationToUploadContext,
+                                                                                              applicationConfiguration.getMaxResourceFileSize());
         CloudControllerClient client = context.getControllerClient();
         Future<CloudPackage> runningUpload;
         try {
-            runningUpload = appUploaderThreadPool.submit(() -> doUpload(context, applicationToProcess, applicationToUploadContext));
+            runningUpload = appUploaderThreadPool.submit(
+                () -> doUpload(context, applicationToProcess, applicationToUploadContext, applicationArchiveContext));
         } catch (RejectedExecutionException rejectedExecutionException) {
             uploadDurationTracker.recordAppBinaryUploadRejection();
             LOGGER.warn(rejectedExecutionException.getMessage(), rejectedExecutionException);
@@ -97,6 +100,10 @@ public class UploadAppAsyncExecution implements AsyncExecution {
         uploadDurationTracker.recordAppBinaryUpload(getElapsedTimeInMillis(context), false);
         context.getStepLogger()
                .infoWithoutProgressMessage(Messages.TIME_ELAPSED_FOR_UPLOAD_0_IN_MILLIS, getElapsedTimeInMillis(context));
+        if (context.getVariable(Variables.CALCULATE_APPLICATION_DIGEST_DURING_EXTRACTION)) {
+            context.setVariable(Variables.CALCULATED_APPLICATION_DIGEST, applicationArchiveContext.getDigestCalculator()
+                                                                                                 .getDigest());
+        }
         return processCloudPackage(context, client, cloudPackage);
     }
 
@@ -117,20 +124,21 @@ public class UploadAppAsyncExecution implements AsyncExecution {
     }
 
     private CloudPackage doUpload(ProcessContext context, CloudApplicationExtended applicationToProcess,
-                                  ApplicationToUploadContext applicationToUploadContext) {
+                                  ApplicationToUploadContext applicationToUploadContext,
+                                  ApplicationArchiveContext applicationArchiveContext) {
         context.getStepLogger()
                .debug(Messages.UPLOAD_OF_APPLICATION_0_STARTED_ON_INSTANCE_1, applicationToProcess.getName(),
                       applicationConfiguration.getApplicationInstanceIndex());
-        return proceedWithUpload(context.getControllerClient(), applicationToUploadContext, context);
+        return proceedWithUpload(context.getControllerClient(), applicationToUploadContext, applicationArchiveContext, context);
     }
 
     private CloudPackage proceedWithUpload(CloudControllerClient client, ApplicationToUploadContext applicationToUploadContext,
-                                           ProcessContext context) {
+                                           ApplicationArchiveContext applicationArchiveContext, ProcessContext context) {
         applicationToUploadContext.getStepLogger()
                                   .debug(Messages.UPLOADING_FILE_0_FOR_APP_1, applicationToUploadContext.getModuleFileName(),
                                          applicationToUploadContext.getApplication()
                                                                    .getName());
-        CloudPackage cloudPackage = asyncUploadFiles(client, applicationToUploadContext, context);
+        CloudPackage cloudPackage = asyncUploadFiles(client, applicationToUploadContext, applicationArchiveContext, context);
         applicationToUploadContext.getStepLogger()
                                   .info(Messages.STARTED_ASYNC_UPLOAD_OF_APP_0, applicationToUploadContext.getApplication()
                                                                                                           .getName());
@@ -139,8 +147,8 @@ public class UploadAppAsyncExecution implements AsyncExecution {
     }
 
     private CloudPackage asyncUploadFiles(CloudControllerClient client, ApplicationToUploadContext applicationToUploadContext,
-                                          ProcessContext context) {
-        Path extractedAppPath = extractApplicationFromArchive(applicationToUploadContext);
+                                          ApplicationArchiveContext applicationArchiveContext, ProcessContext context) {
+        Path extractedAppPath = extractApplicationFromArchive(applicationToUploadContext, applicationArchiveContext);
         LOGGER.debug(MessageFormat.format(Messages.APPLICATION_WITH_NAME_0_SAVED_TO_1, applicationToUploadContext.getApplication()
                                                                                                                  .getName(),
                                           extractedAppPath));
@@ -152,10 +160,10 @@ public class UploadAppAsyncExecution implements AsyncExecution {
         return upload(client, applicationToUploadContext, extractedAppPath, context);
     }
 
-    private Path extractApplicationFromArchive(ApplicationToUploadContext applicationToUploadContext) {
+    private Path extractApplicationFromArchive(ApplicationToUploadContext applicationToUploadContext,
+                                               ApplicationArchiveContext applicationArchiveContext) {
         Instant startTime = Instant.now();
-        Path extractedAppPath = extractFromMtar(
-            createApplicationArchiveContext(applicationToUploadContext, applicationConfiguration.getMaxResourceFileSize()));
+        Path extractedAppPath = extractFromMtar(applicationArchiveContext);
         long timeElapsedForUpload = Duration.between(startTime, Instant.now())
                                             .toMillis();
         applicationToUploadContext.getStepLogger()
@@ -80,15 +80,21 @@ public class UploadAppStep extends TimeoutAsyncFlowableStep {
             getStepLogger().infoWithoutProgressMessage(Messages.SKIPPING_APPLICATION_0_DIGEST_CALCULATION, applicationToProcess.getName());
             removeApplicationDigestIfSet(context, appEnv);
             return StepPhase.POLL;
-        } else {
-            getStepLogger().infoWithoutProgressMessage(Messages.CALCULATING_APPLICATION_DIGEST_0, applicationToProcess.getName());
-            String newApplicationDigest = getNewApplicationDigest(context, moduleFileName);
-            boolean contentChanged = detectApplicationFileDigestChanges(appEnv, newApplicationDigest);
-            if (contentChanged) {
-                context.setVariable(Variables.SHOULD_UPDATE_APPLICATION_DIGEST, true);
-                context.setVariable(Variables.CALCULATED_APPLICATION_DIGEST, newApplicationDigest);
-                return StepPhase.POLL;
-            }
+        }
+        String currentApplicationDigest = new ApplicationFileDigestDetector(appEnv).detectCurrentAppFileDigest();
+        if (currentApplicationDigest == null) {
+            getStepLogger().infoWithoutProgressMessage(Messages.APPLICATION_0_HAS_NO_DIGEST_CALCULATING_DIGEST_DURING_EXTRACTION,
+                                                       applicationToProcess.getName());
+            context.setVariable(Variables.SHOULD_UPDATE_APPLICATION_DIGEST, true);
+            context.setVariable(Variables.CALCULATE_APPLICATION_DIGEST_DURING_EXTRACTION, true);
+            return StepPhase.POLL;
+        }
+        getStepLogger().infoWithoutProgressMessage(Messages.CALCULATING_APPLICATION_DIGEST_0, applicationToProcess.getName());
+        String newApplicationDigest = getNewApplicationDigest(context, moduleFileName);
+        if (!newApplicationDigest.equals(currentApplicationDigest)) {
+            context.setVariable(Variables.SHOULD_UPDATE_APPLICATION_DIGEST, true);
+            context.setVariable(Variables.CALCULATED_APPLICATION_DIGEST, newApplicationDigest);
+            return StepPhase.POLL;
         }
 
         DynamicSecureSerialization dynamicSecureSerialization = SecureLoggingUtil.getDynamicSecureSerialization(context);
@@ -143,12 +149,6 @@ public class UploadAppStep extends TimeoutAsyncFlowableStep {
                                              context.getRequiredVariable(Variables.APP_ARCHIVE_ID));
     }
 
-    private boolean detectApplicationFileDigestChanges(Map<String, String> appEnv, String newApplicationDigest) {
-        ApplicationFileDigestDetector digestDetector = new ApplicationFileDigestDetector(appEnv);
-        String currentApplicationDigest = digestDetector.detectCurrentAppFileDigest();
-        return !newApplicationDigest.equals(currentApplicationDigest);
-    }
-
     private StepPhase useLatestPackage(ProcessContext context, CloudPackage latestUnusedPackage,
                                        DynamicSecureSerialization dynamicSecureSerialization) {
         getStepLogger().debug(Messages.THE_NEWEST_PACKAGE_WILL_BE_USED_0, dynamicSecureSerialization.toJson(latestUnusedPackage));
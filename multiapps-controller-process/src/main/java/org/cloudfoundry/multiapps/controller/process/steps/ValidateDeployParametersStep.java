@@ -216,7 +216,8 @@ public class ValidateDeployParametersStep extends SyncFlowableStep {
     }
 
     private MergedArchiveStreamCreator getMergedArchiveStreamCreator(List<FileEntry> archivePartEntries, BigInteger archiveSize) {
-        return new MergedArchiveStreamCreator(fileService, getStepLogger(), archivePartEntries, Long.parseLong(archiveSize.toString()));
+        return new MergedArchiveStreamCreator(fileService, getStepLogger(), archivePartEntries, archiveSize.longValueExact(),
+                                              fileStorageThreadPool);
     }
 
     private FileEntry persistArchive(ArchiveStreamWithName archiveStreamWithName, ProcessContext context, BigInteger size) {
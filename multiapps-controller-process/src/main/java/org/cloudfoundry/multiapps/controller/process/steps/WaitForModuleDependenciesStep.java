@@ -0,0 +1,78 @@
+package org.cloudfoundry.multiapps.controller.process.steps;
+
+import java.text.MessageFormat;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import org.cloudfoundry.multiapps.controller.core.helpers.ModuleToDeployHelper;
+import org.cloudfoundry.multiapps.controller.process.Constants;
+import org.cloudfoundry.multiapps.controller.process.Messages;
+import org.cloudfoundry.multiapps.controller.process.flowable.FlowableFacade;
+import org.cloudfoundry.multiapps.controller.process.util.ModuleDependencyChecker;
+import org.cloudfoundry.multiapps.controller.process.variables.Variables;
+import org.cloudfoundry.multiapps.mta.model.DeploymentDescriptor;
+import org.cloudfoundry.multiapps.mta.model.Module;
+import org.flowable.variable.api.history.HistoricVariableInstance;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Scope;
+
+/**
+ * Used in the dataflow deployment mode, in which the deploy sub-processes of all modules are started at once. Holds the deployment of
+ * a module until the sub-processes of all of its "deployed-after" dependencies have finished, so that each module starts as soon as
+ * its own dependencies are deployed instead of waiting for a whole wave of modules.
+ */
+@Named("waitForModuleDependenciesStep")
+@Scope(BeanDefinition.SCOPE_PROTOTYPE)
+public class WaitForModuleDependenciesStep extends SyncFlowableStep {
+
+    private final ModuleToDeployHelper moduleToDeployHelper;
+    private final FlowableFacade flowableFacade;
+
+    @Inject
+    public WaitForModuleDependenciesStep(ModuleToDeployHelper moduleToDeployHelper, FlowableFacade flowableFacade) {
+        this.moduleToDeployHelper = moduleToDeployHelper;
+        this.flowableFacade = flowableFacade;
+    }
+
+    @Override
+    protected StepPhase executeStep(ProcessContext context) {
+        Module moduleToDeploy = context.getVariable(Variables.MODULE_TO_DEPLOY);
+        DeploymentDescriptor descriptor = context.getVariable(Variables.DEPLOYMENT_DESCRIPTOR);
+        ModuleDependencyChecker dependencyChecker = new ModuleDependencyChecker(context.getControllerClient(),
+                                                                                getStepLogger(),
+                                                                                moduleToDeployHelper,
+                                                                                descriptor.getModules(),
+                                                                                context.getVariable(Variables.MODULES_TO_DEPLOY),
+                                                                                getDeployedModules(context));
+        if (!dependencyChecker.areAllDependenciesSatisfied(moduleToDeploy)) {
+            getStepLogger().debug(Messages.MODULE_0_IS_WAITING_FOR_ITS_DEPENDENCIES_TO_BE_DEPLOYED, moduleToDeploy.getName());
+            return StepPhase.POLL;
+        }
+        getStepLogger().debug(Messages.DEPENDENCIES_OF_MODULE_0_ARE_DEPLOYED, moduleToDeploy.getName());
+        return StepPhase.DONE;
+    }
+
+    @Override
+    protected String getStepErrorMessage(ProcessContext context) {
+        return MessageFormat.format(Messages.ERROR_WAITING_FOR_DEPENDENCIES_OF_MODULE_0, context.getVariable(Variables.MODULE_TO_DEPLOY)
+                                                                                                .getName());
+    }
+
+    private List<Module> getDeployedModules(ProcessContext context) {
+        String parentProcessInstanceId = flowableFacade.getHistoricProcessById(context.getExecution()
+                                                                                      .getProcessInstanceId())
+                                                       .getSuperProcessInstanceId();
+        List<String> finishedSubProcessIds = flowableFacade.getFinishedSubProcessIds(parentProcessInstanceId,
+                                                                                     Constants.DEPLOY_APP_SUB_PROCESS_ID);
+        List<HistoricVariableInstance> deployedModules = flowableFacade.getHistoricVariableInstances(new HashSet<>(finishedSubProcessIds),
+                                                                                                     Variables.MODULE_TO_DEPLOY.getName());
+        return deployedModules.stream()
+                              .map(HistoricVariableInstance::getValue)
+                              .map(Variables.MODULE_TO_DEPLOY.getSerializer()::deserialize)
+                              .collect(Collectors.toList());
+    }
+
+}
@@ -1,11 +1,18 @@
 package org.cloudfoundry.multiapps.controller.process.stream;
 
 import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.SequenceInputStream;
 import java.text.MessageFormat;
+import java.util.HashMap;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.commons.io.IOUtils;
 import org.cloudfoundry.multiapps.common.SLException;
@@ -14,103 +21,212 @@ import org.cloudfoundry.multiapps.controller.persistence.model.FileEntry;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileService;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileStorageException;
 import org.cloudfoundry.multiapps.controller.process.Messages;
+import org.cloudfoundry.multiapps.controller.process.util.PriorityCallable;
+import org.cloudfoundry.multiapps.controller.process.util.PriorityFuture;
 import org.cloudfoundry.multiapps.controller.process.util.StepLogger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Reads the parts of an archive one after another as a single stream. When an executor is given, the next parts are opened and the
+ * beginning of their content is read ahead while the current part is being read, so that moving to the next part does not wait for the
+ * file storage. A part, whose prefetching has not started yet when it is needed, is opened by the reading thread instead, so the stream
+ * does not depend on a free thread in the executor. A prefetching, which has already started, is always waited for, so that no part is
+ * opened twice and every opened part is closed. Like any other input stream, it must be read by one thread at a time.
+ */
 public class LazyArchiveInputStream extends InputStream {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(LazyArchiveInputStream.class);
     private static final int BUFFERED_SIZE = 16 * 1024;
+    private static final int READ_AHEAD_BUFFER_SIZE = 4 * 1024 * 1024;
 
     private final FileService fileService;
     private final List<FileEntry> archiveFileEntries;
     private final StepLogger stepLogger;
     private final long archiveSize;
-    private final AtomicInteger totalBytesRead;
-    private final AtomicInteger partIndex;
+    private final ExecutorService prefetchExecutor;
+    private final int prefetchedPartsCount;
+    private final Map<Integer, PrefetchedPart> prefetchedParts = new HashMap<>();
+    private long totalBytesRead;
+    private int partIndex;
     private InputStream currentInputStream;
 
     public LazyArchiveInputStream(FileService fileService, List<FileEntry> archiveFileEntries, StepLogger stepLogger, long archiveSize) {
+        this(fileService, archiveFileEntries, stepLogger, archiveSize, null, 0);
+    }
+
+    public LazyArchiveInputStream(FileService fileService, List<FileEntry> archiveFileEntries, StepLogger stepLogger, long archiveSize,
+                                  ExecutorService prefetchExecutor, int prefetchedPartsCount) {
         this.fileService = fileService;
         this.archiveFileEntries = archiveFileEntries;
         this.stepLogger = stepLogger;
         this.archiveSize = archiveSize;
-        this.totalBytesRead = new AtomicInteger(0);
-        this.partIndex = new AtomicInteger(0);
+        this.prefetchExecutor = prefetchExecutor;
+        this.prefetchedPartsCount = prefetchExecutor == null ? 0 : prefetchedPartsCount;
     }
 
     @Override
-    public synchronized int read() throws IOException {
+    public int read() throws IOException {
         if (currentInputStream == null) {
-            currentInputStream = openBufferedInputStream(archiveFileEntries.get(partIndex.get()));
+            currentInputStream = openPart(partIndex);
         }
         int c = currentInputStream.read();
-        if (c == -1 && partIndex.get() < archiveFileEntries.size() - 1) {
-            IOUtils.closeQuietly(currentInputStream, e -> LOGGER.warn(e.getMessage(), e));
-            LOGGER.info(MessageFormat.format(Messages.CLOSING_STREAM_FOR_PART_0, partIndex));
-            currentInputStream = openBufferedInputStream(archiveFileEntries.get(partIndex.incrementAndGet()));
+        while (c == -1 && partIndex < archiveFileEntries.size() - 1) {
+            currentInputStream = openNextPart();
             c = currentInputStream.read();
-        } else if (c == -1) {
-            LOGGER.info(MessageFormat.format(Messages.REACHED_THE_END_OF_THE_INPUT_STREAM, partIndex));
         }
-        if (c >= 0) {
-            totalBytesRead.incrementAndGet();
+        if (c == -1) {
+            LOGGER.info(MessageFormat.format(Messages.REACHED_THE_END_OF_THE_INPUT_STREAM, partIndex));
+        } else {
+            totalBytesRead++;
         }
         return c;
     }
 
     @Override
-    public synchronized int read(byte[] b, int off, int len) throws IOException {
+    public int read(byte[] b, int off, int len) throws IOException {
         if (currentInputStream == null) {
-            currentInputStream = openBufferedInputStream(archiveFileEntries.get(partIndex.get()));
+            currentInputStream = openPart(partIndex);
         }
         int bytesRead = currentInputStream.read(b, off, len);
-        if (bytesRead == -1 && partIndex.get() < archiveFileEntries.size() - 1) {
-            IOUtils.closeQuietly(currentInputStream, e -> LOGGER.warn(e.getMessage(), e));
-            LOGGER.info(MessageFormat.format(Messages.CLOSING_STREAM_FOR_PART_0, partIndex));
-            currentInputStream = openBufferedInputStream(archiveFileEntries.get(partIndex.incrementAndGet()));
+        while (bytesRead == -1 && partIndex < archiveFileEntries.size() - 1) {
+            currentInputStream = openNextPart();
             bytesRead = currentInputStream.read(b, off, len);
-        } else if (bytesRead == -1) {
-            LOGGER.info(MessageFormat.format(Messages.REACHED_THE_END_OF_THE_INPUT_STREAM, partIndex));
         }
-        if (bytesRead > 0) {
-            totalBytesRead.addAndGet(bytesRead);
+        if (bytesRead == -1) {
+            LOGGER.info(MessageFormat.format(Messages.REACHED_THE_END_OF_THE_INPUT_STREAM, partIndex));
+        } else {
+            totalBytesRead += bytesRead;
         }
         return bytesRead;
     }
 
     @Override
-    public synchronized int available() throws IOException {
+    public int available() throws IOException {
         // The return value of this method must be anything except 0
         // because this way jclouds will use it to skip these bytes
         // but the skip method actually does not skip anything intentionally
         // (jclouds creates a new stream and overrides skip and close and makes them do nothing)...
         // If this method returns 0 jclouds will try to skip the stream by reading it
         // thus making it invalid as skip is not required
-        long remainingBytes = archiveSize - totalBytesRead.get();
+        long remainingBytes = archiveSize - totalBytesRead;
         if (remainingBytes > Integer.MAX_VALUE) {
             return Integer.MAX_VALUE;
         }
-        return (int) remainingBytes;
+        return (int) Math.max(remainingBytes, 0);
     }
 
     @Override
     public void close() throws IOException {
         LOGGER.info(MessageFormat.format(Messages.CLOSING_LAST_STREAM_FOR_PART_0, partIndex));
         IOUtils.closeQuietly(currentInputStream, e -> LOGGER.warn(e.getMessage(), e));
+        for (PrefetchedPart prefetchedPart : prefetchedParts.values()) {
+            closePrefetchedPart(prefetchedPart);
+        }
+        prefetchedParts.clear();
+    }
+
+    private InputStream openNextPart() {
+        IOUtils.closeQuietly(currentInputStream, e -> LOGGER.warn(e.getMessage(), e));
+        LOGGER.info(MessageFormat.format(Messages.CLOSING_STREAM_FOR_PART_0, partIndex));
+        return openPart(++partIndex);
+    }
+
+    private InputStream openPart(int index) {
+        FileEntry archiveFileEntry = archiveFileEntries.get(index);
+        stepLogger.debug(Messages.OPENING_A_NEW_INPUT_STREAM_FOR_FILE_WITH_ID_0_AND_NAME_1, archiveFileEntry.getId(),
+                         LogSanitizer.sanitize(archiveFileEntry.getName()));
+        prefetchNextParts(index);
+        PrefetchedPart prefetchedPart = prefetchedParts.remove(index);
+        if (prefetchedPart == null || prefetchedPart.cancelIfNotStarted()) {
+            return openBufferedInputStream(archiveFileEntry);
+        }
+        return getPrefetchedPart(prefetchedPart);
+    }
+
+    private void prefetchNextParts(int index) {
+        int lastPrefetchedIndex = Math.min(index + prefetchedPartsCount, archiveFileEntries.size() - 1);
+        for (int i = index + 1; i <= lastPrefetchedIndex; i++) {
+            FileEntry archiveFileEntry = archiveFileEntries.get(i);
+            prefetchedParts.computeIfAbsent(i, k -> submitPrefetch(archiveFileEntry));
+        }
+    }
+
+    private PrefetchedPart submitPrefetch(FileEntry archiveFileEntry) {
+        AtomicBoolean started = new AtomicBoolean();
+        Future<InputStream> future = prefetchExecutor.submit(new PriorityCallable<>(PriorityFuture.Priority.HIGHEST, () -> {
+            // The reading thread may have already taken over the part, in which case the result is never read:
+            if (!started.compareAndSet(false, true)) {
+                return null;
+            }
+            return prefetch(archiveFileEntry);
+        }));
+        return new PrefetchedPart(started, future);
+    }
+
+    private InputStream prefetch(FileEntry archiveFileEntry) throws IOException {
+        InputStream inputStream = openBufferedInputStream(archiveFileEntry);
+        try {
+            byte[] readAheadBuffer = inputStream.readNBytes(READ_AHEAD_BUFFER_SIZE);
+            return new SequenceInputStream(new ByteArrayInputStream(readAheadBuffer), inputStream);
+        } catch (IOException e) {
+            IOUtils.closeQuietly(inputStream, closeException -> LOGGER.warn(closeException.getMessage(), closeException));
+            throw e;
+        }
+    }
+
+    private static InputStream getPrefetchedPart(PrefetchedPart prefetchedPart) {
+        try {
+            return prefetchedPart.future()
+                                 .get();
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw new SLException(e, e.getMessage());
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof SLException slException) {
+                throw slException;
+            }
+            throw new SLException(e.getCause(), e.getCause()
+                                                 .getMessage());
+        }
+    }
+
+    private static void closePrefetchedPart(PrefetchedPart prefetchedPart) {
+        if (prefetchedPart.cancelIfNotStarted()) {
+            return;
+        }
+        try {
+            IOUtils.closeQuietly(getPrefetchedPart(prefetchedPart), e -> LOGGER.warn(e.getMessage(), e));
+        } catch (SLException e) {
+            LOGGER.warn(e.getMessage(), e);
+        }
     }
 
     private BufferedInputStream openBufferedInputStream(FileEntry archiveFileEntry) {
         try {
-            String sanitizedName = LogSanitizer.sanitize(archiveFileEntry.getName());
-            stepLogger.debug(Messages.OPENING_A_NEW_INPUT_STREAM_FOR_FILE_WITH_ID_0_AND_NAME_1, archiveFileEntry.getId(), sanitizedName);
             LOGGER.info(MessageFormat.format(Messages.OPENING_A_NEW_INPUT_STREAM_FOR_FILE_WITH_ID_0_AND_NAME_1, archiveFileEntry.getId(),
-                                             sanitizedName));
+                                             LogSanitizer.sanitize(archiveFileEntry.getName())));
             InputStream inputStream = fileService.openInputStream(archiveFileEntry.getSpace(), archiveFileEntry.getId());
             return new BufferedInputStream(inputStream, BUFFERED_SIZE);
         } catch (FileStorageException e) {
             throw new SLException(e, e.getMessage());
         }
     }
+
+    private record PrefetchedPart(AtomicBoolean started, Future<InputStream> future) {
+
+        /**
+         * Returns true if the prefetching had not started and will not start anymore. Otherwise, the opened part has to be taken from the
+         * future, even if the future has not completed yet.
+         */
+        boolean cancelIfNotStarted() {
+            if (!started.compareAndSet(false, true)) {
+                return false;
+            }
+            future.cancel(false);
+            return true;
+        }
+
+    }
 }
@@ -28,11 +28,17 @@ public class ApplicationStager {
     private final ProcessContext context;
     private final StepLogger logger;
     private final CloudControllerClient client;
+    private final BatchedStatusPoller statusPoller;
 
     public ApplicationStager(ProcessContext context) {
+        this(context, null);
+    }
+
+    public ApplicationStager(ProcessContext context, BatchedStatusPoller statusPoller) {
         this.context = context;
         this.logger = context.getStepLogger();
         this.client = context.getControllerClient();
+        this.statusPoller = statusPoller;
     }
 
     public StagingState getStagingState() {
@@ -48,7 +54,7 @@ public class ApplicationStager {
 
     private CloudBuild getBuild(UUID buildGuid) {
         try {
-            return client.getBuild(buildGuid);
+            return pollBuild(buildGuid);
         } catch (CloudOperationException e) {
             if (e.getStatusCode() == HttpStatus.NOT_FOUND) {
                 checkIfApplicationExists();
@@ -57,6 +63,14 @@ public class ApplicationStager {
         }
     }
 
+    private CloudBuild pollBuild(UUID buildGuid) {
+        CloudPackage cloudPackage = context.getVariable(Variables.CLOUD_PACKAGE);
+        if (statusPoller == null || cloudPackage == null) {
+            return client.getBuild(buildGuid);
+        }
+        return statusPoller.getBuild(client, context.getVariable(Variables.USER_GUID), cloudPackage.getGuid(), buildGuid);
+    }
+
     private void checkIfApplicationExists() {
         CloudApplicationExtended app = context.getVariable(Variables.APP_TO_PROCESS);
         // This will produce an exception with a more meaningful message why the build is missing
@@ -14,6 +14,7 @@ import org.apache.commons.io.FilenameUtils;
 import org.cloudfoundry.multiapps.common.ContentException;
 import org.cloudfoundry.multiapps.common.SLException;
 import org.cloudfoundry.multiapps.controller.core.util.FileUtils;
+import org.cloudfoundry.multiapps.controller.core.util.TempFileTracker;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileService;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileStorageException;
 import org.cloudfoundry.multiapps.controller.process.Messages;
@@ -52,6 +53,7 @@ public class ApplicationZipBuilder {
             } else {
                 extractModuleContent(applicationArchiveContext, appPath);
             }
+            TempFileTracker.updateSize(appPath);
             return appPath;
         } catch (Exception e) {
             FileUtils.cleanUp(appPath, LOGGER);
@@ -61,7 +63,7 @@ public class ApplicationZipBuilder {
 
     protected Path createTempFile() {
         try {
-            return Files.createTempFile(null, getFileExtension());
+            return TempFileTracker.createTempFile(null, getFileExtension());
         } catch (IOException e) {
             throw new SLException(e, e.getMessage());
         }
@@ -101,7 +103,12 @@ public class ApplicationZipBuilder {
         try (ZipOutputStream zipOutputStream = new ZipOutputStream(fileOutputStream)) {
             String moduleFileName = applicationArchiveContext.getModuleFileName();
             do {
-                if (!isAlreadyUploaded(zipEntry.getName(), applicationArchiveContext) && !zipEntry.isDirectory()) {
+                if (zipEntry.isDirectory()) {
+                    continue;
+                }
+                if (isAlreadyUploaded(zipEntry.getName(), applicationArchiveContext)) {
+                    copy(zipArchiveInputStream, OutputStream.nullOutputStream(), applicationArchiveContext);
+                } else {
                     zipOutputStream.putNextEntry(createNewZipEntry(zipEntry.getName(), moduleFileName));
                     copy(zipArchiveInputStream, zipOutputStream, applicationArchiveContext);
                     zipOutputStream.closeEntry();
@@ -123,6 +130,7 @@ public class ApplicationZipBuilder {
         byte[] buffer = new byte[BUFFER_SIZE];
         int numberOfReadBytes = 0;
         long maxSizeInBytes = applicationArchiveContext.getMaxSizeInBytes();
+        DigestCalculator applicationDigestCalculator = applicationArchiveContext.getDigestCalculator();
         while ((numberOfReadBytes = input.read(buffer)) != -1) {
             long currentSizeInBytes = applicationArchiveContext.getCurrentSizeInBytes();
             if (currentSizeInBytes + numberOfReadBytes > maxSizeInBytes) {
@@ -133,6 +141,7 @@ public class ApplicationZipBuilder {
             }
             output.write(buffer, 0, numberOfReadBytes);
             applicationArchiveContext.calculateCurrentSizeInBytes(numberOfReadBytes);
+            applicationDigestCalculator.updateDigest(buffer, 0, numberOfReadBytes);
         }
     }
 
@@ -159,13 +168,17 @@ public class ApplicationZipBuilder {
                                                                                     .build(),
                                                         archiveEntryWithStreamPositions,
                                                         (bytesBuffer, bytesRead) -> writeModuleContent(bytesBuffer, bytesRead,
-                                                                                                       fileOutputStream));
+                                                                                                       fileOutputStream,
+                                                                                                       applicationArchiveContext));
         }
     }
 
-    private void writeModuleContent(byte[] bytesBuffer, Integer bytesRead, OutputStream fileOutputStream) {
+    private void writeModuleContent(byte[] bytesBuffer, Integer bytesRead, OutputStream fileOutputStream,
+                                    ApplicationArchiveContext applicationArchiveContext) {
         try {
             fileOutputStream.write(bytesBuffer, 0, bytesRead);
+            applicationArchiveContext.getDigestCalculator()
+                                     .updateDigest(bytesBuffer, 0, bytesRead);
         } catch (IOException e) {
             throw new SLException(e, e.getMessage());
         }
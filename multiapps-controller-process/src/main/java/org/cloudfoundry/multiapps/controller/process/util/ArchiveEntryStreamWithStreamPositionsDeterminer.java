@@ -1,6 +1,8 @@
 package org.cloudfoundry.multiapps.controller.process.util;
 
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.zip.ZipEntry;
@@ -11,6 +13,10 @@ import org.cloudfoundry.multiapps.common.SLException;
 import org.cloudfoundry.multiapps.controller.core.util.FileUtils;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileService;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileStorageException;
+import org.cloudfoundry.multiapps.controller.persistence.services.SeekableFileContent;
+import org.cloudfoundry.multiapps.controller.process.Messages;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
@@ -20,6 +26,8 @@ public class ArchiveEntryStreamWithStreamPositionsDeterminer {
 
     public static final int BUFFER_SIZE = 4 * 1024; // 4KB
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(ArchiveEntryStreamWithStreamPositionsDeterminer.class);
+
     private final FileService fileService;
 
     @Inject
@@ -28,6 +36,26 @@ public class ArchiveEntryStreamWithStreamPositionsDeterminer {
     }
 
     public List<ArchiveEntryWithStreamPositions> determineArchiveEntries(String spaceGuid, String appArchiveId) {
+        try {
+            return fileService.processSeekableFileContent(spaceGuid, appArchiveId, this::readArchiveEntriesFromCentralDirectory);
+        } catch (FileStorageException e) {
+            LOGGER.warn(MessageFormat.format(Messages.COULD_NOT_READ_CENTRAL_DIRECTORY_OF_ARCHIVE_0_FALLING_BACK_TO_SEQUENTIAL_SCAN,
+                                             appArchiveId, e.getMessage()),
+                        e);
+            return determineArchiveEntriesSequentially(spaceGuid, appArchiveId);
+        }
+    }
+
+    private List<ArchiveEntryWithStreamPositions> readArchiveEntriesFromCentralDirectory(SeekableFileContent archiveContent)
+        throws IOException {
+        List<ArchiveEntryWithStreamPositions> archiveEntriesWithPositions = new ZipCentralDirectoryReader(archiveContent).readArchiveEntries();
+        for (ArchiveEntryWithStreamPositions archiveEntryWithPositions : archiveEntriesWithPositions) {
+            validateEntry(new ZipEntry(archiveEntryWithPositions.getName()));
+        }
+        return archiveEntriesWithPositions;
+    }
+
+    private List<ArchiveEntryWithStreamPositions> determineArchiveEntriesSequentially(String spaceGuid, String appArchiveId) {
         try {
             return fileService.processFileContent(spaceGuid, appArchiveId, archiveStream -> {
                 List<ArchiveEntryWithStreamPositions> archiveEntriesWithPositions = new ArrayList<>();
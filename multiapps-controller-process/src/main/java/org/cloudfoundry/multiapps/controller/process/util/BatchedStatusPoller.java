@@ -0,0 +1,143 @@
+package org.cloudfoundry.multiapps.controller.process.util;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+import org.cloudfoundry.multiapps.controller.client.facade.CloudControllerClient;
+import org.cloudfoundry.multiapps.controller.client.facade.domain.CloudBuild;
+import org.cloudfoundry.multiapps.controller.client.facade.domain.CloudServiceInstance;
+import org.cloudfoundry.multiapps.controller.client.facade.domain.CloudSpace;
+import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
+
+/**
+ * Serves the state of the service instances and builds polled by the async steps of all operations running on this instance from a
+ * shared snapshot per space and user. Instead of a separate request for every polled resource on every tick, the state of all resources
+ * of a given kind, which are currently polled in a space by a user, is fetched with one filtered list request. The snapshots of different
+ * users are kept apart, because the resources visible to each user can differ. A snapshot is reused for at most half of the step polling
+ * interval, so a tick never observes a state fetched before the operation it polls was triggered, as that happened at least one polling
+ * interval earlier. A resource, which was not polled before, always triggers a new request.
+ */
+@Named
+public class BatchedStatusPoller {
+
+    private final Map<String, StatusBatch<String, CloudServiceInstance>> serviceInstanceBatches = new ConcurrentHashMap<>();
+    private final Map<String, StatusBatch<UUID, List<CloudBuild>>> buildBatches = new ConcurrentHashMap<>();
+    private final ApplicationConfiguration applicationConfiguration;
+    private final LongSupplier nanoTimeSupplier;
+
+    @Inject
+    public BatchedStatusPoller(ApplicationConfiguration applicationConfiguration) {
+        this(applicationConfiguration, System::nanoTime);
+    }
+
+    BatchedStatusPoller(ApplicationConfiguration applicationConfiguration, LongSupplier nanoTimeSupplier) {
+        this.applicationConfiguration = applicationConfiguration;
+        this.nanoTimeSupplier = nanoTimeSupplier;
+    }
+
+    /**
+     * Returns the service instance with the given name in the target space of the client, or null if it does not exist. The service
+     * plan and offering of the instance are not fetched.
+     *
+     * @param userGuid the GUID of the user, on behalf of whom the client sends its requests
+     */
+    public CloudServiceInstance getServiceInstance(CloudControllerClient client, String userGuid, String serviceInstanceName) {
+        String batchKey = getBatchKey(client, userGuid);
+        if (batchKey == null) {
+            return client.getServiceInstance(serviceInstanceName, false);
+        }
+        return serviceInstanceBatches.computeIfAbsent(batchKey, key -> new StatusBatch<>())
+                                     .get(serviceInstanceName, names -> getServiceInstancesByName(client, names));
+    }
+
+    /**
+     * Returns the build with the given GUID, which was created for the given package in the target space of the client.
+     *
+     * @param userGuid the GUID of the user, on behalf of whom the client sends its requests
+     */
+    public CloudBuild getBuild(CloudControllerClient client, String userGuid, UUID packageGuid, UUID buildGuid) {
+        String batchKey = getBatchKey(client, userGuid);
+        if (batchKey == null || packageGuid == null) {
+            return client.getBuild(buildGuid);
+        }
+        List<CloudBuild> builds = buildBatches.computeIfAbsent(batchKey, key -> new StatusBatch<>())
+                                              .get(packageGuid, packageGuids -> getBuildsByPackageGuid(client, packageGuids));
+        return builds.stream()
+                     .filter(build -> buildGuid.equals(build.getGuid()))
+                     .findFirst()
+                     // The build is not listed, so let the client report why:
+                     .orElseGet(() -> client.getBuild(buildGuid));
+    }
+
+    private static String getBatchKey(CloudControllerClient client, String userGuid) {
+        CloudSpace space = client.getTarget();
+        if (userGuid == null || space == null || space.getMetadata() == null) {
+            return null;
+        }
+        return space.getGuid() + "|" + userGuid;
+    }
+
+    private static Map<String, CloudServiceInstance> getServiceInstancesByName(CloudControllerClient client, Collection<String> names) {
+        return client.getServiceInstancesWithoutAuxiliaryContentByNames(List.copyOf(names))
+                     .stream()
+                     .collect(Collectors.toMap(CloudServiceInstance::getName, Function.identity(), (first, second) -> first));
+    }
+
+    private static Map<UUID, List<CloudBuild>> getBuildsByPackageGuid(CloudControllerClient client, Collection<UUID> packageGuids) {
+        Map<UUID, List<CloudBuild>> buildsByPackageGuid = packageGuids.stream()
+                                                                      .collect(Collectors.toMap(Function.identity(), guid -> List.of()));
+        buildsByPackageGuid.putAll(client.getBuildsForPackages(List.copyOf(packageGuids))
+                                         .stream()
+                                         .filter(build -> build.getPackageInfo() != null && build.getPackageInfo()
+                                                                                                 .getGuid() != null)
+                                         .collect(Collectors.groupingBy(build -> build.getPackageInfo()
+                                                                                      .getGuid())));
+        return buildsByPackageGuid;
+    }
+
+    private long getMaxSnapshotAgeInNanos() {
+        return TimeUnit.SECONDS.toNanos(applicationConfiguration.getStepPollingIntervalInSeconds()) / 2;
+    }
+
+    private class StatusBatch<K, V> {
+
+        private final Map<K, Long> lastRequestTimes = new HashMap<>();
+        private Map<K, V> statuses = Map.of();
+        private Set<K> fetchedKeys = Set.of();
+        private long fetchTime;
+
+        synchronized V get(K key, Function<Collection<K>, Map<K, V>> fetcher) {
+            long now = nanoTimeSupplier.getAsLong();
+            long maxSnapshotAge = getMaxSnapshotAgeInNanos();
+            boolean isPolledForFirstTime = lastRequestTimes.put(key, now) == null;
+            if (isPolledForFirstTime || !fetchedKeys.contains(key) || now - fetchTime >= maxSnapshotAge) {
+                refresh(now, maxSnapshotAge, fetcher);
+            }
+            return statuses.get(key);
+        }
+
+        private void refresh(long now, long maxSnapshotAge, Function<Collection<K>, Map<K, V>> fetcher) {
+            // Resources, which have not been polled for a few polling intervals, are no longer polled by anyone:
+            lastRequestTimes.values()
+                            .removeIf(lastRequestTime -> now - lastRequestTime > 6 * maxSnapshotAge);
+            Set<K> keys = Set.copyOf(lastRequestTimes.keySet());
+            statuses = fetcher.apply(keys);
+            fetchedKeys = keys;
+            fetchTime = now;
+        }
+
+    }
+
+}
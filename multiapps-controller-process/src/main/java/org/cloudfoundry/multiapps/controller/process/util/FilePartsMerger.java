@@ -1,7 +1,6 @@
 package org.cloudfoundry.multiapps.controller.process.util;
 
 import java.io.Closeable;
-import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -9,12 +8,17 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
 import org.cloudfoundry.multiapps.common.SLException;
+import org.cloudfoundry.multiapps.controller.core.util.FileUtils;
+import org.cloudfoundry.multiapps.controller.core.util.TempFileTracker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class FilePartsMerger implements Closeable {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(FilePartsMerger.class);
+
     private Path mergedFilePath;
     private OutputStream fileOutputStream;
 
@@ -23,6 +27,7 @@ public class FilePartsMerger implements Closeable {
             Path tempDir = Files.createTempDirectory("merge");
             mergedFilePath = Paths.get(tempDir.toString(), fileName);
             fileOutputStream = Files.newOutputStream(mergedFilePath);
+            TempFileTracker.track(mergedFilePath);
         } catch (IOException e) {
             cleanUp();
             throw new SLException(e, e.getMessage());
@@ -42,6 +47,7 @@ public class FilePartsMerger implements Closeable {
         try {
             if (fileOutputStream != null) {
                 fileOutputStream.close();
+                TempFileTracker.updateSize(mergedFilePath);
             }
         } catch (IOException ioe) {
             // ignore
@@ -49,10 +55,6 @@ public class FilePartsMerger implements Closeable {
     }
 
     public void cleanUp() {
-        FileUtils.deleteQuietly(toFile(mergedFilePath));
-    }
-
-    private File toFile(Path path) {
-        return path != null ? path.toFile() : null;
+        FileUtils.cleanUp(mergedFilePath, LOGGER);
     }
 }
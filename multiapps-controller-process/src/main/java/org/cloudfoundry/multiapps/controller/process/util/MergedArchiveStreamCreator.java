@@ -2,6 +2,7 @@ package org.cloudfoundry.multiapps.controller.process.util;
 
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 import org.cloudfoundry.multiapps.common.SLException;
 import org.cloudfoundry.multiapps.controller.persistence.model.FileEntry;
@@ -14,17 +15,25 @@ import org.cloudfoundry.multiapps.controller.process.stream.LazyArchiveInputStre
 public class MergedArchiveStreamCreator {
 
     private static final String PART_POSTFIX = ".part.";
+    private static final int PREFETCHED_PARTS_COUNT = 2;
 
     private final FileService fileService;
     private final StepLogger stepLogger;
     private final List<FileEntry> archiveParts;
     private final long archiveSize;
+    private final ExecutorService prefetchExecutor;
 
     public MergedArchiveStreamCreator(FileService fileService, StepLogger stepLogger, List<FileEntry> archiveParts, long archiveSize) {
+        this(fileService, stepLogger, archiveParts, archiveSize, null);
+    }
+
+    public MergedArchiveStreamCreator(FileService fileService, StepLogger stepLogger, List<FileEntry> archiveParts, long archiveSize,
+                                      ExecutorService prefetchExecutor) {
         this.fileService = fileService;
         this.stepLogger = stepLogger;
         this.archiveParts = archiveParts;
         this.archiveSize = archiveSize;
+        this.prefetchExecutor = prefetchExecutor;
     }
 
     public ArchiveStreamWithName createArchiveStream() {
@@ -33,7 +42,9 @@ public class MergedArchiveStreamCreator {
                                              .archiveStream(new LazyArchiveInputStream(fileService,
                                                                                        getSortedArchiveParts(),
                                                                                        stepLogger,
-                                                                                       archiveSize))
+                                                                                       archiveSize,
+                                                                                       prefetchExecutor,
+                                                                                       PREFETCHED_PARTS_COUNT))
                                              .build();
     }
 
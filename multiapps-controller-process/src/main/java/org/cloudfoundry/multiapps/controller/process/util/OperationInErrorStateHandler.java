@@ -13,7 +13,7 @@ import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.cloudfoundry.multiapps.common.ContentException;
 import org.cloudfoundry.multiapps.controller.api.model.ImmutableOperation;
 import org.cloudfoundry.multiapps.controller.api.model.Operation;
-import org.cloudfoundry.multiapps.controller.core.cloudlogging.CloudLoggingServiceClient;
+import org.cloudfoundry.multiapps.controller.core.cloudlogging.OperationLogsExporter;
 import org.cloudfoundry.multiapps.controller.persistence.model.HistoricOperationEvent;
 import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableHistoricOperationEvent;
 import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableProgressMessage;
@@ -38,18 +38,18 @@ public class OperationInErrorStateHandler {
     private final ProgressMessageService progressMessageService;
     private final HistoricOperationEventService historicOperationEventService;
     private final ClientReleaser clientReleaser;
-    private final CloudLoggingServiceClient cloudLoggingServiceHttpClient;
+    private final OperationLogsExporter operationLogsExporter;
 
     @Inject
     public OperationInErrorStateHandler(ProgressMessageService progressMessageService, FlowableFacade flowableFacade,
                                         HistoricOperationEventService historicOperationEventService, ClientReleaser clientReleaser,
-                                        OperationService operationService, CloudLoggingServiceClient cloudLoggingServiceHttpClient) {
+                                        OperationService operationService, OperationLogsExporter operationLogsExporter) {
         this.progressMessageService = progressMessageService;
         this.flowableFacade = flowableFacade;
         this.historicOperationEventService = historicOperationEventService;
         this.clientReleaser = clientReleaser;
         this.operationService = operationService;
-        this.cloudLoggingServiceHttpClient = cloudLoggingServiceHttpClient;
+        this.operationLogsExporter = operationLogsExporter;
     }
 
     public void handle(FlowableEngineEvent event, String errorMessage) {
@@ -66,7 +66,7 @@ public class OperationInErrorStateHandler {
         persistError(event, errorMessage);
         persistErrorState(event);
         releaseCloudControllerClient(event);
-        removeCloudLoggingClientFromCache(event);
+        drainOperationLogs(event);
     }
 
     HistoricOperationEvent.EventType toEventType(Throwable throwable) {
@@ -177,8 +177,8 @@ public class OperationInErrorStateHandler {
         clientReleaser.releaseClientFor(historyService, event.getProcessInstanceId());
     }
 
-    private void removeCloudLoggingClientFromCache(FlowableEngineEvent event) {
-        cloudLoggingServiceHttpClient.removeClientFromCache(flowableFacade.getProcessInstanceId(event.getExecutionId()));
+    private void drainOperationLogs(FlowableEngineEvent event) {
+        operationLogsExporter.drain(flowableFacade.getProcessInstanceId(event.getExecutionId()));
     }
 
 }
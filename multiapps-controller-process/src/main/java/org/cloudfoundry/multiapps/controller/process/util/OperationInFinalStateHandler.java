@@ -30,7 +30,7 @@ import org.cloudfoundry.multiapps.controller.persistence.services.DescriptorBack
 import org.cloudfoundry.multiapps.controller.persistence.services.FileService;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileStorageException;
 import org.cloudfoundry.multiapps.controller.persistence.services.HistoricOperationEventService;
-import org.cloudfoundry.multiapps.controller.core.cloudlogging.CloudLoggingServiceClient;
+import org.cloudfoundry.multiapps.controller.core.cloudlogging.OperationLogsExporter;
 import org.cloudfoundry.multiapps.controller.persistence.services.OperationService;
 import org.cloudfoundry.multiapps.controller.process.Messages;
 import org.cloudfoundry.multiapps.controller.process.dynatrace.DynatraceProcessDuration;
@@ -69,7 +69,7 @@ public class OperationInFinalStateHandler {
     @Inject
     private SecretTokenStoreFactory secretTokenStoreFactory;
     @Inject
-    private CloudLoggingServiceClient cloudLoggingServiceHttpClient;
+    private OperationLogsExporter operationLogsExporter;
     @Inject
     private CloudLoggingServiceConfigurationService cloudLoggingServiceConfigurationService;
     @Inject
@@ -94,7 +94,7 @@ public class OperationInFinalStateHandler {
         safeExecutor.execute(() -> deleteSecretTokensForProcess(correlationId));
         safeExecutor.execute(() -> trackOperationDuration(correlationId, execution, processType, state));
         safeExecutor.execute(() -> deleteCloudLoggingServiceConfiguration(execution));
-        cloudLoggingServiceHttpClient.removeClientFromCache(correlationId);
+        operationLogsExporter.drain(correlationId);
     }
 
     protected void deleteDeploymentFiles(String correlationId, DelegateExecution execution) throws FileStorageException {
@@ -3,12 +3,15 @@ package org.cloudfoundry.multiapps.controller.process.util;
 import java.util.List;
 import java.util.UUID;
 
+import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import org.cloudfoundry.multiapps.controller.client.facade.CloudControllerClient;
 import org.cloudfoundry.multiapps.controller.client.facade.domain.CloudEvent;
 import org.cloudfoundry.multiapps.controller.client.facade.domain.CloudServiceInstance;
 import org.cloudfoundry.multiapps.controller.client.facade.domain.ServiceOperation;
 import org.cloudfoundry.multiapps.controller.client.lib.domain.CloudServiceInstanceExtended;
+import org.cloudfoundry.multiapps.controller.process.steps.ProcessContext;
+import org.cloudfoundry.multiapps.controller.process.variables.Variables;
 
 @Named
 public class ServiceOperationGetter {
@@ -16,8 +19,17 @@ public class ServiceOperationGetter {
     private static final String USER_PROVIDED_SERVICE_EVENT_TYPE_DELETE = "audit.user_provided_service_instance.delete";
     private static final String SERVICE_EVENT_TYPE_DELETE = "audit.service_instance.delete";
 
-    public ServiceOperation getLastServiceOperation(CloudControllerClient client, CloudServiceInstanceExtended service) {
-        CloudServiceInstance serviceInstance = client.getServiceInstance(service.getName(), false);
+    private final BatchedStatusPoller statusPoller;
+
+    @Inject
+    public ServiceOperationGetter(BatchedStatusPoller statusPoller) {
+        this.statusPoller = statusPoller;
+    }
+
+    public ServiceOperation getLastServiceOperation(ProcessContext context, CloudServiceInstanceExtended service) {
+        CloudControllerClient client = context.getControllerClient();
+        CloudServiceInstance serviceInstance = statusPoller.getServiceInstance(client, context.getVariable(Variables.USER_GUID),
+                                                                               service.getName());
         if (serviceInstance == null) {
             return getLastDeleteServiceOperation(client, service);
         }
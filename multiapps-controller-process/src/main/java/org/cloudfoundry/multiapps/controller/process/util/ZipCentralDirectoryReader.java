@@ -0,0 +1,234 @@
+package org.cloudfoundry.multiapps.controller.process.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.ZipException;
+
+import org.cloudfoundry.multiapps.controller.persistence.services.SeekableFileContent;
+import org.cloudfoundry.multiapps.controller.process.Messages;
+
+/**
+ * Determines the positions of the entries of a ZIP archive by reading only its end of central directory record, its central directory
+ * and the fixed part of the local file headers. Unlike a sequential scan, the content of the entries is never fetched.
+ */
+public class ZipCentralDirectoryReader {
+
+    static final int LOCAL_HEADERS_READ_WINDOW = 64 * 1024; // 64KB
+
+    private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIGNATURE = 0x07064b50;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06064b50;
+    private static final int CENTRAL_DIRECTORY_FILE_HEADER_SIGNATURE = 0x02014b50;
+    private static final int LOCAL_FILE_HEADER_SIGNATURE = 0x04034b50;
+
+    private static final int END_OF_CENTRAL_DIRECTORY_LENGTH = 22;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_LENGTH = 20;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_LENGTH = 56;
+    private static final int CENTRAL_DIRECTORY_FILE_HEADER_LENGTH = 46;
+    private static final int LOCAL_FILE_HEADER_LENGTH = 30;
+    private static final int MAX_COMMENT_LENGTH = 0xFFFF;
+
+    private static final int ZIP64_EXTRA_FIELD_ID = 0x0001;
+    private static final int UNICODE_PATH_EXTRA_FIELD_ID = 0x7075;
+    private static final long ZIP64_MAGIC = 0xFFFFFFFFL;
+
+    private final SeekableFileContent archiveContent;
+
+    public ZipCentralDirectoryReader(SeekableFileContent archiveContent) {
+        this.archiveContent = archiveContent;
+    }
+
+    public List<ArchiveEntryWithStreamPositions> readArchiveEntries() throws IOException {
+        long archiveSize = archiveContent.getSize();
+        if (archiveSize < END_OF_CENTRAL_DIRECTORY_LENGTH) {
+            throw new ZipException(Messages.END_OF_CENTRAL_DIRECTORY_NOT_FOUND);
+        }
+        long tailOffset = Math.max(0,
+                                   archiveSize - END_OF_CENTRAL_DIRECTORY_LENGTH - MAX_COMMENT_LENGTH
+                                       - ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_LENGTH);
+        ByteBuffer tail = wrap(archiveContent.read(tailOffset, archiveSize - 1));
+        CentralDirectoryLocation centralDirectoryLocation = locateCentralDirectory(tail);
+        ByteBuffer centralDirectory = readCentralDirectory(centralDirectoryLocation, tail, tailOffset);
+        List<CentralDirectoryEntry> centralDirectoryEntries = parseCentralDirectory(centralDirectory, centralDirectoryLocation.offset());
+        return resolveDataPositions(centralDirectoryEntries);
+    }
+
+    private CentralDirectoryLocation locateCentralDirectory(ByteBuffer tail) throws IOException {
+        int endOfCentralDirectoryPosition = findEndOfCentralDirectory(tail);
+        long size = Integer.toUnsignedLong(tail.getInt(endOfCentralDirectoryPosition + 12));
+        long offset = Integer.toUnsignedLong(tail.getInt(endOfCentralDirectoryPosition + 16));
+        int locatorPosition = endOfCentralDirectoryPosition - ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_LENGTH;
+        if (locatorPosition >= 0 && tail.getInt(locatorPosition) == ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIGNATURE) {
+            return locateZip64CentralDirectory(tail.getLong(locatorPosition + 8));
+        }
+        return new CentralDirectoryLocation(offset, size);
+    }
+
+    private int findEndOfCentralDirectory(ByteBuffer tail) throws ZipException {
+        for (int position = tail.limit() - END_OF_CENTRAL_DIRECTORY_LENGTH; position >= 0; position--) {
+            if (tail.getInt(position) == END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+                return position;
+            }
+        }
+        throw new ZipException(Messages.END_OF_CENTRAL_DIRECTORY_NOT_FOUND);
+    }
+
+    private CentralDirectoryLocation locateZip64CentralDirectory(long zip64EndOfCentralDirectoryOffset) throws IOException {
+        ByteBuffer zip64EndOfCentralDirectory = wrap(archiveContent.read(zip64EndOfCentralDirectoryOffset,
+                                                                         zip64EndOfCentralDirectoryOffset
+                                                                             + ZIP64_END_OF_CENTRAL_DIRECTORY_LENGTH - 1));
+        if (zip64EndOfCentralDirectory.limit() < ZIP64_END_OF_CENTRAL_DIRECTORY_LENGTH
+            || zip64EndOfCentralDirectory.getInt(0) != ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+            throw new ZipException(MessageFormat.format(Messages.INVALID_ZIP64_END_OF_CENTRAL_DIRECTORY_AT_OFFSET_0,
+                                                        zip64EndOfCentralDirectoryOffset));
+        }
+        return new CentralDirectoryLocation(zip64EndOfCentralDirectory.getLong(48), zip64EndOfCentralDirectory.getLong(40));
+    }
+
+    private ByteBuffer readCentralDirectory(CentralDirectoryLocation centralDirectoryLocation, ByteBuffer tail, long tailOffset)
+        throws IOException {
+        if (centralDirectoryLocation.size() == 0) {
+            return wrap(new byte[0]);
+        }
+        if (centralDirectoryLocation.offset() >= tailOffset) {
+            // Small central directories are usually already contained in the tail of the archive
+            int position = Math.toIntExact(centralDirectoryLocation.offset() - tailOffset);
+            return wrap(tail.slice(position, Math.toIntExact(Math.min(centralDirectoryLocation.size(), tail.limit() - position))));
+        }
+        return wrap(archiveContent.read(centralDirectoryLocation.offset(),
+                                        centralDirectoryLocation.offset() + centralDirectoryLocation.size() - 1));
+    }
+
+    private List<CentralDirectoryEntry> parseCentralDirectory(ByteBuffer centralDirectory, long centralDirectoryOffset)
+        throws ZipException {
+        List<CentralDirectoryEntry> entries = new ArrayList<>();
+        int position = 0;
+        while (position + CENTRAL_DIRECTORY_FILE_HEADER_LENGTH <= centralDirectory.limit()) {
+            if (centralDirectory.getInt(position) != CENTRAL_DIRECTORY_FILE_HEADER_SIGNATURE) {
+                throw new ZipException(MessageFormat.format(Messages.INVALID_CENTRAL_DIRECTORY_FILE_HEADER_AT_OFFSET_0,
+                                                            centralDirectoryOffset + position));
+            }
+            int compressionMethod = Short.toUnsignedInt(centralDirectory.getShort(position + 10));
+            long compressedSize = Integer.toUnsignedLong(centralDirectory.getInt(position + 20));
+            long uncompressedSize = Integer.toUnsignedLong(centralDirectory.getInt(position + 24));
+            int nameLength = Short.toUnsignedInt(centralDirectory.getShort(position + 28));
+            int extraFieldLength = Short.toUnsignedInt(centralDirectory.getShort(position + 30));
+            int commentLength = Short.toUnsignedInt(centralDirectory.getShort(position + 32));
+            long localHeaderOffset = Integer.toUnsignedLong(centralDirectory.getInt(position + 42));
+
+            byte[] rawName = new byte[nameLength];
+            centralDirectory.get(position + CENTRAL_DIRECTORY_FILE_HEADER_LENGTH, rawName);
+            String name = new String(rawName, StandardCharsets.UTF_8);
+
+            int extraFieldPosition = position + CENTRAL_DIRECTORY_FILE_HEADER_LENGTH + nameLength;
+            int extraFieldEnd = extraFieldPosition + extraFieldLength;
+            while (extraFieldPosition + 4 <= extraFieldEnd) {
+                int headerId = Short.toUnsignedInt(centralDirectory.getShort(extraFieldPosition));
+                int dataSize = Short.toUnsignedInt(centralDirectory.getShort(extraFieldPosition + 2));
+                int dataPosition = extraFieldPosition + 4;
+                if (headerId == ZIP64_EXTRA_FIELD_ID) {
+                    if (uncompressedSize == ZIP64_MAGIC) {
+                        dataPosition += 8;
+                    }
+                    if (compressedSize == ZIP64_MAGIC) {
+                        compressedSize = centralDirectory.getLong(dataPosition);
+                        dataPosition += 8;
+                    }
+                    if (localHeaderOffset == ZIP64_MAGIC) {
+                        localHeaderOffset = centralDirectory.getLong(dataPosition);
+                    }
+                } else if (headerId == UNICODE_PATH_EXTRA_FIELD_ID) {
+                    name = getUnicodePath(centralDirectory, dataPosition, dataSize, rawName, name);
+                }
+                extraFieldPosition += 4 + dataSize;
+            }
+
+            entries.add(new CentralDirectoryEntry(name, compressionMethod, compressedSize, localHeaderOffset));
+            position += CENTRAL_DIRECTORY_FILE_HEADER_LENGTH + nameLength + extraFieldLength + commentLength;
+        }
+        return entries;
+    }
+
+    private String getUnicodePath(ByteBuffer centralDirectory, int dataPosition, int dataSize, byte[] rawName, String name) {
+        // The unicode path is only valid if it was created from the name stored in the header
+        CRC32 crc = new CRC32();
+        crc.update(rawName);
+        if (dataSize <= 5 || Integer.toUnsignedLong(centralDirectory.getInt(dataPosition + 1)) != crc.getValue()) {
+            return name;
+        }
+        byte[] unicodeName = new byte[dataSize - 5];
+        centralDirectory.get(dataPosition + 5, unicodeName);
+        return new String(unicodeName, StandardCharsets.UTF_8);
+    }
+
+    private List<ArchiveEntryWithStreamPositions> resolveDataPositions(List<CentralDirectoryEntry> centralDirectoryEntries)
+        throws IOException {
+        List<CentralDirectoryEntry> sortedEntries = centralDirectoryEntries.stream()
+                                                                           .sorted(Comparator.comparingLong(
+                                                                               CentralDirectoryEntry::localHeaderOffset))
+                                                                           .toList();
+        List<ArchiveEntryWithStreamPositions> archiveEntriesWithPositions = new ArrayList<>(sortedEntries.size());
+        int groupStart = 0;
+        for (int i = 1; i <= sortedEntries.size(); i++) {
+            if (i == sortedEntries.size() || !fitsInLocalHeadersReadWindow(sortedEntries.get(groupStart), sortedEntries.get(i))) {
+                resolveDataPositions(sortedEntries.subList(groupStart, i), archiveEntriesWithPositions);
+                groupStart = i;
+            }
+        }
+        return archiveEntriesWithPositions;
+    }
+
+    private boolean fitsInLocalHeadersReadWindow(CentralDirectoryEntry firstEntry, CentralDirectoryEntry entry) {
+        return entry.localHeaderOffset() + LOCAL_FILE_HEADER_LENGTH - firstEntry.localHeaderOffset() <= LOCAL_HEADERS_READ_WINDOW;
+    }
+
+    private void resolveDataPositions(List<CentralDirectoryEntry> entries,
+                                      List<ArchiveEntryWithStreamPositions> archiveEntriesWithPositions)
+        throws IOException {
+        long rangeStart = entries.get(0)
+                                 .localHeaderOffset();
+        long rangeEnd = entries.get(entries.size() - 1)
+                               .localHeaderOffset() + LOCAL_FILE_HEADER_LENGTH - 1;
+        ByteBuffer localHeaders = wrap(archiveContent.read(rangeStart, rangeEnd));
+        for (CentralDirectoryEntry entry : entries) {
+            int position = Math.toIntExact(entry.localHeaderOffset() - rangeStart);
+            if (position + LOCAL_FILE_HEADER_LENGTH > localHeaders.limit()
+                || localHeaders.getInt(position) != LOCAL_FILE_HEADER_SIGNATURE) {
+                throw new ZipException(MessageFormat.format(Messages.INVALID_LOCAL_FILE_HEADER_AT_OFFSET_0, entry.localHeaderOffset()));
+            }
+            int nameLength = Short.toUnsignedInt(localHeaders.getShort(position + 26));
+            int extraFieldLength = Short.toUnsignedInt(localHeaders.getShort(position + 28));
+            long startPosition = entry.localHeaderOffset() + LOCAL_FILE_HEADER_LENGTH + nameLength + extraFieldLength;
+            archiveEntriesWithPositions.add(ImmutableArchiveEntryWithStreamPositions.builder()
+                                                                                    .name(entry.name())
+                                                                                    .startPosition(startPosition)
+                                                                                    .endPosition(startPosition + entry.compressedSize())
+                                                                                    .compressionMethod(ArchiveEntryWithStreamPositions.CompressionMethod.parseValue(entry.compressionMethod()))
+                                                                                    .isDirectory(entry.name()
+                                                                                                      .endsWith("/"))
+                                                                                    .build());
+        }
+    }
+
+    private static ByteBuffer wrap(byte[] bytes) {
+        return wrap(ByteBuffer.wrap(bytes));
+    }
+
+    private static ByteBuffer wrap(ByteBuffer buffer) {
+        return buffer.order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private record CentralDirectoryLocation(long offset, long size) {
+    }
+
+    private record CentralDirectoryEntry(String name, int compressionMethod, long compressedSize, long localHeaderOffset) {
+    }
+
+}
@@ -0,0 +1,66 @@
+package org.cloudfoundry.multiapps.controller.process.variables;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.flowable.common.engine.api.variable.VariableContainer;
+
+/**
+ * Keeps the deserialized values of the variables read during the execution of a single step, so that a large variable, such as the
+ * deployment descriptor, is parsed once per step instead of on every read. A cached value is used only while the serialized value in
+ * the container is the same instance it was deserialized from, so writes that bypass the cache are still observed. Values returned
+ * from the cache are shared between reads and must be written back with a set, not modified in place, if the change is meant to be
+ * visible.
+ */
+public class DeserializedVariableCache {
+
+    private static final String METRICS_PREFIX = "multiapps.process.variables.";
+    private static final String VARIABLE_TAG = "variable";
+    private static final Map<String, Timer> DESERIALIZATION_TIMERS = new ConcurrentHashMap<>();
+    private static final Map<String, Counter> CACHE_HIT_COUNTERS = new ConcurrentHashMap<>();
+
+    private final Map<String, CachedValue> cachedValues = new HashMap<>();
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(VariableContainer container, Variable<T> variable, Supplier<T> deserializer) {
+        String name = variable.getName();
+        Object serializedValue = container.getVariable(name);
+        if (serializedValue == null) {
+            cachedValues.remove(name);
+            return deserializer.get();
+        }
+        CachedValue cachedValue = cachedValues.get(name);
+        if (cachedValue != null && cachedValue.variable() == variable && cachedValue.serializedValue() == serializedValue) {
+            getCacheHitCounter(name).increment();
+            return (T) cachedValue.value();
+        }
+        T value = getDeserializationTimer(name).record(deserializer);
+        cachedValues.put(name, new CachedValue(variable, serializedValue, value));
+        return value;
+    }
+
+    public void invalidate(Variable<?> variable) {
+        cachedValues.remove(variable.getName());
+    }
+
+    private static Timer getDeserializationTimer(String variableName) {
+        return DESERIALIZATION_TIMERS.computeIfAbsent(variableName, name -> Timer.builder(METRICS_PREFIX + "deserialization")
+                                                                                 .tag(VARIABLE_TAG, name)
+                                                                                 .register(Metrics.globalRegistry));
+    }
+
+    private static Counter getCacheHitCounter(String variableName) {
+        return CACHE_HIT_COUNTERS.computeIfAbsent(variableName, name -> Counter.builder(METRICS_PREFIX + "cache.hits")
+                                                                               .tag(VARIABLE_TAG, name)
+                                                                               .register(Metrics.globalRegistry));
+    }
+
+    private record CachedValue(Variable<?> variable, Object serializedValue, Object value) {
+    }
+
+}
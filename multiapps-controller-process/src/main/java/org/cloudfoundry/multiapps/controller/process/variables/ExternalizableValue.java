@@ -0,0 +1,9 @@
+package org.cloudfoundry.multiapps.controller.process.variables;
+
+/**
+ * The serialized value of an externalizable variable, which is set in a process. It selects {@link ExternalizedVariableType} as the type
+ * of the variable and carries the ID of the operation, which the value belongs to.
+ */
+record ExternalizableValue(Object serializedValue, String operationId) {
+
+}
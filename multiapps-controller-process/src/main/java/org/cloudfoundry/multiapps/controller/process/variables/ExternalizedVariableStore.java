@@ -0,0 +1,134 @@
+package org.cloudfoundry.multiapps.controller.process.variables;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.MessageFormat;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+import org.cloudfoundry.multiapps.common.SLException;
+import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
+import org.cloudfoundry.multiapps.controller.persistence.model.FileEntry;
+import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableFileEntry;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileService;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileStorageException;
+import org.cloudfoundry.multiapps.controller.process.Messages;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Stores the serialized values of large variables, such as the deployment descriptor, as files instead of in the Flowable variable
+ * tables. It is used by {@link ExternalizedVariableType}, which keeps only the ID of the file in the process. The files of an operation
+ * are stored in a namespace named after its root process instance, so that they can be deleted together with its history, which still
+ * refers to them after the operation ends. The ID of a file is derived from its content and the operation, so setting the same value
+ * again does not store a new file.
+ */
+@Named
+public class ExternalizedVariableStore {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExternalizedVariableStore.class);
+
+    static final String SPACE = "process-variables";
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private final FileService fileService;
+    private final ApplicationConfiguration applicationConfiguration;
+
+    @Inject
+    public ExternalizedVariableStore(@Named("fileService") FileService fileService, ApplicationConfiguration applicationConfiguration) {
+        this.fileService = fileService;
+        this.applicationConfiguration = applicationConfiguration;
+    }
+
+    public boolean shouldExternalize(byte[] content) {
+        return content.length >= applicationConfiguration.getProcessVariablesExternalizationThresholdInBytes();
+    }
+
+    /**
+     * Stores the given content of a variable of an operation and returns the ID of the file, in which it is stored.
+     */
+    public String store(String operationId, String variableName, byte[] content) {
+        String fileId = computeFileId(content, operationId);
+        try {
+            if (fileService.getFile(SPACE, fileId) == null) {
+                storeFile(operationId, variableName, fileId, compress(content));
+            }
+        } catch (FileStorageException | IOException e) {
+            throw new SLException(e, Messages.ERROR_STORING_VALUE_OF_PROCESS_VARIABLE_0, variableName);
+        }
+        return fileId;
+    }
+
+    public byte[] load(String fileId) {
+        try {
+            return fileService.processFileContent(SPACE, fileId, ExternalizedVariableStore::decompress);
+        } catch (FileStorageException e) {
+            throw new SLException(e, Messages.ERROR_LOADING_EXTERNALIZED_PROCESS_VARIABLE_VALUE_0, fileId);
+        }
+    }
+
+    public int deleteOperationVariables(String operationId) throws FileStorageException {
+        int deletedFiles = fileService.deleteBySpaceAndNamespace(SPACE, operationId);
+        LOGGER.debug(MessageFormat.format(Messages.DELETED_0_EXTERNALIZED_VARIABLE_VALUES_OF_OPERATION_1, deletedFiles, operationId));
+        return deletedFiles;
+    }
+
+    private void storeFile(String operationId, String variableName, String fileId, byte[] compressedContent)
+        throws FileStorageException {
+        FileEntry fileEntry = ImmutableFileEntry.builder()
+                                                .id(fileId)
+                                                .name(variableName)
+                                                .space(SPACE)
+                                                .namespace(operationId)
+                                                .operationId(operationId)
+                                                .size(BigInteger.valueOf(compressedContent.length))
+                                                .build();
+        try {
+            fileService.addFileWithId(fileEntry, new ByteArrayInputStream(compressedContent));
+        } catch (FileStorageException e) {
+            // The same value may have been stored concurrently by another execution of the process:
+            if (fileService.getFile(SPACE, fileId) == null) {
+                throw e;
+            }
+        }
+        LOGGER.debug(MessageFormat.format(Messages.STORED_VALUE_OF_PROCESS_VARIABLE_0_WITH_SIZE_1_AS_FILE_2, variableName,
+                                          compressedContent.length, fileId));
+    }
+
+    private static String computeFileId(byte[] content, String operationId) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+            digest.update(operationId.getBytes(StandardCharsets.UTF_8));
+            digest.update(content);
+            return UUID.nameUUIDFromBytes(digest.digest())
+                       .toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    private static byte[] compress(byte[] content) throws IOException {
+        ByteArrayOutputStream compressedContent = new ByteArrayOutputStream(content.length / 4);
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(compressedContent)) {
+            gzipOutputStream.write(content);
+        }
+        return compressedContent.toByteArray();
+    }
+
+    private static byte[] decompress(InputStream compressedContent) throws IOException {
+        try (GZIPInputStream gzipInputStream = new GZIPInputStream(compressedContent)) {
+            return gzipInputStream.readAllBytes();
+        }
+    }
+
+}
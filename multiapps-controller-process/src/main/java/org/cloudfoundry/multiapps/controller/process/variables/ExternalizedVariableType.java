@@ -0,0 +1,156 @@
+package org.cloudfoundry.multiapps.controller.process.variables;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.cloudfoundry.multiapps.common.util.JsonUtil;
+import org.flowable.variable.api.types.ValueFields;
+import org.flowable.variable.api.types.VariableType;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.google.common.collect.MapMaker;
+
+/**
+ * The Flowable type of the variables marked as externalizable. The serialized values of such variables are stored in the byte array of
+ * the variable if they are smaller than the configured threshold and in the {@link ExternalizedVariableStore} otherwise, in which case
+ * the variable keeps only the ID of the file. The values are stored after they are serialized (and tokenized, for the variables of a
+ * {@link org.cloudfoundry.multiapps.controller.process.steps.SecureProcessContext}), so what is written to the file is exactly what
+ * would otherwise be written to the database.
+ * <p>
+ * Flowable copies the values of variables into other processes, e.g. into call activities, which inherit the variables of their parent.
+ * The copied value is the deserialized value, so the values, which are stored in a file, are remembered together with the ID of that
+ * file, and their copies refer to the same file instead of storing the whole value again.
+ */
+public class ExternalizedVariableType implements VariableType {
+
+    public static final String TYPE_NAME = "externalizable";
+
+    private final ExternalizedVariableStore store;
+    // Weak keys are compared by identity, so only the very values, which were stored in or loaded from a file, are matched:
+    private final Map<Object, String> fileIdsOfValues = new MapMaker().weakKeys()
+                                                                      .makeMap();
+
+    public ExternalizedVariableType(ExternalizedVariableStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public String getTypeName() {
+        return TYPE_NAME;
+    }
+
+    @Override
+    public boolean isCachable() {
+        return true;
+    }
+
+    @Override
+    public boolean isAbleToStore(Object value) {
+        return value instanceof ExternalizableValue || (value != null && fileIdsOfValues.containsKey(value));
+    }
+
+    @Override
+    public void setValue(Object value, ValueFields valueFields) {
+        if (value instanceof ExternalizableValue externalizableValue) {
+            setSerializedValue(externalizableValue, valueFields);
+        } else {
+            setCopiedValue(value, valueFields);
+        }
+    }
+
+    private void setSerializedValue(ExternalizableValue externalizableValue, ValueFields valueFields) {
+        Object serializedValue = externalizableValue.serializedValue();
+        ValueKind kind = ValueKind.of(serializedValue);
+        byte[] content = kind.encode(serializedValue);
+        valueFields.setTextValue(kind.name());
+        if (store.shouldExternalize(content)) {
+            String fileId = store.store(externalizableValue.operationId(), valueFields.getName(), content);
+            fileIdsOfValues.put(serializedValue, fileId);
+            valueFields.setTextValue2(fileId);
+            valueFields.setBytes(null);
+        } else {
+            valueFields.setTextValue2(null);
+            valueFields.setBytes(content);
+        }
+        valueFields.setCachedValue(serializedValue);
+    }
+
+    private void setCopiedValue(Object value, ValueFields valueFields) {
+        valueFields.setTextValue(ValueKind.of(value)
+                                          .name());
+        valueFields.setTextValue2(fileIdsOfValues.get(value));
+        valueFields.setBytes(null);
+        valueFields.setCachedValue(value);
+    }
+
+    @Override
+    public Object getValue(ValueFields valueFields) {
+        ValueKind kind = ValueKind.valueOf(valueFields.getTextValue());
+        String fileId = valueFields.getTextValue2();
+        if (fileId == null) {
+            return kind.decode(valueFields.getBytes());
+        }
+        Object value = kind.decode(store.load(fileId));
+        fileIdsOfValues.put(value, fileId);
+        return value;
+    }
+
+    private enum ValueKind {
+
+        STRING {
+            @Override
+            byte[] encode(Object serializedValue) {
+                return ((String) serializedValue).getBytes(StandardCharsets.UTF_8);
+            }
+
+            @Override
+            Object decode(byte[] content) {
+                return new String(content, StandardCharsets.UTF_8);
+            }
+        },
+        BINARY {
+            @Override
+            byte[] encode(Object serializedValue) {
+                return (byte[]) serializedValue;
+            }
+
+            @Override
+            Object decode(byte[] content) {
+                return content;
+            }
+        },
+        LIST {
+            @Override
+            byte[] encode(Object serializedValue) {
+                return JsonUtil.toJsonBinary(serializedValue);
+            }
+
+            @Override
+            Object decode(byte[] content) {
+                return JsonUtil.fromJsonBinary(content, new TypeReference<List<String>>() {
+                });
+            }
+        };
+
+        abstract byte[] encode(Object serializedValue);
+
+        abstract Object decode(byte[] content);
+
+        static ValueKind of(Object serializedValue) {
+            if (serializedValue instanceof String) {
+                return STRING;
+            }
+            if (serializedValue instanceof byte[]) {
+                return BINARY;
+            }
+            if (serializedValue instanceof List<?>) {
+                return LIST;
+            }
+            throw new IllegalArgumentException(serializedValue.getClass()
+                                                              .getName());
+        }
+
+    }
+
+}
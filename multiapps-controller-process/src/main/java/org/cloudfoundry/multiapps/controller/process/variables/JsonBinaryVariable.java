@@ -11,6 +11,12 @@ public abstract class JsonBinaryVariable<T> implements Variable<T> {
 
     public abstract TypeReference<T> getType();
 
+    @Value.Default
+    @Override
+    public boolean isExternalizable() {
+        return false;
+    }
+
     @Override
     public Serializer<T> getSerializer() {
         return new Serializer<T>() {
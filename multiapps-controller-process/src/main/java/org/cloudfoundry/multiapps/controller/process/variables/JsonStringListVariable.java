@@ -14,6 +14,12 @@ public abstract class JsonStringListVariable<T> implements ListVariable<T, List<
 
     public abstract TypeReference<T> getType();
 
+    @Value.Default
+    @Override
+    public boolean isExternalizable() {
+        return false;
+    }
+
     @Override
     public Serializer<List<T>> getSerializer() {
         return new Serializer<List<T>>() {
@@ -27,4 +27,11 @@ public interface Variable<T> {
 
     Serializer<T> getSerializer();
 
+    /**
+     * Whether large values of the variable may be stored outside of the process, see {@link ExternalizedVariableType}.
+     */
+    default boolean isExternalizable() {
+        return false;
+    }
+
 }
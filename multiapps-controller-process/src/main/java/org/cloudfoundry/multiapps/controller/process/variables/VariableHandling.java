@@ -1,6 +1,7 @@
 package org.cloudfoundry.multiapps.controller.process.variables;
 
 import org.flowable.common.engine.api.variable.VariableContainer;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.variable.api.delegate.VariableScope;
 
 public final class VariableHandling {
@@ -14,7 +15,7 @@ public final class VariableHandling {
             return;
         }
         Serializer<T> serializer = variable.getSerializer();
-        container.setVariable(variable.getName(), serializer.serialize(value));
+        container.setVariable(variable.getName(), wrapIfExternalizable(container, variable, serializer.serialize(value)));
     }
 
     public static <T> T get(VariableContainer container, Variable<T> variable) {
@@ -48,4 +49,12 @@ public final class VariableHandling {
         scope.removeVariable(variable.getName());
     }
 
+    private static Object wrapIfExternalizable(VariableContainer container, Variable<?> variable, Object serializedValue) {
+        // Only the variables of process executions are stored by ExternalizedVariableType:
+        if (variable.isExternalizable() && container instanceof ExecutionEntity execution) {
+            return new ExternalizableValue(serializedValue, execution.getRootProcessInstanceId());
+        }
+        return serializedValue;
+    }
+
 }
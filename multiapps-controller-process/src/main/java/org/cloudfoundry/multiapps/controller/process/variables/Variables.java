@@ -321,17 +321,20 @@ public interface Variables {
                                                                                       .name("mtaDeploymentDescriptor")
                                                                                       .type(Variable.typeReference(
                                                                                           DeploymentDescriptor.class))
+                                                                                      .isExternalizable(true)
                                                                                       .build();
     Variable<DeploymentDescriptor> DEPLOYMENT_DESCRIPTOR_WITH_SYSTEM_PARAMETERS = ImmutableJsonStringVariable.<DeploymentDescriptor> builder()
                                                                                                              .name(
                                                                                                                  "mtaDeploymentDescriptorWithSystemParameters")
                                                                                                              .type(Variable.typeReference(
                                                                                                                  DeploymentDescriptor.class))
+                                                                                                             .isExternalizable(true)
                                                                                                              .build();
     Variable<DeploymentDescriptor> COMPLETE_DEPLOYMENT_DESCRIPTOR = ImmutableJsonStringVariable.<DeploymentDescriptor> builder()
                                                                                                .name("completeMtaDeploymentDescriptor")
                                                                                                .type(Variable.typeReference(
                                                                                                    DeploymentDescriptor.class))
+                                                                                               .isExternalizable(true)
                                                                                                .build();
     Variable<CloudApplicationExtended> APP_TO_PROCESS = ImmutableJsonStringVariable.<CloudApplicationExtended> builder()
                                                                                    .name("appToProcess")
@@ -404,6 +407,7 @@ public interface Variables {
     Variable<DeployedMta> DEPLOYED_MTA = ImmutableJsonBinaryVariable.<DeployedMta> builder()
                                                                     .name("deployedMta")
                                                                     .type(Variable.typeReference(DeployedMta.class))
+                                                                    .isExternalizable(true)
                                                                     .build();
     Variable<List<DeployedMtaServiceKey>> DEPLOYED_MTA_SERVICE_KEYS = ImmutableJsonBinaryVariable.<List<DeployedMtaServiceKey>> builder()
                                                                                                  .name("deployedMtaServiceKeys")
@@ -908,6 +912,10 @@ public interface Variables {
                                                                                 .name("shouldUpdateApplicationDigest")
                                                                                 .defaultValue(false)
                                                                                 .build();
+    Variable<Boolean> CALCULATE_APPLICATION_DIGEST_DURING_EXTRACTION = ImmutableSimpleVariable.<Boolean> builder()
+                                                                                              .name("calculateApplicationDigestDuringExtraction")
+                                                                                              .defaultValue(false)
+                                                                                              .build();
     Variable<Boolean> SHOULD_SKIP_APPLICATION_UPLOAD = ImmutableSimpleVariable.<Boolean> builder()
                                                                               .name("shouldSkipApplicationUpload")
                                                                               .defaultValue(false)
@@ -918,6 +926,7 @@ public interface Variables {
                                                                                                                    "archiveEntriesPositions")
                                                                                                                .type(new TypeReference<>() {
                                                                                                                })
+                                                                                                               .isExternalizable(true)
                                                                                                                .build();
     Variable<Boolean> MUST_RESET_TIMEOUT = ImmutableSimpleVariable.<Boolean> builder()
                                                                   .name("mustResetTimeout")
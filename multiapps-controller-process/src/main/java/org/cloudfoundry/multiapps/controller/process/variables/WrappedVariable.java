@@ -26,4 +26,9 @@ public class WrappedVariable<T> implements Variable<T> {
         return wrappedSerializer;
     }
 
+    @Override
+    public boolean isExternalizable() {
+        return variableToDelegate.isExternalizable();
+    }
+
 }
@@ -1,22 +1,46 @@
 package org.cloudfoundry.multiapps.controller.process.jobs;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.cloudfoundry.multiapps.common.SLException;
 import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
+import org.cloudfoundry.multiapps.controller.persistence.model.CleanUpPartition;
+import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableCleanUpPartition;
+import org.cloudfoundry.multiapps.controller.persistence.query.CleanUpPartitionQuery;
+import org.cloudfoundry.multiapps.controller.persistence.services.CleanUpPartitionService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
+import org.springframework.core.annotation.Order;
 
 class CleanUpJobTest {
 
+    private final CleanUpPartitionService cleanUpPartitionService = Mockito.mock(CleanUpPartitionService.class);
+    private final CleanUpPartitionQuery cleanUpPartitionQuery = Mockito.mock(CleanUpPartitionQuery.class, Answers.RETURNS_SELF);
+
+    @BeforeEach
+    void setUp() {
+        Mockito.when(cleanUpPartitionService.tryAcquireLease(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+               .thenReturn(true);
+        Mockito.when(cleanUpPartitionService.createQuery())
+               .thenReturn(cleanUpPartitionQuery);
+        Mockito.when(cleanUpPartitionQuery.list())
+               .thenReturn(List.of());
+    }
+
     @Test
     void testExecutionResilience() {
-        Cleaner cleaner1 = Mockito.mock(Cleaner.class);
-        Cleaner cleaner2 = Mockito.mock(Cleaner.class);
+        Cleaner cleaner1 = mockCleaner(Cleaner.class, "cleaner1");
+        Cleaner cleaner2 = mockCleaner(Cleaner.class, "cleaner2");
         Mockito.doThrow(new SLException("Will it work?"))
                .when(cleaner2)
                .execute(Mockito.any());
-        Cleaner cleaner3 = Mockito.mock(Cleaner.class);
+        Cleaner cleaner3 = mockCleaner(Cleaner.class, "cleaner3");
         List<Cleaner> cleaners = List.of(cleaner1, cleaner2, cleaner3);
 
         CleanUpJob cleanUpJob = createCleanUpJob(getMockedApplicationConfiguration(), cleaners);
@@ -29,12 +53,105 @@ class CleanUpJobTest {
         // Makes sure that all cleaners are executed even if the ones before them failed.
         Mockito.verify(cleaner3)
                .execute(Mockito.any());
+        // Makes sure that the partition of the failed cleaner is not left leased, but is not marked as finished either.
+        Mockito.verify(cleanUpPartitionService)
+               .abandonLease(Mockito.eq("cleaner2"), Mockito.any());
+        Mockito.verify(cleanUpPartitionService, Mockito.never())
+               .releaseLease(Mockito.eq("cleaner2"), Mockito.any(), Mockito.anyLong(), Mockito.anyLong());
+    }
+
+    @Test
+    void testPartitionLeasedByAnotherInstanceIsSkipped() {
+        Cleaner cleaner1 = mockCleaner(Cleaner.class, "cleaner1");
+        Cleaner cleaner2 = mockCleaner(Cleaner.class, "cleaner2");
+        Mockito.when(cleanUpPartitionService.tryAcquireLease(Mockito.eq("cleaner1"), Mockito.any(), Mockito.any(), Mockito.any()))
+               .thenReturn(false);
+
+        CleanUpJob cleanUpJob = createCleanUpJob(getMockedApplicationConfiguration(), List.of(cleaner1, cleaner2));
+        cleanUpJob.execute();
+
+        Mockito.verify(cleaner1, Mockito.never())
+               .execute(Mockito.any());
+        Mockito.verify(cleaner2)
+               .execute(Mockito.any());
+        Mockito.verify(cleanUpPartitionService)
+               .releaseLease(Mockito.eq("cleaner2"), Mockito.any(), Mockito.eq(0L), Mockito.anyLong());
+    }
+
+    @Test
+    void testNextPhaseIsNotStartedBeforePreviousPhaseIsFinished() {
+        Cleaner firstPhaseCleaner = mockCleaner(FirstPhaseCleaner.class, "firstPhaseCleaner");
+        Cleaner secondPhaseCleaner = mockCleaner(SecondPhaseCleaner.class, "secondPhaseCleaner");
+        CleanUpPartition unfinishedPartition = ImmutableCleanUpPartition.builder()
+                                                                        .name("firstPhaseCleaner")
+                                                                        .leaseOwner("ds-guid/1")
+                                                                        .build();
+        Mockito.when(cleanUpPartitionService.tryAcquireLease(Mockito.eq("firstPhaseCleaner"), Mockito.any(), Mockito.any(),
+                                                             Mockito.any()))
+               .thenReturn(false);
+        Mockito.when(cleanUpPartitionQuery.list())
+               .thenReturn(List.of(unfinishedPartition));
+
+        CleanUpJob cleanUpJob = createCleanUpJob(getMockedApplicationConfiguration(), List.of(secondPhaseCleaner, firstPhaseCleaner));
+        cleanUpJob.execute();
+
+        Mockito.verify(secondPhaseCleaner, Mockito.never())
+               .execute(Mockito.any());
+        Mockito.verify(cleanUpPartitionService, Mockito.never())
+               .tryAcquireLease(Mockito.eq("secondPhaseCleaner"), Mockito.any(), Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    void testNextPhaseIsStartedAfterPreviousPhaseIsFinished() {
+        Cleaner firstPhaseCleaner = mockCleaner(FirstPhaseCleaner.class, "firstPhaseCleaner");
+        Cleaner secondPhaseCleaner = mockCleaner(SecondPhaseCleaner.class, "secondPhaseCleaner");
+
+        CleanUpJob cleanUpJob = createCleanUpJob(getMockedApplicationConfiguration(), List.of(secondPhaseCleaner, firstPhaseCleaner));
+        cleanUpJob.execute();
+
+        Mockito.verify(firstPhaseCleaner)
+               .execute(Mockito.any());
+        Mockito.verify(secondPhaseCleaner)
+               .execute(Mockito.any());
+    }
+
+    @Test
+    void testCleanerWithIntervalIsLeasedOnlyIfNotFinishedWithinTheInterval() {
+        Cleaner cleaner = mockCleaner(Cleaner.class, "cleaner");
+        Cleaner weeklyCleaner = mockCleaner(Cleaner.class, "weeklyCleaner");
+        Mockito.when(weeklyCleaner.getInterval())
+               .thenReturn(Duration.ofDays(7));
+
+        CleanUpJob cleanUpJob = createCleanUpJob(getMockedApplicationConfiguration(), List.of(cleaner, weeklyCleaner));
+        cleanUpJob.execute();
+
+        ArgumentCaptor<LocalDateTime> notFinishedSince = ArgumentCaptor.forClass(LocalDateTime.class);
+        Mockito.verify(cleanUpPartitionService)
+               .tryAcquireLease(Mockito.eq("cleaner"), Mockito.any(), Mockito.any(), notFinishedSince.capture());
+        ArgumentCaptor<LocalDateTime> weeklyNotFinishedSince = ArgumentCaptor.forClass(LocalDateTime.class);
+        Mockito.verify(cleanUpPartitionService)
+               .tryAcquireLease(Mockito.eq("weeklyCleaner"), Mockito.any(), Mockito.any(), weeklyNotFinishedSince.capture());
+        Assertions.assertEquals(notFinishedSince.getValue()
+                                                .minusDays(7), weeklyNotFinishedSince.getValue());
+        // Makes sure that the phase is considered finished only if the weekly cleaner was finished within its interval.
+        Mockito.verify(cleanUpPartitionQuery)
+               .notFinishedSince(weeklyNotFinishedSince.getValue());
+    }
+
+    private static <T extends Cleaner> T mockCleaner(Class<T> cleanerClass, String name) {
+        T cleaner = Mockito.mock(cleanerClass);
+        Mockito.when(cleaner.getName())
+               .thenReturn(name);
+        Mockito.when(cleaner.getInterval())
+               .thenReturn(Duration.ZERO);
+        return cleaner;
     }
 
     private CleanUpJob createCleanUpJob(ApplicationConfiguration applicationConfiguration, List<Cleaner> cleaners) {
         CleanUpJob cleanUpJob = new CleanUpJob();
         cleanUpJob.configuration = applicationConfiguration;
         cleanUpJob.cleaners = cleaners;
+        cleanUpJob.cleanUpPartitionService = cleanUpPartitionService;
         return cleanUpJob;
     }
 
@@ -44,7 +161,17 @@ class CleanUpJobTest {
                .thenReturn(0);
         Mockito.when(configuration.getMaxTtlForOldData())
                .thenReturn(ApplicationConfiguration.DEFAULT_MAX_TTL_FOR_OLD_DATA);
-        return  configuration;
+        Mockito.when(configuration.getCronExpressionForOldData())
+               .thenReturn(ApplicationConfiguration.DEFAULT_CRON_EXPRESSION_FOR_OLD_DATA);
+        return configuration;
+    }
+
+    @Order(1)
+    abstract static class FirstPhaseCleaner implements Cleaner {
+    }
+
+    @Order(2)
+    abstract static class SecondPhaseCleaner implements Cleaner {
     }
 
 }
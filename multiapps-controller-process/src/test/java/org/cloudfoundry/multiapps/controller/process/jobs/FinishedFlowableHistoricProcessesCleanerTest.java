@@ -17,6 +17,7 @@ import org.cloudfoundry.multiapps.controller.api.model.Operation;
 import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
 import org.cloudfoundry.multiapps.controller.persistence.query.OperationQuery;
 import org.cloudfoundry.multiapps.controller.persistence.services.OperationService;
+import org.cloudfoundry.multiapps.controller.process.variables.ExternalizedVariableStore;
 import org.flowable.engine.HistoryService;
 import org.flowable.engine.history.HistoricProcessInstance;
 import org.flowable.engine.history.HistoricProcessInstanceQuery;
@@ -36,13 +37,16 @@ class FinishedFlowableHistoricProcessesCleanerTest {
     private OperationService operationService;
     @Mock
     private HistoryService historyService;
+    @Mock
+    private ExternalizedVariableStore externalizedVariableStore;
     private FinishedFlowableHistoricProcessesCleaner cleaner;
 
     @BeforeEach
     void setUp() throws Exception {
         MockitoAnnotations.openMocks(this)
                           .close();
-        cleaner = new FinishedFlowableHistoricProcessesCleaner(applicationConfiguration, operationService, historyService);
+        cleaner = new FinishedFlowableHistoricProcessesCleaner(applicationConfiguration, operationService, historyService,
+                                                               externalizedVariableStore);
     }
 
     @Test
@@ -54,7 +58,7 @@ class FinishedFlowableHistoricProcessesCleanerTest {
     }
 
     @Test
-    void testCleanerExecution() throws ExecutionException, InterruptedException {
+    void testCleanerExecution() throws Exception {
         when(applicationConfiguration.getApplicationInstanceIndex()).thenReturn(1);
         var operationQuery = createMockedOperationQuery();
         when(operationService.createQuery()).thenReturn(operationQuery);
@@ -62,6 +66,7 @@ class FinishedFlowableHistoricProcessesCleanerTest {
         cleaner.cleanUp();
         verify(operationService, times(2)).createQuery();
         verify(historyService).deleteHistoricProcessInstance(OPERATION_GUID);
+        verify(externalizedVariableStore).deleteOperationVariables(OPERATION_GUID);
     }
 
     private OperationQuery createMockedOperationQuery() {
@@ -98,7 +98,8 @@ class OperationsCleanerTest {
                                                  .build();
         List<Operation> operationsList = List.of(operation1, operation2);
         when(operationService.createQuery()).thenReturn(operationQuery);
-        initQueryMockForPage(0, operationsList);
+        initQueryMockForPage(null, operationsList);
+        initQueryMockForPage(OPERATION_ID_2, Collections.emptyList());
 
         cleaner.execute(EXPIRATION_TIME);
         verify(historicOperationEventService).add(ImmutableHistoricOperationEvent.of(OPERATION_ID_1,
@@ -122,7 +123,8 @@ class OperationsCleanerTest {
         List<Operation> operationsList = List.of(operation1, operation2);
 
         when(operationService.createQuery()).thenReturn(operationQuery);
-        initQueryMockForPage(0, operationsList);
+        initQueryMockForPage(null, operationsList);
+        initQueryMockForPage(OPERATION_ID_2, Collections.emptyList());
         doThrow(new FlowableOptimisticLockingException("I'm an exception")).when(flowableFacade)
                                                                            .deleteProcessInstance(eq(OPERATION_ID_1), any());
 
@@ -154,8 +156,8 @@ class OperationsCleanerTest {
         List<Operation> operationsPage2 = List.of(operation3);
 
         when(operationService.createQuery()).thenReturn(operationQuery);
-        initQueryMockForPage(0, operationsPage1);
-        initQueryMockForPage(1, operationsPage2);
+        initQueryMockForPage(null, operationsPage1);
+        initQueryMockForPage(OPERATION_ID_2, operationsPage2);
 
         cleaner.execute(EXPIRATION_TIME);
         verify(historicOperationEventService).add(ImmutableHistoricOperationEvent.of(OPERATION_ID_1,
@@ -187,8 +189,8 @@ class OperationsCleanerTest {
         List<Operation> operationsPage2 = List.of(operation3);
 
         when(operationService.createQuery()).thenReturn(operationQuery);
-        initQueryMockForPage(0, operationsPage1);
-        initQueryMockForPage(1, operationsPage2);
+        initQueryMockForPage(null, operationsPage1);
+        initQueryMockForPage(OPERATION_ID_2, operationsPage2);
 
         cleaner.execute(EXPIRATION_TIME);
         verify(historicOperationEventService, never()).add(ImmutableHistoricOperationEvent.of(OPERATION_ID_1,
@@ -199,17 +201,19 @@ class OperationsCleanerTest {
                                                                                      HistoricOperationEvent.EventType.ABORTED));
     }
 
-    private void initQueryMockForPage(int pageIndex, List<Operation> result) {
-        OperationQuery queryMock = createOperationQueryMock(pageIndex);
+    private void initQueryMockForPage(String lastProcessIdOfPreviousPage, List<Operation> result) {
+        OperationQuery queryMock = createOperationQueryMock(lastProcessIdOfPreviousPage);
         when(queryMock.list()).thenReturn(result);
     }
 
-    private OperationQuery createOperationQueryMock(int pageIndex) {
-        return new MockBuilder<>(operationQuery).on(query -> query.startedBefore(EXPIRATION_TIME))
-                                                .on(query -> query.offsetOnSelect(pageIndex * PAGE_SIZE))
-                                                .on(query -> query.limitOnSelect(PAGE_SIZE))
-                                                .on(query -> query.orderByProcessId(any()))
-                                                .build();
+    private OperationQuery createOperationQueryMock(String lastProcessIdOfPreviousPage) {
+        MockBuilder<OperationQuery> mockBuilder = new MockBuilder<>(operationQuery).on(query -> query.startedBefore(EXPIRATION_TIME));
+        if (lastProcessIdOfPreviousPage != null) {
+            mockBuilder.on(query -> query.processIdGreaterThan(lastProcessIdOfPreviousPage));
+        }
+        return mockBuilder.on(query -> query.limitOnSelect(PAGE_SIZE))
+                          .on(query -> query.orderByProcessId(any()))
+                          .build();
     }
 
     @Test
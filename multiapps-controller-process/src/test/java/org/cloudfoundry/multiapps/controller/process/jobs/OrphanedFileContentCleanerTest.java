@@ -0,0 +1,63 @@
+package org.cloudfoundry.multiapps.controller.process.jobs;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.cloudfoundry.multiapps.common.SLException;
+import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileService;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileStorageException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+
+class OrphanedFileContentCleanerTest {
+
+    private static final LocalDateTime EXPIRATION_TIME = LocalDateTime.now();
+
+    @Mock
+    private FileService fileService;
+    @Mock
+    private ApplicationConfiguration applicationConfiguration;
+
+    private OrphanedFileContentCleaner orphanedFileContentCleaner;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this)
+                          .close();
+        orphanedFileContentCleaner = new OrphanedFileContentCleaner(fileService, applicationConfiguration);
+    }
+
+    @Test
+    void testExecute() throws FileStorageException {
+        Mockito.when(fileService.deleteOrphanedContentModifiedBefore(Mockito.any()))
+               .thenReturn(3);
+
+        assertEquals(3, orphanedFileContentCleaner.execute(EXPIRATION_TIME));
+
+        Mockito.verify(fileService)
+               .deleteOrphanedContentModifiedBefore(EXPIRATION_TIME.minusDays(1));
+    }
+
+    @Test
+    void testExecuteWithFailingFileStorage() throws FileStorageException {
+        Mockito.when(fileService.deleteOrphanedContentModifiedBefore(Mockito.any()))
+               .thenThrow(new FileStorageException("Storage is not available"));
+
+        assertThrows(SLException.class, () -> orphanedFileContentCleaner.execute(EXPIRATION_TIME));
+    }
+
+    @Test
+    void testGetInterval() {
+        Mockito.when(applicationConfiguration.getOrphanedFileContentCleanUpIntervalInSeconds())
+               .thenReturn(ApplicationConfiguration.DEFAULT_ORPHANED_FILE_CONTENT_CLEAN_UP_INTERVAL_IN_SECONDS);
+
+        assertEquals(Duration.ofDays(7), orphanedFileContentCleaner.getInterval());
+    }
+}
@@ -3,6 +3,7 @@ package org.cloudfoundry.multiapps.controller.process.security;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import com.fasterxml.jackson.databind.JsonNode;
@@ -13,6 +14,7 @@ import org.cloudfoundry.multiapps.controller.process.variables.Serializer;
 import org.flowable.common.engine.api.variable.VariableContainer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
 import org.mockito.Mockito;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -20,7 +22,13 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class SecretTokenSerializerTest {
@@ -32,7 +40,7 @@ public class SecretTokenSerializerTest {
 
     @BeforeEach
     void setUp() {
-        secretTokenStore = Mockito.mock(SecretTokenStore.class);
+        secretTokenStore = Mockito.mock(SecretTokenStore.class, Answers.CALLS_REAL_METHODS);
     }
 
     public static final class StringSerializerHelper implements Serializer<String> {
@@ -274,4 +282,26 @@ public class SecretTokenSerializerTest {
                                      .asInt());
     }
 
+    @Test
+    void testSecretValuesOfJsonAreStoredAndResolvedTogether() {
+        Set<String> secretNames = Set.of("user", "password");
+
+        when(secretTokenStore.putAll(PROCESS_INSTANCE_ID, VARIABLE_NAME, List.of("u", "p"))).thenReturn(List.of(21L, 22L));
+        when(secretTokenStore.getAll(anyCollection())).thenReturn(Map.of(21L, "u", 22L, "p"));
+
+        SecretTokenSerializer<String> serializer = new SecretTokenSerializer<>(
+            new StringSerializerHelper(), secretTokenStore, secretNames,
+            PROCESS_INSTANCE_ID, VARIABLE_NAME);
+
+        String inputJson = "{\"credentials\":{\"user\":\"u\",\"password\":\"p\"}}";
+        String tokenizedJson = (String) serializer.serialize(inputJson);
+        assertTrue(tokenizedJson.contains(SecretTokenUtil.of(21L)));
+        assertTrue(tokenizedJson.contains(SecretTokenUtil.of(22L)));
+
+        assertEquals(inputJson, serializer.deserialize(tokenizedJson));
+        verify(secretTokenStore, never()).put(anyString(), anyString(), anyString());
+        verify(secretTokenStore, times(1)).getAll(anyCollection());
+        verify(secretTokenStore, never()).get(anyLong());
+    }
+
 }
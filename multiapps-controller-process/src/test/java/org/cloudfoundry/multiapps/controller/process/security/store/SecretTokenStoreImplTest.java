@@ -0,0 +1,114 @@
+package org.cloudfoundry.multiapps.controller.process.security.store;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.security.Security;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+
+import org.bouncycastle.jcajce.provider.BouncyCastleFipsProvider;
+import org.cloudfoundry.multiapps.controller.persistence.services.SecretTokenService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class SecretTokenStoreImplTest {
+
+    private static final String ENCRYPTION_KEY = "abcdefghijklmnopqrstuvwxyz123456";
+    private static final String PROCESS_INSTANCE_ID = "process-instance-id";
+    private static final String VARIABLE_NAME = "variable-name";
+    // The process module has no test persistence unit of its own, so the default one is pointed to an in-memory database:
+    private static final Map<String, String> DATABASE_PROPERTIES = Map.of("jakarta.persistence.jdbc.driver", "org.h2.Driver",
+                                                                          "jakarta.persistence.jdbc.url",
+                                                                          "jdbc:h2:mem:secret-tokens;DB_CLOSE_DELAY=-1",
+                                                                          "jakarta.persistence.jdbc.user", "root",
+                                                                          "jakarta.persistence.jdbc.password", "root",
+                                                                          "eclipselink.ddl-generation", "create-tables",
+                                                                          "eclipselink.ddl-generation.output-mode", "database");
+
+    private final SecretTokenService secretTokenService = createSecretTokenService();
+
+    @BeforeAll
+    static void addBouncyCastleProvider() {
+        if (Security.getProvider(BouncyCastleFipsProvider.PROVIDER_NAME) == null) {
+            Security.addProvider(new BouncyCastleFipsProvider());
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        secretTokenService.createQuery()
+                          .delete();
+    }
+
+    @Test
+    void testGetAllValuesStoredByAnotherStore() {
+        List<Long> ids = createSecretTokenStore().putAll(PROCESS_INSTANCE_ID, VARIABLE_NAME, List.of("first", "second", "third"));
+
+        Map<Long, String> values = createSecretTokenStore().getAll(ids);
+
+        assertEquals(Map.of(ids.get(0), "first", ids.get(1), "second", ids.get(2), "third"), values);
+    }
+
+    @Test
+    void testGetAllWithMoreIdsThanFitInOneQuery() {
+        List<String> plainTexts = IntStream.range(0, 1001)
+                                           .mapToObj(i -> "value-" + i)
+                                           .toList();
+        List<Long> ids = createSecretTokenStore().putAll(PROCESS_INSTANCE_ID, VARIABLE_NAME, plainTexts);
+
+        Map<Long, String> values = createSecretTokenStore().getAll(ids);
+
+        Map<Long, String> expectedValues = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            expectedValues.put(ids.get(i), plainTexts.get(i));
+        }
+        assertEquals(expectedValues, values);
+    }
+
+    @Test
+    void testGetAllSkipsMissingTokens() {
+        List<Long> ids = new ArrayList<>(createSecretTokenStore().putAll(PROCESS_INSTANCE_ID, VARIABLE_NAME, List.of("first")));
+        ids.add(Long.MAX_VALUE);
+
+        Map<Long, String> values = createSecretTokenStore().getAll(ids);
+
+        assertEquals(Map.of(ids.get(0), "first"), values);
+    }
+
+    @Test
+    void testGetAllReturnsCachedValuesOfTheSameStore() {
+        SecretTokenStore secretTokenStore = createSecretTokenStore();
+        List<Long> ids = secretTokenStore.putAll(PROCESS_INSTANCE_ID, VARIABLE_NAME, List.of("first", "second"));
+        secretTokenService.createQuery()
+                          .delete();
+
+        Map<Long, String> values = secretTokenStore.getAll(ids);
+
+        assertEquals(Map.of(ids.get(0), "first", ids.get(1), "second"), values);
+        assertTrue(createSecretTokenStore().getAll(ids)
+                                           .isEmpty());
+    }
+
+    private SecretTokenStore createSecretTokenStore() {
+        return new SecretTokenStoreImpl(secretTokenService, ENCRYPTION_KEY);
+    }
+
+    private static SecretTokenService createSecretTokenService() {
+        EntityManagerFactory entityManagerFactory = Persistence.createEntityManagerFactory("Default", DATABASE_PROPERTIES);
+        Map<String, String> batchWritingProperties = new HashMap<>(DATABASE_PROPERTIES);
+        batchWritingProperties.put("eclipselink.session-name", "DefaultBatchWriting");
+        batchWritingProperties.put("eclipselink.jdbc.batch-writing", "JDBC");
+        batchWritingProperties.put("eclipselink.jdbc.batch-writing.size", "100");
+        EntityManagerFactory batchWritingEntityManagerFactory = Persistence.createEntityManagerFactory("Default", batchWritingProperties);
+        return new SecretTokenService(entityManagerFactory, batchWritingEntityManagerFactory, new SecretTokenService.SecretTokenMapper());
+    }
+
+}
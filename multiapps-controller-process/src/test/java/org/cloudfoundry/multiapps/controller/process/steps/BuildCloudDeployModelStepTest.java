@@ -4,10 +4,12 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import org.cloudfoundry.multiapps.common.test.TestUtil;
 import org.cloudfoundry.multiapps.common.test.Tester.Expectation;
 import org.cloudfoundry.multiapps.common.util.JsonUtil;
+import org.cloudfoundry.multiapps.controller.api.model.ProcessType;
 import org.cloudfoundry.multiapps.controller.client.facade.CloudCredentials;
 import org.cloudfoundry.multiapps.controller.client.facade.domain.CloudServiceKey;
 import org.cloudfoundry.multiapps.controller.client.facade.domain.ImmutableCloudMetadata;
 import org.cloudfoundry.multiapps.controller.client.facade.domain.ImmutableCloudServiceInstance;
+import org.cloudfoundry.multiapps.controller.core.cf.DeploymentMode;
 import org.cloudfoundry.multiapps.controller.core.cf.clients.CustomServiceKeysClient;
 import org.cloudfoundry.multiapps.controller.core.cf.clients.WebClientFactory;
 import org.cloudfoundry.multiapps.controller.core.cf.util.ModulesCloudModelBuilderContentCalculator;
@@ -114,6 +116,33 @@ class BuildCloudDeployModelStepTest extends SyncFlowableStepTest<BuildCloudDeplo
         assertEquals(input.customDomains, context.getVariable(Variables.CUSTOM_DOMAINS));
     }
 
+    static Stream<Arguments> testDeploymentMode() {
+        return Stream.of(
+            // @formatter:off
+            Arguments.of(ProcessType.DEPLOY, DeploymentMode.DATAFLOW, DeploymentMode.DATAFLOW),
+            // Blue-green deployments and rollbacks deploy their modules in waves, so their module sub-processes must not wait for dependencies:
+            Arguments.of(ProcessType.BLUE_GREEN_DEPLOY, DeploymentMode.DATAFLOW, DeploymentMode.PARALLEL),
+            Arguments.of(ProcessType.ROLLBACK_MTA, DeploymentMode.DATAFLOW, DeploymentMode.PARALLEL),
+            Arguments.of(ProcessType.BLUE_GREEN_DEPLOY, DeploymentMode.SEQUENTIAL, DeploymentMode.SEQUENTIAL)
+// @formatter:on
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void testDeploymentMode(ProcessType processType, DeploymentMode requestedDeploymentMode, DeploymentMode expectedDeploymentMode) {
+        loadParameters(new StepInput("modules-to-deploy-01.json", "services-to-create-01.json", "service-keys-01.json",
+                                     List.of("api.cf.neo.ondemand.com"), null));
+        prepareContext();
+        when(processTypeParser.getProcessType(any())).thenReturn(processType);
+        when(applicationCloudModelBuilder.getDeploymentMode()).thenReturn(requestedDeploymentMode);
+
+        step.execute(execution);
+
+        assertStepFinishedSuccessfully();
+        assertEquals(expectedDeploymentMode, context.getVariable(Variables.DEPLOYMENT_MODE));
+    }
+
     protected void loadParameters(StepInput input) {
         String modulesToDeployString = TestUtil.getResourceAsString(input.modulesToDeployLocation, getClass());
         modulesToDeploy = JsonUtil.fromJson(modulesToDeployString, new TypeReference<>() {
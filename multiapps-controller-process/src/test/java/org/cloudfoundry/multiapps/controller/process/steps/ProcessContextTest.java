@@ -0,0 +1,113 @@
+package org.cloudfoundry.multiapps.controller.process.steps;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+
+import org.cloudfoundry.multiapps.controller.core.cf.CloudControllerClientProvider;
+import org.cloudfoundry.multiapps.controller.process.util.MockDelegateExecution;
+import org.cloudfoundry.multiapps.controller.process.util.StepLogger;
+import org.cloudfoundry.multiapps.controller.process.variables.Serializer;
+import org.cloudfoundry.multiapps.controller.process.variables.Variable;
+import org.flowable.common.engine.api.variable.VariableContainer;
+import org.flowable.engine.delegate.DelegateExecution;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class ProcessContextTest {
+
+    private final CountingVariable variable = new CountingVariable();
+
+    private DelegateExecution execution;
+    private ProcessContext context;
+
+    @BeforeEach
+    void setUp() {
+        execution = MockDelegateExecution.createSpyInstance();
+        context = new ProcessContext(execution, Mockito.mock(StepLogger.class), Mockito.mock(CloudControllerClientProvider.class));
+    }
+
+    @Test
+    void testVariableIsDeserializedOnce() {
+        context.setVariable(variable, List.of("a", "b"));
+
+        List<String> value = context.getVariable(variable);
+
+        assertSame(value, context.getVariable(variable));
+        assertSame(value, context.getVariableIfSet(variable));
+        assertEquals(1, variable.deserializations);
+    }
+
+    @Test
+    void testSetVariableInvalidatesCachedValue() {
+        context.setVariable(variable, List.of("a"));
+        context.getVariable(variable);
+
+        context.setVariable(variable, List.of("b"));
+
+        assertEquals(List.of("b"), context.getVariable(variable));
+        assertEquals(2, variable.deserializations);
+    }
+
+    @Test
+    void testRemoveVariableInvalidatesCachedValue() {
+        context.setVariable(variable, List.of("a"));
+        context.getVariable(variable);
+
+        context.removeVariable(variable);
+
+        assertNull(context.getVariable(variable));
+    }
+
+    @Test
+    void testValueWrittenDirectlyToExecutionIsObserved() {
+        context.setVariable(variable, List.of("a"));
+        context.getVariable(variable);
+
+        execution.setVariable(variable.getName(), "c");
+
+        assertEquals(List.of("c"), context.getVariable(variable));
+        assertEquals(2, variable.deserializations);
+    }
+
+    private static class CountingVariable implements Variable<List<String>> {
+
+        private int deserializations;
+
+        @Override
+        public String getName() {
+            return "countingVariable";
+        }
+
+        @Override
+        public List<String> getDefaultValue() {
+            return null;
+        }
+
+        @Override
+        public Serializer<List<String>> getSerializer() {
+            return new Serializer<>() {
+
+                @Override
+                public Object serialize(List<String> object) {
+                    return String.join(",", object);
+                }
+
+                @Override
+                public List<String> deserialize(Object serializedObject) {
+                    deserializations++;
+                    return List.of(((String) serializedObject).split(","));
+                }
+
+                @Override
+                public List<String> deserialize(Object serializedObject, VariableContainer container) {
+                    return deserialize(serializedObject);
+                }
+            };
+        }
+    }
+
+}
@@ -23,8 +23,10 @@ import org.cloudfoundry.multiapps.controller.core.helpers.DescriptorParserFacade
 import org.cloudfoundry.multiapps.controller.core.helpers.MtaArchiveHelper;
 import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileContentProcessor;
+import org.cloudfoundry.multiapps.controller.persistence.services.SeekableFileContentProcessor;
 import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntryExtractor;
 import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntryStreamWithStreamPositionsDeterminer;
+import org.cloudfoundry.multiapps.controller.process.util.ByteArraySeekableFileContent;
 import org.cloudfoundry.multiapps.controller.process.util.ProcessConflictPreventer;
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
 import org.cloudfoundry.multiapps.mta.handlers.DescriptorParserFacade;
@@ -77,6 +79,20 @@ class ProcessMtaArchiveStepTest extends SyncFlowableStepTest<ProcessMtaArchiveSt
 
         }).when(fileService)
           .processFileContent(any(), any(), any());
+        doAnswer(new Answer<T>() {
+
+            @Override
+            public T answer(InvocationOnMock invocation) throws Exception {
+                String fileId = invocation.getArgument(1);
+                int fileIndex = Integer.parseInt(fileId);
+                SeekableFileContentProcessor<T> seekableFileContentProcessor = invocation.getArgument(2);
+                try (InputStream archiveStream = getClass().getResourceAsStream(input.archiveFileLocations.get(fileIndex))) {
+                    return seekableFileContentProcessor.process(new ByteArraySeekableFileContent(archiveStream.readAllBytes()));
+                }
+            }
+
+        }).when(fileService)
+          .processSeekableFileContent(any(), any(), any());
         step.archiveEntryStreamWithStreamPositionsDeterminer = spy(new ArchiveEntryStreamWithStreamPositionsDeterminer(fileService));
     }
 
@@ -5,6 +5,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -24,6 +25,7 @@ import org.cloudfoundry.multiapps.controller.core.helpers.ClientHelper;
 import org.cloudfoundry.multiapps.controller.core.helpers.ModuleToDeployHelper;
 import org.cloudfoundry.multiapps.controller.core.security.token.TokenService;
 import org.cloudfoundry.multiapps.controller.core.test.MockBuilder;
+import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
 import org.cloudfoundry.multiapps.controller.persistence.model.CloudTarget;
 import org.cloudfoundry.multiapps.controller.persistence.model.ConfigurationEntry;
 import org.cloudfoundry.multiapps.controller.persistence.model.ConfigurationSubscription;
@@ -34,6 +36,7 @@ import org.cloudfoundry.multiapps.controller.persistence.services.ConfigurationE
 import org.cloudfoundry.multiapps.controller.persistence.services.ConfigurationSubscriptionService;
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
 import org.flowable.variable.api.history.HistoricVariableInstance;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -99,7 +102,7 @@ class UpdateSubscribersStepTest extends SyncFlowableStepTest<UpdateSubscribersSt
             Arguments.of("update-subscribers-step-input-06.json", "update-subscribers-step-output-06.json", 2, null),
             // (7) There are multiple subscribers that should be updated:
             Arguments.of("update-subscribers-step-input-07.json", "update-subscribers-step-output-07.json", 2, null),
-            // (8) One application has two subscriptions:
+            // (8) One application has two subscriptions, so it is updated once with the changes of both:
             Arguments.of("update-subscribers-step-input-08.json", "update-subscribers-step-output-08.json", 2, null),
             // (9) There's no need to update a subscriber:
             Arguments.of("update-subscribers-step-input-09.json", "update-subscribers-step-output-09.json", 2, null)
@@ -125,6 +128,20 @@ class UpdateSubscribersStepTest extends SyncFlowableStepTest<UpdateSubscribersSt
         assertEquals(JsonUtil.toJson(expectedOutput, true), JsonUtil.toJson(actualOutput, true));
     }
 
+    @Test
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    void testSubscriptionsOfOneApplicationAreAppliedToTheSameEnvironment() {
+        initializeParameters("update-subscribers-step-input-08.json", "update-subscribers-step-output-08.json", 2);
+
+        step.execute(execution);
+
+        assertStepFinishedSuccessfully();
+        ArgumentCaptor<Map> appEnvCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(client).updateApplicationEnv(eq("foo"), appEnvCaptor.capture());
+        Map<String, String> updatedEnvironment = appEnvCaptor.getValue();
+        assertEquals(Set.of("test", "plugins", "urls"), updatedEnvironment.keySet());
+    }
+
     public void initializeParameters(String inputLocation, String expectedOutputLocation, int majorSchemaVersion) {
         loadParameters(inputLocation, expectedOutputLocation);
         prepareContext(majorSchemaVersion);
@@ -162,6 +179,8 @@ class UpdateSubscribersStepTest extends SyncFlowableStepTest<UpdateSubscribersSt
                .thenReturn(getBytes(getPublishedEntries()));
         Mockito.when(moduleToDeployHelper.isApplication(any()))
                .thenReturn(true);
+        Mockito.when(configuration.getSubscribersUpdateMaxParallelThreads())
+               .thenReturn(ApplicationConfiguration.DEFAULT_SUBSCRIBERS_UPDATE_MAX_PARALLEL_THREADS);
     }
 
     private CloudSpace getMockSpace(ClientHelper client, String spaceId) {
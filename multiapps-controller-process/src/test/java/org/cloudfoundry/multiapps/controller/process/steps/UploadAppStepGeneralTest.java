@@ -53,7 +53,9 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class UploadAppStepGeneralTest extends SyncFlowableStepTest<UploadAppStep> {
@@ -215,6 +217,17 @@ class UploadAppStepGeneralTest extends SyncFlowableStepTest<UploadAppStep> {
         assertTrue(context.getVariable(Variables.SHOULD_UPDATE_APPLICATION_DIGEST));
     }
 
+    @Test
+    void testDigestCalculationIsDeferredToExtractionWhenApplicationHasNoDigest() {
+        prepareClients(NEW_MODULE_DIGEST);
+        when(client.getApplicationEnvironment(APP_GUID)).thenReturn(Map.of());
+        step.execute(execution);
+        assertEquals(StepPhase.POLL.toString(), getExecutionStatus());
+        assertTrue(context.getVariable(Variables.SHOULD_UPDATE_APPLICATION_DIGEST));
+        assertTrue(context.getVariable(Variables.CALCULATE_APPLICATION_DIGEST_DURING_EXTRACTION));
+        verify(step.applicationDigestCalculator, never()).calculateApplicationDigest(any());
+    }
+
     @MethodSource
     @ParameterizedTest
     void testWithAvailableExpiredCloudPackageAndDifferentContent(String moduleDigest) {
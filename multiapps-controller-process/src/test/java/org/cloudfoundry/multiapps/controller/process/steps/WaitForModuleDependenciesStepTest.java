@@ -0,0 +1,88 @@
+package org.cloudfoundry.multiapps.controller.process.steps;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Set;
+
+import org.cloudfoundry.multiapps.controller.core.helpers.ModuleToDeployHelper;
+import org.cloudfoundry.multiapps.controller.process.Constants;
+import org.cloudfoundry.multiapps.controller.process.flowable.FlowableFacade;
+import org.cloudfoundry.multiapps.controller.process.variables.Variables;
+import org.cloudfoundry.multiapps.mta.model.DeploymentDescriptor;
+import org.cloudfoundry.multiapps.mta.model.Module;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.variable.api.history.HistoricVariableInstance;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class WaitForModuleDependenciesStepTest extends SyncFlowableStepTest<WaitForModuleDependenciesStep> {
+
+    private static final String PARENT_PROCESS_INSTANCE_ID = "parent-process-id";
+    private static final String SUB_PROCESS_ID = "sub-process-id";
+
+    private final Module database = Module.createV3()
+                                          .setName("database");
+    private final Module application = Module.createV3()
+                                             .setName("application")
+                                             .setDeployedAfter(List.of("database"));
+
+    private FlowableFacade flowableFacade;
+
+    @BeforeEach
+    void setUp() {
+        HistoricProcessInstance processInstance = Mockito.mock(HistoricProcessInstance.class);
+        Mockito.when(processInstance.getSuperProcessInstanceId())
+               .thenReturn(PARENT_PROCESS_INSTANCE_ID);
+        Mockito.when(flowableFacade.getHistoricProcessById(Mockito.any()))
+               .thenReturn(processInstance);
+        context.setVariable(Variables.DEPLOYMENT_DESCRIPTOR, DeploymentDescriptor.createV3()
+                                                                                 .setModules(List.of(database, application)));
+        context.setVariable(Variables.MODULES_TO_DEPLOY, List.of(database, application));
+    }
+
+    @Test
+    void testModuleWaitsWhileDependencyIsBeingDeployed() {
+        context.setVariable(Variables.MODULE_TO_DEPLOY, application);
+        Mockito.when(flowableFacade.getFinishedSubProcessIds(PARENT_PROCESS_INSTANCE_ID, Constants.DEPLOY_APP_SUB_PROCESS_ID))
+               .thenReturn(List.of());
+
+        step.execute(execution);
+
+        assertEquals(StepPhase.POLL.toString(), getExecutionStatus());
+    }
+
+    @Test
+    void testModuleIsDeployedWhenDependencyIsDeployed() {
+        context.setVariable(Variables.MODULE_TO_DEPLOY, application);
+        Mockito.when(flowableFacade.getFinishedSubProcessIds(PARENT_PROCESS_INSTANCE_ID, Constants.DEPLOY_APP_SUB_PROCESS_ID))
+               .thenReturn(List.of(SUB_PROCESS_ID));
+        HistoricVariableInstance deployedModule = Mockito.mock(HistoricVariableInstance.class);
+        Mockito.when(deployedModule.getValue())
+               .thenReturn(Variables.MODULE_TO_DEPLOY.getSerializer()
+                                                     .serialize(database));
+        Mockito.when(flowableFacade.getHistoricVariableInstances(Set.of(SUB_PROCESS_ID), Variables.MODULE_TO_DEPLOY.getName()))
+               .thenReturn(List.of(deployedModule));
+
+        step.execute(execution);
+
+        assertStepFinishedSuccessfully();
+    }
+
+    @Test
+    void testModuleWithoutDependenciesIsDeployedImmediately() {
+        context.setVariable(Variables.MODULE_TO_DEPLOY, database);
+
+        step.execute(execution);
+
+        assertStepFinishedSuccessfully();
+    }
+
+    @Override
+    protected WaitForModuleDependenciesStep createStep() {
+        flowableFacade = Mockito.mock(FlowableFacade.class);
+        return new WaitForModuleDependenciesStep(Mockito.mock(ModuleToDeployHelper.class), flowableFacade);
+    }
+
+}
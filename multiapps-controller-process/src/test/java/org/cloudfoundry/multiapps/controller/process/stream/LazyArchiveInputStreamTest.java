@@ -1,9 +1,15 @@
 package org.cloudfoundry.multiapps.controller.process.stream;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigInteger;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import org.cloudfoundry.multiapps.controller.persistence.model.FileEntry;
 import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableFileEntry;
@@ -15,10 +21,14 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -105,7 +115,89 @@ class LazyArchiveInputStreamTest {
         verify(firstPartInputStream).close();
     }
 
-    private void prepareStream(int archiveSize) {
+    @Test
+    void readPrefetchedArchiveParts() throws Exception {
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            when(fileService.openInputStream(CUSTOM_SPACE, FILE_ID_1)).thenReturn(new ByteArrayInputStream(new byte[] { 1, 2 }));
+            when(fileService.openInputStream(CUSTOM_SPACE, FILE_ID_2)).thenReturn(new ByteArrayInputStream(new byte[] { 3 }));
+            lazyArchiveInputStream = new LazyArchiveInputStream(fileService, buildMockedFileEntries(), stepLogger, 3, executorService, 1);
+
+            assertEquals(1, lazyArchiveInputStream.read());
+            verify(fileService, timeout(1000)).openInputStream(CUSTOM_SPACE, FILE_ID_2);
+            assertArrayEquals(new byte[] { 2, 3 }, lazyArchiveInputStream.readAllBytes());
+            assertEquals(0, lazyArchiveInputStream.available());
+            lazyArchiveInputStream.close();
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void readArchivePartWhichIsBeingPrefetched() throws Exception {
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            CountDownLatch prefetchStarted = new CountDownLatch(1);
+            CountDownLatch releasePrefetch = new CountDownLatch(1);
+            when(fileService.openInputStream(CUSTOM_SPACE, FILE_ID_1)).thenReturn(new ByteArrayInputStream(new byte[] { 1 }));
+            when(fileService.openInputStream(CUSTOM_SPACE, FILE_ID_2)).thenAnswer(invocation -> {
+                prefetchStarted.countDown();
+                releasePrefetch.await();
+                return new ByteArrayInputStream(new byte[] { 2 });
+            });
+            lazyArchiveInputStream = new LazyArchiveInputStream(fileService, buildMockedFileEntries(), stepLogger, 2, executorService, 1);
+
+            assertEquals(1, lazyArchiveInputStream.read());
+            assertTrue(prefetchStarted.await(10, TimeUnit.SECONDS));
+            releaseLater(releasePrefetch);
+            assertArrayEquals(new byte[] { 2 }, lazyArchiveInputStream.readAllBytes());
+            lazyArchiveInputStream.close();
+
+            verify(fileService).openInputStream(CUSTOM_SPACE, FILE_ID_2);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void closeWhileArchivePartIsBeingPrefetched() throws Exception {
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            CountDownLatch prefetchStarted = new CountDownLatch(1);
+            CountDownLatch releasePrefetch = new CountDownLatch(1);
+            InputStream secondPartInputStream = spy(new ByteArrayInputStream(new byte[] { 2 }));
+            when(fileService.openInputStream(CUSTOM_SPACE, FILE_ID_1)).thenReturn(new ByteArrayInputStream(new byte[] { 1 }));
+            when(fileService.openInputStream(CUSTOM_SPACE, FILE_ID_2)).thenAnswer(invocation -> {
+                prefetchStarted.countDown();
+                releasePrefetch.await();
+                return secondPartInputStream;
+            });
+            lazyArchiveInputStream = new LazyArchiveInputStream(fileService, buildMockedFileEntries(), stepLogger, 2, executorService, 1);
+
+            assertEquals(1, lazyArchiveInputStream.read());
+            assertTrue(prefetchStarted.await(10, TimeUnit.SECONDS));
+            releaseLater(releasePrefetch);
+            lazyArchiveInputStream.close();
+
+            verify(secondPartInputStream).close();
+            verify(fileService).openInputStream(CUSTOM_SPACE, FILE_ID_2);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void availableWhenArchiveIsLargerThanTwoGigabytes() throws IOException {
+        prepareStream(5L * 1024 * 1024 * 1024);
+        assertEquals(Integer.MAX_VALUE, lazyArchiveInputStream.available());
+    }
+
+    // Releases the prefetching only after the reading thread has reached it, so that the prefetching is still in progress at that time:
+    private static void releaseLater(CountDownLatch releasePrefetch) {
+        CompletableFuture.runAsync(releasePrefetch::countDown, CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS));
+    }
+
+    private void prepareStream(long archiveSize) {
         lazyArchiveInputStream = new LazyArchiveInputStream(fileService, buildMockedFileEntries(), stepLogger, archiveSize);
     }
 
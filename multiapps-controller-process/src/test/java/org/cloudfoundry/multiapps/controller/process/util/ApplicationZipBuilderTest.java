@@ -1,5 +1,6 @@
 package org.cloudfoundry.multiapps.controller.process.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -28,6 +29,7 @@ import org.cloudfoundry.multiapps.controller.persistence.services.FileContentPro
 import org.cloudfoundry.multiapps.controller.persistence.services.FileContentToProcess;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileService;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileStorageException;
+import org.cloudfoundry.multiapps.controller.persistence.services.SeekableFileContentProcessor;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -92,7 +94,24 @@ class ApplicationZipBuilderTest {
         }
     }
 
+    @ParameterizedTest
+    @MethodSource("testCreateNewZip")
+    void testDigestIsCalculatedDuringExtraction(String mtar, String fileName) throws Exception {
+        ApplicationArchiveContext applicationArchiveContext = getApplicationArchiveContext(mtar, fileName);
+        ApplicationZipBuilder zipBuilder = new ApplicationZipBuilder(fileService,
+                                                                     new ApplicationArchiveIterator(),
+                                                                     new ArchiveEntryExtractor(fileService));
+        appPath = zipBuilder.extractApplicationInNewArchive(applicationArchiveContext);
+        ApplicationDigestCalculator digestCalculator = new ApplicationDigestCalculator(fileService,
+                                                                                       new ApplicationArchiveIterator(),
+                                                                                       new ArchiveEntryExtractor(fileService));
+        String expectedDigest = digestCalculator.calculateApplicationDigest(getApplicationArchiveContext(mtar, fileName));
+        assertEquals(expectedDigest, applicationArchiveContext.getDigestCalculator()
+                                                              .getDigest());
+    }
+
     private ApplicationArchiveContext getApplicationArchiveContext(String mtar, String fileName) throws FileStorageException {
+        mockProcessingOfSeekableFileContent(mtar);
         mockProcessingOfFileContent(mtar);
         mockConsumptionOfFileContent(mtar);
         mockConsumptionOfFileContentWithOffset(mtar);
@@ -102,6 +121,18 @@ class ApplicationZipBuilderTest {
         return new ApplicationArchiveContext(fileName, MAX_UPLOAD_FILE_SIZE, archiveEntriesWithStreamPositions, "123", "123");
     }
 
+    private void mockProcessingOfSeekableFileContent(String mtar) throws FileStorageException {
+        doAnswer(answer -> {
+            try (InputStream inputStream = getClass().getResourceAsStream(mtar)) {
+                SeekableFileContentProcessor<?> seekableFileContentProcessor = answer.getArgument(2);
+                return seekableFileContentProcessor.process(new ByteArraySeekableFileContent(inputStream.readAllBytes()));
+            } catch (IOException e) {
+                throw new SLException(e, e.getMessage());
+            }
+        }).when(fileService)
+          .processSeekableFileContent(any(), any(), any());
+    }
+
     private void mockProcessingOfFileContent(String mtar) throws FileStorageException {
         doAnswer(answer -> {
             try (InputStream inputStream = getClass().getResourceAsStream(mtar)) {
@@ -0,0 +1,162 @@
+package org.cloudfoundry.multiapps.controller.process.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.cloudfoundry.multiapps.controller.client.facade.CloudControllerClient;
+import org.cloudfoundry.multiapps.controller.client.facade.domain.CloudBuild;
+import org.cloudfoundry.multiapps.controller.client.facade.domain.CloudServiceInstance;
+import org.cloudfoundry.multiapps.controller.client.facade.domain.ImmutableCloudBuild;
+import org.cloudfoundry.multiapps.controller.client.facade.domain.ImmutableCloudMetadata;
+import org.cloudfoundry.multiapps.controller.client.facade.domain.ImmutableCloudServiceInstance;
+import org.cloudfoundry.multiapps.controller.client.facade.domain.ImmutableCloudSpace;
+import org.cloudfoundry.multiapps.controller.client.facade.domain.ServiceOperation;
+import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+class BatchedStatusPollerTest {
+
+    private static final int POLLING_INTERVAL_IN_SECONDS = 4;
+    private static final UUID SPACE_GUID = UUID.randomUUID();
+    private static final String USER_GUID = "user-guid";
+    private static final UUID PACKAGE_GUID = UUID.randomUUID();
+    private static final UUID OTHER_PACKAGE_GUID = UUID.randomUUID();
+
+    @Mock
+    private CloudControllerClient client;
+    @Mock
+    private ApplicationConfiguration applicationConfiguration;
+
+    private long nanoTime;
+    private BatchedStatusPoller statusPoller;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this)
+                          .close();
+        when(applicationConfiguration.getStepPollingIntervalInSeconds()).thenReturn(POLLING_INTERVAL_IN_SECONDS);
+        when(client.getTarget()).thenReturn(ImmutableCloudSpace.builder()
+                                                               .metadata(ImmutableCloudMetadata.of(SPACE_GUID))
+                                                               .name("space")
+                                                               .build());
+        statusPoller = new BatchedStatusPoller(applicationConfiguration, () -> nanoTime);
+    }
+
+    @Test
+    void testServiceInstancesOfSpaceAreFetchedTogether() {
+        when(client.getServiceInstancesWithoutAuxiliaryContentByNames(anyList())).thenReturn(List.of(buildServiceInstance("foo"),
+                                                                                                     buildServiceInstance("bar")));
+
+        statusPoller.getServiceInstance(client, USER_GUID, "foo");
+        statusPoller.getServiceInstance(client, USER_GUID, "bar");
+        CloudServiceInstance foo = statusPoller.getServiceInstance(client, USER_GUID, "foo");
+        CloudServiceInstance bar = statusPoller.getServiceInstance(client, USER_GUID, "bar");
+
+        assertEquals("foo", foo.getName());
+        assertEquals("bar", bar.getName());
+        // Once for each service instance, which is polled for the first time:
+        verify(client, times(2)).getServiceInstancesWithoutAuxiliaryContentByNames(anyList());
+        verify(client).getServiceInstancesWithoutAuxiliaryContentByNames(List.of("foo"));
+    }
+
+    @Test
+    void testServiceInstancesAreFetchedAgainAfterHalfOfThePollingInterval() {
+        when(client.getServiceInstancesWithoutAuxiliaryContentByNames(anyList())).thenReturn(List.of(buildServiceInstance("foo")));
+
+        statusPoller.getServiceInstance(client, USER_GUID, "foo");
+        nanoTime += TimeUnit.SECONDS.toNanos(POLLING_INTERVAL_IN_SECONDS) / 2 - 1;
+        statusPoller.getServiceInstance(client, USER_GUID, "foo");
+        nanoTime += 1;
+        statusPoller.getServiceInstance(client, USER_GUID, "foo");
+
+        verify(client, times(2)).getServiceInstancesWithoutAuxiliaryContentByNames(List.of("foo"));
+    }
+
+    @Test
+    void testMissingServiceInstance() {
+        when(client.getServiceInstancesWithoutAuxiliaryContentByNames(anyList())).thenReturn(List.of());
+
+        assertNull(statusPoller.getServiceInstance(client, USER_GUID, "foo"));
+    }
+
+    @Test
+    void testServiceInstancesOfDifferentUsersAreFetchedSeparately() {
+        when(client.getServiceInstancesWithoutAuxiliaryContentByNames(anyList())).thenReturn(List.of(buildServiceInstance("foo")));
+
+        statusPoller.getServiceInstance(client, USER_GUID, "foo");
+        statusPoller.getServiceInstance(client, "other-user-guid", "foo");
+
+        verify(client, times(2)).getServiceInstancesWithoutAuxiliaryContentByNames(List.of("foo"));
+    }
+
+    @Test
+    void testServiceInstanceIsFetchedDirectlyWithoutUser() {
+        CloudServiceInstance serviceInstance = buildServiceInstance("foo");
+        when(client.getServiceInstance("foo", false)).thenReturn(serviceInstance);
+
+        assertEquals(serviceInstance, statusPoller.getServiceInstance(client, null, "foo"));
+        verify(client, never()).getServiceInstancesWithoutAuxiliaryContentByNames(anyList());
+    }
+
+    @Test
+    void testServiceInstanceIsFetchedDirectlyWithoutTargetSpace() {
+        CloudServiceInstance serviceInstance = buildServiceInstance("foo");
+        when(client.getTarget()).thenReturn(null);
+        when(client.getServiceInstance("foo", false)).thenReturn(serviceInstance);
+
+        assertEquals(serviceInstance, statusPoller.getServiceInstance(client, USER_GUID, "foo"));
+    }
+
+    @Test
+    void testBuildsOfSpaceAreFetchedTogether() {
+        CloudBuild build = buildBuild(PACKAGE_GUID);
+        CloudBuild otherBuild = buildBuild(OTHER_PACKAGE_GUID);
+        when(client.getBuildsForPackages(anyList())).thenReturn(List.of(build, otherBuild));
+
+        statusPoller.getBuild(client, USER_GUID, PACKAGE_GUID, build.getGuid());
+        statusPoller.getBuild(client, USER_GUID, OTHER_PACKAGE_GUID, otherBuild.getGuid());
+
+        assertEquals(build, statusPoller.getBuild(client, USER_GUID, PACKAGE_GUID, build.getGuid()));
+        assertEquals(otherBuild, statusPoller.getBuild(client, USER_GUID, OTHER_PACKAGE_GUID, otherBuild.getGuid()));
+        verify(client, times(2)).getBuildsForPackages(anyList());
+    }
+
+    @Test
+    void testBuildMissingFromListIsFetchedDirectly() {
+        CloudBuild build = buildBuild(PACKAGE_GUID);
+        when(client.getBuildsForPackages(anyList())).thenReturn(List.of());
+        when(client.getBuild(build.getGuid())).thenReturn(build);
+
+        assertEquals(build, statusPoller.getBuild(client, USER_GUID, PACKAGE_GUID, build.getGuid()));
+    }
+
+    private static CloudServiceInstance buildServiceInstance(String name) {
+        return ImmutableCloudServiceInstance.builder()
+                                            .metadata(ImmutableCloudMetadata.of(UUID.randomUUID()))
+                                            .name(name)
+                                            .lastOperation(new ServiceOperation(ServiceOperation.Type.CREATE, "",
+                                                                                ServiceOperation.State.IN_PROGRESS))
+                                            .build();
+    }
+
+    private static CloudBuild buildBuild(UUID packageGuid) {
+        return ImmutableCloudBuild.builder()
+                                  .metadata(ImmutableCloudMetadata.of(UUID.randomUUID()))
+                                  .state(CloudBuild.State.STAGING)
+                                  .packageInfo(ImmutableCloudBuild.ImmutablePackageInfo.of(packageGuid))
+                                  .build();
+    }
+
+}
@@ -0,0 +1,31 @@
+package org.cloudfoundry.multiapps.controller.process.util;
+
+import java.util.Arrays;
+
+import org.cloudfoundry.multiapps.controller.persistence.services.SeekableFileContent;
+
+public class ByteArraySeekableFileContent implements SeekableFileContent {
+
+    private final byte[] content;
+    private int readsCount;
+
+    public ByteArraySeekableFileContent(byte[] content) {
+        this.content = content;
+    }
+
+    @Override
+    public long getSize() {
+        return content.length;
+    }
+
+    @Override
+    public byte[] read(long startOffset, long endOffset) {
+        readsCount++;
+        return Arrays.copyOfRange(content, (int) startOffset, (int) Math.min(endOffset + 1, content.length));
+    }
+
+    public int getReadsCount() {
+        return readsCount;
+    }
+
+}
@@ -9,7 +9,7 @@ import org.cloudfoundry.multiapps.common.ParsingException;
 import org.cloudfoundry.multiapps.common.SLException;
 import org.cloudfoundry.multiapps.controller.api.model.ImmutableOperation;
 import org.cloudfoundry.multiapps.controller.api.model.Operation;
-import org.cloudfoundry.multiapps.controller.core.cloudlogging.CloudLoggingServiceClient;
+import org.cloudfoundry.multiapps.controller.core.cloudlogging.OperationLogsExporter;
 import org.cloudfoundry.multiapps.controller.core.test.MockBuilder;
 import org.cloudfoundry.multiapps.controller.persistence.model.HistoricOperationEvent;
 import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableProgressMessage;
@@ -63,7 +63,7 @@ class OperationInErrorStateHandlerTest {
     @Mock
     private OperationQueryImpl operationQuery;
     @Mock
-    private CloudLoggingServiceClient cloudLoggingServiceHttpClient;
+    private OperationLogsExporter operationLogsExporter;
 
     private final Date now = DateTime.now()
                                      .toDate();
@@ -176,8 +176,8 @@ class OperationInErrorStateHandlerTest {
                                          .timestamp(now)
                                          .build());
         assertErrorStateSet();
-        Mockito.verify(cloudLoggingServiceHttpClient)
-               .removeClientFromCache("foo");
+        Mockito.verify(operationLogsExporter)
+               .drain("foo");
     }
 
     private void getExecutionEntityMock(boolean shouldUseExecutionEntity, ExecutionQuery executionQueryMock) {
@@ -227,7 +227,7 @@ class OperationInErrorStateHandlerTest {
                                                     historicOperationEventServiceMock,
                                                     clientReleaserMock,
                                                     operationService,
-                                                    cloudLoggingServiceHttpClient).withProcessEngineConfiguration(
+                                                    operationLogsExporter).withProcessEngineConfiguration(
             processEngineConfigurationMock);
     }
 
@@ -238,9 +238,9 @@ class OperationInErrorStateHandlerTest {
         public OperationInErrorStateHandlerMock(ProgressMessageService progressMessageService, FlowableFacade flowableFacade,
                                                 HistoricOperationEventService historicOperationEventService,
                                                 ClientReleaser clientReleaser, OperationService operationService,
-                                                CloudLoggingServiceClient cloudLoggingServiceHttpClient) {
+                                                OperationLogsExporter operationLogsExporter) {
             super(progressMessageService, flowableFacade, historicOperationEventService, clientReleaser, operationService,
-                  cloudLoggingServiceHttpClient);
+                  operationLogsExporter);
         }
 
         public OperationInErrorStateHandlerMock withProcessEngineConfiguration(ProcessEngineConfiguration processEngineConfiguration) {
@@ -14,7 +14,7 @@ import org.cloudfoundry.multiapps.controller.client.facade.CloudControllerClient
 import org.cloudfoundry.multiapps.controller.core.auditlogging.CloudLoggingServiceConfigurationAuditLog;
 import org.cloudfoundry.multiapps.controller.core.cf.CloudControllerClientProvider;
 import org.cloudfoundry.multiapps.controller.core.cf.metadata.MtaMetadataAnnotations;
-import org.cloudfoundry.multiapps.controller.core.cloudlogging.CloudLoggingServiceClient;
+import org.cloudfoundry.multiapps.controller.core.cloudlogging.OperationLogsExporter;
 import org.cloudfoundry.multiapps.controller.core.model.DeployedMta;
 import org.cloudfoundry.multiapps.controller.core.model.DeployedMtaApplication;
 import org.cloudfoundry.multiapps.controller.core.model.ImmutableDeployedMta;
@@ -108,7 +108,7 @@ class OperationInFinalStateHandlerTest {
     @Mock
     private CloudControllerClient cloudControllerClient;
     @Mock
-    private CloudLoggingServiceClient cloudLoggingServiceClient;
+    private OperationLogsExporter operationLogsExporter;
     @Mock
     private HistoricOperationEventService historicOperationEventService;
     @Mock
@@ -278,14 +278,14 @@ class OperationInFinalStateHandlerTest {
     }
 
     @Test
-    void testRemovesClientFromCacheAfterHandle() {
+    void testDrainsOperationLogsAfterHandle() {
         prepareContext(null, null, true);
         prepareOperationTimeAggregator();
         prepareOperationService();
 
         eventHandler.handle(execution, PROCESS_TYPE, OPERATION_STATE);
 
-        verify(cloudLoggingServiceClient).removeClientFromCache(PROCESS_ID);
+        verify(operationLogsExporter).drain(PROCESS_ID);
     }
 
     @Test
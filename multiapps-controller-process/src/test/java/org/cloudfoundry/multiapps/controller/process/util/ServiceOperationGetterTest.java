@@ -10,6 +10,7 @@ import org.cloudfoundry.multiapps.controller.client.facade.domain.ImmutableCloud
 import org.cloudfoundry.multiapps.controller.client.facade.domain.ImmutableCloudMetadata;
 import org.cloudfoundry.multiapps.controller.client.facade.domain.ServiceOperation;
 import org.cloudfoundry.multiapps.controller.client.lib.domain.CloudServiceInstanceExtended;
+import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
 import org.cloudfoundry.multiapps.controller.process.steps.ProcessContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -33,6 +34,8 @@ class ServiceOperationGetterTest {
     private CloudServiceInstanceExtended service;
     @Mock
     private CloudControllerClient client;
+    @Mock
+    private ApplicationConfiguration applicationConfiguration;
 
     private ServiceOperationGetter serviceOperationGetter;
 
@@ -40,7 +43,7 @@ class ServiceOperationGetterTest {
     void setUp() throws Exception {
         MockitoAnnotations.openMocks(this)
                           .close();
-        serviceOperationGetter = new ServiceOperationGetter();
+        serviceOperationGetter = new ServiceOperationGetter(new BatchedStatusPoller(applicationConfiguration));
     }
 
     static Stream<Arguments> testGetLastServiceOperation() {
@@ -66,7 +69,7 @@ class ServiceOperationGetterTest {
         when(client.getServiceInstance(SERVICE_NAME, false)).thenReturn(service);
         when(context.getControllerClient()).thenReturn(client);
 
-        ServiceOperation serviceOperation = serviceOperationGetter.getLastServiceOperation(context.getControllerClient(), service);
+        ServiceOperation serviceOperation = serviceOperationGetter.getLastServiceOperation(context, service);
 
         assertServiceOperation(expectedServiceOperation, serviceOperation);
     }
@@ -99,7 +102,7 @@ class ServiceOperationGetterTest {
         prepareEvents(containsDeleteEvent);
         when(context.getControllerClient()).thenReturn(client);
 
-        ServiceOperation serviceOperation = serviceOperationGetter.getLastServiceOperation(context.getControllerClient(), service);
+        ServiceOperation serviceOperation = serviceOperationGetter.getLastServiceOperation(context, service);
 
         assertEquals(expectedOperation, serviceOperation);
     }
@@ -0,0 +1,73 @@
+package org.cloudfoundry.multiapps.controller.process.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.zip.ZipException;
+
+import org.cloudfoundry.multiapps.controller.persistence.services.FileContentProcessor;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileService;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileStorageException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+class ZipCentralDirectoryReaderTest {
+
+    @Mock
+    private FileService fileService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this)
+                          .close();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "com.sap.mta.sample-1.2.1-beta.mtar", "com.sap.mta.sample-1.2.1-beta-flat.mtar", "stored-mta.mtar",
+        "deflated-mta.mtar" })
+    void testReadArchiveEntriesMatchesSequentialScan(String mtar) throws Exception {
+        ByteArraySeekableFileContent archiveContent = new ByteArraySeekableFileContent(readResource(mtar));
+
+        List<ArchiveEntryWithStreamPositions> archiveEntries = new ZipCentralDirectoryReader(archiveContent).readArchiveEntries();
+
+        assertEquals(determineArchiveEntriesSequentially(mtar), archiveEntries);
+        assertTrue(archiveContent.getReadsCount() <= 2);
+    }
+
+    @Test
+    void testReadArchiveEntriesOfInvalidArchive() {
+        ByteArraySeekableFileContent archiveContent = new ByteArraySeekableFileContent(new byte[64]);
+
+        assertThrows(ZipException.class, () -> new ZipCentralDirectoryReader(archiveContent).readArchiveEntries());
+    }
+
+    private List<ArchiveEntryWithStreamPositions> determineArchiveEntriesSequentially(String mtar) throws FileStorageException {
+        when(fileService.processSeekableFileContent(any(), any(), any())).thenThrow(new FileStorageException("Not seekable"));
+        doAnswer(invocation -> {
+            try (InputStream inputStream = getClass().getResourceAsStream(mtar)) {
+                FileContentProcessor<?> fileContentProcessor = invocation.getArgument(2);
+                return fileContentProcessor.process(inputStream);
+            }
+        }).when(fileService)
+          .processFileContent(any(), any(), any());
+        return new ArchiveEntryStreamWithStreamPositionsDeterminer(fileService).determineArchiveEntries("123", "123");
+    }
+
+    private byte[] readResource(String name) throws IOException {
+        try (InputStream inputStream = getClass().getResourceAsStream(name)) {
+            return inputStream.readAllBytes();
+        }
+    }
+
+}
@@ -0,0 +1,134 @@
+package org.cloudfoundry.multiapps.controller.process.variables;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.cloudfoundry.multiapps.common.SLException;
+import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
+import org.cloudfoundry.multiapps.controller.persistence.model.FileEntry;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileContentProcessor;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileService;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileStorageException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+class ExternalizedVariableStoreTest {
+
+    private static final int THRESHOLD = 64;
+    private static final String OPERATION_ID = "operation-id";
+    private static final String VARIABLE_NAME = "largeString";
+    private static final byte[] CONTENT = "x".repeat(THRESHOLD)
+                                             .getBytes(StandardCharsets.UTF_8);
+
+    private final Map<String, byte[]> files = new HashMap<>();
+
+    @Mock
+    private FileService fileService;
+    @Mock
+    private ApplicationConfiguration applicationConfiguration;
+
+    private ExternalizedVariableStore store;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this)
+                          .close();
+        when(applicationConfiguration.getProcessVariablesExternalizationThresholdInBytes()).thenReturn(THRESHOLD);
+        when(fileService.getFile(eq(ExternalizedVariableStore.SPACE), anyString())).thenAnswer(invocation -> files.containsKey(
+            invocation.<String> getArgument(1)) ? mock(FileEntry.class) : null);
+        when(fileService.addFileWithId(any(), any())).thenAnswer(invocation -> {
+            FileEntry fileEntry = invocation.getArgument(0);
+            files.put(fileEntry.getId(), invocation.<InputStream> getArgument(1)
+                                                   .readAllBytes());
+            return fileEntry;
+        });
+        when(fileService.processFileContent(eq(ExternalizedVariableStore.SPACE), anyString(), any())).thenAnswer(invocation -> {
+            FileContentProcessor<?> processor = invocation.getArgument(2);
+            return processor.process(new ByteArrayInputStream(files.get(invocation.<String> getArgument(1))));
+        });
+        store = new ExternalizedVariableStore(fileService, applicationConfiguration);
+    }
+
+    @Test
+    void testShouldExternalize() {
+        assertTrue(store.shouldExternalize(CONTENT));
+        assertFalse(store.shouldExternalize(new byte[THRESHOLD - 1]));
+    }
+
+    @Test
+    void testStoredContentIsLoaded() {
+        String fileId = store.store(OPERATION_ID, VARIABLE_NAME, CONTENT);
+
+        assertArrayEquals(CONTENT, store.load(fileId));
+    }
+
+    @Test
+    void testFileBelongsToOperation() throws FileStorageException {
+        store.store(OPERATION_ID, VARIABLE_NAME, CONTENT);
+
+        ArgumentCaptor<FileEntry> fileEntryCaptor = ArgumentCaptor.forClass(FileEntry.class);
+        verify(fileService).addFileWithId(fileEntryCaptor.capture(), any());
+        FileEntry fileEntry = fileEntryCaptor.getValue();
+        assertEquals(ExternalizedVariableStore.SPACE, fileEntry.getSpace());
+        assertEquals(OPERATION_ID, fileEntry.getNamespace());
+        assertEquals(OPERATION_ID, fileEntry.getOperationId());
+        assertEquals(VARIABLE_NAME, fileEntry.getName());
+    }
+
+    @Test
+    void testSameContentIsStoredOnce() throws FileStorageException {
+        String fileId = store.store(OPERATION_ID, VARIABLE_NAME, CONTENT);
+
+        assertEquals(fileId, store.store(OPERATION_ID, VARIABLE_NAME, CONTENT));
+        verify(fileService, times(1)).addFileWithId(any(), any());
+    }
+
+    @Test
+    void testSameContentOfDifferentOperationsIsStoredSeparately() {
+        assertNotEquals(store.store(OPERATION_ID, VARIABLE_NAME, CONTENT), store.store("another-operation-id", VARIABLE_NAME, CONTENT));
+    }
+
+    @Test
+    void testStoredContentIsCompressed() {
+        String fileId = store.store(OPERATION_ID, VARIABLE_NAME, CONTENT);
+
+        byte[] storedContent = files.get(fileId);
+        assertArrayEquals(new byte[] { (byte) 0x1f, (byte) 0x8b }, new byte[] { storedContent[0], storedContent[1] });
+    }
+
+    @Test
+    void testLoadingMissingFileFails() throws FileStorageException {
+        when(fileService.processFileContent(eq(ExternalizedVariableStore.SPACE), anyString(), any())).thenThrow(
+            new FileStorageException("missing"));
+
+        assertThrows(SLException.class, () -> store.load("file-id"));
+    }
+
+    @Test
+    void testDeleteOperationVariables() throws FileStorageException {
+        when(fileService.deleteBySpaceAndNamespace(ExternalizedVariableStore.SPACE, OPERATION_ID)).thenReturn(2);
+
+        assertEquals(2, store.deleteOperationVariables(OPERATION_ID));
+    }
+
+}
@@ -0,0 +1,183 @@
+package org.cloudfoundry.multiapps.controller.process.variables;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.cloudfoundry.multiapps.common.util.JsonUtil;
+import org.cloudfoundry.multiapps.controller.process.util.MockDelegateExecution;
+import org.flowable.engine.delegate.DelegateExecution;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.variable.api.types.ValueFields;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+class ExternalizedVariableTypeTest {
+
+    private static final String OPERATION_ID = "operation-id";
+    private static final String VARIABLE_NAME = "largeString";
+    private static final String FILE_ID = "file-id";
+    private static final String VALUE = "value";
+
+    private static final Variable<String> EXTERNALIZABLE_STRING_VARIABLE = ImmutableJsonStringVariable.<String> builder()
+                                                                                                      .name(VARIABLE_NAME)
+                                                                                                      .type(Variable.typeReference(
+                                                                                                          String.class))
+                                                                                                      .isExternalizable(true)
+                                                                                                      .build();
+    private static final Variable<String> STRING_VARIABLE = ImmutableJsonStringVariable.<String> builder()
+                                                                                       .name("string")
+                                                                                       .type(Variable.typeReference(String.class))
+                                                                                       .build();
+
+    @Mock
+    private ExternalizedVariableStore store;
+    @Mock
+    private ValueFields valueFields;
+
+    private ExternalizedVariableType type;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this)
+                          .close();
+        when(valueFields.getName()).thenReturn(VARIABLE_NAME);
+        type = new ExternalizedVariableType(store);
+    }
+
+    @Test
+    void testIsAbleToStoreOnlyExternalizableValues() {
+        assertTrue(type.isAbleToStore(new ExternalizableValue(VALUE, OPERATION_ID)));
+        assertFalse(type.isAbleToStore(VALUE));
+    }
+
+    @Test
+    void testSmallValueIsStoredInline() {
+        when(store.shouldExternalize(any())).thenReturn(false);
+
+        type.setValue(new ExternalizableValue(VALUE, OPERATION_ID), valueFields);
+
+        verify(valueFields).setTextValue("STRING");
+        verify(valueFields).setTextValue2(null);
+        verify(valueFields).setBytes(VALUE.getBytes(StandardCharsets.UTF_8));
+        verify(valueFields).setCachedValue(VALUE);
+        verify(store, never()).store(anyString(), anyString(), any());
+    }
+
+    @Test
+    void testLargeValueIsExternalized() {
+        when(store.shouldExternalize(any())).thenReturn(true);
+        when(store.store(eq(OPERATION_ID), eq(VARIABLE_NAME), any())).thenReturn(FILE_ID);
+
+        type.setValue(new ExternalizableValue(VALUE, OPERATION_ID), valueFields);
+
+        verify(store).store(OPERATION_ID, VARIABLE_NAME, VALUE.getBytes(StandardCharsets.UTF_8));
+        verify(valueFields).setTextValue("STRING");
+        verify(valueFields).setTextValue2(FILE_ID);
+        verify(valueFields).setBytes(null);
+        verify(valueFields).setCachedValue(VALUE);
+    }
+
+    @Test
+    void testInlineValueIsRead() {
+        when(valueFields.getTextValue()).thenReturn("BINARY");
+        when(valueFields.getBytes()).thenReturn(VALUE.getBytes(StandardCharsets.UTF_8));
+
+        assertArrayEquals(VALUE.getBytes(StandardCharsets.UTF_8), (byte[]) type.getValue(valueFields));
+        verify(store, never()).load(anyString());
+    }
+
+    @Test
+    void testExternalizedValueIsRead() {
+        List<String> value = List.of(VALUE, "another-value");
+        when(valueFields.getTextValue()).thenReturn("LIST");
+        when(valueFields.getTextValue2()).thenReturn(FILE_ID);
+        when(store.load(FILE_ID)).thenReturn(JsonUtil.toJsonBinary(value));
+
+        assertEquals(value, type.getValue(valueFields));
+    }
+
+    @Test
+    void testCopyOfLoadedValueRefersToTheSameFile() {
+        List<String> value = List.of(VALUE, "another-value");
+        when(valueFields.getTextValue()).thenReturn("LIST");
+        when(valueFields.getTextValue2()).thenReturn(FILE_ID);
+        when(store.load(FILE_ID)).thenReturn(JsonUtil.toJsonBinary(value));
+        Object loadedValue = type.getValue(valueFields);
+        ValueFields copyValueFields = mock(ValueFields.class);
+
+        assertTrue(type.isAbleToStore(loadedValue));
+        assertFalse(type.isAbleToStore(List.copyOf(value)));
+        type.setValue(loadedValue, copyValueFields);
+
+        verify(copyValueFields).setTextValue("LIST");
+        verify(copyValueFields).setTextValue2(FILE_ID);
+        verify(copyValueFields).setBytes(null);
+        verify(copyValueFields).setCachedValue(loadedValue);
+        verify(store, never()).store(anyString(), anyString(), any());
+    }
+
+    @Test
+    void testCopyOfExternalizedValueRefersToTheSameFile() {
+        String value = new String(VALUE.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+        when(store.shouldExternalize(any())).thenReturn(true);
+        when(store.store(eq(OPERATION_ID), eq(VARIABLE_NAME), any())).thenReturn(FILE_ID);
+        type.setValue(new ExternalizableValue(value, OPERATION_ID), valueFields);
+        ValueFields copyValueFields = mock(ValueFields.class);
+
+        assertTrue(type.isAbleToStore(value));
+        type.setValue(value, copyValueFields);
+
+        verify(copyValueFields).setTextValue2(FILE_ID);
+        verify(copyValueFields).setBytes(null);
+        verify(store).store(anyString(), anyString(), any());
+    }
+
+    @Test
+    void testValueOfExternalizableVariableOfExecutionIsWrapped() {
+        ExecutionEntity execution = mock(ExecutionEntity.class);
+        when(execution.getRootProcessInstanceId()).thenReturn(OPERATION_ID);
+
+        VariableHandling.set(execution, EXTERNALIZABLE_STRING_VARIABLE, VALUE);
+
+        ArgumentCaptor<Object> valueCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(execution).setVariable(eq(VARIABLE_NAME), valueCaptor.capture());
+        ExternalizableValue externalizableValue = assertInstanceOf(ExternalizableValue.class, valueCaptor.getValue());
+        assertEquals(OPERATION_ID, externalizableValue.operationId());
+        assertEquals(JsonUtil.toJson(VALUE), externalizableValue.serializedValue());
+    }
+
+    @Test
+    void testValueOfNotExternalizableVariableIsNotWrapped() {
+        ExecutionEntity execution = mock(ExecutionEntity.class);
+
+        VariableHandling.set(execution, STRING_VARIABLE, VALUE);
+
+        verify(execution).setVariable(STRING_VARIABLE.getName(), JsonUtil.toJson(VALUE));
+    }
+
+    @Test
+    void testValueInOtherContainersIsNotWrapped() {
+        DelegateExecution execution = MockDelegateExecution.createSpyInstance();
+
+        VariableHandling.set(execution, EXTERNALIZABLE_STRING_VARIABLE, VALUE);
+
+        assertEquals(VALUE, VariableHandling.get(execution, EXTERNALIZABLE_STRING_VARIABLE));
+    }
+
+}
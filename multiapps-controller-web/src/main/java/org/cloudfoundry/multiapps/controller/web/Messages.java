@@ -55,6 +55,8 @@ public final class Messages {
     public static final String FETCHING_FILE_FAILED = "Fetching file {0} in space {1} failed with: {2}";
     public static final String ASYNC_UPLOAD_JOB_FAILED = "Async upload job {0} for file \"{1}\" failed with: {2}";
     public static final String ASYNC_UPLOAD_JOB_ERROR = "{0} Async upload job id: {1}";
+    public static final String OFFSET_0_MUST_NOT_BE_NEGATIVE = "Offset \"{0}\" must not be negative";
+    public static final String COULD_NOT_WRITE_CONTENT_OF_LOG_0 = "Could not write content of log \"{0}\"";
 
     // WARN log messages
 
@@ -62,6 +64,7 @@ public final class Messages {
     public static final String NO_OBJECT_STORE_PROVIDERS_DETECTED_FOR_SERVICE_0 = "No object store providers detected from credentials. Service name: {0}";
     public static final String FILE_UPLOAD_ATTEMPT_FAILED = "Upload attempt {0}/{1} failed. Retrying in {2} ms. Cause: {3}";
     public static final String FILE_UPLOAD_ALL_ATTEMPTS_EXHAUSTED = "All {0} upload attempts exhausted. Last error: {1}";
+    public static final String COULD_NOT_CREATE_FILE_CONTENT_CACHE_IN_DIRECTORY_0 = "Could not create file content cache in directory \"{0}\". Files will be read from the object store every time.";
 
     // INFO log messages
     public static final String ALM_SERVICE_ENV_INITIALIZED = "Deploy service environment initialized";
@@ -70,6 +73,7 @@ public final class Messages {
     public static final String FILE_SERVICE_DELETED_FILES = "FileService: Deleted {0} files without content.";
     public static final String DATABASE_FOR_BINARIES_STORAGE = "Database will be used for binaries storage";
     public static final String OBJECTSTORE_FOR_BINARIES_STORAGE = "Objectstore will be used for binaries storage";
+    public static final String FILE_CONTENT_CACHE_IN_DIRECTORY_0_WITH_MAX_SIZE_1 = "File content cache in directory \"{0}\" with max size {1} bytes will be used";
     public static final String CLEARING_LOCK_OWNER = "Clearing lock owner {0}...";
     public static final String CLEARED_LOCK_OWNER = "Cleared lock owner {0}";
     public static final String OBJECT_STORE_PROVIDERS_DETECTED_0 = "Object store providers detected: {0}";
@@ -1,8 +1,13 @@
 package org.cloudfoundry.multiapps.controller.web.api.impl;
 
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import jakarta.inject.Inject;
@@ -22,6 +27,7 @@ import org.cloudfoundry.multiapps.controller.core.auditlogging.MtasApiServiceAud
 import org.cloudfoundry.multiapps.controller.core.cf.CloudControllerClientProvider;
 import org.cloudfoundry.multiapps.controller.core.cf.detect.DeployedMtaDetector;
 import org.cloudfoundry.multiapps.controller.core.cf.metadata.MtaMetadata;
+import org.cloudfoundry.multiapps.controller.core.model.CachedMap;
 import org.cloudfoundry.multiapps.controller.core.model.DeployedMta;
 import org.cloudfoundry.multiapps.controller.core.model.DeployedMtaApplication;
 import org.cloudfoundry.multiapps.controller.core.model.DeployedMtaService;
@@ -29,11 +35,18 @@ import org.cloudfoundry.multiapps.controller.core.util.UserInfo;
 import org.cloudfoundry.multiapps.controller.web.Messages;
 import org.cloudfoundry.multiapps.controller.web.util.SecurityContextUtil;
 import org.cloudfoundry.multiapps.mta.model.Version;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.ResponseEntity;
 
 @Named
-public class MtasApiServiceImpl implements MtasApiService {
+public class MtasApiServiceImpl implements MtasApiService, DisposableBean {
+
+    /**
+     * The routes of a space are cached for a short time, so that tools which poll the MTAs API do not trigger a Cloud Controller
+     * request for each poll.
+     */
+    private static final Duration APPLICATION_ROUTES_EXPIRATION_TIME = Duration.ofSeconds(30);
 
     @Inject
     private CloudControllerClientProvider clientProvider;
@@ -44,12 +57,15 @@ public class MtasApiServiceImpl implements MtasApiService {
     @Inject
     private MtasApiServiceAuditLog mtasApiServiceAuditLog;
 
+    private final CachedMap<String, Map<UUID, List<CloudRoute>>> applicationRoutesBySpace = new CachedMap<>(
+        APPLICATION_ROUTES_EXPIRATION_TIME, 1, TimeUnit.MINUTES);
+
     @Override
     public ResponseEntity<List<Mta>> getMtas(String spaceGuid) {
         mtasApiServiceAuditLog.logGetMtas(SecurityContextUtil.getUsername(), spaceGuid);
         CloudControllerClient client = getCloudFoundryClient(spaceGuid);
         List<DeployedMta> deployedMtas = deployedMtaDetector.detectDeployedMtasWithoutNamespace(client);
-        List<Mta> mtas = getMtas(deployedMtas, client);
+        List<Mta> mtas = getMtas(deployedMtas, getApplicationRoutes(spaceGuid, client));
         return ResponseEntity.ok()
                              .body(mtas);
     }
@@ -69,7 +85,7 @@ public class MtasApiServiceImpl implements MtasApiService {
         }
 
         return ResponseEntity.ok()
-                             .body(getMta(mtas.get(0), client));
+                             .body(getMta(mtas.get(0), getApplicationRoutes(spaceGuid, client)));
     }
 
     @Override
@@ -93,7 +109,7 @@ public class MtasApiServiceImpl implements MtasApiService {
             () -> new NotFoundException(Messages.SPECIFIC_MTA_NOT_FOUND, name, namespace));
 
         return ResponseEntity.ok()
-                             .body(Arrays.asList(getMta(deployedMta, client)));
+                             .body(Arrays.asList(getMta(deployedMta, getApplicationRoutes(spaceGuid, client))));
     }
 
     protected ResponseEntity<List<Mta>> getAllMtas(String spaceGuid) {
@@ -101,7 +117,7 @@ public class MtasApiServiceImpl implements MtasApiService {
         List<DeployedMta> deployedMtas = deployedMtaDetector.detectDeployedMtas(client);
 
         return ResponseEntity.ok()
-                             .body(getMtas(deployedMtas, client));
+                             .body(getMtas(deployedMtas, getApplicationRoutes(spaceGuid, client)));
     }
 
     protected ResponseEntity<List<Mta>> getMtasByNamespace(String spaceGuid, String namespace) {
@@ -113,7 +129,7 @@ public class MtasApiServiceImpl implements MtasApiService {
         }
 
         return ResponseEntity.ok()
-                             .body(getMtas(deployedMtas, client));
+                             .body(getMtas(deployedMtas, getApplicationRoutes(spaceGuid, client)));
     }
 
     protected ResponseEntity<List<Mta>> getMtasByName(String spaceGuid, String name) {
@@ -125,7 +141,7 @@ public class MtasApiServiceImpl implements MtasApiService {
         }
 
         return ResponseEntity.ok()
-                             .body(getMtas(deployedMtas, client));
+                             .body(getMtas(deployedMtas, getApplicationRoutes(spaceGuid, client)));
     }
 
     private CloudControllerClient getCloudFoundryClient(String spaceGuid) {
@@ -133,16 +149,22 @@ public class MtasApiServiceImpl implements MtasApiService {
         return clientProvider.getControllerClientWithNoCorrelation(userInfo.getId(), spaceGuid);
     }
 
-    private List<Mta> getMtas(List<DeployedMta> deployedMtas, CloudControllerClient client) {
+    private Map<UUID, List<CloudRoute>> getApplicationRoutes(String spaceGuid, CloudControllerClient client) {
+        String userGuid = SecurityContextUtil.getUserInfo()
+                                             .getId();
+        return applicationRoutesBySpace.computeIfAbsent(spaceGuid + "|" + userGuid, client::getApplicationRoutesInSpace);
+    }
+
+    private List<Mta> getMtas(List<DeployedMta> deployedMtas, Map<UUID, List<CloudRoute>> applicationRoutes) {
         return deployedMtas.stream()
-                           .map(mta -> getMta(mta, client))
+                           .map(mta -> getMta(mta, applicationRoutes))
                            .collect(Collectors.toList());
     }
 
-    private Mta getMta(DeployedMta mta, CloudControllerClient client) {
+    private Mta getMta(DeployedMta mta, Map<UUID, List<CloudRoute>> applicationRoutes) {
         return ImmutableMta.builder()
                            .metadata(getMetadata(mta.getMetadata()))
-                           .modules(getModules(mta.getApplications(), client))
+                           .modules(getModules(mta.getApplications(), applicationRoutes))
                            .services(mta.getServices()
                                         .stream()
                                         .map(DeployedMtaService::getName)
@@ -150,14 +172,14 @@ public class MtasApiServiceImpl implements MtasApiService {
                            .build();
     }
 
-    private List<Module> getModules(List<DeployedMtaApplication> deployedApplications, CloudControllerClient client) {
+    private List<Module> getModules(List<DeployedMtaApplication> deployedApplications, Map<UUID, List<CloudRoute>> applicationRoutes) {
         return deployedApplications.stream()
-                                   .map(app -> getModule(app, client))
+                                   .map(app -> getModule(app, applicationRoutes))
                                    .collect(Collectors.toList());
     }
 
-    private Module getModule(DeployedMtaApplication deployedMtaApplication, CloudControllerClient client) {
-        var appRoutes = client.getApplicationRoutes(deployedMtaApplication.getGuid());
+    private Module getModule(DeployedMtaApplication deployedMtaApplication, Map<UUID, List<CloudRoute>> applicationRoutes) {
+        var appRoutes = applicationRoutes.getOrDefault(deployedMtaApplication.getGuid(), Collections.emptyList());
         return ImmutableModule.builder()
                               .appName(deployedMtaApplication.getName())
                               .moduleName(deployedMtaApplication.getModuleName())
@@ -185,4 +207,9 @@ public class MtasApiServiceImpl implements MtasApiService {
         return version != null ? version.toString() : null;
     }
 
+    @Override
+    public void destroy() {
+        applicationRoutesBySpace.clear();
+    }
+
 }
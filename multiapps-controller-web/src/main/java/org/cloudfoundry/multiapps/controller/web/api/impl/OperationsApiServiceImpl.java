@@ -1,5 +1,7 @@
 package org.cloudfoundry.multiapps.controller.web.api.impl;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
@@ -18,9 +20,11 @@ import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import jakarta.persistence.NoResultException;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.apache.commons.collections4.ListUtils;
 import org.cloudfoundry.multiapps.common.ContentException;
 import org.cloudfoundry.multiapps.common.NotFoundException;
+import org.cloudfoundry.multiapps.common.SLException;
 import org.cloudfoundry.multiapps.controller.api.OperationsApiService;
 import org.cloudfoundry.multiapps.controller.api.model.ImmutableLog;
 import org.cloudfoundry.multiapps.controller.api.model.ImmutableMessage;
@@ -61,6 +65,7 @@ import org.flowable.engine.runtime.ProcessInstance;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.server.ResponseStatusException;
 
@@ -156,15 +161,20 @@ public class OperationsApiServiceImpl implements OperationsApiService {
     }
 
     @Override
-    public ResponseEntity<String> getOperationLogContent(String spaceGuid, String operationId, String logId) {
+    public void getOperationLogContent(String spaceGuid, String operationId, String logId, Long offset, HttpServletResponse response) {
+        if (offset != null && offset < 0) {
+            throw new ContentException(Messages.OFFSET_0_MUST_NOT_BE_NEGATIVE, offset);
+        }
         try {
             operationsApiServiceAuditLog.logGetOperationLogContent(SecurityContextUtil.getUsername(), spaceGuid, operationId, logId);
-            String content = logsService.getOperationLog(spaceGuid, operationId, logId);
-
-            return ResponseEntity.ok()
-                                 .body(content);
+            response.setStatus(HttpStatus.OK.value());
+            response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            logsService.streamOperationLog(spaceGuid, operationId, logId, offset == null ? 0 : offset, response.getOutputStream());
         } catch (FileStorageException e) {
             throw new ContentException(e, e.getMessage());
+        } catch (IOException e) {
+            throw new SLException(e, Messages.COULD_NOT_WRITE_CONTENT_OF_LOG_0, logId);
         }
     }
 
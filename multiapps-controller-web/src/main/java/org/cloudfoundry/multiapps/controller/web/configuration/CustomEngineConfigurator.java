@@ -1,5 +1,7 @@
 package org.cloudfoundry.multiapps.controller.web.configuration;
 
+import org.cloudfoundry.multiapps.controller.process.variables.ExternalizedVariableStore;
+import org.cloudfoundry.multiapps.controller.process.variables.ExternalizedVariableType;
 import org.flowable.common.engine.impl.AbstractEngineConfiguration;
 import org.flowable.common.engine.impl.EngineConfigurator;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
@@ -9,6 +11,12 @@ import org.flowable.variable.service.impl.types.LongStringType;
 
 public class CustomEngineConfigurator implements EngineConfigurator {
 
+    private final ExternalizedVariableStore externalizedVariableStore;
+
+    public CustomEngineConfigurator(ExternalizedVariableStore externalizedVariableStore) {
+        this.externalizedVariableStore = externalizedVariableStore;
+    }
+
     @Override
     public void beforeInit(AbstractEngineConfiguration engineConfiguration) {
 
@@ -23,6 +31,7 @@ public class CustomEngineConfigurator implements EngineConfigurator {
         // We are first removing the Flowable LongStringType, and then we add our custom
         variableTypes.removeType(longStringVariableType);
         variableTypes.addType(new CustomLongStringType(configuration.getMaxLengthString()), longStringVariableTypeIndex);
+        variableTypes.addType(new ExternalizedVariableType(externalizedVariableStore), 0);
     }
 
     @Override
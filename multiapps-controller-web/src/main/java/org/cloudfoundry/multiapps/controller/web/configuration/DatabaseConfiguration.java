@@ -1,5 +1,6 @@
 package org.cloudfoundry.multiapps.controller.web.configuration;
 
+import java.util.Map;
 import javax.sql.DataSource;
 
 import liquibase.integration.spring.SpringLiquibase;
@@ -10,6 +11,8 @@ import org.cloudfoundry.multiapps.controller.persistence.dialects.DefaultDataSou
 import org.cloudfoundry.multiapps.controller.persistence.util.DataSourceFactory;
 import org.cloudfoundry.multiapps.controller.persistence.util.EnvironmentServicesFinder;
 import org.cloudfoundry.multiapps.controller.web.configuration.bean.CloudDataSourceFactoryBean;
+import org.eclipse.persistence.config.BatchWriting;
+import org.eclipse.persistence.config.PersistenceUnitProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
@@ -24,6 +27,8 @@ public class DatabaseConfiguration {
     public static final String DATA_SOURCE_SERVICE_NAME = "deploy-service-database";
     private static final String LIQUIBASE_CHANGELOG = "classpath:/org/cloudfoundry/multiapps/controller/persistence/db/changelog/db-changelog.xml";
     private static final String ENTITY_MANAGER_DEFAULT_PERSISTENCE_UNIT_NAME = "Default";
+    private static final String BATCH_WRITING_SESSION_NAME = "DefaultBatchWriting";
+    private static final String BATCH_WRITING_SIZE = "100";
 
     @Bean
     public CloudDataSourceFactoryBean dataSource(DataSourceFactory dataSourceFactory, EnvironmentServicesFinder vcapServiceFinder,
@@ -56,6 +61,22 @@ public class DatabaseConfiguration {
                                                          ENTITY_MANAGER_DEFAULT_PERSISTENCE_UNIT_NAME);
     }
 
+    /**
+     * EclipseLink enables JDBC batch writing for a whole session, so it is configured in a separate session, which is used only for bulk
+     * inserts.
+     */
+    @Bean
+    public LocalContainerEntityManagerFactoryBean
+    batchWritingEntityManagerFactory(DataSource dataSource, EclipseLinkJpaVendorAdapter eclipseLinkJpaVendorAdapter) {
+        LocalContainerEntityManagerFactoryBean localContainerEntityManagerFactoryBean = getLocalContainerEntityManagerFactoryBean(
+            dataSource, eclipseLinkJpaVendorAdapter, ENTITY_MANAGER_DEFAULT_PERSISTENCE_UNIT_NAME);
+        Map<String, Object> jpaProperties = localContainerEntityManagerFactoryBean.getJpaPropertyMap();
+        jpaProperties.put(PersistenceUnitProperties.SESSION_NAME, BATCH_WRITING_SESSION_NAME);
+        jpaProperties.put(PersistenceUnitProperties.BATCH_WRITING, BatchWriting.JDBC);
+        jpaProperties.put(PersistenceUnitProperties.BATCH_WRITING_SIZE, BATCH_WRITING_SIZE);
+        return localContainerEntityManagerFactoryBean;
+    }
+
     protected LocalContainerEntityManagerFactoryBean
     getLocalContainerEntityManagerFactoryBean(DataSource dataSource, EclipseLinkJpaVendorAdapter eclipseLinkJpaVendorAdapter,
                                               String persistenceUnitName) {
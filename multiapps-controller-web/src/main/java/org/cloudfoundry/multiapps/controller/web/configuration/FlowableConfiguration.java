@@ -6,6 +6,7 @@ import java.util.function.Supplier;
 import javax.sql.DataSource;
 
 import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
+import org.cloudfoundry.multiapps.controller.process.variables.ExternalizedVariableStore;
 import org.flowable.common.engine.impl.AbstractEngineConfiguration;
 import org.flowable.common.engine.impl.async.DefaultAsyncTaskExecutor;
 import org.flowable.common.engine.impl.persistence.StrongUuidGenerator;
@@ -64,12 +65,13 @@ public class FlowableConfiguration {
     @DependsOn("liquibaseChangelog")
     public SpringProcessEngineConfiguration processEngineConfiguration(DataSource dataSource, PlatformTransactionManager transactionManager,
                                                                        AsyncExecutor jobExecutor,
-                                                                       @Lazy FailedJobCommandFactory abortFailedProcessCommandFactory) {
+                                                                       @Lazy FailedJobCommandFactory abortFailedProcessCommandFactory,
+                                                                       ExternalizedVariableStore externalizedVariableStore) {
         SpringProcessEngineConfiguration processEngineConfiguration = new SpringProcessEngineConfiguration();
         //We set custom engine configurator because when we update a value in the context, we see in your code that it has been updated
         //but the cache isn't. That's why with custom type we manually update the cache
         //Link to the Flowable Github issue: https://github.com/flowable/flowable-engine/issues/4130
-        processEngineConfiguration.addConfigurator(new CustomEngineConfigurator());
+        processEngineConfiguration.addConfigurator(new CustomEngineConfigurator(externalizedVariableStore));
         processEngineConfiguration.setDatabaseSchemaUpdate(DATABASE_SCHEMA_UPDATE);
         processEngineConfiguration.setDataSource(dataSource);
         processEngineConfiguration.setTransactionManager(transactionManager);
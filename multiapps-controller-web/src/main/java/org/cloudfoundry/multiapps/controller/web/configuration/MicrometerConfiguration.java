@@ -21,6 +21,8 @@ public class MicrometerConfiguration {
     private static final Logger LOGGER = LoggerFactory.getLogger(MicrometerConfiguration.class);
     public static final String DYNATRACE_SERVICE_NAME = "deploy-service-dynatrace";
     private static final String CLIENT_CONNECTIONS_METRICS_PREFIX = "reactor.netty.connection.provider.cloudfoundry-client.";
+    private static final String AUDIT_LOG_METRICS_PREFIX = "multiapps.audit.log.";
+    private static final String PROCESS_VARIABLES_METRICS_PREFIX = "multiapps.process.variables.";
 
     @Bean
     public JmxMeterRegistry jmxMeterRegistry(ApplicationConfiguration configuration, EnvironmentServicesFinder vcapServiceFinder) {
@@ -50,6 +52,8 @@ public class MicrometerConfiguration {
         JmxMeterRegistry registry = new JmxMeterRegistry(jmxConfig, Clock.SYSTEM);
         registry.config()
                 .meterFilter(MeterFilter.acceptNameStartsWith(CLIENT_CONNECTIONS_METRICS_PREFIX))
+                .meterFilter(MeterFilter.acceptNameStartsWith(AUDIT_LOG_METRICS_PREFIX))
+                .meterFilter(MeterFilter.acceptNameStartsWith(PROCESS_VARIABLES_METRICS_PREFIX))
                 .meterFilter(MeterFilter.deny());
         Metrics.globalRegistry.add(registry);
         return registry;
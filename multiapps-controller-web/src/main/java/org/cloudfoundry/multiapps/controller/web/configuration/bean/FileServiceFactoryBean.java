@@ -1,9 +1,14 @@
 package org.cloudfoundry.multiapps.controller.web.configuration.bean;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.MessageFormat;
+
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import org.cloudfoundry.multiapps.controller.persistence.DataSourceWithDialect;
 import org.cloudfoundry.multiapps.controller.persistence.services.DatabaseFileService;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileContentCache;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileService;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileStorage;
 import org.cloudfoundry.multiapps.controller.web.Messages;
@@ -17,6 +22,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 public class FileServiceFactoryBean implements FactoryBean<FileService>, InitializingBean {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(FileServiceFactoryBean.class);
+    private static final String FILE_CONTENT_CACHE_DIRECTORY = "file-content-cache";
 
     @Inject
     private DataSourceWithDialect dataSourceWithDialect;
@@ -29,13 +35,26 @@ public class FileServiceFactoryBean implements FactoryBean<FileService>, Initial
     public void afterPropertiesSet() {
         if (objectStoreFileStorage != null) {
             LOGGER.info(Messages.OBJECTSTORE_FOR_BINARIES_STORAGE);
-            this.fileService = new FileService(dataSourceWithDialect, objectStoreFileStorage);
+            this.fileService = new FileService(dataSourceWithDialect, objectStoreFileStorage, createFileContentCache());
         } else {
             LOGGER.info(Messages.DATABASE_FOR_BINARIES_STORAGE);
             this.fileService = new DatabaseFileService(dataSourceWithDialect);
         }
     }
 
+    private static FileContentCache createFileContentCache() {
+        Path directory = Path.of(System.getProperty("java.io.tmpdir"), FILE_CONTENT_CACHE_DIRECTORY);
+        try {
+            FileContentCache fileContentCache = FileContentCache.inDirectory(directory);
+            LOGGER.info(MessageFormat.format(Messages.FILE_CONTENT_CACHE_IN_DIRECTORY_0_WITH_MAX_SIZE_1, directory,
+                                             fileContentCache.getMaxSizeInBytes()));
+            return fileContentCache;
+        } catch (IOException e) {
+            LOGGER.warn(MessageFormat.format(Messages.COULD_NOT_CREATE_FILE_CONTENT_CACHE_IN_DIRECTORY_0, directory), e);
+            return null;
+        }
+    }
+
     @Override
     public FileService getObject() {
         return fileService;
@@ -1,7 +1,13 @@
 package org.cloudfoundry.multiapps.controller.web.interceptors;
 
+import java.io.IOException;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 import io.github.resilience4j.ratelimiter.RateLimiterConfig;
 import io.github.resilience4j.ratelimiter.internal.AtomicRateLimiter;
 import io.github.resilience4j.ratelimiter.internal.AtomicRateLimiter.AtomicRateLimiterMetrics;
@@ -11,12 +17,21 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.cloudfoundry.multiapps.controller.web.Constants;
 import org.cloudfoundry.multiapps.controller.web.util.RateLimiterProvider;
+import org.cloudfoundry.multiapps.controller.web.util.SecurityContextUtil;
+import org.cloudfoundry.multiapps.controller.web.util.ServletUtil;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 
+/**
+ * Limits the unauthenticated requests per client address. The authenticated requests to expensive endpoints, such as listing the MTAs of
+ * a space or downloading the logs of an operation, are limited per user and per space, so that a single tenant cannot exhaust the
+ * connections to the Cloud Controller for everyone else.
+ */
 @Named
 public class RateLimitingInterceptor implements CustomHandlerInterceptor {
 
+    private static final Pattern EXPENSIVE_REQUEST_URI_PATTERN = Pattern.compile("/api/v\\d+/spaces/([^/]+)/(mtas|operations/[^/]+/logs)(/.*)?");
+
     private final RateLimiterProvider rateLimiterProvider;
 
     @Inject
@@ -26,12 +41,32 @@ public class RateLimitingInterceptor implements CustomHandlerInterceptor {
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
-        if (!shouldRateLimit(request)) {
-            return true;
+        for (AtomicRateLimiter rateLimiter : getRateLimiters(request)) {
+            if (!tryAcquirePermission(rateLimiter, response)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private List<AtomicRateLimiter> getRateLimiters(HttpServletRequest request) {
+        if (!isAuthenticated(request)) {
+            return List.of(rateLimiterProvider.getRateLimiter(resolveClientIp(request)));
         }
-        String ipAddress = resolveClientIp(request);
-        AtomicRateLimiter rateLimiter = rateLimiterProvider.getRateLimiter(ipAddress);
+        String spaceGuid = extractSpaceGuidOfExpensiveRequest(request);
+        if (spaceGuid == null) {
+            return List.of();
+        }
+        List<AtomicRateLimiter> rateLimiters = new ArrayList<>();
+        String userGuid = SecurityContextUtil.getUserGuid();
+        if (userGuid != null) {
+            rateLimiters.add(rateLimiterProvider.getUserRateLimiter(userGuid));
+        }
+        rateLimiters.add(rateLimiterProvider.getSpaceRateLimiter(spaceGuid));
+        return rateLimiters;
+    }
 
+    private boolean tryAcquirePermission(AtomicRateLimiter rateLimiter, HttpServletResponse response) throws IOException {
         boolean hasAcquiredPermission = rateLimiter.acquirePermission();
         AtomicRateLimiterMetrics metrics = rateLimiter.getDetailedMetrics();
         RateLimiterConfig config = rateLimiter.getRateLimiterConfig();
@@ -47,8 +82,17 @@ public class RateLimitingInterceptor implements CustomHandlerInterceptor {
         return true;
     }
 
-    private static boolean shouldRateLimit(HttpServletRequest request) {
-        return request.getHeader(HttpHeaders.AUTHORIZATION) == null;
+    private static boolean isAuthenticated(HttpServletRequest request) {
+        return request.getHeader(HttpHeaders.AUTHORIZATION) != null;
+    }
+
+    private static String extractSpaceGuidOfExpensiveRequest(HttpServletRequest request) {
+        if (request.getRequestURI() == null) {
+            return null;
+        }
+        String uri = ServletUtil.removeInvalidForwardSlashes(ServletUtil.decodeUri(request));
+        Matcher matcher = EXPENSIVE_REQUEST_URI_PATTERN.matcher(uri);
+        return matcher.matches() ? matcher.group(1) : null;
     }
 
     private static String resolveClientIp(HttpServletRequest request) {
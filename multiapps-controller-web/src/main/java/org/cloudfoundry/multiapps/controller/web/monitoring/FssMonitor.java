@@ -1,58 +1,47 @@
 package org.cloudfoundry.multiapps.controller.web.monitoring;
 
-import java.io.File;
-import java.time.LocalDateTime;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileStore;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 
-import org.apache.commons.io.FileUtils;
-import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.cloudfoundry.multiapps.controller.core.util.TempFileTracker;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileService;
 
+/**
+ * Reports the disk space used in the container. The space used by the file system is read from its {@link FileStore}, so it is available
+ * without walking the directories, and the space used by the temporary files of the controller is accounted by the
+ * {@link TempFileTracker} when they are created and deleted. The files in the file content cache of the {@link FileService} are
+ * accounted as temporary files as well.
+ */
 @Named
 public class FssMonitor {
 
-    final Map<File, Long> usedSpaceMap = new ConcurrentHashMap<>(1);
-    final Map<File, LocalDateTime> updateTimesMap = new ConcurrentHashMap<>(1);
-    private static final Logger LOGGER = LoggerFactory.getLogger(FssMonitor.class);
-
-    private final Integer updateTimeoutMinutes;
+    private final FileService fileService;
 
     @Inject
-    public FssMonitor(ApplicationConfiguration appConfigurations) {
-        this.updateTimeoutMinutes = appConfigurations.getFssCacheUpdateTimeoutMinutes();
+    public FssMonitor(@Named("fileService") FileService fileService) {
+        this.fileService = fileService;
     }
 
     public long calculateUsedSpace(String path) {
-        File filePath = new File(path);
-        if (!updateTimesMap.containsKey(filePath)) {
-            return getUsedSpace(filePath);
-        }
-        if (isCacheValid(filePath)) {
-            return usedSpaceMap.get(filePath);
+        try {
+            FileStore fileStore = Files.getFileStore(Path.of(path));
+            return fileStore.getTotalSpace() - fileStore.getUnallocatedSpace();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
-        return getUsedSpace(filePath);
     }
 
-    private boolean isCacheValid(File filePath) {
-        LocalDateTime lastChecked = updateTimesMap.get(filePath);
-        LocalDateTime invalidateDeadline = LocalDateTime.now()
-                                                        .minusMinutes(updateTimeoutMinutes);
-        return invalidateDeadline.isBefore(lastChecked);
+    public long calculateUsedTempFilesSpace() {
+        return TempFileTracker.getUsedBytes() + fileService.getCachedContentSizeInBytes();
     }
 
-    private long getUsedSpace(File path) {
-        LOGGER.debug("Calculating space for path {}.", path);
-        updateTimesMap.put(path, LocalDateTime.now());
-        long startTime = System.currentTimeMillis();
-        long usedSpace = FileUtils.sizeOf(path);
-        long endTime = System.currentTimeMillis();
-        LOGGER.info("Calculated space for path {} : {} bytes in {} ms", path, usedSpace, endTime - startTime);
-        usedSpaceMap.put(path, usedSpace);
-        return usedSpace;
+    public int getTempFilesCount() {
+        return TempFileTracker.getTrackedFilesCount() + fileService.getCachedContentFilesCount();
     }
 }
@@ -43,6 +43,16 @@ public class Metrics implements MetricsMBean {
         return fssMonitor.calculateUsedSpace(parentDir);
     }
 
+    @Override
+    public long getUsedTempFilesSpace() {
+        return fssMonitor.calculateUsedTempFilesSpace();
+    }
+
+    @Override
+    public int getTempFilesCount() {
+        return fssMonitor.getTempFilesCount();
+    }
+
     @Override
     public int getRunningJobExecutorThreads() {
         return getFlowableThreadInformation().getRunningJobExecutorThreads();
@@ -4,6 +4,10 @@ public interface MetricsMBean {
 
     long getUsedContainerSpace();
 
+    long getUsedTempFilesSpace();
+
+    int getTempFilesCount();
+
     int getRunningJobExecutorThreads();
 
     int getTotalJobExecutorThreads();
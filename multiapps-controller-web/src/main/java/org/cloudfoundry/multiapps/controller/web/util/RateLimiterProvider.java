@@ -1,29 +1,123 @@
 package org.cloudfoundry.multiapps.controller.web.util;
 
 import java.time.Duration;
+import java.util.Comparator;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 import jakarta.inject.Named;
 
 import io.github.resilience4j.ratelimiter.RateLimiterConfig;
 import io.github.resilience4j.ratelimiter.internal.AtomicRateLimiter;
+import org.springframework.scheduling.annotation.Scheduled;
 
+/**
+ * Provides the rate limiters of the clients, users and spaces. The rate limiters are kept in bounded stores, so that requests from many
+ * different addresses do not grow the heap without limit. A rate limiter, which was not used for longer than its refresh period, has all
+ * of its permissions available again, so it is evicted and created anew when it is needed.
+ */
 @Named
 public class RateLimiterProvider {
 
-    private final Map<String, AtomicRateLimiter> rateLimiters = new ConcurrentHashMap<>();
+    private static final Duration LIMIT_REFRESH_PERIOD = Duration.ofHours(1);
+    private static final int LIMIT_FOR_PERIOD_PER_CLIENT = 5000;
+    private static final int LIMIT_FOR_PERIOD_PER_USER = 2000;
+    private static final int LIMIT_FOR_PERIOD_PER_SPACE = 5000;
+    private static final int MAX_RATE_LIMITERS_PER_STORE = 10000;
+
+    private final RateLimiterStore clientRateLimiters = new RateLimiterStore("MTA Rate Limiter", LIMIT_FOR_PERIOD_PER_CLIENT);
+    private final RateLimiterStore userRateLimiters = new RateLimiterStore("MTA User Rate Limiter", LIMIT_FOR_PERIOD_PER_USER);
+    private final RateLimiterStore spaceRateLimiters = new RateLimiterStore("MTA Space Rate Limiter", LIMIT_FOR_PERIOD_PER_SPACE);
 
     public AtomicRateLimiter getRateLimiter(String ipAddress) {
-        return rateLimiters.computeIfAbsent(ipAddress, k -> createRateLimiter());
+        return clientRateLimiters.get(ipAddress);
+    }
+
+    public AtomicRateLimiter getUserRateLimiter(String userGuid) {
+        return userRateLimiters.get(userGuid);
+    }
+
+    public AtomicRateLimiter getSpaceRateLimiter(String spaceGuid) {
+        return spaceRateLimiters.get(spaceGuid);
+    }
+
+    @Scheduled(fixedRate = 10, timeUnit = TimeUnit.MINUTES)
+    public void evictIdleRateLimiters() {
+        clientRateLimiters.evictIdle();
+        userRateLimiters.evictIdle();
+        spaceRateLimiters.evictIdle();
+    }
+
+    int getRateLimitersCount() {
+        return clientRateLimiters.size() + userRateLimiters.size() + spaceRateLimiters.size();
+    }
+
+    private static class RateLimiterStore {
+
+        private final Map<String, RateLimiterEntry> rateLimiters = new ConcurrentHashMap<>();
+        private final String name;
+        private final RateLimiterConfig config;
+
+        RateLimiterStore(String name, int limitForPeriod) {
+            this.name = name;
+            this.config = RateLimiterConfig.custom()
+                                           .limitForPeriod(limitForPeriod)
+                                           .limitRefreshPeriod(LIMIT_REFRESH_PERIOD)
+                                           .timeoutDuration(Duration.ZERO)
+                                           .build();
+        }
+
+        AtomicRateLimiter get(String key) {
+            RateLimiterEntry entry = rateLimiters.get(key);
+            if (entry == null) {
+                if (rateLimiters.size() >= MAX_RATE_LIMITERS_PER_STORE) {
+                    evictToMakeRoom();
+                }
+                entry = rateLimiters.computeIfAbsent(key, k -> new RateLimiterEntry(new AtomicRateLimiter(name, config)));
+            }
+            entry.lastAccessTime = System.nanoTime();
+            return entry.rateLimiter;
+        }
+
+        void evictIdle() {
+            long idleSince = System.nanoTime() - LIMIT_REFRESH_PERIOD.toNanos();
+            rateLimiters.values()
+                        .removeIf(entry -> entry.lastAccessTime - idleSince < 0);
+        }
+
+        private synchronized void evictToMakeRoom() {
+            if (rateLimiters.size() < MAX_RATE_LIMITERS_PER_STORE) {
+                return;
+            }
+            evictIdle();
+            int entriesToEvict = rateLimiters.size() - MAX_RATE_LIMITERS_PER_STORE * 9 / 10;
+            if (entriesToEvict <= 0) {
+                return;
+            }
+            // Evicts the least recently used rate limiters, so that a burst of new clients does not evict the active ones:
+            rateLimiters.entrySet()
+                        .stream()
+                        .sorted(Comparator.comparingLong(entry -> entry.getValue().lastAccessTime))
+                        .limit(entriesToEvict)
+                        .map(Map.Entry::getKey)
+                        .toList()
+                        .forEach(rateLimiters::remove);
+        }
+
+        int size() {
+            return rateLimiters.size();
+        }
     }
 
-    private AtomicRateLimiter createRateLimiter() {
-        RateLimiterConfig config = RateLimiterConfig.custom()
-                                                    .limitForPeriod(5000)
-                                                    .limitRefreshPeriod(Duration.ofHours(1))
-                                                    .timeoutDuration(Duration.ZERO)
-                                                    .build();
-        return new AtomicRateLimiter("MTA Rate Limiter", config);
+    private static class RateLimiterEntry {
+
+        private final AtomicRateLimiter rateLimiter;
+        private volatile long lastAccessTime = System.nanoTime();
+
+        RateLimiterEntry(AtomicRateLimiter rateLimiter) {
+            this.rateLimiter = rateLimiter;
+        }
     }
+
 }
@@ -16,7 +16,10 @@ import org.cloudfoundry.multiapps.controller.api.model.Metadata;
 import org.cloudfoundry.multiapps.controller.api.model.Module;
 import org.cloudfoundry.multiapps.controller.api.model.Mta;
 import org.cloudfoundry.multiapps.controller.client.facade.CloudControllerClient;
+import org.cloudfoundry.multiapps.controller.client.facade.domain.CloudRoute;
+import org.cloudfoundry.multiapps.controller.client.facade.domain.ImmutableCloudDomain;
 import org.cloudfoundry.multiapps.controller.client.facade.domain.ImmutableCloudMetadata;
+import org.cloudfoundry.multiapps.controller.client.facade.domain.ImmutableCloudRoute;
 import org.cloudfoundry.multiapps.controller.core.auditlogging.MtasApiServiceAuditLog;
 import org.cloudfoundry.multiapps.controller.core.cf.CloudControllerClientProvider;
 import org.cloudfoundry.multiapps.controller.core.cf.detect.DeployedMtaRequiredDataOnlyDetector;
@@ -176,6 +179,38 @@ class MtasApiServiceImplTest {
         Assertions.assertThrows(ConflictException.class, () -> testedClass.getMta(SPACE_GUID, "name_thats_not_unique"));
     }
 
+    @Test
+    void testApplicationRoutesAreFetchedOncePerSpace() {
+        DeployedMta deployedMta = getDeployedMta(mtas.get(0));
+        UUID applicationGuid = deployedMta.getApplications()
+                                          .get(0)
+                                          .getGuid();
+        CloudRoute route = ImmutableCloudRoute.builder()
+                                              .host("foo")
+                                              .domain(ImmutableCloudDomain.builder()
+                                                                          .name("example.com")
+                                                                          .build())
+                                              .url("foo.example.com")
+                                              .build();
+        Mockito.when(client.getApplicationRoutesInSpace())
+               .thenReturn(Map.of(applicationGuid, List.of(route)));
+        Mockito.when(deployedMtaDetector.detectDeployedMtas(Mockito.any()))
+               .thenReturn(List.of(deployedMta));
+
+        testedClass.getMtas(SPACE_GUID, null, null);
+        ResponseEntity<List<Mta>> response = testedClass.getMtas(SPACE_GUID, null, null);
+
+        assertEquals(List.of("foo.example.com"), response.getBody()
+                                                         .get(0)
+                                                         .getModules()
+                                                         .get(0)
+                                                         .getUris());
+        Mockito.verify(client)
+               .getApplicationRoutesInSpace();
+        Mockito.verify(client, Mockito.never())
+               .getApplicationRoutes(Mockito.any());
+    }
+
     private void mockClient() {
         UserInfo userInfo = new UserInfo("123-456-789", USER_NAME, null);
         OAuth2AuthenticationToken auth = Mockito.mock(OAuth2AuthenticationToken.class);
@@ -189,8 +224,8 @@ class MtasApiServiceImplTest {
         SecurityContextHolder.setContext(securityContextMock);
         Mockito.when(securityContextMock.getAuthentication())
                .thenReturn(auth);
-        Mockito.when(client.getApplicationRoutes(Mockito.any(UUID.class)))
-               .thenReturn(Collections.emptyList());
+        Mockito.when(client.getApplicationRoutesInSpace())
+               .thenReturn(Collections.emptyMap());
         Mockito.when(clientProvider.getControllerClientWithNoCorrelation(Mockito.anyString(), Mockito.anyString()))
                .thenReturn(client);
     }
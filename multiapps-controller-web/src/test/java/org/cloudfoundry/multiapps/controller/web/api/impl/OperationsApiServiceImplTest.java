@@ -10,7 +10,9 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 
 import jakarta.persistence.NoResultException;
+import jakarta.servlet.ServletOutputStream;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.cloudfoundry.multiapps.common.ContentException;
 import org.cloudfoundry.multiapps.common.NotFoundException;
 import org.cloudfoundry.multiapps.controller.api.model.ImmutableOperation;
@@ -50,6 +52,7 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.mockito.Spy;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
@@ -309,21 +312,48 @@ class OperationsApiServiceImplTest {
     void testGetOperationLogContent() throws Exception {
         String processId = FINISHED_PROCESS;
         String logName = "OPERATION.log";
-        String expectedLogContent = "somelogcontentstring\n1234";
-        Mockito.when(logsService.getOperationLog(Mockito.eq(SPACE_GUID), Mockito.eq(processId), Mockito.eq(logName)))
-               .thenReturn(expectedLogContent);
-        ResponseEntity<String> response = operationsApiService.getOperationLogContent(SPACE_GUID, processId, logName);
-        String logContent = response.getBody();
-        assertEquals(expectedLogContent, logContent);
+        HttpServletResponse response = Mockito.mock(HttpServletResponse.class);
+        ServletOutputStream outputStream = Mockito.mock(ServletOutputStream.class);
+        Mockito.when(response.getOutputStream())
+               .thenReturn(outputStream);
+        operationsApiService.getOperationLogContent(SPACE_GUID, processId, logName, null, response);
+        Mockito.verify(response)
+               .setContentType(MediaType.TEXT_PLAIN_VALUE);
+        Mockito.verify(logsService)
+               .streamOperationLog(SPACE_GUID, processId, logName, 0, outputStream);
+    }
+
+    @Test
+    void testGetOperationLogContentWithOffset() throws Exception {
+        String processId = FINISHED_PROCESS;
+        String logName = "OPERATION.log";
+        HttpServletResponse response = Mockito.mock(HttpServletResponse.class);
+        ServletOutputStream outputStream = Mockito.mock(ServletOutputStream.class);
+        Mockito.when(response.getOutputStream())
+               .thenReturn(outputStream);
+        operationsApiService.getOperationLogContent(SPACE_GUID, processId, logName, 1024L, response);
+        Mockito.verify(logsService)
+               .streamOperationLog(SPACE_GUID, processId, logName, 1024, outputStream);
+    }
+
+    @Test
+    void testGetOperationLogContentWithNegativeOffset() {
+        HttpServletResponse response = Mockito.mock(HttpServletResponse.class);
+        assertThrows(ContentException.class,
+                     () -> operationsApiService.getOperationLogContent(SPACE_GUID, FINISHED_PROCESS, "OPERATION.log", -1L, response));
+        Mockito.verifyNoInteractions(logsService);
     }
 
     @Test
     void testGetOperationLogContentNotFound() throws Exception {
         String processId = FINISHED_PROCESS;
         String logName = "OPERATION.log";
-        Mockito.when(logsService.getOperationLog(Mockito.eq(SPACE_GUID), Mockito.eq(processId), Mockito.eq(logName)))
+        HttpServletResponse response = Mockito.mock(HttpServletResponse.class);
+        Mockito.when(logsService.streamOperationLog(Mockito.eq(SPACE_GUID), Mockito.eq(processId), Mockito.eq(logName),
+                                                    Mockito.anyLong(), Mockito.any()))
                .thenThrow(new NoResultException("log file not found"));
-        Assertions.assertThrows(NoResultException.class, () -> operationsApiService.getOperationLogContent(SPACE_GUID, processId, logName));
+        Assertions.assertThrows(NoResultException.class,
+                                () -> operationsApiService.getOperationLogContent(SPACE_GUID, processId, logName, null, response));
     }
 
     @Test
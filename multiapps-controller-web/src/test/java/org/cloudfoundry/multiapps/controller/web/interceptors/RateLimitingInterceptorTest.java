@@ -21,6 +21,7 @@ class RateLimitingInterceptorTest {
     private static final String X_CF_TRUE_CLIENT_IP = "X-CF-True-Client-IP";
     private static final String CLIENT_IP = "203.0.113.42";
     private static final String REMOTE_ADDR = "10.0.0.1";
+    private static final String SPACE_GUID = "5b2a7ea3-4e8d-4c4d-8b0b-4a0b5d0c2f11";
 
     @Mock
     private HttpServletRequest request;
@@ -118,6 +119,36 @@ class RateLimitingInterceptorTest {
                .sendError(HttpStatus.TOO_MANY_REQUESTS.value(), HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase());
     }
 
+    @Test
+    void limitsAuthenticatedRequestToExpensiveEndpointPerSpace() throws Exception {
+        Mockito.when(request.getHeader(HttpHeaders.AUTHORIZATION))
+               .thenReturn("Bearer token");
+        Mockito.when(request.getRequestURI())
+               .thenReturn("/api/v1/spaces/" + SPACE_GUID + "/mtas");
+        AtomicRateLimiter rateLimiter = exhaustedRateLimiter();
+        Mockito.when(rateLimiterProvider.getSpaceRateLimiter(SPACE_GUID))
+               .thenReturn(rateLimiter);
+
+        assertFalse(interceptor.preHandle(request, response, new Object()));
+
+        Mockito.verify(rateLimiterProvider, Mockito.never())
+               .getRateLimiter(Mockito.any());
+        Mockito.verify(response)
+               .sendError(HttpStatus.TOO_MANY_REQUESTS.value(), HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase());
+    }
+
+    @Test
+    void skipsRateLimitingOfAuthenticatedRequestToOtherEndpoint() throws Exception {
+        Mockito.when(request.getHeader(HttpHeaders.AUTHORIZATION))
+               .thenReturn("Bearer token");
+        Mockito.when(request.getRequestURI())
+               .thenReturn("/api/v1/spaces/" + SPACE_GUID + "/operations/operation-id");
+
+        assertTrue(interceptor.preHandle(request, response, new Object()));
+
+        Mockito.verifyNoInteractions(rateLimiterProvider);
+    }
+
     private static AtomicRateLimiter newRateLimiter() {
         RateLimiterConfig config = RateLimiterConfig.custom()
                                                     .limitForPeriod(10)
@@ -1,68 +1,84 @@
 package org.cloudfoundry.multiapps.controller.web.monitoring;
 
-import java.io.File;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 import java.io.IOException;
+import java.nio.file.FileStore;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.time.LocalDateTime;
-import java.util.stream.Stream;
-
-import org.apache.commons.io.FileUtils;
-import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
-import org.junit.jupiter.api.AfterAll;
-import org.junit.jupiter.api.BeforeAll;
-import org.junit.jupiter.api.BeforeEach;
-import org.junit.jupiter.params.ParameterizedTest;
-import org.junit.jupiter.params.provider.Arguments;
-import org.junit.jupiter.params.provider.MethodSource;
-import org.mockito.MockitoAnnotations;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.cloudfoundry.multiapps.controller.core.util.FileUtils;
+import org.cloudfoundry.multiapps.controller.core.util.TempFileTracker;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileService;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 class FssMonitorTest {
 
-    private static Path tempDir;
+    private static final Logger LOGGER = LoggerFactory.getLogger(FssMonitorTest.class);
+    private static final byte[] CONTENT = new byte[1024];
 
-    private FssMonitor fssMonitor;
+    private final FileService fileService = Mockito.mock(FileService.class);
+    private final FssMonitor fssMonitor = new FssMonitor(fileService);
 
-    @BeforeAll
-    static void setUpBeforeAll() throws IOException {
-        tempDir = Files.createTempDirectory("testMonitor");
+    @Test
+    void testCalculateUsedSpace() throws IOException {
+        Path tempDir = Files.createTempDirectory("testMonitor");
+        try {
+            FileStore fileStore = Files.getFileStore(tempDir);
+            long usedSpace = fssMonitor.calculateUsedSpace(tempDir.toString());
+            assertTrue(usedSpace >= 0);
+            assertTrue(usedSpace <= fileStore.getTotalSpace());
+        } finally {
+            Files.delete(tempDir);
+        }
     }
 
-    @AfterAll
-    static void teardownAfterAll() throws IOException {
-        Files.delete(tempDir);
-    }
+    @Test
+    void testUsedTempFilesSpaceIsAccountedOnCreationAndDeletion() throws IOException {
+        long usedSpaceBefore = fssMonitor.calculateUsedTempFilesSpace();
+        int tempFilesCountBefore = fssMonitor.getTempFilesCount();
 
-    @BeforeEach
-    void setUpBefore() {
-        MockitoAnnotations.openMocks(this);
-        ApplicationConfiguration appConfigurations = new ApplicationConfiguration();
-        fssMonitor = new FssMonitor(appConfigurations);
-    }
+        Path tempFile = TempFileTracker.createTempFile("testMonitor", ".zip");
+        Files.write(tempFile, CONTENT);
+        TempFileTracker.updateSize(tempFile);
+        assertEquals(usedSpaceBefore + CONTENT.length, fssMonitor.calculateUsedTempFilesSpace());
+        assertEquals(tempFilesCountBefore + 1, fssMonitor.getTempFilesCount());
 
-    @ParameterizedTest
-    @MethodSource
-    void testGetUsedSpace(File path, LocalDateTime lastCheck, long cachedValue, long expectedResult) {
-        fssMonitor.updateTimesMap.put(path, lastCheck);
-        fssMonitor.usedSpaceMap.put(path, cachedValue);
-        long actualResult = fssMonitor.calculateUsedSpace(path.getAbsolutePath());
-        assertEquals(expectedResult, actualResult);
+        FileUtils.cleanUp(tempFile, LOGGER);
+        assertEquals(usedSpaceBefore, fssMonitor.calculateUsedTempFilesSpace());
+        assertEquals(tempFilesCountBefore, fssMonitor.getTempFilesCount());
     }
 
-    static Stream<Arguments> testGetUsedSpace() throws IOException {
-        return Stream.of(Arguments.of(tempDir.toFile(), LocalDateTime.now(), 10, 10), Arguments.of(tempDir.toFile(), LocalDateTime.now()
-                                                                                                                                  .minusMinutes(
-                                                                                                                                      10),
-                                                                                                   200, 200),
-                         Arguments.of(tempDir.toFile(), LocalDateTime.now()
-                                                                     .minusMinutes(50),
-                                      0, getSizeOfDir(tempDir)));
+    @Test
+    void testTempFileDeletedBeforeCleanUpIsNotAccounted() throws IOException {
+        long usedSpaceBefore = fssMonitor.calculateUsedTempFilesSpace();
+        int tempFilesCountBefore = fssMonitor.getTempFilesCount();
+
+        Path tempFile = TempFileTracker.createTempFile("testMonitor", ".zip");
+        Files.write(tempFile, CONTENT);
+        TempFileTracker.updateSize(tempFile);
+        Files.delete(tempFile);
+
+        FileUtils.cleanUp(tempFile, LOGGER);
+        assertEquals(usedSpaceBefore, fssMonitor.calculateUsedTempFilesSpace());
+        assertEquals(tempFilesCountBefore, fssMonitor.getTempFilesCount());
     }
 
-    private static long getSizeOfDir(Path filePath) {
-        return FileUtils.sizeOf(filePath.toFile());
+    @Test
+    void testFileContentCacheIsAccountedAsTempFiles() {
+        long usedSpaceBefore = fssMonitor.calculateUsedTempFilesSpace();
+        int tempFilesCountBefore = fssMonitor.getTempFilesCount();
+        Mockito.when(fileService.getCachedContentSizeInBytes())
+               .thenReturn((long) CONTENT.length);
+        Mockito.when(fileService.getCachedContentFilesCount())
+               .thenReturn(1);
+
+        assertEquals(usedSpaceBefore + CONTENT.length, fssMonitor.calculateUsedTempFilesSpace());
+        assertEquals(tempFilesCountBefore + 1, fssMonitor.getTempFilesCount());
     }
 
 }
@@ -0,0 +1,39 @@
+package org.cloudfoundry.multiapps.controller.web.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class RateLimiterProviderTest {
+
+    private final RateLimiterProvider rateLimiterProvider = new RateLimiterProvider();
+
+    @Test
+    void testRateLimitersAreReusedPerKey() {
+        assertSame(rateLimiterProvider.getRateLimiter("10.0.0.1"), rateLimiterProvider.getRateLimiter("10.0.0.1"));
+        assertNotSame(rateLimiterProvider.getRateLimiter("10.0.0.1"), rateLimiterProvider.getRateLimiter("10.0.0.2"));
+        assertNotSame(rateLimiterProvider.getUserRateLimiter("guid"), rateLimiterProvider.getSpaceRateLimiter("guid"));
+    }
+
+    @Test
+    void testRecentlyUsedRateLimitersAreNotEvicted() {
+        rateLimiterProvider.getRateLimiter("10.0.0.1");
+
+        rateLimiterProvider.evictIdleRateLimiters();
+
+        assertEquals(1, rateLimiterProvider.getRateLimitersCount());
+    }
+
+    @Test
+    void testNumberOfRateLimitersIsBounded() {
+        for (int i = 0; i < 15000; i++) {
+            rateLimiterProvider.getRateLimiter("10.0." + i / 256 + "." + i % 256);
+        }
+
+        assertTrue(rateLimiterProvider.getRateLimitersCount() <= 10000);
+    }
+
+}